@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.mdds.dto.worker.v1.JobMessageDTO;
+import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.dto.worker.v1.ManifestArtifactDTO;
+import com.mdds.dto.worker.v1.ManifestDTO;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON conversions of the messages exchanged with Workers: status updates are read once per update,
+ * job messages with an inline manifest are written once per submission.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonHelperBenchmark {
+  private final JobStatusUpdateDTO statusUpdate =
+      new JobStatusUpdateDTO(
+          UUID.randomUUID().toString(),
+          "worker-" + UUID.randomUUID(),
+          "IN_PROGRESS",
+          42,
+          "Solving",
+          Instant.parse("2026-01-01T00:00:00Z"));
+  private final String statusUpdateJson = JsonHelper.toJson(statusUpdate);
+  private final JobMessageDTO jobMessage = jobMessage();
+  private final String jobMessageJson = JsonHelper.toJson(jobMessage);
+  private final JsonNode jobMessageNode = JsonHelper.toJsonNode(jobMessage);
+
+  @Benchmark
+  public String statusUpdateToJson() {
+    return JsonHelper.toJson(statusUpdate);
+  }
+
+  @Benchmark
+  public JobStatusUpdateDTO statusUpdateFromJson() {
+    return JsonHelper.fromJson(statusUpdateJson, JobStatusUpdateDTO.class);
+  }
+
+  @Benchmark
+  public String jobMessageToJson() {
+    return JsonHelper.toJson(jobMessage);
+  }
+
+  @Benchmark
+  public JobMessageDTO jobMessageFromJson() {
+    return JsonHelper.fromJson(jobMessageJson, JobMessageDTO.class);
+  }
+
+  @Benchmark
+  public JsonNode jobMessageToJsonNode() {
+    return JsonHelper.toJsonNode(jobMessage);
+  }
+
+  @Benchmark
+  public JobMessageDTO jobMessageFromJsonNode() {
+    return JsonHelper.fromJsonNode(jobMessageNode, JobMessageDTO.class);
+  }
+
+  private static JobMessageDTO jobMessage() {
+    var jobId = UUID.randomUUID().toString();
+    var prefix = "jobs/42/" + jobId;
+    var manifest =
+        new ManifestDTO(
+            1,
+            42L,
+            jobId,
+            "solving_slae",
+            Map.of(
+                "matrix", new ManifestArtifactDTO(prefix + "/in/matrix.csv", "csv"),
+                "rhs", new ManifestArtifactDTO(prefix + "/in/rhs.csv", "csv")),
+            Map.of(
+                "solvingMethod", JsonNodeFactory.instance.textNode("numpy_exact_solver"),
+                "tolerance", JsonNodeFactory.instance.numberNode(1e-9)),
+            Map.of("solution", new ManifestArtifactDTO(prefix + "/out/solution.csv", "csv")));
+    return new JobMessageDTO(prefix + "/manifest.json", manifest);
+  }
+}
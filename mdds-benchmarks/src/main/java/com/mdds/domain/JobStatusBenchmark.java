@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.domain;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Status parsing and transition checks, run for every status update a Worker publishes. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JobStatusBenchmark {
+  private static final JobStatus[] STATUSES = JobStatus.values();
+
+  /** Status code as Workers send it; later constants need more comparisons to be found. */
+  @Param({"DRAFT", "IN_PROGRESS", "CANCELLED", " in_progress "})
+  private String code;
+
+  @Benchmark
+  public JobStatus from() {
+    return JobStatus.from(code);
+  }
+
+  @Benchmark
+  public void canSwitchToAll(Blackhole blackhole) {
+    for (var from : STATUSES) {
+      for (var to : STATUSES) {
+        blackhole.consume(from.canSwitchTo(to));
+      }
+    }
+  }
+}
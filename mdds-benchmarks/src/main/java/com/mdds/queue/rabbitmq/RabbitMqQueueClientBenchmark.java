@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.queue.rabbitmq;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.mdds.common.util.JsonHelper;
+import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.queue.Message;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.DeliverCallback;
+import com.rabbitmq.client.Delivery;
+import com.rabbitmq.client.Envelope;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Client side of publishing and consuming a status update: header conversion, JSON serialization
+ * and payload decoding. The channel is a stub that drops published messages, so no broker round
+ * trip is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RabbitMqQueueClientBenchmark {
+  private static final String QUEUE_NAME = "mdds_job_status_queue";
+
+  private final JobStatusUpdateDTO statusUpdate =
+      new JobStatusUpdateDTO(
+          UUID.randomUUID().toString(),
+          "worker-" + UUID.randomUUID(),
+          "IN_PROGRESS",
+          42,
+          "Solving",
+          Instant.parse("2026-01-01T00:00:00Z"));
+  private final Message<JobStatusUpdateDTO> message =
+      new Message<>(statusUpdate, Map.of("traceId", "benchmark"), Instant.now());
+  private final Delivery delivery =
+      new Delivery(
+          new Envelope(1L, false, "", QUEUE_NAME),
+          new AMQP.BasicProperties.Builder().headers(Map.of("traceId", "benchmark")).build(),
+          JsonHelper.toJson(statusUpdate).getBytes(UTF_8));
+
+  private RabbitMqQueueClient client;
+  private DeliverCallback deliverCallback;
+  private JobStatusUpdateDTO received;
+
+  @Setup
+  public void setUp() {
+    client = new RabbitMqQueueClient(stubChannel(), stub(Connection.class));
+    client.subscribe(
+        QUEUE_NAME, JobStatusUpdateDTO.class, (consumed, ack) -> received = consumed.payload());
+  }
+
+  @Benchmark
+  public Message<JobStatusUpdateDTO> publish() {
+    client.publish(QUEUE_NAME, message);
+    return message;
+  }
+
+  @Benchmark
+  public JobStatusUpdateDTO deliver() throws IOException {
+    deliverCallback.handle("benchmark", delivery);
+    return received;
+  }
+
+  /** Returns a channel that accepts everything and keeps the consumer callback of this client. */
+  private Channel stubChannel() {
+    return (Channel)
+        Proxy.newProxyInstance(
+            Channel.class.getClassLoader(),
+            new Class<?>[] {Channel.class},
+            (proxy, method, args) -> {
+              if (args != null) {
+                for (var arg : args) {
+                  if (arg instanceof DeliverCallback callback) {
+                    deliverCallback = callback;
+                  }
+                }
+              }
+              return method.getReturnType() == String.class ? "benchmark" : null;
+            });
+  }
+
+  private static <T> T stub(Class<T> type) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> null));
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobProfile;
+import java.time.Duration;
+import java.util.List;
+
+/** Job profiles shared by benchmarks, the same as {@code solving_slae} of the test profiles. */
+final class BenchmarkJobProfiles {
+  static final String SOLVING_SLAE = "solving_slae";
+
+  private BenchmarkJobProfiles() {}
+
+  static JobProfileConfig solvingSlaeConfig() {
+    return new JobProfileConfig(
+        SOLVING_SLAE,
+        true,
+        List.of(
+            new ArtifactConfig("matrix", "csv", "matrix.csv"),
+            new ArtifactConfig("rhs", "csv", "rhs.csv")),
+        List.of(
+            new JobParamConfig(
+                "solvingMethod",
+                "enum",
+                true,
+                List.of(
+                    "numpy_exact_solver",
+                    "numpy_lstsq_solver",
+                    "numpy_pinv_solver",
+                    "petsc_solver",
+                    "scipy_gmres_solver")),
+            new JobParamConfig("tolerance", "number", false, null)),
+        List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+        new ResourcesConfig(2, 2048L, "small"),
+        new StaleAfterConfig(
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(10),
+            Duration.ofHours(1),
+            Duration.ofMinutes(5)));
+  }
+
+  static JobProfile solvingSlae() {
+    return JobProfileMapper.toDomain(solvingSlaeConfig());
+  }
+}
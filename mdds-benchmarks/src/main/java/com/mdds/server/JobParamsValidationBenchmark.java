@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.mdds.domain.JobProfile;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of a parameter patch against the job profile, the part of {@code PATCH
+ * /jobs/{jobId}/params} that runs before the database update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JobParamsValidationBenchmark {
+  private final JobProfile profile = BenchmarkJobProfiles.solvingSlae();
+  private final Map<String, JsonNode> patch =
+      Map.of(
+          "solvingMethod", JsonNodeFactory.instance.textNode("scipy_gmres_solver"),
+          "tolerance", JsonNodeFactory.instance.numberNode(1e-9));
+  private final Map<String, JsonNode> removal =
+      Map.of("tolerance", JsonNodeFactory.instance.nullNode());
+
+  @Benchmark
+  public Map<String, JsonNode> validatePatch() {
+    JobParamsService.validateParams(profile, BenchmarkJobProfiles.SOLVING_SLAE, patch);
+    return patch;
+  }
+
+  @Benchmark
+  public Map<String, JsonNode> validateRemoval() {
+    JobParamsService.validateParams(profile, BenchmarkJobProfiles.SOLVING_SLAE, removal);
+    return removal;
+  }
+}
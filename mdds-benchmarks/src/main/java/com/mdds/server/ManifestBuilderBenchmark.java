@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.mdds.domain.JobProfile;
+import com.mdds.dto.worker.v1.ManifestDTO;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Manifest of a submitted job, built once per submission. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ManifestBuilderBenchmark {
+  private final JobProfile profile = BenchmarkJobProfiles.solvingSlae();
+  private final String jobId = UUID.randomUUID().toString();
+  private final JsonNode params =
+      JsonNodeFactory.instance
+          .objectNode()
+          .put("solvingMethod", "numpy_exact_solver")
+          .put("tolerance", 1e-9);
+
+  @Benchmark
+  public ManifestDTO build() {
+    return ManifestBuilder.build(profile, 1, 42L, jobId, BenchmarkJobProfiles.SOLVING_SLAE, params);
+  }
+}
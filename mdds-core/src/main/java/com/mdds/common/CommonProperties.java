@@ -4,6 +4,9 @@
  */
 package com.mdds.common;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.zip.CRC32;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -15,4 +18,39 @@ public class CommonProperties {
   private String jobQueueName = "default_mdds_job_queue";
   private String resultQueueName = "default_mdds_result_queue";
   private String statusQueueName = "default_mdds_status_queue";
+  private String heartbeatQueueName = "default_mdds_heartbeat_queue";
+
+  /**
+   * Number of status queues. Status updates of one job always go to the same queue, so ingesters
+   * that own disjoint sets of queues keep per-job ordering.
+   */
+  private int statusQueueShards = 1;
+
+  /**
+   * Returns the name of a status queue shard. With a single shard this is {@code statusQueueName}
+   * itself, otherwise {@code <statusQueueName>.<shard>}.
+   *
+   * @param shard shard number, from 0 to {@code statusQueueShards - 1}.
+   * @return status queue name of the shard.
+   */
+  public String statusQueueName(int shard) {
+    if (shard < 0 || shard >= statusQueueShards) {
+      throw new IllegalArgumentException(
+          "Shard " + shard + " is out of range [0, " + statusQueueShards + ").");
+    }
+    return statusQueueShards == 1 ? statusQueueName : statusQueueName + "." + shard;
+  }
+
+  /**
+   * Returns the status queue shard of a job. The shard is the CRC32 of the job id modulo the number
+   * of shards. Must stay in sync with {@code status_queue_name_for} of the Python Worker runtime.
+   *
+   * @param jobId job identifier.
+   * @return status queue name the Worker publishes status updates of the job to.
+   */
+  public String statusQueueNameFor(String jobId) {
+    var crc = new CRC32();
+    crc.update(jobId.getBytes(UTF_8));
+    return statusQueueName((int) (crc.getValue() % statusQueueShards));
+  }
 }
@@ -5,6 +5,7 @@
 package com.mdds.common.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.annotation.Nonnull;
@@ -37,4 +38,19 @@ public final class JsonHelper {
       throw new JsonException("Could not convert JSON to object", e);
     }
   }
+
+  public static <T> JsonNode toJsonNode(T object) {
+    return objectMapper.valueToTree(object);
+  }
+
+  public static <T> T fromJsonNode(JsonNode json, @Nonnull Class<T> clazz) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.treeToValue(json, clazz);
+    } catch (JsonProcessingException e) {
+      throw new JsonException("Could not convert JSON to object", e);
+    }
+  }
 }
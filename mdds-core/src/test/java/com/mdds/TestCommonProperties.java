@@ -5,6 +5,7 @@
 package com.mdds;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.mdds.common.CommonConfig;
 import com.mdds.common.CommonProperties;
@@ -20,5 +21,40 @@ class TestCommonProperties {
   void testSimpleRead() {
     assertThat(commonProperties.getJobQueueName()).isEqualTo("mdds_job_queue");
     assertThat(commonProperties.getResultQueueName()).isEqualTo("mdds_result_queue");
+    assertThat(commonProperties.getHeartbeatQueueName()).isEqualTo("mdds_heartbeat_queue");
+    assertThat(commonProperties.getStatusQueueShards()).isEqualTo(1);
+  }
+
+  @Test
+  void testSingleShardIsStatusQueueItself() {
+    var properties = new CommonProperties();
+    properties.setStatusQueueName("mdds_status_queue");
+
+    assertThat(properties.statusQueueName(0)).isEqualTo("mdds_status_queue");
+    assertThat(properties.statusQueueNameFor("job-1")).isEqualTo("mdds_status_queue");
+  }
+
+  @Test
+  void testStatusQueueShardMatchesWorkerRuntime() {
+    // Expected shards are the ones computed by status_queue_name_for of the Python Worker runtime.
+    var properties = new CommonProperties();
+    properties.setStatusQueueName("mdds_status_queue");
+    properties.setStatusQueueShards(4);
+
+    assertThat(properties.statusQueueNameFor("job-1")).isEqualTo("mdds_status_queue.3");
+    assertThat(properties.statusQueueNameFor("job-2")).isEqualTo("mdds_status_queue.1");
+
+    properties.setStatusQueueShards(16);
+    assertThat(properties.statusQueueNameFor("job-1")).isEqualTo("mdds_status_queue.15");
+  }
+
+  @Test
+  void testStatusQueueNameRejectsShardOutOfRange() {
+    var properties = new CommonProperties();
+    properties.setStatusQueueShards(4);
+
+    assertThatThrownBy(() -> properties.statusQueueName(4))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Shard 4 is out of range [0, 4).");
   }
 }
@@ -13,9 +13,28 @@ import java.util.Map;
  * @param inputArtifacts map with all input artifacts for the job.
  * @param outputArtifacts map with all output artifacts for the job.
  * @param paramSpecs map for job parameters.
+ * @param resources resources one job needs on a Worker.
+ * @param staleAfter how long a job may stay in each non-terminal status.
  */
 public record JobProfile(
     boolean enabled,
     Map<String, ArtifactSpec> inputArtifacts,
     Map<String, ArtifactSpec> outputArtifacts,
-    Map<String, JobParamSpec> paramSpecs) {}
+    Map<String, JobParamSpec> paramSpecs,
+    ResourceHints resources,
+    StaleThresholds staleAfter) {
+
+  public JobProfile(
+      boolean enabled,
+      Map<String, ArtifactSpec> inputArtifacts,
+      Map<String, ArtifactSpec> outputArtifacts,
+      Map<String, JobParamSpec> paramSpecs) {
+    this(
+        enabled,
+        inputArtifacts,
+        outputArtifacts,
+        paramSpecs,
+        ResourceHints.DEFAULT,
+        StaleThresholds.DEFAULT);
+  }
+}
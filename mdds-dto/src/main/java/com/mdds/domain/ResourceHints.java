@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.domain;
+
+/**
+ * Resources one job of a job type needs on a Worker.
+ *
+ * @param cpu number of CPU cores.
+ * @param memoryMb memory in megabytes.
+ * @param sizeClass estimated size of the job.
+ */
+public record ResourceHints(int cpu, long memoryMb, SizeClass sizeClass) {
+  /** Hints of job profiles that do not declare resources. */
+  public static final ResourceHints DEFAULT = new ResourceHints(1, 512, SizeClass.SMALL);
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.domain;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Estimated size of jobs of one type. Larger classes are placed on Workers first, so they find a
+ * big enough node before small jobs fill it.
+ */
+@RequiredArgsConstructor
+public enum SizeClass {
+  SMALL("small"),
+  MEDIUM("medium"),
+  LARGE("large");
+
+  @Getter private final String value;
+
+  public static SizeClass from(String raw) {
+    if (raw == null || raw.isBlank()) {
+      throw new UnknownSizeClassException("Size class must not be null or blank.");
+    }
+    return Arrays.stream(values())
+        .filter(t -> t.value.equalsIgnoreCase(raw.trim()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new UnknownSizeClassException("Unknown or unsupported size class: '" + raw + "'."));
+  }
+}
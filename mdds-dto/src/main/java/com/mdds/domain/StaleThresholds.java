@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.domain;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * How long a job of a job type may stay in each non-terminal status before it is considered stuck.
+ *
+ * @param submitted time in {@code SUBMITTED} without a Worker picking the job up.
+ * @param inputsPrepared time in {@code INPUTS_PREPARED} without the job starting.
+ * @param inProgress time in {@code IN_PROGRESS}, that is the longest run of the job.
+ * @param cancelRequested time in {@code CANCEL_REQUESTED} without the Worker confirming.
+ */
+public record StaleThresholds(
+    Duration submitted, Duration inputsPrepared, Duration inProgress, Duration cancelRequested) {
+  /** Thresholds of job profiles that do not declare them. */
+  public static final StaleThresholds DEFAULT =
+      new StaleThresholds(
+          Duration.ofDays(1), Duration.ofHours(1), Duration.ofHours(6), Duration.ofMinutes(15));
+
+  /**
+   * Returns the threshold of the given status.
+   *
+   * @param status job status.
+   * @return threshold, empty for statuses that never become stale.
+   */
+  public Optional<Duration> forStatus(JobStatus status) {
+    return Optional.ofNullable(
+        switch (status) {
+          case SUBMITTED -> submitted;
+          case INPUTS_PREPARED -> inputsPrepared;
+          case IN_PROGRESS -> inProgress;
+          case CANCEL_REQUESTED -> cancelRequested;
+          case DRAFT, DONE, ERROR, CANCELLED -> null;
+        });
+  }
+}
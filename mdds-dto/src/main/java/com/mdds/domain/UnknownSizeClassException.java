@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.domain;
+
+/** Indication that requested size class of job profile resources is unknown or unsupported. */
+public class UnknownSizeClassException extends RuntimeException {
+  public UnknownSizeClassException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import java.util.List;
+
+/**
+ * Response for job list request.
+ *
+ * @param jobs jobs of the page, newest first;
+ * @param nextCursor opaque cursor of the next page, {@code null} if this page is the last one.
+ */
+public record JobListResponseDTO(List<JobStatusResponseDTO> jobs, String nextCursor) {}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request for statuses of several jobs in one round trip.
+ *
+ * @param jobIds job identifiers in the order the caller wants them back.
+ */
+public record JobStatusBatchRequestDTO(
+    @NotEmpty(message = "must not be null or empty.") List<String> jobIds) {}
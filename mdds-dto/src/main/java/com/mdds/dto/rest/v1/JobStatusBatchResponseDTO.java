@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import java.util.List;
+
+/**
+ * Response for batch job status request.
+ *
+ * @param jobs statuses of found jobs in the order of the request;
+ * @param notFound requested job identifiers that do not exist or are not accessible to the user.
+ */
+public record JobStatusBatchResponseDTO(List<JobStatusResponseDTO> jobs, List<String> notFound) {}
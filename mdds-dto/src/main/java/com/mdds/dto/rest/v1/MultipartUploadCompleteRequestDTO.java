@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request for completing a multipart upload.
+ *
+ * @param parts all uploaded parts, in any order.
+ */
+public record MultipartUploadCompleteRequestDTO(
+    @NotEmpty(message = "must not be null or empty.") @Valid
+        List<MultipartUploadCompletedPartDTO> parts) {}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Part that was uploaded by the client.
+ *
+ * @param partNumber part number
+ * @param eTag value of the {@code ETag} header returned by object storage for the part upload
+ */
+public record MultipartUploadCompletedPartDTO(
+    @NotNull(message = "must not be null.") Integer partNumber,
+    @NotBlank(message = "must not be null or blank.") String eTag) {}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+/**
+ * Pre-signed url for uploading one part of a multipart upload.
+ *
+ * @param partNumber part number
+ * @param uploadUrl generated upload url
+ */
+public record MultipartUploadPartUrlDTO(int partNumber, String uploadUrl) {}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request for pre-signed urls of several parts of a multipart upload in one round trip.
+ *
+ * @param partNumbers part numbers to issue urls for, from 1 to 10000.
+ */
+public record MultipartUploadPartsRequestDTO(
+    @NotEmpty(message = "must not be null or empty.") List<Integer> partNumbers) {}
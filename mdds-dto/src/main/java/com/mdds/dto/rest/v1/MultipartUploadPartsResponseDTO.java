@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response object for issuing part upload urls of a multipart upload.
+ *
+ * @param jobId unique job identifier
+ * @param uploadId multipart upload identifier
+ * @param parts pre-signed url per requested part, in the order of requested part numbers
+ * @param expiresAt expiration date and time shared by all urls
+ */
+public record MultipartUploadPartsResponseDTO(
+    String jobId, String uploadId, List<MultipartUploadPartUrlDTO> parts, Instant expiresAt) {}
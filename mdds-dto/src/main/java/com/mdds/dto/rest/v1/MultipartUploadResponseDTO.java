@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.rest.v1;
+
+/**
+ * Response object for a started multipart upload of an input artifact.
+ *
+ * @param jobId unique job identifier
+ * @param inputSlot input slot the upload belongs to
+ * @param uploadId multipart upload identifier issued by object storage
+ */
+public record MultipartUploadResponseDTO(String jobId, String inputSlot, String uploadId) {}
@@ -4,9 +4,19 @@
  */
 package com.mdds.dto.worker.v1;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Represents job for Worker.
  *
  * @param manifestObjectKey object key in s3 storage pointing to manifest.json
+ * @param manifest the same manifest carried inline when it is small enough, otherwise {@code null}
+ *     and the Worker reads it from {@code manifestObjectKey}
  */
-public record JobMessageDTO(String manifestObjectKey) {}
+public record JobMessageDTO(
+    String manifestObjectKey, @JsonInclude(JsonInclude.Include.NON_NULL) ManifestDTO manifest) {
+
+  public JobMessageDTO(String manifestObjectKey) {
+    this(manifestObjectKey, null);
+  }
+}
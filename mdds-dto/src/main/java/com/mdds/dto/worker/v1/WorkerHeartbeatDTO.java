@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.dto.worker.v1;
+
+import java.time.Instant;
+
+/**
+ * Heartbeat published by Worker and consumed by WorkerHeartbeatListener.
+ *
+ * @param workerId worker identifier.
+ * @param jobType job type the Worker executes.
+ * @param jobQueueName queue the Worker consumes submitted jobs from, shared by Workers of a pool.
+ * @param pool nullable name of the Worker pool.
+ * @param cpuCores number of CPU cores of the Worker node.
+ * @param memoryMb memory of the Worker node in megabytes.
+ * @param totalSlots number of jobs the Worker runs at the same time.
+ * @param freeSlots number of jobs the Worker can take right now.
+ * @param eventTime time when Worker produced this heartbeat.
+ */
+public record WorkerHeartbeatDTO(
+    String workerId,
+    String jobType,
+    String jobQueueName,
+    String pool,
+    int cpuCores,
+    long memoryMb,
+    int totalSlots,
+    int freeSlots,
+    Instant eventTime) {}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.persistence.converter.JobStatusConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Represents archived metadata of a job in terminal state. Archived jobs never change, rows are
+ * written only by the archiver.
+ */
+@Getter
+@NoArgsConstructor
+@Immutable
+@Entity
+@Table(name = "jobs_archive")
+public class JobArchiveEntity {
+  @Id private UUID id;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "upload_session_id", nullable = false)
+  private String uploadSessionId;
+
+  @Column(name = "status", nullable = false)
+  @Convert(converter = JobStatusConverter.class)
+  private JobStatus status;
+
+  @Column(name = "job_type", nullable = false)
+  private String jobType;
+
+  @Column(name = "worker_id")
+  private String workerId;
+
+  @Column(name = "progress", nullable = false)
+  private int progress;
+
+  @Column(name = "message")
+  private String message;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  @Column(name = "submitted_at")
+  private Instant submittedAt;
+
+  @Column(name = "started_at")
+  private Instant startedAt;
+
+  @Column(name = "finished_at", nullable = false)
+  private Instant finishedAt;
+}
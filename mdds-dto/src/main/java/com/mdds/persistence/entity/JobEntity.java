@@ -4,6 +4,7 @@
  */
 package com.mdds.persistence.entity;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.mdds.domain.JobStatus;
 import com.mdds.persistence.converter.JobStatusConverter;
 import jakarta.annotation.Nonnull;
@@ -13,10 +14,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /** Represents persisted job metadata. */
 @Getter
@@ -26,7 +30,7 @@ import lombok.Setter;
 @Entity
 @Table(name = "jobs")
 public class JobEntity {
-  @Id private String id;
+  @Id private UUID id;
 
   @Column(name = "user_id", nullable = false)
   @Nonnull
@@ -48,21 +52,37 @@ public class JobEntity {
   @Column(name = "worker_id")
   private String workerId;
 
-  @Column(name = "progress", nullable = false)
-  private int progress;
-
-  @Column(name = "message")
-  private String message;
-
   @Column(name = "created_at", nullable = false)
   private Instant createdAt;
 
   @Column(name = "submitted_at")
   private Instant submittedAt;
 
+  /** Time the job was released to a job queue, {@code null} while it waits in pending jobs. */
+  @Column(name = "dispatched_at")
+  private Instant dispatchedAt;
+
+  /**
+   * Queue of the Worker or pool of Workers the job was placed on, {@code null} for the shared queue
+   * of the job type.
+   */
+  @Column(name = "placement_queue_name")
+  private String placementQueueName;
+
   @Column(name = "started_at")
   private Instant startedAt;
 
   @Column(name = "finished_at")
   private Instant finishedAt;
+
+  @Column(name = "lease_expires_at")
+  private Instant leaseExpiresAt;
+
+  @Column(name = "status_changed_at")
+  private Instant statusChangedAt;
+
+  /** Job parameters as one JSON object, parameter name to value. */
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "params", nullable = false, columnDefinition = "jsonb")
+  private JsonNode params;
 }
@@ -1,32 +0,0 @@
-/*
- * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
- * Refer to the LICENSE file in the root directory for full license details.
- */
-package com.mdds.persistence.entity;
-
-import com.fasterxml.jackson.databind.JsonNode;
-import jakarta.persistence.Column;
-import jakarta.persistence.EmbeddedId;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
-
-/** Represent single job parameter entity. */
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Entity
-@Table(name = "job_params")
-public class JobParamEntity {
-  @EmbeddedId private JobParamId id;
-
-  @JdbcTypeCode(SqlTypes.JSON)
-  @Column(name = "param_value", nullable = false, columnDefinition = "jsonb")
-  private JsonNode paramValue;
-}
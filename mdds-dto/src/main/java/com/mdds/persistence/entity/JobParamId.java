@@ -1,29 +0,0 @@
-/*
- * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
- * Refer to the LICENSE file in the root directory for full license details.
- */
-package com.mdds.persistence.entity;
-
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
-import java.io.Serializable;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-/** Represent composed primary key for job parameters entity. */
-@Embeddable
-@AllArgsConstructor
-@NoArgsConstructor
-@Getter
-@Setter
-@EqualsAndHashCode
-public class JobParamId implements Serializable {
-  @Column(name = "job_id", nullable = false)
-  private String jobId;
-
-  @Column(name = "param_name", nullable = false)
-  private String paramName;
-}
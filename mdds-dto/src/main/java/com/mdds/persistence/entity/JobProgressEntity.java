@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents the frequently changing part of a job: the latest progress report of its Worker. Kept
+ * apart from {@link JobEntity}, so progress reports do not rewrite the wide and indexed job row.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "job_progress")
+public class JobProgressEntity {
+  @Id
+  @Column(name = "job_id", nullable = false)
+  private UUID jobId;
+
+  @Column(name = "progress", nullable = false)
+  private int progress;
+
+  @Column(name = "message")
+  private String message;
+
+  /** Time of the latest progress report or message change. */
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+}
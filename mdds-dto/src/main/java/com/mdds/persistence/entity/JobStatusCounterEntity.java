@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Part of the number of jobs in one non-terminal status. The number is spread over several stripes
+ * so concurrent transactions rarely update the same row, the jobs of a status are the sum of its
+ * stripes. A single stripe may be negative.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_status_counters")
+@IdClass(JobStatusCounterEntity.Key.class)
+public class JobStatusCounterEntity {
+  /** Status code, see {@link com.mdds.domain.JobStatus#getCode()}. */
+  @Id
+  @Column(name = "status", nullable = false)
+  private String status;
+
+  @Id
+  @Column(name = "stripe", nullable = false)
+  private int stripe;
+
+  @Column(name = "jobs", nullable = false)
+  private long jobs;
+
+  /** Primary key of a counter stripe. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private String status;
+    private int stripe;
+  }
+}
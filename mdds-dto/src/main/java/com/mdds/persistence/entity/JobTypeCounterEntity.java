@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Number of dispatched jobs of a type that no Worker has picked up yet. */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_type_counters")
+public class JobTypeCounterEntity {
+  @Id
+  @Column(name = "job_type", nullable = false)
+  private String jobType;
+
+  @Column(name = "queued_jobs", nullable = false)
+  private int queuedJobs;
+}
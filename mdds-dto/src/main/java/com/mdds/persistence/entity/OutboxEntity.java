@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/** Represents a message waiting in the transactional outbox to be published to the broker. */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox")
+public class OutboxEntity {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "kind", nullable = false)
+  @Enumerated(EnumType.STRING)
+  private Kind kind;
+
+  /** Queue name for {@link Kind#JOB} messages, worker id for {@link Kind#CANCEL} messages. */
+  @Column(name = "destination", nullable = false)
+  private String destination;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+  private JsonNode payload;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  /** Type of outbox message, defines payload type and how destination is interpreted. */
+  public enum Kind {
+    JOB,
+    CANCEL
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/** Represents a submitted job waiting for the dispatcher to release it to the outbox. */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "pending_jobs")
+public class PendingJobEntity {
+  @Id
+  @Column(name = "job_id", nullable = false)
+  private UUID jobId;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "job_type", nullable = false)
+  private String jobType;
+
+  @Column(name = "queue_name", nullable = false)
+  private String queueName;
+
+  /** Job message that is written to the outbox on dispatch. */
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+  private JsonNode payload;
+
+  @Column(name = "submitted_at", nullable = false)
+  private Instant submittedAt;
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Number of dispatched and pending jobs of a user, maintained incrementally. */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "user_job_counters")
+public class UserJobCounterEntity {
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  /** Jobs that are dispatched and not yet in a terminal state. */
+  @Column(name = "active_jobs", nullable = false)
+  private int activeJobs;
+
+  /** Jobs that wait in {@code pending_jobs}. */
+  @Column(name = "pending_jobs", nullable = false)
+  private int pendingJobs;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Worker as reported by its latest heartbeat. */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "workers")
+public class WorkerEntity {
+  @Id
+  @Column(name = "worker_id", nullable = false)
+  private String workerId;
+
+  @Column(name = "job_type", nullable = false)
+  private String jobType;
+
+  @Column(name = "job_queue_name", nullable = false)
+  private String jobQueueName;
+
+  @Column(name = "pool")
+  private String pool;
+
+  @Column(name = "cpu_cores", nullable = false)
+  private int cpuCores;
+
+  @Column(name = "memory_mb", nullable = false)
+  private long memoryMb;
+
+  @Column(name = "total_slots", nullable = false)
+  private int totalSlots;
+
+  @Column(name = "free_slots", nullable = false)
+  private int freeSlots;
+
+  @Column(name = "last_heartbeat_at", nullable = false)
+  private Instant lastHeartbeatAt;
+}
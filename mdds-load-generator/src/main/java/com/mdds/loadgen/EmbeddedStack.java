@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.common.CommonProperties;
+import com.mdds.queue.rabbitmq.RabbitMqProperties;
+import com.mdds.server.ServerApplication;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.errors.MinioException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * Postgres, RabbitMQ and MinIO in the containers the integration tests use, the Web Server running
+ * in-process on a random port against them and simulated Workers that take its jobs. The status
+ * ingester runs inside the Web Server, as it does by default.
+ */
+@Slf4j
+final class EmbeddedStack implements AutoCloseable {
+  private static final String BUCKET = "mdds";
+
+  private final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  private final MinIOContainer minio =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  private final RabbitMQContainer rabbitMq =
+      new RabbitMQContainer("rabbitmq:3.12-management")
+          .withRabbitMQConfig(MountableFile.forClasspathResource("rabbitmq.conf"))
+          .withExposedPorts(5672, 15672)
+          .waitingFor(Wait.forListeningPort())
+          .withStartupTimeout(Duration.ofSeconds(30));
+
+  private ConfigurableApplicationContext server;
+  private WorkerSimulator workers;
+
+  private EmbeddedStack() {}
+
+  /**
+   * Starts the containers, the Web Server and the simulated Workers.
+   *
+   * @param serverArgs extra Web Server properties as {@code --name=value} arguments; they override
+   *     the ones set here.
+   * @param simulatorProfile simulated Workers, none when {@code workers} is 0.
+   * @return running stack.
+   * @throws MinioException when the bucket can not be created.
+   */
+  static EmbeddedStack start(List<String> serverArgs, SimulatorProfile simulatorProfile)
+      throws MinioException {
+    var stack = new EmbeddedStack();
+    try {
+      stack.startContainers();
+      stack.startServer(serverArgs);
+      stack.startWorkers(simulatorProfile);
+      return stack;
+    } catch (RuntimeException | MinioException e) {
+      stack.close();
+      throw e;
+    }
+  }
+
+  /** Returns the base URL of the in-process Web Server. */
+  String baseUrl() {
+    return "http://localhost:" + server.getEnvironment().getProperty("local.server.port");
+  }
+
+  private void startContainers() throws MinioException {
+    log.info("Starting Postgres, RabbitMQ and MinIO containers.");
+    Startables.deepStart(postgres, rabbitMq, minio).join();
+    MinioClient.builder()
+        .endpoint(minio.getS3URL())
+        .credentials(minio.getUserName(), minio.getPassword())
+        .build()
+        .makeBucket(MakeBucketArgs.builder().bucket(BUCKET).build());
+  }
+
+  private void startServer(List<String> serverArgs) {
+    var args = new ArrayList<String>();
+    args.add("--server.port=0");
+    args.add("--mdds.job-profile.mode=yaml");
+    args.add("--spring.datasource.url=" + postgres.getJdbcUrl());
+    args.add("--spring.datasource.username=" + postgres.getUsername());
+    args.add("--spring.datasource.password=" + postgres.getPassword());
+    args.add("--mdds.rabbitmq.host=" + rabbitMq.getHost());
+    args.add("--mdds.rabbitmq.port=" + rabbitMq.getAmqpPort());
+    args.add("--mdds.rabbitmq.user=" + rabbitMq.getAdminUsername());
+    args.add("--mdds.rabbitmq.password=" + rabbitMq.getAdminPassword());
+    args.add("--mdds.object-storage.bucket=" + BUCKET);
+    args.add("--mdds.object-storage.region=us-east-1");
+    args.add("--mdds.object-storage.public-endpoint=" + minio.getS3URL());
+    args.add("--mdds.object-storage.internal-endpoint=" + minio.getS3URL());
+    args.add("--mdds.object-storage.access-key=" + minio.getUserName());
+    args.add("--mdds.object-storage.secret-key=" + minio.getPassword());
+    args.add("--mdds.object-storage.path-style-access-enabled=true");
+    // Command line properties are applied in order, so the ones given by the user win.
+    args.addAll(serverArgs);
+    log.info("Starting the Web Server.");
+    server = new SpringApplicationBuilder(ServerApplication.class).run(args.toArray(String[]::new));
+  }
+
+  private void startWorkers(SimulatorProfile simulatorProfile) {
+    if (simulatorProfile.workers() == 0) {
+      return;
+    }
+    var rabbitMqProperties =
+        new RabbitMqProperties(
+            rabbitMq.getHost(),
+            rabbitMq.getAmqpPort(),
+            rabbitMq.getAdminUsername(),
+            rabbitMq.getAdminPassword(),
+            server.getBean(RabbitMqProperties.class).getMaxInboundMessageBodySize());
+    // Queue names come from the Web Server, so sharding set with --mdds.common.* applies to both.
+    workers =
+        WorkerSimulator.start(
+            simulatorProfile, rabbitMqProperties, server.getBean(CommonProperties.class));
+  }
+
+  @Override
+  public void close() {
+    if (workers != null) {
+      workers.close();
+    }
+    if (server != null) {
+      server.close();
+    }
+    minio.stop();
+    rabbitMq.stop();
+    postgres.stop();
+  }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+/** Load generator was started with invalid options. */
+public class InvalidLoadProfileException extends RuntimeException {
+  public InvalidLoadProfileException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.domain.JobStatus;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Takes one job through its lifecycle the way a client does: create, presign and upload every
+ * input, set parameters, submit and poll the status. Every request is timed, and so are the waits
+ * for the job to be picked up and to finish.
+ */
+@Slf4j
+final class JobLifecycle {
+  private final MddsRestClient client;
+  private final LoadRecorder recorder;
+  private final LoadProfile profile;
+
+  JobLifecycle(MddsRestClient client, LoadRecorder recorder, LoadProfile profile) {
+    this.client = client;
+    this.recorder = recorder;
+    this.profile = profile;
+  }
+
+  /**
+   * Runs the lifecycle of one job. Failures are counted and logged, never thrown, so one broken job
+   * does not stop the run.
+   *
+   * @param job job to run.
+   * @param login user the job belongs to.
+   */
+  void run(JobMix.PreparedJob job, String login) {
+    try {
+      var start = System.nanoTime();
+      var jobId = client.create(login, UUID.randomUUID().toString(), profile.jobType());
+      recorder.record(LifecycleStep.CREATE, start);
+      for (var input : job.inputs().entrySet()) {
+        start = System.nanoTime();
+        var uploadUrl = client.issueUploadUrl(login, jobId, input.getKey());
+        recorder.record(LifecycleStep.PRESIGN, start);
+        start = System.nanoTime();
+        client.upload(uploadUrl, input.getValue());
+        recorder.record(LifecycleStep.UPLOAD, start);
+      }
+      start = System.nanoTime();
+      client.mergeParams(login, jobId, Map.of("solvingMethod", job.template().solvingMethod()));
+      recorder.record(LifecycleStep.PATCH, start);
+      start = System.nanoTime();
+      client.submit(login, jobId);
+      recorder.record(LifecycleStep.SUBMIT, start);
+      awaitStatus(login, jobId, System.nanoTime());
+    } catch (IOException | UnexpectedResponseException e) {
+      recorder.recordFailed();
+      log.warn("Job of user '{}' failed: {}", login, e.getMessage());
+    } catch (InterruptedException e) {
+      recorder.recordFailed();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Polls the status until the job leaves {@code SUBMITTED}, or reaches a terminal state when the
+   * profile awaits it. Latencies are only as precise as the poll interval.
+   */
+  private void awaitStatus(String login, String jobId, long submittedAt)
+      throws IOException, InterruptedException {
+    var deadline = submittedAt + profile.statusTimeout().toNanos();
+    var pickedUp = false;
+    while (System.nanoTime() - deadline < 0) {
+      Thread.sleep(profile.statusPollInterval());
+      var start = System.nanoTime();
+      var status = JobStatus.from(client.status(login, jobId).status());
+      recorder.record(LifecycleStep.STATUS_REQUEST, start);
+      if (!pickedUp && status != JobStatus.SUBMITTED) {
+        recorder.record(LifecycleStep.FIRST_STATUS, submittedAt);
+        pickedUp = true;
+        if (!profile.awaitTerminal()) {
+          recorder.recordCompleted();
+          return;
+        }
+      }
+      if (status.isTerminal()) {
+        recorder.record(LifecycleStep.TERMINAL_STATUS, submittedAt);
+        recorder.recordFinished(status);
+        recorder.recordCompleted();
+        return;
+      }
+    }
+    recorder.recordTimedOut();
+    log.warn("Job '{}' did not reach the awaited state in {}.", jobId, profile.statusTimeout());
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks job templates by weight. Input files of every template are generated once, before the run,
+ * so building them does not slow down the load generator while it measures.
+ */
+final class JobMix {
+  private final List<PreparedJob> jobs;
+  private final int totalWeight;
+
+  JobMix(List<JobTemplate> templates) {
+    var random = new Random(templates.hashCode());
+    this.jobs = templates.stream().map(template -> prepare(template, random)).toList();
+    this.totalWeight = templates.stream().mapToInt(JobTemplate::weight).sum();
+  }
+
+  /** Returns a random job, each template with the probability of its share of the weight. */
+  PreparedJob pick() {
+    var point = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (var job : jobs) {
+      point -= job.template().weight();
+      if (point < 0) {
+        return job;
+      }
+    }
+    throw new IllegalStateException("Weights of the job mix changed.");
+  }
+
+  /** Builds a diagonally dominant system, so every solving method converges. */
+  private static PreparedJob prepare(JobTemplate template, Random random) {
+    var size = template.matrixSize();
+    var matrix = new StringBuilder();
+    var rhs = new StringBuilder();
+    for (var row = 0; row < size; row++) {
+      for (var column = 0; column < size; column++) {
+        if (column > 0) {
+          matrix.append(',');
+        }
+        var value = row == column ? size + random.nextDouble() : random.nextDouble();
+        matrix.append(String.format(Locale.ROOT, "%.6f", value));
+      }
+      matrix.append('\n');
+      rhs.append(String.format(Locale.ROOT, "%.6f", random.nextDouble())).append('\n');
+    }
+    return new PreparedJob(
+        template,
+        Map.of(
+            "matrix", matrix.toString().getBytes(StandardCharsets.UTF_8),
+            "rhs", rhs.toString().getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Job template with its input files.
+   *
+   * @param template job template.
+   * @param inputs content of every input slot, by slot name.
+   */
+  record PreparedJob(JobTemplate template, Map<String, byte[]> inputs) {}
+}
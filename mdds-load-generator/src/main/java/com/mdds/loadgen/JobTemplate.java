@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+/**
+ * One kind of job in the job mix.
+ *
+ * @param solvingMethod value of the {@code solvingMethod} parameter.
+ * @param matrixSize number of rows and columns of the uploaded matrix.
+ * @param weight relative share of jobs of this kind.
+ */
+public record JobTemplate(String solvingMethod, int matrixSize, int weight) {
+
+  public JobTemplate {
+    if (solvingMethod == null || solvingMethod.isBlank()) {
+      throw new InvalidLoadProfileException("solvingMethod must not be null or blank.");
+    }
+    if (matrixSize <= 0) {
+      throw new InvalidLoadProfileException("matrixSize must be positive.");
+    }
+    if (weight <= 0) {
+      throw new InvalidLoadProfileException("weight must be positive.");
+    }
+  }
+
+  /**
+   * Parses a template written as {@code solvingMethod:matrixSize:weight}, for example {@code
+   * numpy_exact_solver:200:3}. The weight may be omitted and is 1 then.
+   *
+   * @param value template as given on the command line.
+   * @return parsed template.
+   */
+  public static JobTemplate parse(String value) {
+    var parts = value.trim().split(":");
+    if (parts.length < 2 || parts.length > 3) {
+      throw new InvalidLoadProfileException(
+          "Job template '" + value + "' is not in the form solvingMethod:matrixSize[:weight].");
+    }
+    var matrixSize = Options.parseInt("matrixSize", parts[1]);
+    var weight = parts.length == 3 ? Options.parseInt("weight", parts[2]) : 1;
+    return new JobTemplate(parts[0].trim(), matrixSize, weight);
+  }
+}
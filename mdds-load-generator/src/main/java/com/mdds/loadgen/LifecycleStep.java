@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+/** Measured steps of a job lifecycle, in the order a client goes through them. */
+enum LifecycleStep {
+  /** {@code POST /jobs}. */
+  CREATE("create"),
+  /** {@code POST /jobs/{jobId}/inputs}, once per input slot. */
+  PRESIGN("presign"),
+  /** {@code PUT} of an input file to its presigned URL, once per input slot. */
+  UPLOAD("upload"),
+  /** {@code PATCH /jobs/{jobId}/params}. */
+  PATCH("patch"),
+  /** {@code POST /jobs/{jobId}/submit}. */
+  SUBMIT("submit"),
+  /** {@code GET /jobs/{jobId}/status}, every poll. */
+  STATUS_REQUEST("status_request"),
+  /** From the submit response until a poll sees the job out of {@code SUBMITTED}. */
+  FIRST_STATUS("first_status"),
+  /** From the submit response until a poll sees the job in a terminal state. */
+  TERMINAL_STATUS("terminal_status");
+
+  private final String label;
+
+  LifecycleStep(String label) {
+    this.label = label;
+  }
+
+  String label() {
+    return label;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import io.minio.errors.MinioException;
+import java.io.IOException;
+import java.util.ArrayList;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives the job lifecycle through the Web Server REST API and reports latency percentiles per step
+ * and throughput.
+ *
+ * <p>The load generator is a plain program and not a Spring application on purpose: the Web Server
+ * scans all of {@code com.mdds} for components and would pick up the load generator's own beans
+ * when it runs in-process.
+ */
+@Slf4j
+public final class LoadGenerator {
+
+  private LoadGenerator() {}
+
+  public static void main(String[] args) throws IOException, InterruptedException, MinioException {
+    var profile = LoadProfile.fromArgs(args);
+    LoadReport report;
+    if (profile.embedded()) {
+      var simulatorArgs = new ArrayList<String>();
+      simulatorArgs.add("--job-type=" + profile.jobType());
+      simulatorArgs.addAll(profile.workerArgs());
+      var simulatorProfile = SimulatorProfile.fromArgs(simulatorArgs);
+      try (var stack = EmbeddedStack.start(profile.serverArgs(), simulatorProfile)) {
+        report = LoadRun.execute(profile, stack.baseUrl());
+      }
+    } else {
+      report = LoadRun.execute(profile, profile.baseUrl());
+    }
+    report.print(System.out);
+    if (profile.reportFile() != null) {
+      report.write(profile.reportFile());
+      log.info("Report written to {}.", profile.reportFile());
+    }
+  }
+}
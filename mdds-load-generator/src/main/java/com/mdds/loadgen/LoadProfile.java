@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load profile of one run, parsed from {@code --name=value} command line arguments. Arguments with
+ * a dot in the name, such as {@code --mdds.job-dispatch.batch-size=100}, are not load generator
+ * options and are passed to the embedded Web Server. Arguments whose name starts with {@code
+ * worker} configure the simulated Workers of the embedded stack.
+ *
+ * @param baseUrl Web Server to drive, {@code null} to start the embedded stack.
+ * @param jobType job type of every created job.
+ * @param logins users the jobs are spread over, round-robin.
+ * @param concurrency maximum number of jobs in flight at once.
+ * @param arrivalRate jobs started per second.
+ * @param duration time during which new jobs are started.
+ * @param jobMix job templates picked by weight.
+ * @param statusPollInterval interval between status requests of one job.
+ * @param awaitTerminal whether a job is followed until it reaches a terminal state or only until it
+ *     leaves {@code SUBMITTED}.
+ * @param statusTimeout time after submission a job may take to reach the awaited state.
+ * @param reportFile file the JSON report is written to, {@code null} for no file.
+ * @param serverArgs arguments passed to the embedded Web Server.
+ * @param workerArgs {@code --workers} and {@code --worker-*} arguments of the simulated Workers of
+ *     the embedded stack, see {@link SimulatorProfile}.
+ */
+public record LoadProfile(
+    String baseUrl,
+    String jobType,
+    List<String> logins,
+    int concurrency,
+    double arrivalRate,
+    Duration duration,
+    List<JobTemplate> jobMix,
+    Duration statusPollInterval,
+    boolean awaitTerminal,
+    Duration statusTimeout,
+    Path reportFile,
+    List<String> serverArgs,
+    List<String> workerArgs) {
+
+  public LoadProfile {
+    Options.requirePositive("concurrency", concurrency);
+    Options.requirePositive("arrival-rate", arrivalRate);
+    Options.requirePositive("duration", duration);
+    Options.requirePositive("status-poll-interval", statusPollInterval);
+    Options.requirePositive("status-timeout", statusTimeout);
+    if (jobType == null || jobType.isBlank()) {
+      throw new InvalidLoadProfileException("job-type must not be null or blank.");
+    }
+    if (logins == null || logins.isEmpty()) {
+      throw new InvalidLoadProfileException("logins must not be empty.");
+    }
+    if (jobMix == null || jobMix.isEmpty()) {
+      throw new InvalidLoadProfileException("job-mix must not be empty.");
+    }
+    if (baseUrl != null && !(serverArgs.isEmpty() && workerArgs.isEmpty())) {
+      throw new InvalidLoadProfileException(
+          "Web Server and Worker options can only be set for the embedded stack.");
+    }
+    logins = List.copyOf(logins);
+    jobMix = List.copyOf(jobMix);
+    serverArgs = List.copyOf(serverArgs);
+    workerArgs = List.copyOf(workerArgs);
+  }
+
+  /**
+   * Parses command line arguments. Options that are not given keep their defaults: embedded stack,
+   * {@code solving_slae} jobs of users {@code guest} and {@code admin}, 16 jobs in flight, 10 jobs
+   * per second for one minute, 100x100 systems solved by {@code numpy_exact_solver}.
+   *
+   * @param args command line arguments.
+   * @return parsed load profile.
+   */
+  public static LoadProfile fromArgs(String[] args) {
+    String baseUrl = null;
+    var jobType = "solving_slae";
+    var logins = List.of("guest", "admin");
+    var concurrency = 16;
+    var arrivalRate = 10.0;
+    var duration = Duration.ofMinutes(1);
+    var jobMix = List.of(new JobTemplate("numpy_exact_solver", 100, 1));
+    var statusPollInterval = Duration.ofMillis(200);
+    var awaitTerminal = true;
+    var statusTimeout = Duration.ofMinutes(5);
+    Path reportFile = null;
+    var serverArgs = new ArrayList<String>();
+    var workerArgs = new ArrayList<String>();
+    for (var arg : args) {
+      var option = Options.parse(arg);
+      var name = option.name();
+      var value = option.value();
+      if (name.contains(".")) {
+        serverArgs.add(arg);
+        continue;
+      }
+      if (name.startsWith("worker")) {
+        workerArgs.add(arg);
+        continue;
+      }
+      switch (name) {
+        case "base-url" -> baseUrl = value.isBlank() ? null : value;
+        case "job-type" -> jobType = value;
+        case "logins" -> logins = Arrays.stream(value.split(",")).map(String::trim).toList();
+        case "concurrency" -> concurrency = Options.parseInt(name, value);
+        case "arrival-rate" -> arrivalRate = Options.parseDouble(name, value);
+        case "duration" -> duration = Options.parseDuration(name, value);
+        case "job-mix" -> jobMix = Arrays.stream(value.split(",")).map(JobTemplate::parse).toList();
+        case "status-poll-interval" -> statusPollInterval = Options.parseDuration(name, value);
+        case "await-terminal" -> awaitTerminal = Boolean.parseBoolean(value);
+        case "status-timeout" -> statusTimeout = Options.parseDuration(name, value);
+        case "report" -> reportFile = value.isBlank() ? null : Path.of(value);
+        default -> throw new InvalidLoadProfileException("Unknown option '--" + name + "'.");
+      }
+    }
+    return new LoadProfile(
+        baseUrl,
+        jobType,
+        logins,
+        concurrency,
+        arrivalRate,
+        duration,
+        jobMix,
+        statusPollInterval,
+        awaitTerminal,
+        statusTimeout,
+        reportFile,
+        serverArgs,
+        workerArgs);
+  }
+
+  /** Returns {@code true} when the load generator starts the stack itself. */
+  public boolean embedded() {
+    return baseUrl == null;
+  }
+}
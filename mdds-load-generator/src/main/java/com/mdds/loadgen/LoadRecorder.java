@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.domain.JobStatus;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Collects latencies of lifecycle steps and job outcomes from all job threads. Latencies are kept
+ * in microseconds in HdrHistograms with three significant digits, so every percentile is exact to
+ * 0.1% however long the tail is.
+ */
+final class LoadRecorder {
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<LifecycleStep, Histogram> steps = new EnumMap<>(LifecycleStep.class);
+  private final Histogram startDelay = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+  private final Map<JobStatus, LongAdder> finished = new EnumMap<>(JobStatus.class);
+  private final LongAdder started = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+
+  LoadRecorder() {
+    for (var step : LifecycleStep.values()) {
+      steps.put(step, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+    }
+    for (var status : JobStatus.values()) {
+      finished.put(status, new LongAdder());
+    }
+  }
+
+  /** Records a step that started at {@code startNanos}, a {@link System#nanoTime()} value. */
+  void record(LifecycleStep step, long startNanos) {
+    steps.get(step).recordValue(microsSince(startNanos));
+  }
+
+  /**
+   * Records how late a job started compared with its arrival time. Jobs start late when all
+   * concurrency slots are busy; without this histogram the step latencies would hide the wait.
+   */
+  void recordStart(long intendedStartNanos) {
+    started.increment();
+    startDelay.recordValue(microsSince(intendedStartNanos));
+  }
+
+  /** Records a job that reached the awaited state. */
+  void recordCompleted() {
+    completed.increment();
+  }
+
+  /** Records the terminal state of a job. */
+  void recordFinished(JobStatus status) {
+    finished.get(status).increment();
+  }
+
+  void recordFailed() {
+    failed.increment();
+  }
+
+  void recordTimedOut() {
+    timedOut.increment();
+  }
+
+  Histogram step(LifecycleStep step) {
+    return steps.get(step);
+  }
+
+  Histogram startDelay() {
+    return startDelay;
+  }
+
+  long started() {
+    return started.sum();
+  }
+
+  long finished(JobStatus status) {
+    return finished.get(status).sum();
+  }
+
+  long completed() {
+    return completed.sum();
+  }
+
+  long failed() {
+    return failed.sum();
+  }
+
+  long timedOut() {
+    return timedOut.sum();
+  }
+
+  private static long microsSince(long startNanos) {
+    return Math.max(0, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.common.util.JsonHelper;
+import com.mdds.domain.JobStatus;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a load run: latency percentiles of every lifecycle step in milliseconds, job outcomes
+ * and throughput.
+ *
+ * @param elapsedSeconds wall time of the run, from the first arrival until the last job was done.
+ * @param started number of started jobs.
+ * @param completed number of jobs that reached the awaited state.
+ * @param failed number of jobs stopped by an error response.
+ * @param timedOut number of jobs that did not reach the awaited state in time.
+ * @param finished number of jobs per terminal state.
+ * @param throughput completed jobs per second.
+ * @param startDelay how late jobs started compared with their arrival time.
+ * @param steps latencies of lifecycle steps.
+ */
+public record LoadReport(
+    double elapsedSeconds,
+    long started,
+    long completed,
+    long failed,
+    long timedOut,
+    Map<String, Long> finished,
+    double throughput,
+    StepLatency startDelay,
+    List<StepLatency> steps) {
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  static LoadReport of(LoadRecorder recorder, Duration elapsed) {
+    var elapsedSeconds = elapsed.toNanos() / 1_000_000_000.0;
+    var finished = new LinkedHashMap<String, Long>();
+    Arrays.stream(JobStatus.values())
+        .filter(JobStatus::isTerminal)
+        .forEach(status -> finished.put(status.name(), recorder.finished(status)));
+    return new LoadReport(
+        elapsedSeconds,
+        recorder.started(),
+        recorder.completed(),
+        recorder.failed(),
+        recorder.timedOut(),
+        finished,
+        recorder.completed() / elapsedSeconds,
+        StepLatency.of("start_delay", recorder.startDelay()),
+        Arrays.stream(LifecycleStep.values())
+            .map(step -> StepLatency.of(step.label(), recorder.step(step)))
+            .toList());
+  }
+
+  /** Prints the report as a table. */
+  void print(PrintStream out) {
+    out.printf(
+        Locale.ROOT,
+        "%-16s %9s %10s %10s %10s %10s %10s%n",
+        "step",
+        "count",
+        "p50 ms",
+        "p90 ms",
+        "p99 ms",
+        "p99.9 ms",
+        "max ms");
+    for (var step : steps) {
+      step.print(out);
+    }
+    startDelay.print(out);
+    out.printf(
+        Locale.ROOT,
+        "jobs: %d started, %d completed, %d failed, %d timed out, terminal states %s%n",
+        started,
+        completed,
+        failed,
+        timedOut,
+        finished);
+    out.printf(Locale.ROOT, "throughput: %.2f jobs/s over %.1f s%n", throughput, elapsedSeconds);
+  }
+
+  /** Writes the report as JSON, for comparison between runs. */
+  void write(Path file) throws IOException {
+    var parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.writeString(file, JsonHelper.toJson(this));
+  }
+
+  /**
+   * Latency percentiles of one step in milliseconds.
+   *
+   * @param step step label.
+   * @param count number of measurements.
+   * @param p50 median.
+   * @param p90 90th percentile.
+   * @param p99 99th percentile.
+   * @param p999 99.9th percentile.
+   * @param max largest measurement.
+   */
+  public record StepLatency(
+      String step, long count, double p50, double p90, double p99, double p999, double max) {
+
+    static StepLatency of(String step, Histogram histogram) {
+      var snapshot = histogram.copy();
+      return new StepLatency(
+          step,
+          snapshot.getTotalCount(),
+          millis(snapshot.getValueAtPercentile(50)),
+          millis(snapshot.getValueAtPercentile(90)),
+          millis(snapshot.getValueAtPercentile(99)),
+          millis(snapshot.getValueAtPercentile(99.9)),
+          millis(snapshot.getMaxValue()));
+    }
+
+    private void print(PrintStream out) {
+      out.printf(
+          Locale.ROOT,
+          "%-16s %9d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+          step,
+          count,
+          p50,
+          p90,
+          p99,
+          p999,
+          max);
+    }
+
+    private static double millis(long micros) {
+      return micros / MICROS_PER_MILLI;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts jobs at a fixed arrival rate, whatever the response times are. A closed loop, where a
+ * client starts the next job only after the previous one finished, slows down together with the
+ * system under test and hides its saturation. Here the arrival time of every job is fixed in
+ * advance; when all {@code concurrency} slots are busy the job starts late and the delay is
+ * recorded, so an overloaded stack shows up in the report instead of in a lower arrival rate.
+ *
+ * <p>Every job runs on its own virtual thread, so thousands of jobs waiting for their status cost
+ * no platform threads.
+ */
+@Slf4j
+final class LoadRun {
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private LoadRun() {}
+
+  /**
+   * Runs the load profile against a Web Server and waits until every started job is done.
+   *
+   * @param profile load profile.
+   * @param baseUrl base URL of the Web Server.
+   * @return report of the run.
+   * @throws InterruptedException when the run is interrupted.
+   */
+  static LoadReport execute(LoadProfile profile, String baseUrl) throws InterruptedException {
+    var recorder = new LoadRecorder();
+    var lifecycle = new JobLifecycle(new MddsRestClient(baseUrl), recorder, profile);
+    var jobMix = new JobMix(profile.jobMix());
+    var slots = new Semaphore(profile.concurrency());
+    var logins = profile.logins();
+    log.info(
+        "Starting {} jobs per second for {} with at most {} jobs in flight against {}.",
+        profile.arrivalRate(),
+        profile.duration(),
+        profile.concurrency(),
+        baseUrl);
+    var startedAt = System.nanoTime();
+    var arrivalsEnd = startedAt + profile.duration().toNanos();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (var i = 0L; ; i++) {
+        var intendedStart = startedAt + (long) (i * NANOS_PER_SECOND / profile.arrivalRate());
+        if (intendedStart - arrivalsEnd >= 0) {
+          break;
+        }
+        sleepUntil(intendedStart);
+        slots.acquire();
+        recorder.recordStart(intendedStart);
+        var login = logins.get((int) (i % logins.size()));
+        var job = jobMix.pick();
+        executor.execute(
+            () -> {
+              try {
+                lifecycle.run(job, login);
+              } finally {
+                slots.release();
+              }
+            });
+      }
+      log.info(
+          "All jobs started, waiting for {} jobs in flight.",
+          profile.concurrency() - slots.availablePermits());
+    }
+    return LoadReport.of(recorder, Duration.ofNanos(System.nanoTime() - startedAt));
+  }
+
+  private static void sleepUntil(long deadline) throws InterruptedException {
+    var delay = deadline - System.nanoTime();
+    if (delay > 0) {
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.common.util.JsonHelper;
+import com.mdds.dto.rest.v1.CreateJobRequestDTO;
+import com.mdds.dto.rest.v1.CreateJobResponseDTO;
+import com.mdds.dto.rest.v1.JobStatusResponseDTO;
+import com.mdds.dto.rest.v1.JobUploadUrlRequestDTO;
+import com.mdds.dto.rest.v1.JobUploadUrlResponseDTO;
+import com.mdds.dto.rest.v1.SubmitJobResponseDTO;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/** Client of the Web Server REST API, one method per lifecycle request. */
+final class MddsRestClient {
+  private static final String USER_LOGIN_HEADER = "X-MDDS-User-Login";
+  private static final String UPLOAD_SESSION_ID_HEADER = "X-MDDS-Upload-Session-Id";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient client;
+  private final String baseUrl;
+
+  MddsRestClient(String baseUrl) {
+    this.client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+  }
+
+  String create(String login, String uploadSessionId, String jobType)
+      throws IOException, InterruptedException {
+    var request =
+        json("/jobs", login)
+            .header(UPLOAD_SESSION_ID_HEADER, uploadSessionId)
+            .POST(body(new CreateJobRequestDTO(jobType)))
+            .build();
+    return send(request, CreateJobResponseDTO.class).jobId();
+  }
+
+  URI issueUploadUrl(String login, String jobId, String inputSlot)
+      throws IOException, InterruptedException {
+    var request =
+        json("/jobs/" + jobId + "/inputs", login)
+            .POST(body(new JobUploadUrlRequestDTO(inputSlot)))
+            .build();
+    return URI.create(send(request, JobUploadUrlResponseDTO.class).uploadUrl());
+  }
+
+  void upload(URI uploadUrl, byte[] content) throws IOException, InterruptedException {
+    var request =
+        HttpRequest.newBuilder(uploadUrl)
+            .timeout(REQUEST_TIMEOUT)
+            .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+            .build();
+    send(request, Void.class);
+  }
+
+  void mergeParams(String login, String jobId, Map<String, Object> params)
+      throws IOException, InterruptedException {
+    var request =
+        json("/jobs/" + jobId + "/params", login)
+            .setHeader("Content-Type", "application/merge-patch+json")
+            .method("PATCH", body(params))
+            .build();
+    send(request, Void.class);
+  }
+
+  SubmitJobResponseDTO submit(String login, String jobId) throws IOException, InterruptedException {
+    var request =
+        json("/jobs/" + jobId + "/submit", login).POST(HttpRequest.BodyPublishers.noBody()).build();
+    return send(request, SubmitJobResponseDTO.class);
+  }
+
+  JobStatusResponseDTO status(String login, String jobId) throws IOException, InterruptedException {
+    var request = json("/jobs/" + jobId + "/status", login).GET().build();
+    return send(request, JobStatusResponseDTO.class);
+  }
+
+  private HttpRequest.Builder json(String path, String login) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .header(USER_LOGIN_HEADER, login);
+  }
+
+  private static HttpRequest.BodyPublisher body(Object value) {
+    return HttpRequest.BodyPublishers.ofString(JsonHelper.toJson(value));
+  }
+
+  private <T> T send(HttpRequest request, Class<T> responseType)
+      throws IOException, InterruptedException {
+    var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() / 100 != 2) {
+      throw new UnexpectedResponseException(
+          request.method()
+              + " "
+              + request.uri().getPath()
+              + " returned "
+              + response.statusCode()
+              + ": "
+              + response.body());
+    }
+    return responseType == Void.class ? null : JsonHelper.fromJson(response.body(), responseType);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/** Parsing and checks of {@code --name=value} command line options. */
+final class Options {
+
+  private Options() {}
+
+  /**
+   * Splits an argument into option name and value.
+   *
+   * @param arg command line argument.
+   * @return name without the leading dashes and value.
+   */
+  static Option parse(String arg) {
+    var separator = arg.indexOf('=');
+    if (!arg.startsWith("--") || separator < 0) {
+      throw new InvalidLoadProfileException(
+          "Argument '" + arg + "' is not in the form --name=value.");
+    }
+    return new Option(arg.substring(2, separator), arg.substring(separator + 1), arg);
+  }
+
+  static int parseInt(String name, String value) {
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      throw new InvalidLoadProfileException(name + " must be an integer, got '" + value + "'.");
+    }
+  }
+
+  static double parseDouble(String name, String value) {
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      throw new InvalidLoadProfileException(name + " must be a number, got '" + value + "'.");
+    }
+  }
+
+  static Duration parseDuration(String name, String value) {
+    try {
+      return Duration.parse(value.trim());
+    } catch (DateTimeParseException e) {
+      throw new InvalidLoadProfileException(
+          name + " must be an ISO-8601 duration such as PT30S, got '" + value + "'.");
+    }
+  }
+
+  static void requirePositive(String name, double value) {
+    if (!(value > 0)) {
+      throw new InvalidLoadProfileException(name + " must be positive.");
+    }
+  }
+
+  static void requirePositive(String name, Duration value) {
+    if (value == null || value.isZero() || value.isNegative()) {
+      throw new InvalidLoadProfileException(name + " must be positive.");
+    }
+  }
+
+  static void requirePositiveOrZero(String name, Duration value) {
+    if (value == null || value.isNegative()) {
+      throw new InvalidLoadProfileException(name + " must be positive or zero.");
+    }
+  }
+
+  static void requireRatio(String name, double value) {
+    if (!(value >= 0 && value <= 1)) {
+      throw new InvalidLoadProfileException(name + " must be between 0 and 1.");
+    }
+  }
+
+  /**
+   * One command line option.
+   *
+   * @param name option name without the leading dashes.
+   * @param value option value.
+   * @param arg the whole argument.
+   */
+  record Option(String name, String value, String arg) {}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.common.CommonProperties;
+import com.mdds.domain.JobStatus;
+import com.mdds.dto.worker.v1.JobMessageDTO;
+import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.dto.worker.v1.WorkerHeartbeatDTO;
+import com.mdds.queue.Acknowledger;
+import com.mdds.queue.Message;
+import com.mdds.queue.QueueClient;
+import com.mdds.queue.Subscription;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One simulated Worker. It follows the protocol of the Python Worker runtime without doing any
+ * work: it takes up to {@code slots} job messages from {@code queue-<jobType>}, publishes {@code
+ * INPUTS_PREPARED}, progress updates and a terminal status of each job to its status queue shard,
+ * and acknowledges the job message once the terminal status is published. Every job runs on a
+ * virtual thread, so a simulated Worker costs no platform thread per slot.
+ */
+@Slf4j
+final class SimulatedWorker implements AutoCloseable {
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+  private final String workerId = "simulated-worker-" + UUID.randomUUID();
+  private final SimulatorProfile profile;
+  private final CommonProperties queues;
+  private final QueueClient queueClient;
+  private final SimulatorStats stats;
+  private final ExecutorService jobs = Executors.newVirtualThreadPerTaskExecutor();
+  private final AtomicInteger runningJobs = new AtomicInteger();
+  private Subscription subscription;
+
+  SimulatedWorker(
+      SimulatorProfile profile,
+      CommonProperties queues,
+      QueueClient queueClient,
+      SimulatorStats stats) {
+    this.profile = profile;
+    this.queues = queues;
+    this.queueClient = queueClient;
+    this.stats = stats;
+  }
+
+  /** Starts taking jobs. */
+  void start() {
+    subscription =
+        queueClient.subscribe(
+            profile.jobQueueName(), JobMessageDTO.class, profile.slots(), this::handle);
+  }
+
+  /** Publishes a heartbeat with the number of free slots. */
+  void publishHeartbeat() {
+    var heartbeat =
+        new WorkerHeartbeatDTO(
+            workerId,
+            profile.jobType(),
+            profile.jobQueueName(),
+            null,
+            profile.cpuCores(),
+            profile.memoryMb(),
+            profile.slots(),
+            Math.max(profile.slots() - runningJobs.get(), 0),
+            Instant.now());
+    queueClient.publish(
+        queues.getHeartbeatQueueName(),
+        new Message<>(heartbeat, Collections.emptyMap(), Instant.now()));
+  }
+
+  private void handle(Message<JobMessageDTO> message, Acknowledger ack) {
+    var jobId = jobIdOf(message.payload());
+    if (jobId == null) {
+      log.warn(
+          "Dropping job message without a job id, manifest '{}'.",
+          message.payload().manifestObjectKey());
+      ack.nack(false);
+      return;
+    }
+    runningJobs.incrementAndGet();
+    stats.jobTaken();
+    jobs.execute(
+        () -> {
+          try {
+            run(jobId);
+            ack.ack();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ack.nack(true);
+          } catch (RuntimeException e) {
+            log.warn("Simulated job '{}' failed to publish its status.", jobId, e);
+            ack.nack(true);
+          } finally {
+            runningJobs.decrementAndGet();
+          }
+        });
+  }
+
+  private void run(String jobId) throws InterruptedException {
+    var updates = new JobUpdates(jobId);
+    sleep(profile.prepareTime());
+    updates.publish(JobStatus.INPUTS_PREPARED, 0, "Simulated inputs prepared.");
+    var progress = 0;
+    for (var tick = 1; tick <= profile.progressTicks(); tick++) {
+      sleep(profile.tickInterval());
+      progress = Math.max(1, tick * 99 / profile.progressTicks());
+      updates.publish(JobStatus.IN_PROGRESS, progress, "Simulated progress.");
+    }
+    sleep(profile.tickInterval());
+    if (ThreadLocalRandom.current().nextDouble() < profile.failureRatio()) {
+      updates.publish(JobStatus.ERROR, progress, "Simulated failure.");
+      stats.jobFailed();
+    } else {
+      updates.publish(JobStatus.DONE, 100, "Simulated job completed.");
+      stats.jobDone();
+    }
+  }
+
+  /**
+   * Returns the job id from the inline manifest or, when the manifest was too big to be inlined,
+   * from the manifest object key {@code jobs/<userId>/<jobId>/manifest.json}. The simulator never
+   * reads object storage.
+   */
+  private static String jobIdOf(JobMessageDTO message) {
+    if (message.manifest() != null) {
+      return message.manifest().jobId();
+    }
+    var key = message.manifestObjectKey();
+    if (key == null) {
+      return null;
+    }
+    var parts = key.split("/");
+    return parts.length >= 2 ? parts[parts.length - 2] : null;
+  }
+
+  private static void sleep(Duration duration) throws InterruptedException {
+    if (!duration.isZero()) {
+      Thread.sleep(duration);
+    }
+  }
+
+  @Override
+  public void close() {
+    jobs.shutdownNow();
+    try {
+      if (!jobs.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("Simulated Worker '{}' did not stop its jobs in time.", workerId);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (subscription != null) {
+      subscription.close();
+    }
+    queueClient.close();
+  }
+
+  /**
+   * Status updates of one job. With {@code outOfOrderRatio} an update is held back and published
+   * right after the next one, so the status ingester sees it late. Terminal updates are never held
+   * back, but a held progress update is published after its terminal update.
+   */
+  private final class JobUpdates {
+    private final String jobId;
+    private final String statusQueueName;
+    private JobStatusUpdateDTO held;
+
+    private JobUpdates(String jobId) {
+      this.jobId = jobId;
+      this.statusQueueName = queues.statusQueueNameFor(jobId);
+    }
+
+    private void publish(JobStatus status, int progress, String message) {
+      var update =
+          new JobStatusUpdateDTO(
+              jobId, workerId, status.getCode(), progress, message, Instant.now());
+      if (held == null
+          && !status.isTerminal()
+          && ThreadLocalRandom.current().nextDouble() < profile.outOfOrderRatio()) {
+        held = update;
+        return;
+      }
+      send(update);
+      if (held != null) {
+        send(held);
+        held = null;
+        stats.updateReordered();
+      }
+    }
+
+    private void send(JobStatusUpdateDTO update) {
+      queueClient.publish(
+          statusQueueName, new Message<>(update, Collections.emptyMap(), Instant.now()));
+      stats.updatePublished();
+    }
+  }
+}
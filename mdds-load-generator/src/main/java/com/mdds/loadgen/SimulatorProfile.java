@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Behavior of simulated Workers, parsed from {@code --workers} and {@code --worker-*} command line
+ * arguments.
+ *
+ * @param jobType job type the Workers take, they consume {@code queue-<jobType>}.
+ * @param workers number of simulated Workers.
+ * @param slots jobs one Worker runs at once, also the prefetch of its consumer.
+ * @param prepareTime time from taking a job to {@code INPUTS_PREPARED}.
+ * @param progressTicks number of {@code IN_PROGRESS} updates of a job.
+ * @param tickInterval time between two updates of a job after {@code INPUTS_PREPARED}.
+ * @param failureRatio share of jobs that end in {@code ERROR} instead of {@code DONE}.
+ * @param outOfOrderRatio share of updates that are held back and published after the next update of
+ *     the same job, as when a Worker publishes from several threads.
+ * @param heartbeatInterval interval between heartbeats, zero to publish none; without heartbeats
+ *     jobs go to the shared queue of the job type.
+ * @param cpuCores CPU cores each Worker reports in its heartbeats.
+ * @param memoryMb memory each Worker reports in its heartbeats.
+ */
+public record SimulatorProfile(
+    String jobType,
+    int workers,
+    int slots,
+    Duration prepareTime,
+    int progressTicks,
+    Duration tickInterval,
+    double failureRatio,
+    double outOfOrderRatio,
+    Duration heartbeatInterval,
+    int cpuCores,
+    long memoryMb) {
+
+  public SimulatorProfile {
+    if (jobType == null || jobType.isBlank()) {
+      throw new InvalidLoadProfileException("job-type must not be null or blank.");
+    }
+    if (workers < 0) {
+      throw new InvalidLoadProfileException("workers must be positive or zero.");
+    }
+    Options.requirePositive("worker-slots", slots);
+    Options.requirePositiveOrZero("worker-prepare-time", prepareTime);
+    // INPUTS_PREPARED can not switch to DONE, a job needs at least one IN_PROGRESS update.
+    Options.requirePositive("worker-progress-ticks", progressTicks);
+    Options.requirePositiveOrZero("worker-tick-interval", tickInterval);
+    Options.requireRatio("worker-failure-ratio", failureRatio);
+    Options.requireRatio("worker-out-of-order-ratio", outOfOrderRatio);
+    Options.requirePositiveOrZero("worker-heartbeat-interval", heartbeatInterval);
+    Options.requirePositive("worker-cpu-cores", cpuCores);
+    Options.requirePositive("worker-memory-mb", memoryMb);
+  }
+
+  /**
+   * Parses simulator options. Options that are not given keep their defaults: 4 Workers of {@code
+   * solving_slae} with 2 slots, 4 cores and 8 GB each, heartbeats every 5 seconds, 100 ms of
+   * preparation and 5 progress updates 100 ms apart, no failures and no reordering.
+   *
+   * @param args {@code --name=value} arguments.
+   * @return parsed profile.
+   */
+  public static SimulatorProfile fromArgs(List<String> args) {
+    var jobType = "solving_slae";
+    var workers = 4;
+    var slots = 2;
+    var prepareTime = Duration.ofMillis(100);
+    var progressTicks = 5;
+    var tickInterval = Duration.ofMillis(100);
+    var failureRatio = 0.0;
+    var outOfOrderRatio = 0.0;
+    var heartbeatInterval = Duration.ofSeconds(5);
+    var cpuCores = 4;
+    var memoryMb = 8192L;
+    for (var arg : args) {
+      var option = Options.parse(arg);
+      var name = option.name();
+      var value = option.value();
+      switch (name) {
+        case "job-type" -> jobType = value;
+        case "workers" -> workers = Options.parseInt(name, value);
+        case "worker-slots" -> slots = Options.parseInt(name, value);
+        case "worker-prepare-time" -> prepareTime = Options.parseDuration(name, value);
+        case "worker-progress-ticks" -> progressTicks = Options.parseInt(name, value);
+        case "worker-tick-interval" -> tickInterval = Options.parseDuration(name, value);
+        case "worker-failure-ratio" -> failureRatio = Options.parseDouble(name, value);
+        case "worker-out-of-order-ratio" -> outOfOrderRatio = Options.parseDouble(name, value);
+        case "worker-heartbeat-interval" -> heartbeatInterval = Options.parseDuration(name, value);
+        case "worker-cpu-cores" -> cpuCores = Options.parseInt(name, value);
+        case "worker-memory-mb" -> memoryMb = Options.parseInt(name, value);
+        default -> throw new InvalidLoadProfileException("Unknown option '--" + name + "'.");
+      }
+    }
+    return new SimulatorProfile(
+        jobType,
+        workers,
+        slots,
+        prepareTime,
+        progressTicks,
+        tickInterval,
+        failureRatio,
+        outOfOrderRatio,
+        heartbeatInterval,
+        cpuCores,
+        memoryMb);
+  }
+
+  /** Returns the shared queue of the job type. */
+  public String jobQueueName() {
+    return "queue-" + jobType;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters of all simulated Workers. */
+final class SimulatorStats {
+  private final LongAdder jobsTaken = new LongAdder();
+  private final LongAdder jobsDone = new LongAdder();
+  private final LongAdder jobsFailed = new LongAdder();
+  private final LongAdder updatesPublished = new LongAdder();
+  private final LongAdder updatesReordered = new LongAdder();
+
+  void jobTaken() {
+    jobsTaken.increment();
+  }
+
+  void jobDone() {
+    jobsDone.increment();
+  }
+
+  void jobFailed() {
+    jobsFailed.increment();
+  }
+
+  void updatePublished() {
+    updatesPublished.increment();
+  }
+
+  void updateReordered() {
+    updatesReordered.increment();
+  }
+
+  long jobsTaken() {
+    return jobsTaken.sum();
+  }
+
+  long jobsDone() {
+    return jobsDone.sum();
+  }
+
+  long jobsFailed() {
+    return jobsFailed.sum();
+  }
+
+  long updatesPublished() {
+    return updatesPublished.sum();
+  }
+
+  long updatesReordered() {
+    return updatesReordered.sum();
+  }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+/** Web Server or object storage answered a load generator request with an error. */
+public class UnexpectedResponseException extends RuntimeException {
+  public UnexpectedResponseException(String message) {
+    super(message);
+  }
+}
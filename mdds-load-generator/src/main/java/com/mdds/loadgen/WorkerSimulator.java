@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.loadgen;
+
+import com.mdds.common.CommonProperties;
+import com.mdds.queue.rabbitmq.RabbitMqProperties;
+import com.mdds.queue.rabbitmq.RabbitMqQueueClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Simulated Workers that publish realistic status update sequences without doing any work, so the
+ * status ingestion path of the Web Server can be loaded far beyond what real Workers produce. See
+ * {@link SimulatedWorker} for what one Worker does.
+ *
+ * <p>Runs inside the load generator's embedded stack, or on its own against a running stack:
+ *
+ * <pre>
+ * java -cp load-generator.jar -Dloader.main=com.mdds.loadgen.WorkerSimulator \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher --workers=50 --worker-slots=8
+ * </pre>
+ */
+@Slf4j
+public final class WorkerSimulator implements AutoCloseable {
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(60);
+  private static final Duration STATS_INTERVAL = Duration.ofSeconds(10);
+
+  private final List<SimulatedWorker> workers = new ArrayList<>();
+  private final SimulatorStats stats = new SimulatorStats();
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> Thread.ofPlatform().name("worker-simulator").daemon().unstarted(runnable));
+  private long lastUpdatesPublished;
+
+  private WorkerSimulator() {}
+
+  /**
+   * Connects the simulated Workers to RabbitMQ and starts taking jobs. Every Worker has a
+   * connection of its own, as separate Worker processes have.
+   *
+   * @param profile behavior of the Workers.
+   * @param rabbitMq RabbitMQ connection settings.
+   * @param queues status and heartbeat queue names.
+   * @return running simulator.
+   */
+  public static WorkerSimulator start(
+      SimulatorProfile profile, RabbitMqProperties rabbitMq, CommonProperties queues) {
+    var simulator = new WorkerSimulator();
+    try {
+      for (var i = 0; i < profile.workers(); i++) {
+        var worker =
+            new SimulatedWorker(
+                profile,
+                queues,
+                new RabbitMqQueueClient(rabbitMq, CONNECT_TIMEOUT),
+                simulator.stats);
+        simulator.workers.add(worker);
+        worker.start();
+      }
+    } catch (RuntimeException e) {
+      simulator.close();
+      throw e;
+    }
+    if (!profile.heartbeatInterval().isZero()) {
+      var interval = profile.heartbeatInterval().toMillis();
+      simulator.scheduler.scheduleWithFixedDelay(
+          simulator::publishHeartbeats, 0, interval, TimeUnit.MILLISECONDS);
+    }
+    simulator.scheduler.scheduleWithFixedDelay(
+        simulator::logStats,
+        STATS_INTERVAL.toMillis(),
+        STATS_INTERVAL.toMillis(),
+        TimeUnit.MILLISECONDS);
+    log.info(
+        "Started {} simulated Workers of jobType '{}' with {} slots each.",
+        profile.workers(),
+        profile.jobType(),
+        profile.slots());
+    return simulator;
+  }
+
+  private void publishHeartbeats() {
+    for (var worker : workers) {
+      try {
+        worker.publishHeartbeat();
+      } catch (RuntimeException e) {
+        log.warn("Failed to publish heartbeat of a simulated Worker.", e);
+      }
+    }
+  }
+
+  private void logStats() {
+    var published = stats.updatesPublished();
+    log.info(
+        "Simulated Workers took {} jobs, {} done, {} failed; {} status updates, {} per second,"
+            + " {} out of order.",
+        stats.jobsTaken(),
+        stats.jobsDone(),
+        stats.jobsFailed(),
+        published,
+        (published - lastUpdatesPublished) / STATS_INTERVAL.toSeconds(),
+        stats.updatesReordered());
+    lastUpdatesPublished = published;
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    for (var worker : workers) {
+      try {
+        worker.close();
+      } catch (RuntimeException e) {
+        log.warn("Failed to stop a simulated Worker.", e);
+      }
+    }
+    if (!workers.isEmpty()) {
+      logStats();
+    }
+  }
+
+  /**
+   * Runs simulated Workers until the process is stopped. Besides the {@link SimulatorProfile}
+   * options it takes {@code --rabbitmq-host}, {@code --rabbitmq-port}, {@code --rabbitmq-user},
+   * {@code --rabbitmq-password}, {@code --status-queue-name}, {@code --status-queue-shards} and
+   * {@code --heartbeat-queue-name}; they default to a local RabbitMQ and the queue names of {@code
+   * mdds-common.yml}.
+   *
+   * @param args command line arguments.
+   * @throws InterruptedException when the main thread is interrupted.
+   */
+  public static void main(String[] args) throws InterruptedException {
+    var rabbitMq = new RabbitMqProperties();
+    rabbitMq.setHost("localhost");
+    rabbitMq.setPort(5672);
+    rabbitMq.setUser("guest");
+    rabbitMq.setPassword("guest");
+    var queues = new CommonProperties();
+    queues.setStatusQueueName("mdds_status_queue");
+    queues.setHeartbeatQueueName("mdds_heartbeat_queue");
+    var profileArgs = new ArrayList<String>();
+    for (var arg : args) {
+      var option = Options.parse(arg);
+      var name = option.name();
+      var value = option.value();
+      switch (name) {
+        case "rabbitmq-host" -> rabbitMq.setHost(value);
+        case "rabbitmq-port" -> rabbitMq.setPort(Options.parseInt(name, value));
+        case "rabbitmq-user" -> rabbitMq.setUser(value);
+        case "rabbitmq-password" -> rabbitMq.setPassword(value);
+        case "status-queue-name" -> queues.setStatusQueueName(value);
+        case "status-queue-shards" -> queues.setStatusQueueShards(Options.parseInt(name, value));
+        case "heartbeat-queue-name" -> queues.setHeartbeatQueueName(value);
+        default -> profileArgs.add(arg);
+      }
+    }
+    var simulator = start(SimulatorProfile.fromArgs(profileArgs), rabbitMq, queues);
+    Runtime.getRuntime()
+        .addShutdownHook(
+            Thread.ofPlatform().name("worker-simulator-shutdown").unstarted(simulator::close));
+    Thread.currentThread().join();
+  }
+}
@@ -44,11 +44,34 @@ class WorkerConfig:
 
     worker_local_root: Path
 
+    worker_heartbeat_queue_name: str = "mdds_heartbeat_queue"
+    worker_heartbeat_interval_seconds: int = 5
+    worker_pool: str | None = None
+    worker_placement_queue_name: str | None = None
+    worker_slots: int = 1
+    worker_cpu_cores: int = 1
+    worker_memory_mb: int = 512
+    worker_status_queue_shards: int = 1
+
     @property
     def jobs_root(self) -> Path:
         """Return local root directory for job workspaces."""
         return self.worker_local_root / "jobs"
 
+    @property
+    def placement_queue_name(self) -> str:
+        """Return the queue the Web Server places jobs of this Worker on.
+
+        Workers of a pool share the queue of the pool, any other Worker has its
+        own queue. The Worker also consumes worker_job_queue_name, where jobs go
+        while no Worker of the job type is registered.
+        """
+        if self.worker_placement_queue_name is not None:
+            return self.worker_placement_queue_name
+        if self.worker_pool is not None:
+            return f"{self.worker_job_queue_name}.pool-{self.worker_pool}"
+        return f"{self.worker_job_queue_name}.worker-{self.worker_id}"
+
 
 def load_config() -> WorkerConfig:
     """Read Worker configuration from environment variables."""
@@ -100,6 +123,31 @@ def load_config() -> WorkerConfig:
             default=5,
         ),
         worker_local_root=_env_path("MDDS_WORKER_LOCAL_ROOT", default="/opt/mdds"),
+        worker_heartbeat_queue_name=_env_str(
+            "MDDS_WORKER_HEARTBEAT_QUEUE_NAME",
+            default="mdds_heartbeat_queue",
+        ),
+        worker_heartbeat_interval_seconds=_env_int(
+            "MDDS_WORKER_HEARTBEAT_INTERVAL_SECONDS",
+            default=5,
+        ),
+        worker_pool=_env_optional_str("MDDS_WORKER_POOL"),
+        worker_placement_queue_name=_env_optional_str(
+            "MDDS_WORKER_PLACEMENT_QUEUE_NAME"
+        ),
+        worker_slots=_env_int("MDDS_WORKER_SLOTS", default=1),
+        worker_cpu_cores=_env_int(
+            "MDDS_WORKER_CPU_CORES",
+            default=_detect_cpu_cores(),
+        ),
+        worker_memory_mb=_env_int(
+            "MDDS_WORKER_MEMORY_MB",
+            default=_detect_memory_mb(),
+        ),
+        worker_status_queue_shards=_env_int(
+            "MDDS_WORKER_STATUS_QUEUE_SHARDS",
+            default=1,
+        ),
     )
 
     logger.info("Validating Worker configuration...")
@@ -134,6 +182,29 @@ def validate_config(config: WorkerConfig) -> None:
             f"{config.worker_progress_interval_seconds}."
         )
 
+    if config.worker_heartbeat_interval_seconds <= 0:
+        raise WorkerConfigError(
+            "Illegal worker heartbeat interval: "
+            f"{config.worker_heartbeat_interval_seconds}."
+        )
+
+    if config.worker_slots <= 0:
+        raise WorkerConfigError(f"Illegal worker slots: {config.worker_slots}.")
+
+    if config.worker_cpu_cores <= 0:
+        raise WorkerConfigError(
+            f"Illegal worker CPU cores: {config.worker_cpu_cores}."
+        )
+
+    if config.worker_memory_mb <= 0:
+        raise WorkerConfigError(f"Illegal worker memory: {config.worker_memory_mb}.")
+
+    if config.worker_status_queue_shards <= 0:
+        raise WorkerConfigError(
+            "Illegal worker status queue shards: "
+            f"{config.worker_status_queue_shards}."
+        )
+
     _validate_worker_local_root(config.worker_local_root)
 
 
@@ -181,6 +252,15 @@ def _env_str(
     return value.strip()
 
 
+def _env_optional_str(name: str) -> str | None:
+    value = os.getenv(name)
+
+    if value is None or value.strip() == "":
+        return None
+
+    return value.strip()
+
+
 def _env_int(name: str, default: int | None = None) -> int:
     raw = _env_str(name, default=None if default is None else str(default))
 
@@ -219,6 +299,19 @@ def _env_path(name: str, default: str | None = None) -> Path:
     return path
 
 
+def _detect_cpu_cores() -> int:
+    return os.cpu_count() or 1
+
+
+def _detect_memory_mb() -> int:
+    try:
+        total_bytes = os.sysconf("SC_PAGE_SIZE") * os.sysconf("SC_PHYS_PAGES")
+    except (AttributeError, OSError, ValueError):
+        return 512
+
+    return max(total_bytes // (1024 * 1024), 1)
+
+
 def _generate_worker_id() -> str:
     hostname = socket.gethostname()
     return f"worker-{hostname}-{uuid.uuid4()}"
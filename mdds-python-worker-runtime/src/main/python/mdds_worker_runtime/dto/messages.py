@@ -4,6 +4,7 @@
 from __future__ import annotations
 
 from dataclasses import dataclass
+from typing import Any
 
 
 @dataclass(frozen=True)
@@ -12,13 +13,19 @@ class JobMessageDTO:
 
     This DTO mirrors the Java JobMessageDTO wire contract.
     The JSON field name is intentionally camelCase: manifestObjectKey.
+
+    ``manifest`` is the raw manifest JSON object when the orchestrator sent it
+    inline, or ``None`` when the manifest must be read from object storage.
     """
 
     manifestObjectKey: str  # NOSONAR - External JSON contract uses camelCase.
+    manifest: dict[str, Any] | None = None
 
     def __post_init__(self) -> None:
         if self.manifestObjectKey is None or self.manifestObjectKey.strip() == "":
             raise ValueError("manifestObjectKey cannot be null or blank.")
+        if self.manifest is not None and not isinstance(self.manifest, dict):
+            raise ValueError("manifest must be a JSON object.")
 
     @property
     def manifest_object_key(self) -> str:
@@ -71,3 +78,23 @@ class CancelJobDTO:
     @property
     def job_id(self) -> str:
         return self.jobId
+
+
+@dataclass(frozen=True)
+class WorkerHeartbeatDTO:
+    """Worker heartbeat message published by the Python Worker Runtime.
+
+    This DTO mirrors the Java WorkerHeartbeatDTO wire contract. The Web Server
+    keeps the latest heartbeat of every Worker and places submitted jobs on
+    Workers that have free slots and enough CPU cores and memory.
+    """
+
+    workerId: str  # NOSONAR - External JSON contract uses camelCase.
+    jobType: str  # NOSONAR - External JSON contract uses camelCase.
+    jobQueueName: str  # NOSONAR - External JSON contract uses camelCase.
+    pool: str | None
+    cpuCores: int  # NOSONAR - External JSON contract uses camelCase.
+    memoryMb: int  # NOSONAR - External JSON contract uses camelCase.
+    totalSlots: int  # NOSONAR - External JSON contract uses camelCase.
+    freeSlots: int  # NOSONAR - External JSON contract uses camelCase.
+    eventTime: str  # NOSONAR - External JSON contract uses camelCase.
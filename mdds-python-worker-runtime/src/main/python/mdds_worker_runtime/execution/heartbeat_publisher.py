@@ -0,0 +1,184 @@
+# Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+# Refer to the LICENSE file in the root directory for full license details.
+
+from __future__ import annotations
+
+from collections.abc import Callable
+from datetime import datetime, timezone
+import logging
+import threading
+
+from mdds_worker_runtime.dto.messages import WorkerHeartbeatDTO
+from mdds_worker_runtime.execution.registry import ExecutionRegistry
+from mdds_worker_runtime.queue.queue_client import QueueClient, QueueMessage
+
+logger = logging.getLogger(__name__)
+
+DEFAULT_HEARTBEAT_INTERVAL_SECONDS = 5.0
+
+
+class HeartbeatPublisher:
+    """Periodically publishes Worker capacity to the heartbeat queue.
+
+    A heartbeat reports the node resources and the number of free execution
+    slots. Free slots are the configured slots minus the executions currently
+    held in the execution registry. The Web Server uses heartbeats to decide
+    which Worker queue a submitted job goes to.
+
+    HeartbeatPublisher does not consume messages and does not change execution
+    state.
+    """
+
+    def __init__(
+        self,
+        *,
+        execution_registry: ExecutionRegistry,
+        queue_client: QueueClient,
+        worker_heartbeat_queue_name: str,
+        worker_id: str,
+        job_type: str,
+        job_queue_name: str,
+        pool: str | None,
+        cpu_cores: int,
+        memory_mb: int,
+        slots: int,
+        heartbeat_interval_seconds: float = DEFAULT_HEARTBEAT_INTERVAL_SECONDS,
+        clock: Callable[[], datetime] | None = None,
+    ) -> None:
+        if execution_registry is None:
+            raise ValueError("execution_registry cannot be null.")
+        if queue_client is None:
+            raise ValueError("queue_client cannot be null.")
+        if (
+            worker_heartbeat_queue_name is None
+            or worker_heartbeat_queue_name.strip() == ""
+        ):
+            raise ValueError("worker_heartbeat_queue_name cannot be null or blank.")
+        if worker_id is None or worker_id.strip() == "":
+            raise ValueError("worker_id cannot be null or blank.")
+        if job_type is None or job_type.strip() == "":
+            raise ValueError("job_type cannot be null or blank.")
+        if job_queue_name is None or job_queue_name.strip() == "":
+            raise ValueError("job_queue_name cannot be null or blank.")
+        if cpu_cores <= 0:
+            raise ValueError("cpu_cores must be greater than zero.")
+        if memory_mb <= 0:
+            raise ValueError("memory_mb must be greater than zero.")
+        if slots <= 0:
+            raise ValueError("slots must be greater than zero.")
+        if heartbeat_interval_seconds <= 0:
+            raise ValueError("heartbeat_interval_seconds must be greater than zero.")
+
+        self._execution_registry = execution_registry
+        self._queue_client = queue_client
+        self._worker_heartbeat_queue_name = worker_heartbeat_queue_name.strip()
+        self._worker_id = worker_id.strip()
+        self._job_type = job_type.strip()
+        self._job_queue_name = job_queue_name.strip()
+        self._pool = None if pool is None or pool.strip() == "" else pool.strip()
+        self._cpu_cores = cpu_cores
+        self._memory_mb = memory_mb
+        self._slots = slots
+        self._heartbeat_interval_seconds = heartbeat_interval_seconds
+        self._clock = clock or (lambda: datetime.now(timezone.utc))
+
+        self._stop_requested = threading.Event()
+        self._lifecycle_lock = threading.Lock()
+        self._thread: threading.Thread | None = None
+
+    def start(self) -> None:
+        """Start background heartbeat thread."""
+        with self._lifecycle_lock:
+            if self._thread is not None and self._thread.is_alive():
+                return
+
+            self._stop_requested.clear()
+            self._thread = threading.Thread(
+                target=self._run_loop,
+                name="mdds-heartbeat-publisher",
+                daemon=True,
+            )
+            self._thread.start()
+
+        logger.info(
+            "Heartbeat publisher started.",
+            extra={
+                "component": "heartbeat_publisher",
+                "event": "heartbeat_publisher_started",
+                "workerId": self._worker_id,
+            },
+        )
+
+    def stop(self, timeout_seconds: float = 10.0) -> None:
+        """Request publisher shutdown and wait for its thread to stop."""
+        self._stop_requested.set()
+
+        thread = self._thread
+        if thread is not None and thread.is_alive():
+            thread.join(timeout=timeout_seconds)
+
+        logger.info(
+            "Heartbeat publisher stopped.",
+            extra={
+                "component": "heartbeat_publisher",
+                "event": "heartbeat_publisher_stopped",
+                "workerId": self._worker_id,
+            },
+        )
+
+    def publish_once(self) -> None:
+        """Publish one heartbeat.
+
+        This method is intentionally public to make publisher behavior
+        deterministic in unit tests.
+        """
+        running = self._execution_registry.size()
+        heartbeat = WorkerHeartbeatDTO(
+            workerId=self._worker_id,
+            jobType=self._job_type,
+            jobQueueName=self._job_queue_name,
+            pool=self._pool,
+            cpuCores=self._cpu_cores,
+            memoryMb=self._memory_mb,
+            totalSlots=self._slots,
+            freeSlots=max(self._slots - running, 0),
+            eventTime=_format_event_time(self._clock()),
+        )
+
+        self._queue_client.publish(
+            self._worker_heartbeat_queue_name,
+            QueueMessage(payload=heartbeat),
+        )
+
+        logger.debug(
+            "Heartbeat published.",
+            extra={
+                "component": "heartbeat_publisher",
+                "event": "heartbeat_published",
+                "workerId": self._worker_id,
+                "freeSlots": heartbeat.freeSlots,
+            },
+        )
+
+    def _run_loop(self) -> None:
+        while not self._stop_requested.is_set():
+            try:
+                self.publish_once()
+            except Exception:
+                logger.exception(
+                    "Heartbeat publishing failed.",
+                    extra={
+                        "component": "heartbeat_publisher",
+                        "event": "heartbeat_publishing_failed",
+                        "workerId": self._worker_id,
+                    },
+                )
+
+            self._stop_requested.wait(self._heartbeat_interval_seconds)
+
+
+def _format_event_time(event_time: datetime) -> str:
+    if event_time.tzinfo is None or event_time.utcoffset() is None:
+        raise ValueError("event_time must be timezone-aware.")
+
+    return event_time.astimezone(timezone.utc).isoformat().replace("+00:00", "Z")
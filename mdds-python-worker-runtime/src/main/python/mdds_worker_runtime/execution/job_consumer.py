@@ -41,7 +41,8 @@ class JobConsumer(MessageHandler[JobMessageDTO]):
     """Consumes submitted job messages and starts supervised job execution.
 
     The consumed payload mirrors Java ``JobMessageDTO`` and contains
-    manifestObjectKey, which points to manifest.json in object storage.
+    manifestObjectKey, which points to manifest.json in object storage, and,
+    for small manifests, the manifest itself, so no storage read is needed.
 
     This consumer owns the submitted-message happy path after manifest identity
     is known:
@@ -109,7 +110,9 @@ class JobConsumer(MessageHandler[JobMessageDTO]):
 
         # Identity is still unknown here. Let the exception escape to the
         # generic message handling path. Do not publish job-level status here.
-        manifest = self._manifest_loader.load(manifest_object_key)
+        manifest = self._manifest_loader.load(
+            manifest_object_key, message.payload.manifest
+        )
         workspace = self._job_workspace_factory.create(manifest)
         record = ExecutionRecord(
             workspace=workspace,
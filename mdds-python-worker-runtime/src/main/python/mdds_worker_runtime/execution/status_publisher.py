@@ -6,6 +6,7 @@ from __future__ import annotations
 from collections.abc import Callable
 from datetime import datetime, timezone
 import logging
+import zlib
 
 from mdds_worker_runtime.dto.messages import JobStatusUpdateDTO
 from mdds_worker_runtime.execution.models import WorkerJobStatus
@@ -22,6 +23,12 @@ class StatusPublisher:
     transitions, terminal ownership, message acknowledgement, or retry policy.
     Those decisions belong to the Worker Runtime job state transition
     coordinator and its callers.
+
+    With more than one status queue shard, every update of a job goes to the
+    same shard queue ``<worker_status_queue_name>.<shard>``, where the shard is
+    the CRC-32 of the job id modulo the number of shards. The Web Server and
+    the status ingester consume each shard with a single consumer, so updates
+    of one job are applied in the order they were published.
     """
 
     def __init__(
@@ -29,13 +36,17 @@ class StatusPublisher:
         worker_status_queue_name: str,
         queue_client: QueueClient | None = None,
         clock: Callable[[], datetime] | None = None,
+        status_queue_shards: int = 1,
     ) -> None:
         if queue_client is None:
             raise ValueError("queue_client cannot be null.")
         if worker_status_queue_name is None or worker_status_queue_name.strip() == "":
             raise ValueError("worker_status_queue_name cannot be null or blank.")
+        if status_queue_shards <= 0:
+            raise ValueError("status_queue_shards must be greater than zero.")
 
         self._worker_status_queue_name = worker_status_queue_name.strip()
+        self._status_queue_shards = status_queue_shards
         self._queue_client = queue_client
         self._clock = clock or (lambda: datetime.now(timezone.utc))
 
@@ -122,8 +133,13 @@ class StatusPublisher:
             eventTime=_format_event_time(self._clock()),
         )
 
-        self._queue_client.publish(
+        status_queue_name = status_queue_name_for(
             self._worker_status_queue_name,
+            status_update_dto.jobId,
+            self._status_queue_shards,
+        )
+        self._queue_client.publish(
+            status_queue_name,
             QueueMessage(payload=status_update_dto),
         )
 
@@ -137,11 +153,22 @@ class StatusPublisher:
                 "jobType": workspace.job_type,
                 "status": status.value,
                 "progress": progress,
-                "statusQueueName": self._worker_status_queue_name,
+                "statusQueueName": status_queue_name,
             },
         )
 
 
+def status_queue_name_for(queue_name: str, job_id: str, shards: int) -> str:
+    """Return the status queue shard that carries updates of the given job.
+
+    Must stay in sync with ``CommonProperties.statusQueueNameFor`` of the Web
+    Server.
+    """
+    if shards == 1:
+        return queue_name
+    return f"{queue_name}.{zlib.crc32(job_id.encode('utf-8')) % shards}"
+
+
 def _format_event_time(event_time: datetime) -> str:
     if event_time.tzinfo is None or event_time.utcoffset() is None:
         raise ValueError("event_time must be timezone-aware.")
@@ -18,7 +18,8 @@ It wires generic runtime infrastructure:
 - cancellation consumer;
 - execution watcher;
 - cleanup watcher;
-- timeout watcher.
+- timeout watcher;
+- heartbeat publisher.
 
 The module intentionally does not contain job-specific business logic.
 Concrete job behavior is delegated to the dynamically loaded JobHandler.
@@ -42,6 +43,7 @@ from mdds_worker_runtime.execution.cancellation import CancellationRequestHandle
 from mdds_worker_runtime.execution.cleanup_watcher import CleanupWatcher
 from mdds_worker_runtime.execution.context import JobExecutionContextFactory
 from mdds_worker_runtime.execution.execution_watcher import ExecutionWatcher
+from mdds_worker_runtime.execution.heartbeat_publisher import HeartbeatPublisher
 from mdds_worker_runtime.execution.handler_loader import JobHandlerLoader
 from mdds_worker_runtime.execution.job_consumer import JobConsumer
 from mdds_worker_runtime.execution.job_preparation_handler import JobPreparationHandler
@@ -94,6 +96,8 @@ class WorkerRuntime:
         cleanup_watcher: CleanupWatcher,
         timeout_watcher: TimeoutWatcher,
         closeables: list[Any] | None = None,
+        heartbeat_publisher: HeartbeatPublisher | None = None,
+        worker_placement_queue_name: str | None = None,
     ) -> None:
         if worker_id is None or worker_id.strip() == "":
             raise ValueError("worker_id cannot be null or blank.")
@@ -117,6 +121,12 @@ class WorkerRuntime:
         self._worker_id = worker_id.strip()
         self._worker_job_queue_name = worker_job_queue_name.strip()
         self._worker_cancel_queue_name = worker_cancel_queue_name.strip()
+        self._worker_placement_queue_name = (
+            None
+            if worker_placement_queue_name is None
+            or worker_placement_queue_name.strip() in ("", self._worker_job_queue_name)
+            else worker_placement_queue_name.strip()
+        )
 
         self._queue_client = queue_client
         self._job_consumer = job_consumer
@@ -125,6 +135,7 @@ class WorkerRuntime:
         self._execution_watcher = execution_watcher
         self._cleanup_watcher = cleanup_watcher
         self._timeout_watcher = timeout_watcher
+        self._heartbeat_publisher = heartbeat_publisher
 
         self._closeables = closeables or []
 
@@ -158,6 +169,7 @@ class WorkerRuntime:
             self._start_watchers()
             self._subscribe_to_cancellation_queue()
             self._subscribe_to_job_queue()
+            self._start_heartbeat_publisher()
             self._started = True
         except Exception:
             logger.exception(
@@ -178,6 +190,7 @@ class WorkerRuntime:
                 "event": "worker_runtime_started",
                 "workerId": self._worker_id,
                 "jobQueueName": self._worker_job_queue_name,
+                "placementQueueName": self._worker_placement_queue_name,
                 "cancelQueueName": self._worker_cancel_queue_name,
             },
         )
@@ -187,6 +200,9 @@ class WorkerRuntime:
 
         Shutdown is idempotent and safe even if start() failed halfway through.
         """
+        if self._heartbeat_publisher is not None:
+            self._stop_runtime_service(self._heartbeat_publisher, "heartbeat_publisher")
+
         self._close_subscription("_job_subscription")
         self._close_subscription("_cancel_subscription")
 
@@ -221,6 +237,12 @@ class WorkerRuntime:
         self._cleanup_watcher.start()
         self._timeout_watcher.start()
 
+    def _start_heartbeat_publisher(self) -> None:
+        # Heartbeats advertise free slots, so they start only after the Worker
+        # listens to its job queue.
+        if self._heartbeat_publisher is not None:
+            self._heartbeat_publisher.start()
+
     def _subscribe_to_cancellation_queue(self) -> None:
         self._cancel_subscription = self._queue_client.subscribe(
             self._worker_cancel_queue_name,
@@ -229,10 +251,22 @@ class WorkerRuntime:
         )
 
     def _subscribe_to_job_queue(self) -> None:
+        if self._worker_placement_queue_name is None:
+            self._job_subscription = self._queue_client.subscribe(
+                self._worker_job_queue_name,
+                JobMessageDTO,
+                self._job_consumer,
+            )
+            return
+
+        # Placed jobs arrive on the placement queue, jobs dispatched while no
+        # Worker of the job type was registered on the shared job queue. One
+        # subscription for both keeps unacknowledged jobs within the slots.
         self._job_subscription = self._queue_client.subscribe(
             self._worker_job_queue_name,
             JobMessageDTO,
             self._job_consumer,
+            additional_queue_names=[self._worker_placement_queue_name],
         )
 
     def _close_subscription(self, attribute_name: str) -> None:
@@ -295,7 +329,10 @@ def build_worker_runtime_from_environment() -> WorkerRuntime:
         user=worker_config.rabbitmq_user,
         password=worker_config.rabbitmq_password,
     )
-    queue_client = RabbitMqQueueClient(rabbitmq_properties)
+    queue_client = RabbitMqQueueClient(
+        rabbitmq_properties,
+        prefetch_count=worker_config.worker_slots,
+    )
     queue_client.check_readiness()
     queue_client.check_messaging_readiness()
 
@@ -328,6 +365,7 @@ def build_worker_runtime_from_environment() -> WorkerRuntime:
 
     status_publisher = StatusPublisher(
         worker_status_queue_name=worker_config.worker_status_queue_name,
+        status_queue_shards=worker_config.worker_status_queue_shards,
         queue_client=queue_client,
         clock=clock,
     )
@@ -388,6 +426,21 @@ def build_worker_runtime_from_environment() -> WorkerRuntime:
         clock=clock,
     )
 
+    heartbeat_publisher = HeartbeatPublisher(
+        execution_registry=execution_registry,
+        queue_client=queue_client,
+        worker_heartbeat_queue_name=worker_config.worker_heartbeat_queue_name,
+        worker_id=worker_id,
+        job_type=worker_config.worker_job_type,
+        job_queue_name=worker_config.placement_queue_name,
+        pool=worker_config.worker_pool,
+        cpu_cores=worker_config.worker_cpu_cores,
+        memory_mb=worker_config.worker_memory_mb,
+        slots=worker_config.worker_slots,
+        heartbeat_interval_seconds=worker_config.worker_heartbeat_interval_seconds,
+        clock=clock,
+    )
+
     return WorkerRuntime(
         worker_id=worker_id,
         worker_job_queue_name=worker_config.worker_job_queue_name,
@@ -403,6 +456,8 @@ def build_worker_runtime_from_environment() -> WorkerRuntime:
             storage,
             boto3_client,
         ],
+        heartbeat_publisher=heartbeat_publisher,
+        worker_placement_queue_name=worker_config.placement_queue_name,
     )
 
 
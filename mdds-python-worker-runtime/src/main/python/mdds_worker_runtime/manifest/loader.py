@@ -3,6 +3,7 @@
 
 import json
 import logging
+from typing import Any
 
 from botocore.exceptions import ClientError
 from pydantic import ValidationError
@@ -27,34 +28,27 @@ class ManifestLoader:
     def __init__(self, storage: S3Storage):
         self._storage = storage
 
-    def load_dto(self, key: str) -> JobManifestDTO:
-        """Returns JobManifestDTO object from raw JSON file."""
-        logger.info(
-            "Loading manifest object from storage.",
-            extra={
-                "component": "manifest_loader",
-                "event": "manifest_load_started",
-                "manifestObjectKey": key,
-            },
-        )
-        try:
-            raw_manifest = self._storage.get_json(key)
-        except ClientError as error:
-            raise self._to_manifest_loading_error(key, error) from error
-        except (json.JSONDecodeError, UnicodeDecodeError) as error:
-            raise ManifestLoadingError(
-                key=key,
-                message=f"Manifest object '{key}' contains invalid JSON.",
-            ) from error
-
-        logger.info(
-            "Manifest object loaded from storage.",
-            extra={
-                "component": "manifest_loader",
-                "event": "manifest_loaded",
-                "manifestObjectKey": key,
-            },
-        )
+    def load_dto(
+        self, key: str, inline_manifest: dict[str, Any] | None = None
+    ) -> JobManifestDTO:
+        """Returns JobManifestDTO object from raw JSON file.
+
+        When the job message carried the manifest inline, it is validated
+        directly and object storage is not read. The stored copy under ``key``
+        is the same manifest kept for audit.
+        """
+        if inline_manifest is not None:
+            raw_manifest = inline_manifest
+            logger.info(
+                "Using manifest carried inline in the job message.",
+                extra={
+                    "component": "manifest_loader",
+                    "event": "manifest_inline_used",
+                    "manifestObjectKey": key,
+                },
+            )
+        else:
+            raw_manifest = self._load_raw(key)
 
         logger.info(
             "Validating manifest schema.",
@@ -85,9 +79,11 @@ class ManifestLoader:
         )
         return dto
 
-    def load(self, key: str) -> JobManifest:
+    def load(
+        self, key: str, inline_manifest: dict[str, Any] | None = None
+    ) -> JobManifest:
         """Returns JobManifest object from DTO object."""
-        dto = self.load_dto(key)
+        dto = self.load_dto(key, inline_manifest)
 
         logger.info(
             "Converting manifest DTO to domain model.",
@@ -122,6 +118,35 @@ class ManifestLoader:
         )
         return manifest
 
+    def _load_raw(self, key: str) -> Any:
+        logger.info(
+            "Loading manifest object from storage.",
+            extra={
+                "component": "manifest_loader",
+                "event": "manifest_load_started",
+                "manifestObjectKey": key,
+            },
+        )
+        try:
+            raw_manifest = self._storage.get_json(key)
+        except ClientError as error:
+            raise self._to_manifest_loading_error(key, error) from error
+        except (json.JSONDecodeError, UnicodeDecodeError) as error:
+            raise ManifestLoadingError(
+                key=key,
+                message=f"Manifest object '{key}' contains invalid JSON.",
+            ) from error
+
+        logger.info(
+            "Manifest object loaded from storage.",
+            extra={
+                "component": "manifest_loader",
+                "event": "manifest_loaded",
+                "manifestObjectKey": key,
+            },
+        )
+        return raw_manifest
+
     @staticmethod
     def _to_manifest_loading_error(
         key: str, error: ClientError
@@ -5,7 +5,7 @@ from __future__ import annotations
 
 from dataclasses import dataclass, field
 from datetime import datetime, timezone
-from typing import Any, Generic, Mapping, Protocol, TypeVar
+from typing import Any, Generic, Mapping, Protocol, Sequence, TypeVar
 
 T = TypeVar("T")
 
@@ -65,8 +65,13 @@ class QueueClient(Protocol):
         queue_name: str,
         payload_type: type[T],
         handler: MessageHandler[T],
+        additional_queue_names: Sequence[str] = (),
     ) -> Subscription:
-        """Subscribe to a queue and process messages."""
+        """Subscribe to a queue and process messages.
+
+        Messages of additional queues go to the same handler, and the limit of
+        unacknowledged messages applies to all queues together.
+        """
 
     def delete_queue(self, queue_name: str) -> None:
         """Delete queue."""
@@ -10,7 +10,7 @@ import logging
 import threading
 import time
 import uuid
-from collections.abc import Callable, Mapping
+from collections.abc import Callable, Mapping, Sequence
 from dataclasses import dataclass
 from datetime import datetime, timezone
 from typing import Any, TypeVar, get_origin
@@ -161,7 +161,12 @@ class RabbitMqAcknowledger(Acknowledger):
 
 
 class RabbitMqSubscription(Subscription):
-    """Active RabbitMQ subscription running on a dedicated consumer thread."""
+    """Active RabbitMQ subscription running on a dedicated consumer thread.
+
+    The subscription consumes its queue and any additional queues on one channel.
+    With additional queues the prefetch count applies to the channel as a whole,
+    so the handler never holds more than prefetch_count unacknowledged messages.
+    """
 
     def __init__(
         self,
@@ -172,11 +177,18 @@ class RabbitMqSubscription(Subscription):
         clock: Callable[[], datetime],
         requeue_on_handler_error: bool,
         prefetch_count: int,
+        additional_queue_names: Sequence[str] = (),
     ) -> None:
         if properties is None:
             raise ValueError("properties cannot be null.")
         if queue_name is None or queue_name.strip() == "":
             raise ValueError(_QUEUE_NAME_CANNOT_BE_NULL_OR_BLANK)
+        if additional_queue_names is None or any(
+            name is None or name.strip() == "" for name in additional_queue_names
+        ):
+            raise ValueError(
+                "additional_queue_names cannot contain null or blank names."
+            )
         if payload_type is None:
             raise ValueError("payload_type cannot be null.")
         if handler is None:
@@ -188,6 +200,7 @@ class RabbitMqSubscription(Subscription):
 
         self._properties = properties
         self._queue_name = queue_name
+        self._queue_names = [queue_name, *additional_queue_names]
         self._payload_type = payload_type
         self._handler = handler
         self._clock = clock
@@ -200,7 +213,7 @@ class RabbitMqSubscription(Subscription):
 
         self._connection: pika.BlockingConnection | None = None
         self._channel: BlockingChannel | None = None
-        self._consumer_tag: str | None = None
+        self._consumer_tags: list[str] = []
         self._lock = threading.Lock()
 
         self._thread = threading.Thread(
@@ -232,18 +245,15 @@ class RabbitMqSubscription(Subscription):
         with self._lock:
             connection = self._connection
             channel = self._channel
-            consumer_tag = self._consumer_tag
+            consumer_tags = list(self._consumer_tags)
 
         if connection is not None and connection.is_open:
 
             def stop_consuming() -> None:
                 try:
-                    if (
-                        channel is not None
-                        and channel.is_open
-                        and consumer_tag is not None
-                    ):
-                        channel.basic_cancel(consumer_tag)
+                    if channel is not None and channel.is_open:
+                        for consumer_tag in consumer_tags:
+                            channel.basic_cancel(consumer_tag)
                 except Exception:
                     logger.exception(
                         "Failed to cancel RabbitMQ consumer for queue '%s'.",
@@ -276,23 +286,28 @@ class RabbitMqSubscription(Subscription):
                 self._connection = connection
                 self._channel = channel
 
-            _declare_queue(channel, self._queue_name)
-            channel.basic_qos(prefetch_count=self._prefetch_count)
-
-            consumer_tag = channel.basic_consume(
-                queue=self._queue_name,
-                auto_ack=False,
-                on_message_callback=self._on_message,
+            for queue_name in self._queue_names:
+                _declare_queue(channel, queue_name)
+            channel.basic_qos(
+                prefetch_count=self._prefetch_count,
+                global_qos=len(self._queue_names) > 1,
             )
 
-            with self._lock:
-                self._consumer_tag = consumer_tag
+            for queue_name in self._queue_names:
+                consumer_tag = channel.basic_consume(
+                    queue=queue_name,
+                    auto_ack=False,
+                    on_message_callback=self._on_message,
+                )
 
-            logger.info(
-                "Subscribed to RabbitMQ queue '%s' with consumer tag '%s'.",
-                self._queue_name,
-                consumer_tag,
-            )
+                with self._lock:
+                    self._consumer_tags.append(consumer_tag)
+
+                logger.info(
+                    "Subscribed to RabbitMQ queue '%s' with consumer tag '%s'.",
+                    queue_name,
+                    consumer_tag,
+                )
             self._ready.set()
 
             while not self._closed.is_set() and connection.is_open:
@@ -355,7 +370,7 @@ class RabbitMqSubscription(Subscription):
             connection = self._connection
             self._channel = None
             self._connection = None
-            self._consumer_tag = None
+            self._consumer_tags = []
 
         try:
             if channel is not None and channel.is_open:
@@ -480,8 +495,9 @@ class RabbitMqQueueClient(QueueClient):
         queue_name: str,
         payload_type: type[T],
         handler: MessageHandler[T],
+        additional_queue_names: Sequence[str] = (),
     ) -> Subscription:
-        """Subscribe to a RabbitMQ queue and process messages."""
+        """Subscribe to RabbitMQ queues on one channel and process messages."""
         with self._lock:
             self._raise_if_closed()
 
@@ -493,6 +509,7 @@ class RabbitMqQueueClient(QueueClient):
                 clock=self._clock,
                 requeue_on_handler_error=self._requeue_on_handler_error,
                 prefetch_count=self._prefetch_count,
+                additional_queue_names=additional_queue_names,
             )
             self._subscriptions.append(subscription)
             return subscription
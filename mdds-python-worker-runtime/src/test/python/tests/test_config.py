@@ -57,6 +57,18 @@ def test_load_config_with_required_env_and_defaults(monkeypatch):
     assert worker_config.worker_progress_interval_seconds == 5
     assert worker_config.worker_local_root == Path("/opt/mdds")
     assert worker_config.jobs_root == Path("/opt/mdds/jobs")
+    assert worker_config.worker_heartbeat_queue_name == "mdds_heartbeat_queue"
+    assert worker_config.worker_heartbeat_interval_seconds == 5
+    assert worker_config.worker_pool is None
+    assert worker_config.worker_placement_queue_name is None
+    assert (
+        worker_config.placement_queue_name
+        == "queue-solving_slae.worker-test-worker-id"
+    )
+    assert worker_config.worker_slots == 1
+    assert worker_config.worker_cpu_cores > 0
+    assert worker_config.worker_memory_mb > 0
+    assert worker_config.worker_status_queue_shards == 1
 
 
 def test_load_config_with_overridden_optional_values(monkeypatch):
@@ -72,6 +84,13 @@ def test_load_config_with_overridden_optional_values(monkeypatch):
         MDDS_WORKER_JOB_TIMEOUT_SECONDS="100",
         MDDS_WORKER_CLEANUP_INTERVAL_SECONDS="2",
         MDDS_WORKER_PROGRESS_INTERVAL_SECONDS="3",
+        MDDS_WORKER_HEARTBEAT_QUEUE_NAME="custom.heartbeat.queue",
+        MDDS_WORKER_HEARTBEAT_INTERVAL_SECONDS="7",
+        MDDS_WORKER_POOL="gpu",
+        MDDS_WORKER_SLOTS="4",
+        MDDS_WORKER_CPU_CORES="16",
+        MDDS_WORKER_MEMORY_MB="32768",
+        MDDS_WORKER_STATUS_QUEUE_SHARDS="8",
     )
 
     worker_config = config.load_config()
@@ -85,6 +104,14 @@ def test_load_config_with_overridden_optional_values(monkeypatch):
     assert worker_config.worker_job_timeout_seconds == 100
     assert worker_config.worker_cleanup_interval_seconds == 2
     assert worker_config.worker_progress_interval_seconds == 3
+    assert worker_config.worker_heartbeat_queue_name == "custom.heartbeat.queue"
+    assert worker_config.worker_heartbeat_interval_seconds == 7
+    assert worker_config.worker_pool == "gpu"
+    assert worker_config.placement_queue_name == "custom.job.queue.pool-gpu"
+    assert worker_config.worker_slots == 4
+    assert worker_config.worker_cpu_cores == 16
+    assert worker_config.worker_memory_mb == 32768
+    assert worker_config.worker_status_queue_shards == 8
 
 
 def test_load_config_generates_worker_id_when_missing(monkeypatch):
@@ -152,6 +179,11 @@ def test_load_config_fails_when_required_env_is_blank(monkeypatch, env_name):
         "MDDS_WORKER_JOB_TIMEOUT_SECONDS",
         "MDDS_WORKER_CLEANUP_INTERVAL_SECONDS",
         "MDDS_WORKER_PROGRESS_INTERVAL_SECONDS",
+        "MDDS_WORKER_HEARTBEAT_INTERVAL_SECONDS",
+        "MDDS_WORKER_SLOTS",
+        "MDDS_WORKER_CPU_CORES",
+        "MDDS_WORKER_MEMORY_MB",
+        "MDDS_WORKER_STATUS_QUEUE_SHARDS",
     ],
 )
 def test_load_config_fails_when_integer_env_is_invalid(monkeypatch, env_name):
@@ -170,6 +202,11 @@ def test_load_config_fails_when_integer_env_is_invalid(monkeypatch, env_name):
         "MDDS_WORKER_JOB_TIMEOUT_SECONDS",
         "MDDS_WORKER_CLEANUP_INTERVAL_SECONDS",
         "MDDS_WORKER_PROGRESS_INTERVAL_SECONDS",
+        "MDDS_WORKER_HEARTBEAT_INTERVAL_SECONDS",
+        "MDDS_WORKER_SLOTS",
+        "MDDS_WORKER_CPU_CORES",
+        "MDDS_WORKER_MEMORY_MB",
+        "MDDS_WORKER_STATUS_QUEUE_SHARDS",
     ],
 )
 @pytest.mark.parametrize("value", ["0", "-1"])
@@ -277,6 +314,7 @@ def test_validate_config_accepts_valid_config():
         "object_storage_secret_key",
         "object_storage_region",
         "worker_handler",
+        "worker_heartbeat_queue_name",
     ],
 )
 def test_validate_config_rejects_blank_string_fields(field_name):
@@ -291,6 +329,27 @@ def test_validate_config_rejects_blank_string_fields(field_name):
     )
 
 
+def test_load_config_treats_blank_worker_pool_as_absent(monkeypatch):
+    set_required_worker_env(monkeypatch, MDDS_WORKER_POOL="   ")
+
+    worker_config = config.load_config()
+
+    assert worker_config.worker_pool is None
+
+
+def test_load_config_reads_placement_queue_name(monkeypatch):
+    set_required_worker_env(
+        monkeypatch,
+        MDDS_WORKER_POOL="gpu",
+        MDDS_WORKER_PLACEMENT_QUEUE_NAME="custom.placement.queue",
+    )
+
+    worker_config = config.load_config()
+
+    assert worker_config.worker_placement_queue_name == "custom.placement.queue"
+    assert worker_config.placement_queue_name == "custom.placement.queue"
+
+
 def test_validate_config_rejects_none():
     with pytest.raises(config.WorkerConfigError) as error:
         config.validate_config(None)
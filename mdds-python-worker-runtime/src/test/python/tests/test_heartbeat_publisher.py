@@ -0,0 +1,135 @@
+# Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+# Refer to the LICENSE file in the root directory for full license details.
+
+from __future__ import annotations
+
+from datetime import datetime, timezone
+import threading
+from unittest.mock import MagicMock
+
+import pytest
+
+from mdds_worker_runtime.dto.messages import WorkerHeartbeatDTO
+from mdds_worker_runtime.execution.heartbeat_publisher import HeartbeatPublisher
+from mdds_worker_runtime.execution.registry import ExecutionRegistry
+
+FIXED_TIME = datetime(2026, 1, 1, 0, 0, 0, tzinfo=timezone.utc)
+WORKER_ID = "worker-1"
+HEARTBEAT_QUEUE_NAME = "mdds_heartbeat_queue"
+
+
+def _publisher_kwargs(**overrides: object) -> dict[str, object]:
+    kwargs: dict[str, object] = {
+        "execution_registry": ExecutionRegistry(),
+        "queue_client": MagicMock(name="queue_client"),
+        "worker_heartbeat_queue_name": HEARTBEAT_QUEUE_NAME,
+        "worker_id": WORKER_ID,
+        "job_type": "solving_slae",
+        "job_queue_name": "queue-solving_slae",
+        "pool": None,
+        "cpu_cores": 4,
+        "memory_mb": 8192,
+        "slots": 2,
+        "heartbeat_interval_seconds": 0.01,
+        "clock": lambda: FIXED_TIME,
+    }
+    kwargs.update(overrides)
+    return kwargs
+
+
+@pytest.mark.parametrize(
+    ("field_name", "bad_value", "error_message"),
+    [
+        ("execution_registry", None, "execution_registry cannot be null."),
+        ("queue_client", None, "queue_client cannot be null."),
+        (
+            "worker_heartbeat_queue_name",
+            " ",
+            "worker_heartbeat_queue_name cannot be null or blank.",
+        ),
+        ("worker_id", "", "worker_id cannot be null or blank."),
+        ("job_type", None, "job_type cannot be null or blank."),
+        ("job_queue_name", " ", "job_queue_name cannot be null or blank."),
+        ("cpu_cores", 0, "cpu_cores must be greater than zero."),
+        ("memory_mb", -1, "memory_mb must be greater than zero."),
+        ("slots", 0, "slots must be greater than zero."),
+        (
+            "heartbeat_interval_seconds",
+            0,
+            "heartbeat_interval_seconds must be greater than zero.",
+        ),
+    ],
+)
+def test_heartbeat_publisher_rejects_invalid_constructor_arguments(
+    field_name: str,
+    bad_value: object,
+    error_message: str,
+) -> None:
+    with pytest.raises(ValueError) as exc_info:
+        HeartbeatPublisher(**_publisher_kwargs(**{field_name: bad_value}))
+
+    assert str(exc_info.value) == error_message
+
+
+def test_publish_once_reports_free_slots_of_idle_worker() -> None:
+    queue_client = MagicMock(name="queue_client")
+    publisher = HeartbeatPublisher(
+        **_publisher_kwargs(queue_client=queue_client, pool=" gpu ")
+    )
+
+    publisher.publish_once()
+
+    queue_client.publish.assert_called_once()
+    queue_name, message = queue_client.publish.call_args.args
+    assert queue_name == HEARTBEAT_QUEUE_NAME
+    assert message.payload == WorkerHeartbeatDTO(
+        workerId=WORKER_ID,
+        jobType="solving_slae",
+        jobQueueName="queue-solving_slae",
+        pool="gpu",
+        cpuCores=4,
+        memoryMb=8192,
+        totalSlots=2,
+        freeSlots=2,
+        eventTime="2026-01-01T00:00:00Z",
+    )
+
+
+def test_publish_once_subtracts_running_executions_from_free_slots() -> None:
+    queue_client = MagicMock(name="queue_client")
+    execution_registry = MagicMock(name="execution_registry")
+    execution_registry.size.return_value = 3
+    publisher = HeartbeatPublisher(
+        **_publisher_kwargs(
+            queue_client=queue_client,
+            execution_registry=execution_registry,
+        )
+    )
+
+    publisher.publish_once()
+
+    _, message = queue_client.publish.call_args.args
+    assert message.payload.totalSlots == 2
+    assert message.payload.freeSlots == 0
+    assert message.payload.pool is None
+
+
+def test_heartbeat_publisher_keeps_publishing_after_failure() -> None:
+    queue_client = MagicMock(name="queue_client")
+    published = threading.Event()
+
+    def publish(_queue_name: str, _message: object) -> None:
+        if queue_client.publish.call_count == 1:
+            raise RuntimeError("broker is down")
+        published.set()
+
+    queue_client.publish.side_effect = publish
+    publisher = HeartbeatPublisher(**_publisher_kwargs(queue_client=queue_client))
+
+    publisher.start()
+    try:
+        assert published.wait(timeout=5)
+    finally:
+        publisher.stop()
+
+    assert queue_client.publish.call_count >= 2
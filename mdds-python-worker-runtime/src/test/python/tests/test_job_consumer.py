@@ -88,7 +88,9 @@ def test_job_consumer_loads_manifest_prepares_context_and_starts_execution() ->
 
     consumer.handle(message, ack)
 
-    manifest_loader.load.assert_called_once_with("jobs/42/job-1/manifest.json")
+    manifest_loader.load.assert_called_once_with(
+        "jobs/42/job-1/manifest.json", None
+    )
     job_workspace_factory.create.assert_called_once_with(manifest)
 
     input_artifact_preparer.prepare.assert_called_once_with(workspace)
@@ -203,9 +205,13 @@ def test_job_consumer_returns_early_when_job_preparation_handler_handles_failure
 
     consumer.handle(message, ack)
 
-    manifest_loader.load.assert_called_once_with("jobs/42/job-1/manifest.json")
+    manifest_loader.load.assert_called_once_with(
+        "jobs/42/job-1/manifest.json", None
+    )
 
-    manifest_loader.load.assert_called_once_with("jobs/42/job-1/manifest.json")
+    manifest_loader.load.assert_called_once_with(
+        "jobs/42/job-1/manifest.json", None
+    )
     job_workspace_factory.create.assert_called_once_with(manifest)
 
     preparation_handler.prepare.assert_called_once_with(
@@ -30,6 +30,28 @@ def test_job_message_dto_can_be_created_from_java_style_json_dict() -> None:
     assert message.manifest_object_key == "jobs/42/job-1/manifest.json"
 
 
+def test_job_message_dto_accepts_inline_manifest() -> None:
+    raw = {
+        "manifestObjectKey": "jobs/42/job-1/manifest.json",
+        "manifest": {"jobId": "job-1"},
+    }
+
+    message = JobMessageDTO(**raw)
+
+    assert message.manifest == {"jobId": "job-1"}
+
+
+def test_job_message_dto_without_inline_manifest_has_none() -> None:
+    message = JobMessageDTO(manifestObjectKey="jobs/42/job-1/manifest.json")
+
+    assert message.manifest is None
+
+
+def test_job_message_dto_rejects_non_object_inline_manifest() -> None:
+    with pytest.raises(ValueError, match="manifest must be a JSON object"):
+        JobMessageDTO(manifestObjectKey="jobs/42/job-1/manifest.json", manifest=[])
+
+
 @pytest.mark.parametrize("manifest_object_key", [None, "", " ", "\t"])
 def test_job_message_dto_rejects_null_or_blank_manifest_object_key(
     manifest_object_key: str | None,
@@ -384,6 +384,31 @@ def test_load_dto_wraps_non_not_found_client_error():
     assert error.value.error_code == "AccessDenied"
 
 
+def test_load_manifest_uses_inline_manifest_without_reading_storage(manifest_dict):
+    key = "jobs/12345/job-1/manifest.json"
+    storage = Mock()
+    loader = ManifestLoader(storage)
+
+    actual = loader.load(key, deepcopy(manifest_dict))
+
+    storage.get_json.assert_not_called()
+    assert actual.job_id == "job-1"
+    assert actual.inputs["matrix"].format == ArtifactFormat.CSV
+    assert actual.params["solvingMethod"] == "numpy_exact_solver"
+
+
+def test_load_dto_rejects_invalid_inline_manifest(manifest_dict):
+    key = "jobs/12345/job-1/manifest.json"
+    manifest = deepcopy(manifest_dict)
+    del manifest["jobId"]
+    loader = ManifestLoader(Mock())
+
+    with pytest.raises(ManifestSchemaValidationError) as error:
+        loader.load_dto(key, manifest)
+
+    assert error.value.key == key
+
+
 def test_load_dto_manifest_from_s3_rejects_non_utf8_json(s3_client_and_bucket):
     s3_client, bucket = s3_client_and_bucket
     key = "jobs/12345/job-non-utf8-json/manifest.json"
@@ -52,6 +52,8 @@ class FakeChannel:
         self.acks: list[tuple[int, bool]] = []
         self.nacks: list[tuple[int, bool, bool]] = []
         self.cancelled: list[str] = []
+        self.qos: list[dict] = []
+        self.consumed: list[str] = []
         self.closed = False
 
     def queue_declare(
@@ -97,6 +99,13 @@ class FakeChannel:
     def basic_cancel(self, consumer_tag: str) -> None:
         self.cancelled.append(consumer_tag)
 
+    def basic_qos(self, prefetch_count: int, global_qos: bool = False) -> None:
+        self.qos.append({"prefetch_count": prefetch_count, "global_qos": global_qos})
+
+    def basic_consume(self, queue: str, auto_ack: bool, on_message_callback) -> str:
+        self.consumed.append(queue)
+        return f"consumer-tag-{len(self.consumed)}"
+
     def close(self) -> None:
         self.is_open = False
         self.closed = True
@@ -316,6 +325,7 @@ def test_subscribe_creates_and_stores_subscription(fake_client_connection) -> No
     assert kwargs["clock"] is client._clock
     assert kwargs["requeue_on_handler_error"] is True
     assert kwargs["prefetch_count"] == 1
+    assert kwargs["additional_queue_names"] == ()
 
 
 def test_client_rejects_null_properties() -> None:
@@ -464,7 +474,7 @@ def test_subscription_close_schedules_basic_cancel() -> None:
     subscription._lock = threading.Lock()
     subscription._connection = connection
     subscription._channel = channel
-    subscription._consumer_tag = "consumer-tag-1"
+    subscription._consumer_tags = ["consumer-tag-1", "consumer-tag-2"]
     subscription._thread = FakeThread()
     subscription._queue_name = "queue-solving_slae"
 
@@ -472,12 +482,67 @@ def test_subscription_close_schedules_basic_cancel() -> None:
     subscription.close()
 
     assert connection.callbacks
-    assert channel.cancelled == ["consumer-tag-1"]
+    assert channel.cancelled == ["consumer-tag-1", "consumer-tag-2"]
     assert subscription._thread.join_calls == [
         rabbitmq_client.DEFAULT_CLOSE_TIMEOUT_SECONDS
     ]
 
 
+@pytest.mark.parametrize(
+    ("additional_queue_names", "global_qos"),
+    [([], False), (["queue-solving_slae.worker-1"], True)],
+)
+def test_subscription_consumes_all_queues_within_one_prefetch(
+    monkeypatch, rabbitmq_properties, additional_queue_names, global_qos
+) -> None:
+    channel = FakeChannel()
+    connection = FakeConnection(channel)
+    monkeypatch.setattr(
+        rabbitmq_client,
+        "_create_connection_with_retry",
+        lambda properties: connection,
+    )
+
+    subscription = object.__new__(RabbitMqSubscription)
+    subscription._properties = rabbitmq_properties
+    subscription._queue_name = "queue-solving_slae"
+    subscription._queue_names = ["queue-solving_slae", *additional_queue_names]
+    subscription._prefetch_count = 2
+    subscription._closed = threading.Event()
+    subscription._closed.set()
+    subscription._ready = threading.Event()
+    subscription._failed = None
+    subscription._lock = threading.Lock()
+    subscription._connection = None
+    subscription._channel = None
+    subscription._consumer_tags = []
+
+    subscription._consume_loop()
+
+    expected_queues = ["queue-solving_slae", *additional_queue_names]
+    assert subscription._failed is None
+    assert subscription._ready.is_set()
+    assert [declared["queue"] for declared in channel.declared] == expected_queues
+    assert channel.qos == [{"prefetch_count": 2, "global_qos": global_qos}]
+    assert channel.consumed == expected_queues
+    assert channel.closed
+    assert connection.closed
+
+
+def test_subscription_rejects_blank_additional_queue_name(rabbitmq_properties) -> None:
+    with pytest.raises(ValueError, match="additional_queue_names"):
+        RabbitMqSubscription(
+            properties=rabbitmq_properties,
+            queue_name="queue-solving_slae",
+            payload_type=SubmittedJobMessage,
+            handler=RecordingHandler(),
+            clock=lambda: FIXED_TIME,
+            requeue_on_handler_error=True,
+            prefetch_count=1,
+            additional_queue_names=[" "],
+        )
+
+
 def test_serialize_payload_supports_dataclass_and_datetime() -> None:
     payload = StatusUpdateMessage(
         jobId="job-1",
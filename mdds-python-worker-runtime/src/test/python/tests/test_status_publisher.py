@@ -15,6 +15,7 @@ from mdds_worker_runtime.execution.models import WorkerJobStatus
 from mdds_worker_runtime.execution.status_publisher import (
     StatusPublisher,
     _format_event_time,
+    status_queue_name_for,
 )
 from mdds_worker_runtime.execution.workspace import JobWorkspace, JobWorkspaceFactory
 from mdds_worker_runtime.queue.queue_client import QueueMessage
@@ -99,6 +100,56 @@ def test_status_publisher_rejects_null_or_blank_worker_status_queue_name(
         )
 
 
+def test_status_publisher_publishes_to_shard_of_job(tmp_path) -> None:
+    queue_client = MagicMock()
+
+    publisher = StatusPublisher(
+        worker_status_queue_name="mdds_status_queue",
+        queue_client=queue_client,
+        clock=lambda: FIXED_TIME,
+        status_queue_shards=4,
+    )
+    publisher.publish_in_progress(
+        workspace=_workspace(tmp_path),
+        progress=0,
+        message="Start job execution",
+    )
+
+    queue_name, _published_message = queue_client.publish.call_args.args
+
+    assert queue_name == "mdds_status_queue.3"
+
+
+@pytest.mark.parametrize("status_queue_shards", [0, -1])
+def test_status_publisher_rejects_not_positive_status_queue_shards(
+    status_queue_shards,
+) -> None:
+    with pytest.raises(
+        ValueError,
+        match="status_queue_shards must be greater than zero.",
+    ):
+        StatusPublisher(
+            worker_status_queue_name="mdds_status_queue",
+            queue_client=MagicMock(),
+            status_queue_shards=status_queue_shards,
+        )
+
+
+@pytest.mark.parametrize(
+    ("job_id", "shards", "expected"),
+    [
+        ("job-1", 1, "mdds_status_queue"),
+        ("job-1", 4, "mdds_status_queue.3"),
+        ("job-2", 4, "mdds_status_queue.1"),
+        ("job-1", 16, "mdds_status_queue.15"),
+    ],
+)
+def test_status_queue_name_for_matches_web_server_sharding(
+    job_id, shards, expected
+) -> None:
+    assert status_queue_name_for("mdds_status_queue", job_id, shards) == expected
+
+
 def test_format_event_time_rejects_naive_datetime() -> None:
     with pytest.raises(ValueError, match="event_time must be timezone-aware."):
         _format_event_time(datetime(2026, 1, 1, 0, 0, 0))
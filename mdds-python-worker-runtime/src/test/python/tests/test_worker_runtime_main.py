@@ -8,7 +8,7 @@ import warnings
 from pathlib import Path
 from types import SimpleNamespace
 from typing import Any, cast
-from unittest.mock import MagicMock, call
+from unittest.mock import ANY, MagicMock, call
 
 import pytest
 
@@ -27,6 +27,7 @@ from mdds_worker_runtime.storage.s3_client import S3StorageReadinessError
 WORKER_ID = "worker-1"
 JOB_QUEUE_NAME = "queue-two_numbers_sum"
 CANCEL_QUEUE_NAME = "cancel.queue-worker-1"
+PLACEMENT_QUEUE_NAME = "queue-two_numbers_sum.worker-worker-1"
 
 
 @pytest.mark.parametrize(
@@ -111,6 +112,56 @@ def test_worker_runtime_start_subscribes_cancel_queue_before_job_queue() -> None
     ]
 
 
+def test_worker_runtime_consumes_placement_queue_with_job_queue() -> None:
+    kwargs = _runtime_kwargs()
+    queue_client = kwargs["queue_client"]
+    runtime = WorkerRuntime(**kwargs, worker_placement_queue_name=PLACEMENT_QUEUE_NAME)
+
+    runtime.start()
+
+    assert queue_client.subscribe_calls == [
+        (CANCEL_QUEUE_NAME, CancelJobDTO, kwargs["cancel_consumer"]),
+        (JOB_QUEUE_NAME, JobMessageDTO, kwargs["job_consumer"]),
+    ]
+    assert queue_client.additional_queue_names == {
+        CANCEL_QUEUE_NAME: [],
+        JOB_QUEUE_NAME: [PLACEMENT_QUEUE_NAME],
+    }
+
+
+@pytest.mark.parametrize("placement_queue_name", [None, " ", JOB_QUEUE_NAME])
+def test_worker_runtime_consumes_job_queue_alone_without_placement_queue(
+    placement_queue_name: str | None,
+) -> None:
+    kwargs = _runtime_kwargs()
+    queue_client = kwargs["queue_client"]
+    runtime = WorkerRuntime(**kwargs, worker_placement_queue_name=placement_queue_name)
+
+    runtime.start()
+
+    assert queue_client.additional_queue_names[JOB_QUEUE_NAME] == []
+
+
+def test_worker_runtime_starts_heartbeat_after_job_subscription_and_stops_it_first() -> (
+    None
+):
+    kwargs = _runtime_kwargs()
+    queue_client = kwargs["queue_client"]
+    heartbeat_publisher = _RuntimeServiceFake("heartbeat_publisher", queue_client.events)
+    runtime = WorkerRuntime(**kwargs, heartbeat_publisher=heartbeat_publisher)
+
+    runtime.start()
+    runtime.stop()
+
+    events = queue_client.events
+    assert events.index(f"subscribe:{JOB_QUEUE_NAME}") < events.index(
+        "start:heartbeat_publisher"
+    )
+    assert events.index("stop:heartbeat_publisher") < events.index(
+        f"close_subscription:{JOB_QUEUE_NAME}"
+    )
+
+
 def test_worker_runtime_start_stores_subscription_handles() -> None:
     fixture = _runtime_fixture()
 
@@ -269,12 +320,21 @@ def test_build_worker_runtime_from_environment_wires_required_components(
         jobs_root=tmp_path,
         worker_handler="tests.fixtures.job_handlers:TwoNumbersSumJobHandler",
         worker_id=WORKER_ID,
+        worker_job_type="two_numbers_sum",
         worker_status_queue_name="mdds_status_queue",
         worker_job_queue_name=JOB_QUEUE_NAME,
         worker_cancel_queue_name=CANCEL_QUEUE_NAME,
         worker_job_timeout_seconds=3600,
         worker_progress_interval_seconds=5,
         worker_cleanup_interval_seconds=1,
+        worker_heartbeat_queue_name="mdds_heartbeat_queue",
+        worker_heartbeat_interval_seconds=5,
+        worker_pool=None,
+        placement_queue_name=PLACEMENT_QUEUE_NAME,
+        worker_slots=2,
+        worker_cpu_cores=4,
+        worker_memory_mb=8192,
+        worker_status_queue_shards=1,
     )
 
     queue_client = MagicMock(name="queue_client")
@@ -302,6 +362,7 @@ def test_build_worker_runtime_from_environment_wires_required_components(
     execution_watcher = MagicMock(name="execution_watcher")
     cleanup_watcher = MagicMock(name="cleanup_watcher")
     timeout_watcher = MagicMock(name="timeout_watcher")
+    heartbeat_publisher = MagicMock(name="heartbeat_publisher")
 
     rabbitmq_properties = MagicMock(name="rabbitmq_properties")
     s3_properties = SimpleNamespace(bucket="mdds")
@@ -335,6 +396,7 @@ def test_build_worker_runtime_from_environment_wires_required_components(
     execution_watcher_factory = MagicMock(return_value=execution_watcher)
     cleanup_watcher_factory = MagicMock(return_value=cleanup_watcher)
     timeout_watcher_factory = MagicMock(return_value=timeout_watcher)
+    heartbeat_publisher_factory = MagicMock(return_value=heartbeat_publisher)
 
     monkeypatch.setattr(worker_main, "load_config", load_config)
     monkeypatch.setattr(
@@ -419,6 +481,11 @@ def test_build_worker_runtime_from_environment_wires_required_components(
     )
     monkeypatch.setattr(worker_main, "CleanupWatcher", cleanup_watcher_factory)
     monkeypatch.setattr(worker_main, "TimeoutWatcher", timeout_watcher_factory)
+    monkeypatch.setattr(
+        worker_main,
+        "HeartbeatPublisher",
+        heartbeat_publisher_factory,
+    )
 
     runtime = worker_main.build_worker_runtime_from_environment()
 
@@ -426,6 +493,7 @@ def test_build_worker_runtime_from_environment_wires_required_components(
     assert runtime._worker_id == WORKER_ID
     assert runtime._worker_job_queue_name == JOB_QUEUE_NAME
     assert runtime._worker_cancel_queue_name == CANCEL_QUEUE_NAME
+    assert runtime._worker_placement_queue_name == PLACEMENT_QUEUE_NAME
     assert runtime._queue_client is queue_client
     assert runtime._job_consumer is job_consumer
     assert runtime._cancel_consumer is cancel_consumer
@@ -433,6 +501,7 @@ def test_build_worker_runtime_from_environment_wires_required_components(
     assert runtime._cleanup_watcher is cleanup_watcher
     assert runtime._timeout_watcher is timeout_watcher
     assert runtime._closeables == [queue_client, storage, boto3_client]
+    assert runtime._heartbeat_publisher is heartbeat_publisher
 
     load_config.assert_called_once()
     rabbitmq_properties_factory.assert_called_once_with(
@@ -441,7 +510,10 @@ def test_build_worker_runtime_from_environment_wires_required_components(
         user="mdds",
         password="secret",
     )
-    queue_client_factory.assert_called_once_with(rabbitmq_properties)
+    queue_client_factory.assert_called_once_with(
+        rabbitmq_properties,
+        prefetch_count=2,
+    )
     queue_client.check_readiness.assert_called_once_with()
     queue_client.check_messaging_readiness.assert_called_once_with()
     s3_properties_factory.assert_called_once_with(
@@ -502,6 +574,20 @@ def test_build_worker_runtime_from_environment_wires_required_components(
         cleanup_interval_seconds=1,
     )
     timeout_watcher_factory.assert_called_once()
+    heartbeat_publisher_factory.assert_called_once_with(
+        execution_registry=execution_registry,
+        queue_client=queue_client,
+        worker_heartbeat_queue_name="mdds_heartbeat_queue",
+        worker_id=WORKER_ID,
+        job_type="two_numbers_sum",
+        job_queue_name=PLACEMENT_QUEUE_NAME,
+        pool=None,
+        cpu_cores=4,
+        memory_mb=8192,
+        slots=2,
+        heartbeat_interval_seconds=5,
+        clock=ANY,
+    )
 
 
 def test_main_delegates_to_runtime_construction_start_wait_and_stop(
@@ -568,12 +654,21 @@ def test_build_worker_runtime_from_environment_uses_working_clock(
         jobs_root=tmp_path,
         worker_handler="tests.fixtures.job_handlers:TwoNumbersSumJobHandler",
         worker_id=WORKER_ID,
+        worker_job_type="two_numbers_sum",
         worker_status_queue_name="mdds_status_queue",
         worker_job_queue_name=JOB_QUEUE_NAME,
         worker_cancel_queue_name=CANCEL_QUEUE_NAME,
         worker_job_timeout_seconds=3600,
         worker_progress_interval_seconds=5,
         worker_cleanup_interval_seconds=1,
+        worker_heartbeat_queue_name="mdds_heartbeat_queue",
+        worker_heartbeat_interval_seconds=5,
+        worker_pool=None,
+        placement_queue_name=PLACEMENT_QUEUE_NAME,
+        worker_slots=2,
+        worker_cpu_cores=4,
+        worker_memory_mb=8192,
+        worker_status_queue_shards=1,
     )
 
     queue_client = MagicMock(name="queue_client")
@@ -612,6 +707,7 @@ def test_build_worker_runtime_from_environment_uses_working_clock(
     monkeypatch.setattr(worker_main, "ExecutionWatcher", MagicMock())
     monkeypatch.setattr(worker_main, "CleanupWatcher", MagicMock())
     monkeypatch.setattr(worker_main, "TimeoutWatcher", MagicMock())
+    monkeypatch.setattr(worker_main, "HeartbeatPublisher", MagicMock())
 
     status_publisher_factory = MagicMock()
     monkeypatch.setattr(worker_main, "StatusPublisher", status_publisher_factory)
@@ -959,6 +1055,7 @@ class _QueueClientFake:
         self.events = events if events is not None else []
         self._fail_on_queue = fail_on_queue
         self.subscribe_calls: list[tuple[str, type[Any], Any]] = []
+        self.additional_queue_names: dict[str, list[str]] = {}
         self.subscriptions: dict[str, _SubscriptionFake] = {}
         self.close_count = 0
 
@@ -967,9 +1064,11 @@ class _QueueClientFake:
         queue_name: str,
         payload_type: type[Any],
         handler: Any,
+        additional_queue_names: list[str] | None = None,
     ) -> "_SubscriptionFake":
         self.events.append(f"subscribe:{queue_name}")
         self.subscribe_calls.append((queue_name, payload_type, handler))
+        self.additional_queue_names[queue_name] = list(additional_queue_names or [])
 
         if queue_name == self._fail_on_queue:
             raise RuntimeError(f"subscribe failed: {queue_name}")
@@ -1082,12 +1181,21 @@ def _build_runtime_composition_fixture(
         jobs_root=tmp_path,
         worker_handler=worker_handler,
         worker_id=WORKER_ID,
+        worker_job_type="two_numbers_sum",
         worker_status_queue_name="mdds_status_queue",
         worker_job_queue_name=JOB_QUEUE_NAME,
         worker_cancel_queue_name=CANCEL_QUEUE_NAME,
         worker_job_timeout_seconds=3600,
         worker_progress_interval_seconds=5,
         worker_cleanup_interval_seconds=1,
+        worker_heartbeat_queue_name="mdds_heartbeat_queue",
+        worker_heartbeat_interval_seconds=5,
+        worker_pool=None,
+        placement_queue_name=PLACEMENT_QUEUE_NAME,
+        worker_slots=2,
+        worker_cpu_cores=4,
+        worker_memory_mb=8192,
+        worker_status_queue_shards=1,
     )
 
     resolved_queue_client = queue_client or MagicMock(name="queue_client")
@@ -1151,6 +1259,7 @@ def _build_runtime_composition_fixture(
         "ExecutionWatcher",
         "CleanupWatcher",
         "TimeoutWatcher",
+        "HeartbeatPublisher",
     ]:
         if component_name == "JobHandlerLoader" and use_real_job_handler_loader:
             continue
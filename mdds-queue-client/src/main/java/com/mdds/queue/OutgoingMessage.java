@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.queue;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Message together with the queue it is published to.
+ *
+ * @param queueName destination queue.
+ * @param message message to publish.
+ * @param <T> payload type.
+ */
+public record OutgoingMessage<T>(@Nonnull String queueName, @Nonnull Message<T> message) {
+  public OutgoingMessage {
+    requireNonNull(queueName, "queueName cannot be null.");
+    requireNonNull(message, "message cannot be null.");
+  }
+}
@@ -6,6 +6,9 @@
 package com.mdds.queue;
 
 import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 /** Common interface for publishing to and consuming from named queues. */
 public interface QueueClient extends AutoCloseable {
@@ -18,6 +21,22 @@ public interface QueueClient extends AutoCloseable {
    */
   <T> void publish(@Nonnull String queueName, @Nonnull Message<T> message);
 
+  /**
+   * Publishes several messages and returns only when the broker has confirmed all of them. The
+   * default implementation publishes messages one by one and relies on {@link #publish} being
+   * reliable; implementations that support confirms should send the whole batch back to back and
+   * wait for confirms once.
+   *
+   * @param messages messages to publish with their destination queues.
+   * @param timeout how long to wait for confirms.
+   */
+  default void publishConfirmed(
+      @Nonnull List<OutgoingMessage<?>> messages, @Nonnull Duration timeout) {
+    for (OutgoingMessage<?> message : messages) {
+      publish(message.queueName(), message.message());
+    }
+  }
+
   /**
    * Subscribes to the queue and processes messages from the queue.
    *
@@ -32,6 +51,44 @@ public interface QueueClient extends AutoCloseable {
   <T> @Nonnull Subscription subscribe(
       @Nonnull String queueName, @Nonnull Class<T> payloadType, @Nonnull MessageHandler<T> handler);
 
+  /**
+   * Subscribes to the queue with a limit of unacknowledged messages. Unlike {@link #subscribe}, the
+   * broker hands this consumer no more than {@code prefetch} messages it has not acknowledged yet,
+   * so consumers of one queue that acknowledge a message only after processing it share the queue
+   * by their capacity.
+   *
+   * @param <T> What exact class we use as payload.
+   * @param queueName what queue we want to subscribe.
+   * @param payloadType class that we use for payload.
+   * @param prefetch how many unacknowledged messages the consumer may hold.
+   * @param handler what we do, when we obtain message from queue.
+   * @return subscription object.
+   */
+  <T> @Nonnull Subscription subscribe(
+      @Nonnull String queueName,
+      @Nonnull Class<T> payloadType,
+      int prefetch,
+      @Nonnull MessageHandler<T> handler);
+
+  /**
+   * Subscribes to the queue as its only consumer. Unlike {@link #subscribe}, the subscription fails
+   * when another consumer already holds the queue, so messages of one queue are processed by one
+   * consumer at a time and in order. The subscription ends when the consumer or its connection goes
+   * away; check {@link Subscription#isActive()} and subscribe again.
+   *
+   * @param <T> What exact class we use as payload.
+   * @param queueName what queue we want to subscribe.
+   * @param payloadType class that we use for payload.
+   * @param prefetch how many unacknowledged messages the consumer may hold.
+   * @param handler what we do, when we obtain message from queue.
+   * @return subscription object, empty when the queue already has a consumer.
+   */
+  <T> @Nonnull Optional<Subscription> trySubscribeExclusive(
+      @Nonnull String queueName,
+      @Nonnull Class<T> payloadType,
+      int prefetch,
+      @Nonnull MessageHandler<T> handler);
+
   /**
    * Deletes queue.
    *
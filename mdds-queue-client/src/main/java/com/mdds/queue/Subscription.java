@@ -11,6 +11,14 @@ package com.mdds.queue;
  * with queue here } Here queue is closed and since Subscription is AutoCloseable.
  */
 public interface Subscription extends AutoCloseable {
+  /**
+   * Returns {@code false} when the subscription no longer receives messages, e.g. because the
+   * broker cancelled the consumer or the connection was lost.
+   */
+  default boolean isActive() {
+    return true;
+  }
+
   /** Close queue. Usually includes closing channels and all additional resources of the queue. */
   @Override
   void close();
@@ -11,6 +11,7 @@ import com.mdds.common.util.JsonHelper;
 import com.mdds.queue.Acknowledger;
 import com.mdds.queue.Message;
 import com.mdds.queue.MessageHandler;
+import com.mdds.queue.OutgoingMessage;
 import com.mdds.queue.QueueClient;
 import com.mdds.queue.Subscription;
 import com.rabbitmq.client.AMQP;
@@ -19,13 +20,19 @@ import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 import com.rabbitmq.client.DeliverCallback;
+import com.rabbitmq.client.ShutdownSignalException;
 import jakarta.annotation.Nonnull;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionTimeoutException;
@@ -35,6 +42,12 @@ import org.awaitility.core.ConditionTimeoutException;
 public class RabbitMqQueueClient implements QueueClient {
   private final @Nonnull Channel channel;
   private final @Nonnull Connection connection;
+  // A lock instead of synchronized, so batches queued behind the current one park instead of
+  // pinning. amqp-client itself still pins the publishing thread while it waits for confirms.
+  private final ReentrantLock confirmLock = new ReentrantLock();
+  // Guarded by confirmLock. Confirmed batches have a channel of their own, so the outstanding
+  // confirms of a batch are never mixed with plain publishes on the shared channel.
+  private Channel confirmChannel;
 
   public RabbitMqQueueClient(@Nonnull RabbitMqProperties conf, Duration timeOut) {
     this(
@@ -117,6 +130,78 @@ public class RabbitMqQueueClient implements QueueClient {
     }
   }
 
+  /**
+   * Publishes the batch back to back and then waits for broker confirms once, so a batch costs one
+   * round trip instead of one per message. Batches go through a dedicated channel in confirm mode,
+   * opened on first use. A batch that fails closes it, so unconfirmed messages of a failed batch
+   * are never awaited by the next one.
+   */
+  @Override
+  public void publishConfirmed(
+      @Nonnull List<OutgoingMessage<?>> messages, @Nonnull Duration timeout) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    confirmLock.lock();
+    try {
+      var publisher = confirmChannel();
+      var declaredQueues = new HashSet<String>();
+      for (OutgoingMessage<?> outgoing : messages) {
+        var queueName = outgoing.queueName();
+        if (declaredQueues.add(queueName)) {
+          publisher.queueDeclare(queueName, false, false, false, null);
+        }
+        var message = outgoing.message();
+        publisher.basicPublish(
+            "",
+            queueName,
+            convertFrom(message.headers()),
+            JsonHelper.toJson(message.payload()).getBytes());
+      }
+      if (!publisher.waitForConfirms(timeout.toMillis())) {
+        throw new RabbitMqConnectionException(
+            "Broker rejected some of " + messages.size() + " published messages");
+      }
+    } catch (IOException e) {
+      closeConfirmChannel();
+      throw new RabbitMqConnectionException("Failed to publish batch of messages", e);
+    } catch (TimeoutException e) {
+      closeConfirmChannel();
+      throw new RabbitMqConnectionException(
+          "Broker did not confirm published messages within " + timeout, e);
+    } catch (InterruptedException e) {
+      closeConfirmChannel();
+      Thread.currentThread().interrupt();
+      throw new RabbitMqConnectionException("Interrupted while waiting for publish confirms", e);
+    } catch (RuntimeException e) {
+      closeConfirmChannel();
+      throw e;
+    } finally {
+      confirmLock.unlock();
+    }
+  }
+
+  private @Nonnull Channel confirmChannel() throws IOException {
+    if (confirmChannel == null || !confirmChannel.isOpen()) {
+      var created = connection.createChannel();
+      try {
+        created.confirmSelect();
+      } catch (IOException e) {
+        closeQuietly(created);
+        throw e;
+      }
+      confirmChannel = created;
+    }
+    return confirmChannel;
+  }
+
+  private void closeConfirmChannel() {
+    if (confirmChannel != null) {
+      closeQuietly(confirmChannel);
+      confirmChannel = null;
+    }
+  }
+
   @Override
   public <T> @Nonnull Subscription subscribe(
       @Nonnull String queueName,
@@ -124,38 +209,6 @@ public class RabbitMqQueueClient implements QueueClient {
       @Nonnull MessageHandler<T> handler) {
     declareQueue(queueName);
     String tag;
-    DeliverCallback deliverCallback =
-        (consumerTag, delivery) -> {
-          T payload = JsonHelper.fromJson(new String(delivery.getBody(), UTF_8), payloadType);
-          var message =
-              new Message<>(payload, delivery.getProperties().getHeaders(), Instant.now());
-
-          Acknowledger acknowledger =
-              new Acknowledger() {
-                @Override
-                public void ack() {
-                  // Acknowledge the message to RabbitMQ
-                  try {
-                    channel.basicAck(delivery.getEnvelope().getDeliveryTag(), false);
-                  } catch (IOException e) {
-                    throw new RabbitMqConnectionException(
-                        "Failed to acknowledge to queue: " + queueName, e);
-                  }
-                }
-
-                @Override
-                public void nack(boolean requeue) {
-                  try {
-                    channel.basicNack(delivery.getEnvelope().getDeliveryTag(), false, requeue);
-                  } catch (IOException e) {
-                    throw new RabbitMqConnectionException(
-                        "Failed to reject message from queue: " + queueName, e);
-                  }
-                }
-              };
-          handler.handle(message, acknowledger);
-        };
-
     CancelCallback cancelCallback =
         consumerTag -> {
           // Do nothing
@@ -165,7 +218,7 @@ public class RabbitMqQueueClient implements QueueClient {
           channel.basicConsume(
               queueName,
               false,
-              deliverCallback,
+              deliverCallback(channel, queueName, payloadType, handler),
               cancelCallback); // 'false' for manual acknowledgment
     } catch (IOException e) {
       throw new RabbitMqConnectionException("Failed consume from queue: " + queueName, e);
@@ -181,6 +234,84 @@ public class RabbitMqQueueClient implements QueueClient {
     };
   }
 
+  /**
+   * Consumes the queue with an exclusive consumer on a channel of its own. The broker refuses an
+   * exclusive consumer on a queue that already has one and closes the channel, so the refusal does
+   * not affect the shared channel of this client.
+   */
+  @Override
+  public <T> @Nonnull Optional<Subscription> trySubscribeExclusive(
+      @Nonnull String queueName,
+      @Nonnull Class<T> payloadType,
+      int prefetch,
+      @Nonnull MessageHandler<T> handler) {
+    return subscribeOnOwnChannel(queueName, payloadType, prefetch, true, handler);
+  }
+
+  /**
+   * Consumes the queue on a channel of its own, so the prefetch limit applies to this consumer
+   * only.
+   */
+  @Override
+  public <T> @Nonnull Subscription subscribe(
+      @Nonnull String queueName,
+      @Nonnull Class<T> payloadType,
+      int prefetch,
+      @Nonnull MessageHandler<T> handler) {
+    return subscribeOnOwnChannel(queueName, payloadType, prefetch, false, handler).orElseThrow();
+  }
+
+  private <T> @Nonnull Optional<Subscription> subscribeOnOwnChannel(
+      @Nonnull String queueName,
+      @Nonnull Class<T> payloadType,
+      int prefetch,
+      boolean exclusive,
+      @Nonnull MessageHandler<T> handler) {
+    Channel consumerChannel;
+    try {
+      consumerChannel = connection.createChannel();
+    } catch (IOException e) {
+      throw new RabbitMqConnectionException("Failed to create channel for queue: " + queueName, e);
+    }
+    var cancelled = new AtomicBoolean();
+    try {
+      consumerChannel.basicQos(prefetch);
+      consumerChannel.queueDeclare(queueName, false, false, false, null);
+      consumerChannel.basicConsume(
+          queueName,
+          false,
+          "",
+          false,
+          exclusive,
+          null,
+          deliverCallback(consumerChannel, queueName, payloadType, handler),
+          consumerTag -> cancelled.set(true));
+    } catch (IOException e) {
+      closeQuietly(consumerChannel);
+      if (isAccessRefused(e)) {
+        return Optional.empty();
+      }
+      throw new RabbitMqConnectionException("Failed consume from queue: " + queueName, e);
+    }
+    return Optional.of(
+        new Subscription() {
+          @Override
+          public boolean isActive() {
+            return !cancelled.get() && consumerChannel.isOpen();
+          }
+
+          @Override
+          public void close() {
+            try {
+              if (consumerChannel.isOpen()) consumerChannel.close();
+            } catch (IOException | TimeoutException e) {
+              throw new RabbitMqConnectionException(
+                  "Failed cancel subscription '" + queueName + "'", e);
+            }
+          }
+        });
+  }
+
   @Override
   public void deleteQueue(@Nonnull String queueName) {
     try {
@@ -192,6 +323,12 @@ public class RabbitMqQueueClient implements QueueClient {
 
   @Override
   public void close() {
+    confirmLock.lock();
+    try {
+      closeConfirmChannel();
+    } finally {
+      confirmLock.unlock();
+    }
     try {
       if (channel.isOpen()) channel.close();
       log.info("Closed queue channel {}", channel);
@@ -211,6 +348,56 @@ public class RabbitMqQueueClient implements QueueClient {
     return getClass().getName() + "[" + connection.getAddress() + ":" + connection.getPort() + "]";
   }
 
+  private <T> @Nonnull DeliverCallback deliverCallback(
+      @Nonnull Channel consumerChannel,
+      @Nonnull String queueName,
+      @Nonnull Class<T> payloadType,
+      @Nonnull MessageHandler<T> handler) {
+    return (consumerTag, delivery) -> {
+      T payload = JsonHelper.fromJson(new String(delivery.getBody(), UTF_8), payloadType);
+      var message = new Message<>(payload, delivery.getProperties().getHeaders(), Instant.now());
+
+      Acknowledger acknowledger =
+          new Acknowledger() {
+            @Override
+            public void ack() {
+              // Acknowledge the message to RabbitMQ
+              try {
+                consumerChannel.basicAck(delivery.getEnvelope().getDeliveryTag(), false);
+              } catch (IOException e) {
+                throw new RabbitMqConnectionException(
+                    "Failed to acknowledge to queue: " + queueName, e);
+              }
+            }
+
+            @Override
+            public void nack(boolean requeue) {
+              try {
+                consumerChannel.basicNack(delivery.getEnvelope().getDeliveryTag(), false, requeue);
+              } catch (IOException e) {
+                throw new RabbitMqConnectionException(
+                    "Failed to reject message from queue: " + queueName, e);
+              }
+            }
+          };
+      handler.handle(message, acknowledger);
+    };
+  }
+
+  private static boolean isAccessRefused(IOException e) {
+    return e.getCause() instanceof ShutdownSignalException signal
+        && signal.getReason() instanceof AMQP.Channel.Close close
+        && close.getReplyCode() == AMQP.ACCESS_REFUSED;
+  }
+
+  private static void closeQuietly(Channel consumerChannel) {
+    try {
+      if (consumerChannel.isOpen()) consumerChannel.close();
+    } catch (Exception e) {
+      log.debug("Failed to close channel {}", consumerChannel, e);
+    }
+  }
+
   private void declareQueue(@Nonnull String queueName) {
     // Declare a queue (idempotent - creates if it doesn't exist)
     try {
@@ -5,13 +5,25 @@
 package com.mdds.queue.rabbitmq;
 
 import static com.mdds.queue.rabbitmq.RabbitMqHelper.readFromResources;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.mdds.dto.rest.v1.CancelJobRequestDTO;
+import com.mdds.queue.Message;
+import com.mdds.queue.MessageHandler;
+import com.mdds.queue.OutgoingMessage;
 import com.rabbitmq.client.Connection;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.RabbitMQContainer;
@@ -30,11 +42,15 @@ class TestRabbitMqQueueClient {
 
   private static String host;
   private static int port;
+  private static String user;
+  private static String password;
 
   @BeforeAll
   static void init() {
     host = rabbitMq.getHost();
     port = rabbitMq.getAmqpPort();
+    user = rabbitMq.getAdminUsername();
+    password = rabbitMq.getAdminPassword();
   }
 
   @Test
@@ -98,4 +114,173 @@ class TestRabbitMqQueueClient {
         .isInstanceOf(RabbitMqConnectionException.class)
         .hasMessageContaining("Failed to connect to rabbitmq://wrong.host:7974");
   }
+
+  @Test
+  void testPublishConfirmedDeliversWholeBatch() {
+    var queueName = "test-publish-confirmed";
+    var messages = new ArrayList<OutgoingMessage<?>>();
+    var expected = new ArrayList<CancelJobRequestDTO>();
+    for (int i = 0; i < 10; i++) {
+      var payload = new CancelJobRequestDTO("job-" + i);
+      expected.add(payload);
+      messages.add(
+          new OutgoingMessage<>(
+              queueName, new Message<>(payload, Collections.emptyMap(), Instant.now())));
+    }
+
+    try (var queue = new RabbitMqQueueClient(host, port, user, password)) {
+      queue.publishConfirmed(messages, Duration.ofSeconds(5));
+
+      List<CancelJobRequestDTO> received = new CopyOnWriteArrayList<>();
+      MessageHandler<CancelJobRequestDTO> handler =
+          (message, ack) -> {
+            received.add(message.payload());
+            ack.ack();
+          };
+      try (var ignore = queue.subscribe(queueName, CancelJobRequestDTO.class, handler)) {
+        await()
+            .atMost(Duration.ofSeconds(2))
+            .untilAsserted(() -> assertThat(received).containsExactlyElementsOf(expected));
+      }
+    }
+  }
+
+  @Test
+  void testPlainPublishesDoNotDelayConfirmedBatch() {
+    var queueName = "test-publish-confirmed-with-plain-publishes";
+    var expected = new ArrayList<CancelJobRequestDTO>();
+    try (var queue = new RabbitMqQueueClient(host, port, user, password)) {
+      for (int i = 0; i < 3; i++) {
+        var payload = new CancelJobRequestDTO("batch-" + i);
+        expected.add(payload);
+        queue.publish(queueName, new Message<>(payload, Collections.emptyMap(), Instant.now()));
+        var confirmed = new CancelJobRequestDTO("confirmed-" + i);
+        expected.add(confirmed);
+        queue.publishConfirmed(
+            List.of(
+                new OutgoingMessage<>(
+                    queueName, new Message<>(confirmed, Collections.emptyMap(), Instant.now()))),
+            Duration.ofSeconds(5));
+      }
+
+      List<CancelJobRequestDTO> received = new CopyOnWriteArrayList<>();
+      MessageHandler<CancelJobRequestDTO> handler =
+          (message, ack) -> {
+            received.add(message.payload());
+            ack.ack();
+          };
+      try (var ignore = queue.subscribe(queueName, CancelJobRequestDTO.class, handler)) {
+        await()
+            .atMost(Duration.ofSeconds(2))
+            .untilAsserted(
+                () -> assertThat(received).containsExactlyInAnyOrderElementsOf(expected));
+      }
+    }
+  }
+
+  @Test
+  void testPublishConfirmedFromConcurrentVirtualThreads() {
+    var queueName = "test-publish-confirmed-virtual-threads";
+    var expected = new ArrayList<CancelJobRequestDTO>();
+    try (var queue = new RabbitMqQueueClient(host, port, user, password)) {
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < 8; i++) {
+          var payload = new CancelJobRequestDTO("job-" + i);
+          expected.add(payload);
+          List<OutgoingMessage<?>> batch =
+              List.of(
+                  new OutgoingMessage<>(
+                      queueName, new Message<>(payload, Collections.emptyMap(), Instant.now())));
+          executor.submit(() -> queue.publishConfirmed(batch, Duration.ofSeconds(5)));
+        }
+      }
+
+      List<CancelJobRequestDTO> received = new CopyOnWriteArrayList<>();
+      MessageHandler<CancelJobRequestDTO> handler =
+          (message, ack) -> {
+            received.add(message.payload());
+            ack.ack();
+          };
+      try (var ignore = queue.subscribe(queueName, CancelJobRequestDTO.class, handler)) {
+        await()
+            .atMost(Duration.ofSeconds(2))
+            .untilAsserted(
+                () -> assertThat(received).containsExactlyInAnyOrderElementsOf(expected));
+      }
+    }
+  }
+
+  @Test
+  void testExclusiveSubscriptionRefusesSecondConsumer() {
+    var queueName = "test-exclusive-subscription";
+    List<CancelJobRequestDTO> received = new CopyOnWriteArrayList<>();
+    MessageHandler<CancelJobRequestDTO> handler =
+        (message, ack) -> {
+          received.add(message.payload());
+          ack.ack();
+        };
+    try (var owner = new RabbitMqQueueClient(host, port, user, password);
+        var contender = new RabbitMqQueueClient(host, port, user, password)) {
+      var subscription =
+          owner.trySubscribeExclusive(queueName, CancelJobRequestDTO.class, 10, handler);
+      assertThat(subscription).isPresent();
+      assertThat(subscription.get().isActive()).isTrue();
+
+      assertThat(contender.trySubscribeExclusive(queueName, CancelJobRequestDTO.class, 10, handler))
+          .isEmpty();
+
+      var payload = new CancelJobRequestDTO("job-1");
+      contender.publish(queueName, new Message<>(payload, Collections.emptyMap(), Instant.now()));
+      await()
+          .atMost(Duration.ofSeconds(2))
+          .untilAsserted(() -> assertThat(received).containsExactly(payload));
+
+      subscription.get().close();
+      assertThat(subscription.get().isActive()).isFalse();
+      try (var taken =
+          contender
+              .trySubscribeExclusive(queueName, CancelJobRequestDTO.class, 10, handler)
+              .orElseThrow()) {
+        assertThat(taken.isActive()).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void testPrefetchLimitsUnacknowledgedMessagesPerConsumer() {
+    var queueName = "test-prefetch-subscription";
+    List<CancelJobRequestDTO> first = new CopyOnWriteArrayList<>();
+    List<CancelJobRequestDTO> second = new CopyOnWriteArrayList<>();
+    try (var client = new RabbitMqQueueClient(host, port, user, password);
+        var firstSubscription =
+            client.subscribe(
+                queueName,
+                CancelJobRequestDTO.class,
+                1,
+                (message, ack) -> first.add(message.payload()));
+        var secondSubscription =
+            client.subscribe(
+                queueName,
+                CancelJobRequestDTO.class,
+                1,
+                (message, ack) -> second.add(message.payload()))) {
+      for (var i = 0; i < 3; i++) {
+        client.publish(
+            queueName,
+            new Message<>(
+                new CancelJobRequestDTO("job-" + i), Collections.emptyMap(), Instant.now()));
+      }
+
+      // Neither consumer acknowledges, so each holds one message and the third stays queued.
+      await()
+          .atMost(Duration.ofSeconds(2))
+          .untilAsserted(
+              () -> {
+                assertThat(first).hasSize(1);
+                assertThat(second).hasSize(1);
+              });
+      assertThat(firstSubscription.isActive()).isTrue();
+      assertThat(secondSubscription.isActive()).isTrue();
+    }
+  }
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.ingester;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Start point for status ingester. The process consumes status queue shards and stores status
+ * updates to Metadata Storage with the same services the Web Server uses, so ingestion scales
+ * independently of the REST API.
+ */
+@SpringBootApplication(scanBasePackages = {"com.mdds.ingester", "com.mdds.common"})
+@EntityScan(basePackages = "com.mdds.persistence.entity")
+@EnableScheduling
+public class StatusIngesterApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(StatusIngesterApplication.class, args);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.ingester;
+
+import com.mdds.queue.QueueClient;
+import com.mdds.queue.rabbitmq.RabbitMqAutoConfiguration;
+import com.mdds.queue.rabbitmq.RabbitMqProperties;
+import com.mdds.queue.rabbitmq.RabbitMqQueueClient;
+import com.mdds.server.DispatchCounters;
+import com.mdds.server.InMemoryJobProfileRegistry;
+import com.mdds.server.JobAdmissionConfig;
+import com.mdds.server.JobAdmissionService;
+import com.mdds.server.JobDispatchConfig;
+import com.mdds.server.JobDispatchService;
+import com.mdds.server.JobLeaseConfig;
+import com.mdds.server.JobLeaseService;
+import com.mdds.server.JobMetrics;
+import com.mdds.server.JobProfilesConfig;
+import com.mdds.server.JobStatusCounters;
+import com.mdds.server.JobStatusUpdateService;
+import com.mdds.server.OutboxService;
+import com.mdds.server.StatusIngestionConfig;
+import com.mdds.server.StatusManagerService;
+import com.mdds.server.WorkerPlacementService;
+import com.mdds.server.WorkerRegistryConfig;
+import com.mdds.server.YamlJobProfileRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Imports from the Web Server only the beans that apply a status update: {@code
+ * StatusManagerService}, {@code JobStatusUpdateService} and what the status transitions touch, that
+ * is dispatch counters, job leases, the outbox, the job profile registry, job status counters and
+ * job timers. Controllers and scheduled jobs of the Web Server are left out, so the job status
+ * gauges are reported by the Web Server only. The beans are listed by class, so a new Web Server
+ * bean joins the ingester only when it is added here.
+ */
+@Configuration
+@EnableJpaRepositories(basePackages = "com.mdds.server.jpa")
+@Import({
+  RabbitMqAutoConfiguration.class,
+  StatusManagerService.class,
+  StatusIngestionConfig.class,
+  JobStatusUpdateService.class,
+  JobDispatchService.class,
+  JobDispatchConfig.class,
+  JobLeaseService.class,
+  JobLeaseConfig.class,
+  WorkerPlacementService.class,
+  WorkerRegistryConfig.class,
+  OutboxService.class,
+  JobProfilesConfig.class,
+  InMemoryJobProfileRegistry.class,
+  YamlJobProfileRegistry.class,
+  JobMetrics.class,
+  JobStatusCounters.class,
+  DispatchCounters.class,
+  JobAdmissionService.class,
+  JobAdmissionConfig.class
+})
+public class StatusIngesterConfig {
+
+  @Bean(name = "statusQueueClient")
+  public QueueClient statusQueue(RabbitMqProperties properties) {
+    return new RabbitMqQueueClient(
+        properties.getHost(),
+        properties.getPort(),
+        properties.getUser(),
+        properties.getPassword(),
+        properties.getMaxInboundMessageBodySize());
+  }
+}
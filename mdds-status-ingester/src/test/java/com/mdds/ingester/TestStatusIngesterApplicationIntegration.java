@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.ingester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mdds.queue.QueueClient;
+import com.mdds.server.DispatchCounters;
+import com.mdds.server.JobAdmissionSampler;
+import com.mdds.server.JobAdmissionService;
+import com.mdds.server.JobController;
+import com.mdds.server.JobDispatchService;
+import com.mdds.server.JobDispatcher;
+import com.mdds.server.JobLeaseScanner;
+import com.mdds.server.JobLeaseService;
+import com.mdds.server.JobMetrics;
+import com.mdds.server.JobMetricsSampler;
+import com.mdds.server.JobProfileRegistry;
+import com.mdds.server.JobReconciler;
+import com.mdds.server.JobStatusCounters;
+import com.mdds.server.JobStatusUpdateService;
+import com.mdds.server.LapsedWorkerScanner;
+import com.mdds.server.ObjectStorageService;
+import com.mdds.server.OutboxRelay;
+import com.mdds.server.OutboxService;
+import com.mdds.server.StatusManagerService;
+import com.mdds.server.WorkerHeartbeatListener;
+import com.mdds.server.WorkerPlacementService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(
+    properties = {
+      // The schema is migrated by the Web Server in production.
+      "spring.flyway.enabled=true",
+      "mdds.status-ingestion.enabled=false"
+    })
+@Testcontainers
+class TestStatusIngesterApplicationIntegration {
+  @Autowired private ApplicationContext context;
+
+  @MockitoBean(name = "statusQueueClient")
+  private QueueClient statusQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+  }
+
+  @Test
+  void testContextHasStatusIngestionBeans() {
+    var beanTypes =
+        List.of(
+            StatusManagerService.class,
+            JobStatusUpdateService.class,
+            JobDispatchService.class,
+            JobLeaseService.class,
+            WorkerPlacementService.class,
+            OutboxService.class,
+            JobProfileRegistry.class,
+            JobMetrics.class,
+            JobStatusCounters.class,
+            DispatchCounters.class,
+            JobAdmissionService.class);
+    for (var beanType : beanTypes) {
+      assertThat(context.getBeanNamesForType(beanType)).as(beanType.getSimpleName()).hasSize(1);
+    }
+  }
+
+  @Test
+  void testContextHasNoWebServerBeans() {
+    var beanTypes =
+        List.of(
+            JobController.class,
+            ObjectStorageService.class,
+            JobDispatcher.class,
+            JobMetricsSampler.class,
+            JobAdmissionSampler.class,
+            JobReconciler.class,
+            JobLeaseScanner.class,
+            LapsedWorkerScanner.class,
+            OutboxRelay.class,
+            WorkerHeartbeatListener.class);
+    for (var beanType : beanTypes) {
+      assertThat(context.getBeanNamesForType(beanType)).as(beanType.getSimpleName()).isEmpty();
+    }
+  }
+}
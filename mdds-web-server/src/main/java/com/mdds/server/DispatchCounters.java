@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.server.jpa.JobTypeCountersRepository;
+import com.mdds.server.jpa.UserJobCountersRepository;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the dispatcher counters in {@code job_type_counters} and {@code user_job_counters}.
+ *
+ * <p>Like {@link JobStatusCounters}, the changes of a transaction are summed up and written right
+ * before it commits: one upsert per job type in name order, then one upsert per user in id order.
+ * Counter rows stay locked only for the commit instead of for the rest of the transaction, and
+ * every transaction locks them in the same order. The counters are written before the status
+ * counters, so a transaction touching both never waits on them in reverse order. Counters never go
+ * below zero. A rolled back transaction changes nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class DispatchCounters {
+  private final JobTypeCountersRepository jobTypeCountersRepository;
+  private final UserJobCountersRepository userJobCountersRepository;
+
+  /**
+   * Adds to the number of dispatched jobs of a job type no Worker has picked up yet.
+   *
+   * @param jobType job type.
+   * @param delta number of jobs, negative to subtract.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void addQueued(String jobType, int delta) {
+    transactionDeltas().queued.merge(jobType, delta, Integer::sum);
+  }
+
+  /**
+   * Adds to the number of jobs of a user waiting for the dispatcher.
+   *
+   * @param userId user id.
+   * @param delta number of jobs, negative to subtract.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void addPending(long userId, int delta) {
+    transactionDeltas().users.computeIfAbsent(userId, key -> new int[2])[0] += delta;
+  }
+
+  /**
+   * Adds to the number of dispatched jobs of a user that have not reached a terminal state.
+   *
+   * @param userId user id.
+   * @param delta number of jobs, negative to subtract.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void addActive(long userId, int delta) {
+    transactionDeltas().users.computeIfAbsent(userId, key -> new int[2])[1] += delta;
+  }
+
+  private Deltas transactionDeltas() {
+    var deltas = (Deltas) TransactionSynchronizationManager.getResource(this);
+    if (deltas != null) {
+      return deltas;
+    }
+    var created = new Deltas();
+    TransactionSynchronizationManager.bindResource(this, created);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public int getOrder() {
+            // Before JobStatusCounters, which keeps the default order.
+            return Ordered.LOWEST_PRECEDENCE - 1;
+          }
+
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            created.queued.forEach(
+                (jobType, delta) -> {
+                  if (delta != 0) {
+                    jobTypeCountersRepository.addQueued(jobType, delta);
+                  }
+                });
+            created.users.forEach(
+                (userId, delta) -> {
+                  if (delta[0] != 0 || delta[1] != 0) {
+                    userJobCountersRepository.addJobs(userId, delta[0], delta[1]);
+                  }
+                });
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DispatchCounters.this);
+          }
+        });
+    return created;
+  }
+
+  /** Counter changes of one transaction, sorted by key. Users map to pending and active jobs. */
+  private static final class Deltas {
+    private final Map<String, Integer> queued = new TreeMap<>();
+    private final Map<Long, int[]> users = new TreeMap<>();
+  }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+/** Indicates that worker heartbeat is invalid. */
+public class IllegalWorkerHeartbeatException extends RuntimeException {
+  public IllegalWorkerHeartbeatException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.ArtifactFormat;
+import com.mdds.domain.ArtifactSpec;
+import com.mdds.domain.JobParamSpec;
+import com.mdds.domain.JobProfile;
+import com.mdds.domain.JobProfileNotConfiguredException;
+import com.mdds.domain.ParamType;
+import com.mdds.domain.SlaeSolver;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/** Built-in job profiles, used unless {@code mdds.job-profile.mode} is {@code yaml}. */
+@Service
+@ConditionalOnProperty(
+    name = "mdds.job-profile.mode",
+    havingValue = "inmemory",
+    matchIfMissing = true)
+public class InMemoryJobProfileRegistry implements JobProfileRegistry {
+  private final Map<String, JobProfile> profiles =
+      Map.of(
+          "solving_slae",
+          new JobProfile(
+              true,
+              Map.of(
+                  "matrix", new ArtifactSpec("matrix.csv", ArtifactFormat.CSV),
+                  "rhs", new ArtifactSpec("rhs.csv", ArtifactFormat.CSV)),
+              Map.of("solution", new ArtifactSpec("solution.csv", ArtifactFormat.CSV)),
+              Map.of(
+                  "solvingMethod",
+                  new JobParamSpec(ParamType.ENUM, true, SlaeSolver.asStringSet()),
+                  "tolerance",
+                  new JobParamSpec(ParamType.NUMBER, false))),
+          "solving_slae_parallel",
+          new JobProfile(false, Map.of(), Map.of(), Map.of()));
+
+  @Override
+  public JobProfile forType(String jobType) {
+    var profile = profiles.get(jobType);
+    if (profile == null) {
+      throw new JobProfileNotConfiguredException("No profile for job type: '" + jobType + "'.");
+    }
+    return profile;
+  }
+
+  @Override
+  public Set<String> jobTypes() {
+    return profiles.keySet();
+  }
+}
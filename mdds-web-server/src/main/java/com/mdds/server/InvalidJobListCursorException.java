@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+/** Indicates that job list cursor can not be decoded. */
+public class InvalidJobListCursorException extends RuntimeException {
+  public InvalidJobListCursorException(String message) {
+    super(message);
+  }
+}
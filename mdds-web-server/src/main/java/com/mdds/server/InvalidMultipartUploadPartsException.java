@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+/** Part numbers or part list of a multipart upload are not valid. */
+public class InvalidMultipartUploadPartsException extends RuntimeException {
+  public InvalidMultipartUploadPartsException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of admission control for job submission.
+ *
+ * @param enabled whether submissions are throttled when a job type is overloaded.
+ * @param sampleInterval delay between two samples of the job backlog.
+ * @param retryAfter value of the {@code Retry-After} header of a rejected submission.
+ * @param watermarks watermarks applied to job types without their own entry in {@code jobTypes}.
+ * @param jobTypes watermarks by job type.
+ */
+@ConfigurationProperties(prefix = "mdds.job-admission")
+@Validated
+public record JobAdmissionProperties(
+    boolean enabled,
+    @NotNull(message = "must not be null.") Duration sampleInterval,
+    @NotNull(message = "must not be null.") Duration retryAfter,
+    @NotNull(message = "must not be null.") @Valid Watermarks watermarks,
+    Map<String, @Valid Watermarks> jobTypes) {
+
+  public JobAdmissionProperties {
+    jobTypes = jobTypes == null ? Map.of() : Map.copyOf(jobTypes);
+  }
+
+  /** Returns watermarks of the given job type. */
+  public Watermarks watermarksFor(String jobType) {
+    return jobTypes.getOrDefault(jobType, watermarks);
+  }
+
+  /**
+   * Backlog limits of one job type. Submissions are rejected once either high watermark is reached
+   * and are admitted again only when both values fall to their low watermarks, so the decision does
+   * not flap around a single threshold.
+   *
+   * @param highDepth number of queued jobs at which submissions are rejected.
+   * @param lowDepth number of queued jobs at which submissions are admitted again.
+   * @param highAge age of the oldest queued job at which submissions are rejected.
+   * @param lowAge age of the oldest queued job at which submissions are admitted again.
+   */
+  public record Watermarks(
+      @Positive(message = "must be positive.") long highDepth,
+      @PositiveOrZero(message = "must be positive or zero.") long lowDepth,
+      @NotNull(message = "must not be null.") Duration highAge,
+      @NotNull(message = "must not be null.") Duration lowAge) {
+
+    /** Low watermarks above the high ones would admit and reject the same backlog. */
+    @AssertTrue(message = "low watermarks must not exceed high watermarks.")
+    public boolean isHysteresis() {
+      return lowDepth <= highDepth
+          && (lowAge == null || highAge == null || lowAge.compareTo(highAge) <= 0);
+    }
+  }
+}
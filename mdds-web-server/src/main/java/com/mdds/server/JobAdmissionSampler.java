@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Periodically samples the job backlog for {@link JobAdmissionService}. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobAdmissionSampler {
+  private final JobAdmissionService jobAdmissionService;
+  private final JobAdmissionProperties jobAdmissionProperties;
+
+  @Scheduled(fixedDelayString = "${mdds.job-admission.sample-interval}")
+  public void run() {
+    if (!jobAdmissionProperties.enabled()) {
+      return;
+    }
+    try {
+      jobAdmissionService.refresh();
+    } catch (Exception e) {
+      log.error("Failed to sample job backlog.", e);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.server.JobAdmissionProperties.Watermarks;
+import com.mdds.server.jpa.JobsRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Admission control for job submission. Keeps the backlog of every job type, that is the number of
+ * jobs dispatched to a job queue and not yet picked up by a Worker and the time the oldest of them
+ * has spent in the queue, and rejects submissions of a job type while its backlog is above the high
+ * watermark. Jobs that are already queued are not affected, so their latency stays bounded while
+ * clients back off.
+ *
+ * <p>Jobs held back in pending jobs by the per-user quota are not part of the backlog: they wait
+ * for their owner's jobs, not for Workers, so one user's flood does not throttle other users.
+ *
+ * <p>The backlog is sampled from the database by {@link JobAdmissionSampler} and is shared by all
+ * replicas. Between samples every job this replica dispatches to a job queue increments the local
+ * depth once the dispatch commits, so a burst is stopped at the watermark instead of one sample
+ * interval later. Only what the sample counts is added: jobs held in pending jobs and rolled back
+ * submissions are not. The check itself is a map lookup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobAdmissionService {
+  private final JobsRepository jobsRepository;
+  private final JobAdmissionProperties jobAdmissionProperties;
+  private final Clock clock;
+  private final Map<String, Backlog> backlogs = new ConcurrentHashMap<>();
+
+  /**
+   * Rejects a submission of the given job type while the job type is over its high watermark.
+   * Called before any other submission work, so a rejected request is cheap.
+   *
+   * @param jobType job type of the submitted job.
+   * @throws JobSubmissionIsThrottledException if the job type is over its high watermark.
+   */
+  public void requireAdmission(String jobType) {
+    if (!jobAdmissionProperties.enabled()) {
+      return;
+    }
+    var backlog = backlogs.get(jobType);
+    if (backlog != null && backlog.throttled) {
+      throw new JobSubmissionIsThrottledException(
+          String.format("Too many queued jobs of jobType '%s'. Retry later.", jobType),
+          jobAdmissionProperties.retryAfter());
+    }
+  }
+
+  /**
+   * Counts jobs dispatched to a job queue until the next sample replaces the count. The jobs are
+   * counted when the current transaction commits.
+   *
+   * @param jobType job type of the dispatched jobs.
+   * @param jobs number of dispatched jobs.
+   */
+  public void recordDispatch(String jobType, int jobs) {
+    if (!jobAdmissionProperties.enabled() || jobs <= 0) {
+      return;
+    }
+    afterCommit(() -> addDispatched(jobType, jobs));
+  }
+
+  private void addDispatched(String jobType, int jobs) {
+    var backlog = backlogs.computeIfAbsent(jobType, ignored -> new Backlog());
+    var depth = backlog.depth.addAndGet(jobs);
+    if (!backlog.throttled && depth >= jobAdmissionProperties.watermarksFor(jobType).highDepth()) {
+      backlog.throttled = true;
+      log.warn("Rejecting submissions of jobType '{}': {} queued jobs.", jobType, depth);
+    }
+  }
+
+  /** Replaces the backlog of all job types with a fresh sample and re-evaluates the watermarks. */
+  public void refresh() {
+    var now = clock.instant();
+    var sampled = new HashSet<String>();
+    for (var view : jobsRepository.findBacklogByStatus(JobStatus.SUBMITTED)) {
+      sampled.add(view.getJobType());
+      update(view.getJobType(), view.getDepth(), view.getOldestDispatchedAt(), now);
+    }
+    for (var jobType : backlogs.keySet()) {
+      if (!sampled.contains(jobType)) {
+        update(jobType, 0, null, now);
+      }
+    }
+  }
+
+  /** Returns whether submissions of the given job type are currently rejected. */
+  public boolean isThrottled(String jobType) {
+    var backlog = backlogs.get(jobType);
+    return backlog != null && backlog.throttled;
+  }
+
+  private void update(String jobType, long depth, Instant oldestDispatchedAt, Instant now) {
+    var backlog = backlogs.computeIfAbsent(jobType, ignored -> new Backlog());
+    var oldestAge =
+        oldestDispatchedAt == null ? Duration.ZERO : Duration.between(oldestDispatchedAt, now);
+    backlog.depth.set(depth);
+    var watermarks = jobAdmissionProperties.watermarksFor(jobType);
+    if (!backlog.throttled && isAboveHigh(watermarks, depth, oldestAge)) {
+      backlog.throttled = true;
+      log.warn(
+          "Rejecting submissions of jobType '{}': {} queued jobs, oldest queued for {}.",
+          jobType,
+          depth,
+          oldestAge);
+    } else if (backlog.throttled && isBelowLow(watermarks, depth, oldestAge)) {
+      backlog.throttled = false;
+      log.info(
+          "Admitting submissions of jobType '{}' again: {} queued jobs, oldest queued for {}.",
+          jobType,
+          depth,
+          oldestAge);
+    }
+  }
+
+  private static boolean isAboveHigh(Watermarks watermarks, long depth, Duration oldestAge) {
+    return depth >= watermarks.highDepth() || oldestAge.compareTo(watermarks.highAge()) >= 0;
+  }
+
+  private static boolean isBelowLow(Watermarks watermarks, long depth, Duration oldestAge) {
+    return depth <= watermarks.lowDepth() && oldestAge.compareTo(watermarks.lowAge()) <= 0;
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static final class Backlog {
+    private final AtomicLong depth = new AtomicLong();
+    private volatile boolean throttled;
+  }
+}
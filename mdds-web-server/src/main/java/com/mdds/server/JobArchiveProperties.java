@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the job archiver.
+ *
+ * @param enabled whether the archiver runs in this replica.
+ * @param minAge how long a job stays in the hot table after it has finished.
+ * @param batchSize number of jobs moved in one transaction.
+ * @param maxBatchesPerRun upper bound of batches in one run, so a large backlog is drained over
+ *     several runs instead of one long one.
+ * @param interval delay between the end of one run and the start of the next one.
+ */
+@ConfigurationProperties(prefix = "mdds.job-archive")
+@Validated
+public record JobArchiveProperties(
+    boolean enabled,
+    @NotNull(message = "must not be null.") Duration minAge,
+    @Positive(message = "must be positive.") int batchSize,
+    @Positive(message = "must be positive.") int maxBatchesPerRun,
+    @NotNull(message = "must not be null.") Duration interval) {}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.server.jpa.JobsArchiveRepository;
+import com.mdds.server.jpa.JobsRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Moves terminal jobs from the hot {@code jobs} table to the partitioned archive table. */
+@Service
+@RequiredArgsConstructor
+public class JobArchiveService {
+  private final JobsRepository jobsRepository;
+  private final JobsArchiveRepository jobsArchiveRepository;
+
+  /**
+   * Archives one batch of jobs in a single transaction. Rows are locked with {@code FOR UPDATE SKIP
+   * LOCKED}, so concurrent archivers take disjoint batches, and a job is either fully in the hot
+   * table or fully in the archive for every reader.
+   *
+   * @param finishedBefore only jobs finished strictly before this instant are archived.
+   * @param batchSize maximum number of jobs to archive.
+   * @return number of archived jobs, less than {@code batchSize} when nothing is left.
+   */
+  @Transactional
+  public int archiveBatch(Instant finishedBefore, int batchSize) {
+    var jobIds = jobsRepository.lockArchivableJobIds(finishedBefore, batchSize);
+    if (jobIds.isEmpty()) {
+      return 0;
+    }
+    jobsArchiveRepository.ensurePartitionsForJobs(jobIds);
+    jobsArchiveRepository.copyJobs(jobIds);
+    return jobsArchiveRepository.deleteJobs(jobIds);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically archives jobs that have been in terminal state for longer than {@code
+ * mdds.job-archive.min-age}. Each batch is a separate transaction, so locks are held briefly and a
+ * failure only rolls back the current batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobArchiver {
+  private final JobArchiveService jobArchiveService;
+  private final JobArchiveProperties jobArchiveProperties;
+  private final Clock clock;
+
+  private static final String EVENT = "event";
+
+  @Scheduled(
+      initialDelayString = "${mdds.job-archive.interval}",
+      fixedDelayString = "${mdds.job-archive.interval}")
+  public void run() {
+    if (!jobArchiveProperties.enabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "archive_jobs")) {
+      var archived = archive();
+      if (archived > 0) {
+        log.info("Archived {} terminal jobs.", archived);
+      }
+    } catch (Exception e) {
+      log.error("Failed to archive terminal jobs.", e);
+    }
+  }
+
+  /**
+   * Archives jobs until nothing is left or {@code maxBatchesPerRun} batches are done.
+   *
+   * @return number of archived jobs.
+   */
+  public int archive() {
+    var finishedBefore = clock.instant().minus(jobArchiveProperties.minAge());
+    var batchSize = jobArchiveProperties.batchSize();
+    var total = 0;
+    for (int i = 0; i < jobArchiveProperties.maxBatchesPerRun(); i++) {
+      var archived = jobArchiveService.archiveBatch(finishedBefore, batchSize);
+      total += archived;
+      if (archived < batchSize) {
+        break;
+      }
+    }
+    return total;
+  }
+}
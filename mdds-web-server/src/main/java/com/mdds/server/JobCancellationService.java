@@ -7,11 +7,8 @@ package com.mdds.server;
 import com.mdds.domain.JobStatus;
 import com.mdds.dto.rest.v1.CancelJobRequestDTO;
 import com.mdds.persistence.entity.JobEntity;
-import com.mdds.queue.CancelBus;
-import com.mdds.queue.Message;
 import com.mdds.server.jpa.JobsRepository;
 import java.time.Clock;
-import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,7 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class JobCancellationService {
   private final JobsRepository jobsRepository;
-  private final CancelBus cancelBus;
+  private final OutboxService outboxService;
+  private final JobStatusCounters jobStatusCounters;
   private final Clock clock;
 
   /**
@@ -34,19 +32,14 @@ public class JobCancellationService {
    * <ul>
    *   <li>locks the job record in the metadata database;
    *   <li>verifies that job can be cancelled;
-   *   <li>publishes a cancel request message to the cancel queue;
+   *   <li>writes a cancel request message for the worker to the outbox;
    *   <li>updates the job status to {@code CANCEL_REQUESTED} in the database.
    * </ul>
    *
-   * <p><strong>Consistency note:</strong> this operation is transactional only with respect to the
-   * relational database. Queue publications are external side effects and are not part of the same
-   * atomic transaction. Therefore, partial success is possible, for example:
-   *
-   * <ul>
-   *   <li>the cancel message is published but the database update or transaction commit fails;
-   * </ul>
-   *
-   * <p>A more reliable design would use an outbox / reliable publish pattern.
+   * <p><strong>Consistency note:</strong> the outbox message and the status change are committed in
+   * the same database transaction, so a cancel request is sent if and only if the job is {@code
+   * CANCEL_REQUESTED}. {@link OutboxRelay} publishes the message after commit with at least once
+   * delivery; the broker is not involved in the request itself.
    *
    * @param requestedUserId user id from client request.
    * @param requestedJobId job id from client request.
@@ -54,14 +47,14 @@ public class JobCancellationService {
   @Transactional
   public void cancel(long requestedUserId, String requestedJobId) {
     var existingJob =
-        jobsRepository
-            .lockByIdAndUserId(requestedJobId, requestedUserId)
+        JobIds.parse(requestedJobId)
+            .flatMap(id -> jobsRepository.lockByIdAndUserId(id, requestedUserId))
             .orElseThrow(
                 () ->
                     new JobDoesNotExistException(
                         String.format("Job with id '%s' does not exist.", requestedJobId)));
 
-    var existingJobId = existingJob.getId();
+    var existingJobId = existingJob.getId().toString();
     var existingJobStatus = existingJob.getStatus();
 
     if (existingJobStatus == JobStatus.CANCEL_REQUESTED) {
@@ -96,18 +89,18 @@ public class JobCancellationService {
               existingJobId, existingJobStatus.getCode()));
     }
 
-    cancelBus.sendCancel(
-        existingJobWorkerId,
-        new Message<>(
-            new CancelJobRequestDTO(existingJobId), Collections.emptyMap(), clock.instant()));
+    var now = clock.instant();
+    outboxService.enqueueCancel(existingJobWorkerId, new CancelJobRequestDTO(existingJobId), now);
 
     log.info(
-        "Published cancel request for job '{}' and worker '{}'",
+        "Enqueued cancel request for job '{}' and worker '{}' to outbox",
         existingJobId,
         existingJobWorkerId);
 
     existingJob.setStatus(JobStatus.CANCEL_REQUESTED);
+    existingJob.setStatusChangedAt(now);
     jobsRepository.save(existingJob);
+    jobStatusCounters.statusChanged(existingJobStatus, JobStatus.CANCEL_REQUESTED);
   }
 
   private static boolean isInProgress(JobEntity jobEntity) {
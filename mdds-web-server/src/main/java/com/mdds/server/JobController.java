@@ -9,12 +9,22 @@ import com.mdds.domain.JobStatus;
 import com.mdds.dto.rest.v1.CancelJobResponseDTO;
 import com.mdds.dto.rest.v1.CreateJobRequestDTO;
 import com.mdds.dto.rest.v1.CreateJobResponseDTO;
+import com.mdds.dto.rest.v1.JobListResponseDTO;
 import com.mdds.dto.rest.v1.JobOutputResponseDTO;
+import com.mdds.dto.rest.v1.JobStatusBatchRequestDTO;
+import com.mdds.dto.rest.v1.JobStatusBatchResponseDTO;
 import com.mdds.dto.rest.v1.JobStatusResponseDTO;
 import com.mdds.dto.rest.v1.JobUploadUrlRequestDTO;
 import com.mdds.dto.rest.v1.JobUploadUrlResponseDTO;
+import com.mdds.dto.rest.v1.MultipartUploadCompleteRequestDTO;
+import com.mdds.dto.rest.v1.MultipartUploadPartUrlDTO;
+import com.mdds.dto.rest.v1.MultipartUploadPartsRequestDTO;
+import com.mdds.dto.rest.v1.MultipartUploadPartsResponseDTO;
+import com.mdds.dto.rest.v1.MultipartUploadResponseDTO;
 import com.mdds.dto.rest.v1.SubmitJobResponseDTO;
+import com.mdds.server.ObjectStorageService.UploadedPart;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +33,7 @@ import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -49,6 +60,8 @@ public class JobController {
   private final JobStatusService jobStatusService;
   private final JobCancellationService jobCancellationService;
   private final JobOutputsService jobOutputsService;
+  private final JobListService jobListService;
+  private final ReadAfterWriteTracker readAfterWriteTracker;
 
   private static final String JOB_ID = "jobId";
   private static final String USER_ID = "userId";
@@ -67,6 +80,7 @@ public class JobController {
     var jobType = createJobRequestDTO.jobType();
     var userId = userLookupService.findUserId(userLogin);
     var result = jobCreationService.createOrReuseDraftJob(userId, uploadSessionId, jobType);
+    readAfterWriteTracker.recordWrite(userLogin);
     var created = result.created();
     var jobId = result.jobId();
     try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
@@ -79,6 +93,30 @@ public class JobController {
     }
   }
 
+  @GetMapping(path = "/jobs", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<JobListResponseDTO> list(
+      @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin,
+      @RequestParam(name = "status", required = false) String status,
+      @RequestParam(name = "jobType", required = false) String jobType,
+      @RequestParam(name = "createdFrom", required = false) Instant createdFrom,
+      @RequestParam(name = "createdTo", required = false) Instant createdTo,
+      @RequestParam(name = "limit", required = false) Integer limit,
+      @RequestParam(name = "cursor", required = false) String cursor) {
+    var userId = userLookupService.findUserId(userLogin);
+    try (var ignoredRouting = readAfterWriteTracker.routeReadsOf(userLogin);
+        var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
+        var ignoredEvent = MDC.putCloseable(EVENT, "list_jobs")) {
+      var filter = new JobListService.JobListFilter(status, jobType, createdFrom, createdTo);
+      var result = jobListService.list(userId, filter, limit, cursor);
+      log.info("Listed {} jobs.", result.jobs().size());
+      return ResponseEntity.ok()
+          .body(
+              new JobListResponseDTO(
+                  result.jobs().stream().map(JobController::toJobStatusResponseDTO).toList(),
+                  result.nextCursor()));
+    }
+  }
+
   @PostMapping(
       path = "/jobs/{jobId}/inputs",
       consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -100,6 +138,88 @@ public class JobController {
     }
   }
 
+  @PostMapping(
+      path = "/jobs/{jobId}/inputs/{inputSlot}/uploads",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<MultipartUploadResponseDTO> createMultipartUpload(
+      @PathVariable("jobId") String jobId,
+      @PathVariable("inputSlot") String inputSlot,
+      @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin) {
+    var userId = userLookupService.findUserId(userLogin);
+    try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+        var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
+        var ignoredEvent = MDC.putCloseable(EVENT, "create_multipart_upload")) {
+      var uploadId = jobInputUploadService.createMultipartUpload(userId, jobId, inputSlot);
+      log.info("Multipart upload '{}' was created.", uploadId);
+      return ResponseEntity.status(HttpStatus.CREATED)
+          .body(new MultipartUploadResponseDTO(jobId, inputSlot, uploadId));
+    }
+  }
+
+  @PostMapping(
+      path = "/jobs/{jobId}/inputs/{inputSlot}/uploads/{uploadId}/parts",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<MultipartUploadPartsResponseDTO> issuePartUploadUrls(
+      @PathVariable("jobId") String jobId,
+      @PathVariable("inputSlot") String inputSlot,
+      @PathVariable("uploadId") String uploadId,
+      @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin,
+      @Valid @RequestBody MultipartUploadPartsRequestDTO request) {
+    var userId = userLookupService.findUserId(userLogin);
+    try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+        var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
+        var ignoredEvent = MDC.putCloseable(EVENT, "issue_part_upload_urls")) {
+      var result =
+          jobInputUploadService.issuePartUploadUrls(
+              userId, jobId, inputSlot, uploadId, request.partNumbers());
+      log.info("Issued {} pre-signed part upload URLs.", result.uploadUrls().size());
+      var parts =
+          result.uploadUrls().entrySet().stream()
+              .map(e -> new MultipartUploadPartUrlDTO(e.getKey(), e.getValue().toString()))
+              .toList();
+      return ResponseEntity.ok(
+          new MultipartUploadPartsResponseDTO(jobId, uploadId, parts, result.expiresAt()));
+    }
+  }
+
+  @PostMapping(
+      path = "/jobs/{jobId}/inputs/{inputSlot}/uploads/{uploadId}/complete",
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Void> completeMultipartUpload(
+      @PathVariable("jobId") String jobId,
+      @PathVariable("inputSlot") String inputSlot,
+      @PathVariable("uploadId") String uploadId,
+      @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin,
+      @Valid @RequestBody MultipartUploadCompleteRequestDTO request) {
+    var userId = userLookupService.findUserId(userLogin);
+    try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+        var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
+        var ignoredEvent = MDC.putCloseable(EVENT, "complete_multipart_upload")) {
+      var parts =
+          request.parts().stream().map(p -> new UploadedPart(p.partNumber(), p.eTag())).toList();
+      jobInputUploadService.completeMultipartUpload(userId, jobId, inputSlot, uploadId, parts);
+      log.info("Multipart upload '{}' was completed.", uploadId);
+      return ResponseEntity.ok().build();
+    }
+  }
+
+  @DeleteMapping(path = "/jobs/{jobId}/inputs/{inputSlot}/uploads/{uploadId}")
+  public ResponseEntity<Void> abortMultipartUpload(
+      @PathVariable("jobId") String jobId,
+      @PathVariable("inputSlot") String inputSlot,
+      @PathVariable("uploadId") String uploadId,
+      @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin) {
+    var userId = userLookupService.findUserId(userLogin);
+    try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+        var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
+        var ignoredEvent = MDC.putCloseable(EVENT, "abort_multipart_upload")) {
+      jobInputUploadService.abortMultipartUpload(userId, jobId, inputSlot, uploadId);
+      log.info("Multipart upload '{}' was aborted.", uploadId);
+      return ResponseEntity.noContent().build();
+    }
+  }
+
   @PatchMapping(path = "/jobs/{jobId}/params", consumes = APPLICATION_MERGE_PATCH_JSON_VALUE)
   public ResponseEntity<Void> mergeParams(
       @PathVariable("jobId") String jobId,
@@ -111,6 +231,7 @@ public class JobController {
         var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
         var ignoredEvent = MDC.putCloseable(EVENT, "patch_job_params")) {
       jobParamsService.mergeParams(userId, jobId, params);
+      readAfterWriteTracker.recordWrite(userLogin);
       log.info("Job parameters patch was applied.");
       return ResponseEntity.ok().build();
     }
@@ -127,6 +248,7 @@ public class JobController {
         var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
         var ignoredEvent = MDC.putCloseable(EVENT, "submit_job")) {
       jobSubmissionService.submit(userId, jobId);
+      readAfterWriteTracker.recordWrite(userLogin);
       log.info("Submitted job.");
       return ResponseEntity.accepted()
           .body(new SubmitJobResponseDTO(jobId, JobStatus.SUBMITTED.getCode()));
@@ -137,24 +259,39 @@ public class JobController {
   public ResponseEntity<JobStatusResponseDTO> status(
       @PathVariable("jobId") String jobId,
       @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin) {
+    // The login is resolved by the status query itself, one statement on the happy path.
+    try (var ignoredRouting = readAfterWriteTracker.routeReadsOf(userLogin);
+        var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+        var ignoredEvent = MDC.putCloseable(EVENT, "get_job_status")) {
+      var result = jobStatusService.status(userLogin, jobId);
+      try (var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(result.userId()))) {
+        log.info("Get job status.");
+      }
+      return ResponseEntity.ok().body(toJobStatusResponseDTO(result.job()));
+    }
+  }
+
+  @PostMapping(
+      path = "/jobs/status:batch",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<JobStatusBatchResponseDTO> statuses(
+      @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin,
+      @Valid @RequestBody JobStatusBatchRequestDTO jobStatusBatchRequestDTO) {
     var userId = userLookupService.findUserId(userLogin);
-    try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+    try (var ignoredRouting = readAfterWriteTracker.routeReadsOf(userLogin);
         var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
-        var ignoredEvent = MDC.putCloseable(EVENT, "get_job_status")) {
-      var result = jobStatusService.status(userId, jobId);
-      log.info("Get job status.");
+        var ignoredEvent = MDC.putCloseable(EVENT, "get_job_status_batch")) {
+      var result = jobStatusService.statuses(userId, jobStatusBatchRequestDTO.jobIds());
+      log.info(
+          "Get job status batch: {} found, {} not found.",
+          result.found().size(),
+          result.notFound().size());
       return ResponseEntity.ok()
           .body(
-              new JobStatusResponseDTO(
-                  result.jobId(),
-                  result.jobType(),
-                  result.status(),
-                  result.progress(),
-                  result.message(),
-                  result.createdAt(),
-                  result.submittedAt(),
-                  result.startedAt(),
-                  result.finishedAt()));
+              new JobStatusBatchResponseDTO(
+                  result.found().stream().map(JobController::toJobStatusResponseDTO).toList(),
+                  result.notFound()));
     }
   }
 
@@ -168,6 +305,7 @@ public class JobController {
         var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
         var ignoredEvent = MDC.putCloseable(EVENT, "cancel_request_job")) {
       jobCancellationService.cancel(userId, jobId);
+      readAfterWriteTracker.recordWrite(userLogin);
       log.info("Cancel requested for job.");
       return ResponseEntity.accepted()
           .body(new CancelJobResponseDTO(jobId, JobStatus.CANCEL_REQUESTED.getCode()));
@@ -179,17 +317,31 @@ public class JobController {
       @PathVariable("jobId") String jobId,
       @RequestHeader(value = "X-MDDS-User-Login", required = true) String userLogin,
       @RequestParam(name = "outputSlot", required = true) String outputSlot) {
-    var userId = userLookupService.findUserId(userLogin);
-    try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
-        var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(userId));
+    // The login is resolved by the job query itself, one statement on the happy path.
+    try (var ignoredRouting = readAfterWriteTracker.routeReadsOf(userLogin);
+        var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
         var ignoredEvent = MDC.putCloseable(EVENT, "get_job_outputs")) {
-      var result = jobOutputsService.issueDownloadUrl(userId, jobId, outputSlot);
+      var result = jobOutputsService.issueDownloadUrl(userLogin, jobId, outputSlot);
       return ResponseEntity.ok()
           .body(
               new JobOutputResponseDTO(jobId, result.downloadUrl().toString(), result.expiresAt()));
     }
   }
 
+  private static JobStatusResponseDTO toJobStatusResponseDTO(
+      JobStatusService.JobStatusResult result) {
+    return new JobStatusResponseDTO(
+        result.jobId(),
+        result.jobType(),
+        result.status(),
+        result.progress(),
+        result.message(),
+        result.createdAt(),
+        result.submittedAt(),
+        result.startedAt(),
+        result.finishedAt());
+  }
+
   private static Map<String, JsonNode> extractPatchParams(JsonNode patchNode) {
     if (patchNode == null || !patchNode.isObject()) {
       throw new MergePatchDocumentMustBeJsonObjectException(
@@ -4,12 +4,15 @@
  */
 package com.mdds.server;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.mdds.domain.JobStatus;
 import com.mdds.persistence.entity.JobEntity;
+import com.mdds.persistence.entity.JobProgressEntity;
+import com.mdds.server.jpa.JobProgressRepository;
+import com.mdds.server.jpa.JobsArchiveRepository;
 import com.mdds.server.jpa.JobsRepository;
 import com.mdds.server.jpa.UsersRepository;
 import java.time.Clock;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +25,11 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class JobCreationService {
   private final JobsRepository jobsRepository;
+  private final JobProgressRepository jobProgressRepository;
+  private final JobsArchiveRepository jobsArchiveRepository;
   private final UsersRepository usersRepository;
   private final JobProfileRegistry jobProfileRegistry;
+  private final JobStatusCounters jobStatusCounters;
   private final Clock clock;
 
   /**
@@ -80,19 +86,37 @@ public class JobCreationService {
                 + jobType
                 + "'.");
       }
-      return new JobCreationResult(existingJob.getId(), false);
+      return new JobCreationResult(existingJob.getId().toString(), false);
     } else {
-      var jobId = UUID.randomUUID().toString();
+      // Archived jobs are terminal, their upload session ids must not be reused either.
+      jobsArchiveRepository
+          .findFirstByUserIdAndUploadSessionId(userId, uploadSessionId)
+          .ifPresent(
+              archivedJob -> {
+                throw new JobIsNotDraftException(
+                    "Upload session id '"
+                        + uploadSessionId
+                        + "' is already bound to job '"
+                        + archivedJob.getId()
+                        + "' with status '"
+                        + archivedJob.getStatus()
+                        + "'. A new upload session id is required.");
+              });
+      var now = clock.instant();
+      var jobId = JobIds.newId(now);
       var job = new JobEntity();
       job.setId(jobId);
       job.setUserId(userId);
       job.setUploadSessionId(uploadSessionId);
       job.setJobType(jobType);
       job.setStatus(JobStatus.DRAFT);
-      job.setProgress(0);
-      job.setCreatedAt(clock.instant());
+      job.setCreatedAt(now);
+      job.setStatusChangedAt(now);
+      job.setParams(JsonNodeFactory.instance.objectNode());
       jobsRepository.save(job);
-      return new JobCreationResult(jobId, true);
+      jobProgressRepository.save(new JobProgressEntity(jobId, 0, null, now));
+      jobStatusCounters.statusChanged(null, JobStatus.DRAFT);
+      return new JobCreationResult(jobId.toString(), true);
     }
   }
 
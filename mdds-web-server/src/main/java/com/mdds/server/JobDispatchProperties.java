@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the fair-share job dispatcher.
+ *
+ * @param enabled whether submitted jobs wait for the dispatcher; when disabled they are written to
+ *     the outbox right away and quotas are not enforced.
+ * @param pollInterval delay between the moment pending jobs are dispatched and the next poll.
+ * @param batchSize maximum number of jobs of one job type dispatched in one transaction.
+ * @param maxActiveJobsPerUser number of dispatched, not yet terminal jobs a user may have.
+ * @param maxQueuedJobsPerJobType number of dispatched jobs of one type no Worker has picked up yet.
+ * @param userWeights share weights by user login, users without an entry have weight 1.
+ */
+@ConfigurationProperties(prefix = "mdds.job-dispatch")
+@Validated
+public record JobDispatchProperties(
+    boolean enabled,
+    @NotNull(message = "must not be null.") Duration pollInterval,
+    @Positive(message = "must be positive.") int batchSize,
+    @Positive(message = "must be positive.") int maxActiveJobsPerUser,
+    @Positive(message = "must be positive.") int maxQueuedJobsPerJobType,
+    Map<String, @Positive(message = "must be positive.") Double> userWeights) {
+
+  public JobDispatchProperties {
+    userWeights = userWeights == null ? Map.of() : Map.copyOf(userWeights);
+  }
+
+  /** Returns share weight of the user with the given login. */
+  public double weightOf(String login) {
+    return userWeights.getOrDefault(login, 1.0);
+  }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.common.util.JsonHelper;
+import com.mdds.domain.ResourceHints;
+import com.mdds.domain.SizeClass;
+import com.mdds.dto.worker.v1.JobMessageDTO;
+import com.mdds.persistence.entity.JobEntity;
+import com.mdds.persistence.entity.JobTypeCounterEntity;
+import com.mdds.persistence.entity.PendingJobEntity;
+import com.mdds.server.jpa.JobTypeCountersRepository;
+import com.mdds.server.jpa.JobsRepository;
+import com.mdds.server.jpa.PendingJobsRepository;
+import com.mdds.server.jpa.UserJobCounterView;
+import com.mdds.server.jpa.UserJobCountersRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Releases submitted jobs to the job queues by weighted fair share between users.
+ *
+ * <p>Submitted jobs wait in {@code pending_jobs}, one list per user and job type ordered by
+ * submission time. The dispatcher repeatedly picks the user with the smallest number of active jobs
+ * per unit of weight and moves the head of that user's list to the outbox, until the job type has
+ * {@code max-queued-jobs-per-job-type} jobs no Worker has picked up yet. Users with {@code
+ * max-active-jobs-per-user} active jobs are skipped, so one user can not occupy all Workers no
+ * matter how many jobs the user submits.
+ *
+ * <p>Each dispatched job is placed on a registered Worker by {@link WorkerPlacementService}, job
+ * types with the largest resource hints first. A job type stops dispatching in a round when every
+ * live Worker of that type is full. The placement queue is kept with the job, so a job whose
+ * Workers stop sending heartbeats before picking it up can be placed again, see {@link
+ * #reassignBatch}.
+ *
+ * <p>Counters are kept in {@code user_job_counters} and {@code job_type_counters} and are changed
+ * incrementally: on submission, on dispatch, when a Worker picks a job up and when a job reaches a
+ * terminal state. A quota check reads one row and never counts jobs. The changes are written by
+ * {@link DispatchCounters} right before commit. A dispatch round reads the head of line of every
+ * candidate user in one query per job type. Dispatched jobs get their dispatch time, admission
+ * control measures queue age from it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobDispatchService {
+  private final JobsRepository jobsRepository;
+  private final PendingJobsRepository pendingJobsRepository;
+  private final UserJobCountersRepository userJobCountersRepository;
+  private final JobTypeCountersRepository jobTypeCountersRepository;
+  private final DispatchCounters dispatchCounters;
+  private final OutboxService outboxService;
+  private final JobAdmissionService jobAdmissionService;
+  private final JobProfileRegistry jobProfileRegistry;
+  private final WorkerPlacementService workerPlacementService;
+  private final JobDispatchProperties jobDispatchProperties;
+  private final Clock clock;
+
+  /**
+   * Hands a submitted job over to the dispatcher. Must be called in the transaction that changes
+   * the job to {@code SUBMITTED}. When the dispatcher is disabled the message goes to the outbox
+   * right away.
+   *
+   * @param job submitted job.
+   * @param queueName name of the job queue.
+   * @param message job message to publish.
+   * @param now submission time.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueue(JobEntity job, String queueName, JobMessageDTO message, Instant now) {
+    if (!jobDispatchProperties.enabled()) {
+      outboxService.enqueueJob(queueName, message, now);
+      job.setDispatchedAt(now);
+      dispatchCounters.addActive(job.getUserId(), 1);
+      dispatchCounters.addQueued(job.getJobType(), 1);
+      jobAdmissionService.recordDispatch(job.getJobType(), 1);
+      return;
+    }
+    var pendingJob = new PendingJobEntity();
+    pendingJob.setJobId(job.getId());
+    pendingJob.setUserId(job.getUserId());
+    pendingJob.setJobType(job.getJobType());
+    pendingJob.setQueueName(queueName);
+    pendingJob.setPayload(JsonHelper.toJsonNode(message));
+    pendingJob.setSubmittedAt(now);
+    pendingJobsRepository.save(pendingJob);
+    dispatchCounters.addPending(job.getUserId(), 1);
+  }
+
+  /**
+   * Counts a job a Worker has picked up, that is a job leaving {@code SUBMITTED}. Must be called in
+   * the transaction that changes job status.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void releaseQueued(String jobType) {
+    dispatchCounters.addQueued(jobType, -1);
+  }
+
+  /**
+   * Counts a job that reached a terminal state. Must be called in the transaction that changes job
+   * status.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void releaseActive(long userId) {
+    dispatchCounters.addActive(userId, -1);
+  }
+
+  /**
+   * Takes a {@code SUBMITTED} job back before any Worker picked it up. A job still waiting for the
+   * dispatcher is removed from {@code pending_jobs}; a dispatched job is no longer counted as
+   * queued and active. Must be called in the transaction that moves the job out of {@code
+   * SUBMITTED}.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void withdraw(JobEntity job) {
+    var pendingJob = pendingJobsRepository.findById(job.getId());
+    if (pendingJob.isPresent()) {
+      pendingJobsRepository.delete(pendingJob.get());
+      dispatchCounters.addPending(job.getUserId(), -1);
+      return;
+    }
+    dispatchCounters.addQueued(job.getJobType(), -1);
+    dispatchCounters.addActive(job.getUserId(), -1);
+  }
+
+  /**
+   * Dispatches pending jobs of every job type in one transaction. The transaction holds a Postgres
+   * advisory lock, so only one replica dispatches at a time; others return immediately.
+   *
+   * @return number of dispatched jobs, 0 when nothing could be dispatched.
+   */
+  @Transactional
+  public int dispatchBatch() {
+    if (!pendingJobsRepository.tryLockDispatcher()) {
+      return 0;
+    }
+    var candidates = userJobCountersRepository.findUsersWithPendingJobs();
+    if (candidates.isEmpty()) {
+      return 0;
+    }
+    var shares = new HashMap<Long, Share>();
+    for (var candidate : candidates) {
+      shares.put(candidate.getUserId(), new Share(candidate, jobDispatchProperties));
+    }
+    var queuedJobs =
+        jobTypeCountersRepository.findAll().stream()
+            .collect(
+                Collectors.toMap(
+                    JobTypeCounterEntity::getJobType, JobTypeCounterEntity::getQueuedJobs));
+    var now = clock.instant();
+    var total = 0;
+    for (var jobType : jobTypesLargestFirst()) {
+      var capacity =
+          Math.min(
+              jobDispatchProperties.maxQueuedJobsPerJobType() - queuedJobs.getOrDefault(jobType, 0),
+              jobDispatchProperties.batchSize());
+      if (capacity > 0) {
+        var dispatched = dispatchJobType(jobType, capacity, shares.values(), now);
+        if (dispatched > 0) {
+          dispatchCounters.addQueued(jobType, dispatched);
+          jobAdmissionService.recordDispatch(jobType, dispatched);
+          total += dispatched;
+        }
+      }
+    }
+    for (var share : shares.values()) {
+      if (share.dispatched > 0) {
+        dispatchCounters.addPending(share.userId, -share.dispatched);
+        dispatchCounters.addActive(share.userId, share.dispatched);
+      }
+    }
+    if (total > 0) {
+      log.debug("Dispatched {} pending jobs.", total);
+    }
+    return total;
+  }
+
+  /**
+   * Returns job types ordered by resource hints, largest first. Placing large jobs before small
+   * ones is the first-fit-decreasing order of bin packing, so big Workers are not filled with small
+   * jobs while a large job waits.
+   */
+  private List<String> jobTypesLargestFirst() {
+    var hints = new HashMap<String, ResourceHints>();
+    for (var jobType : jobProfileRegistry.jobTypes()) {
+      hints.put(jobType, jobProfileRegistry.forType(jobType).resources());
+    }
+    return hints.keySet().stream()
+        .sorted(
+            Comparator.<String, SizeClass>comparing(jobType -> hints.get(jobType).sizeClass())
+                .thenComparingInt(jobType -> hints.get(jobType).cpu())
+                .thenComparingLong(jobType -> hints.get(jobType).memoryMb())
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()))
+        .toList();
+  }
+
+  private int dispatchJobType(String jobType, int capacity, Iterable<Share> shares, Instant now) {
+    var placement =
+        workerPlacementService.planFor(jobType, jobProfileRegistry.forType(jobType).resources());
+    var queue = new PriorityQueue<>(SHARE_ORDER);
+    var room = 0;
+    for (var share : shares) {
+      if (share.canTakeMore(jobDispatchProperties.maxActiveJobsPerUser())) {
+        queue.add(share);
+        room = Math.max(room, share.room(jobDispatchProperties.maxActiveJobsPerUser()));
+      }
+    }
+    if (queue.isEmpty() || !placement.hasCapacity()) {
+      return 0;
+    }
+    // No user takes more than its room or the capacity, so that many heads per user are enough.
+    var heads = new HashMap<Long, ArrayDeque<PendingJobEntity>>();
+    pendingJobsRepository
+        .findOldestOfUsers(
+            queue.stream().map(share -> share.userId).toList(), jobType, Math.min(room, capacity))
+        .stream()
+        .sorted(HEAD_ORDER)
+        .forEach(
+            pendingJob ->
+                heads
+                    .computeIfAbsent(pendingJob.getUserId(), key -> new ArrayDeque<>())
+                    .add(pendingJob));
+    // Dispatched job ids by placement queue, the null key holds jobs sent to the shared queue.
+    var dispatchedJobIds = new HashMap<String, List<UUID>>();
+    var dispatched = 0;
+    while (dispatched < capacity && !queue.isEmpty() && placement.hasCapacity()) {
+      var share = queue.poll();
+      var userHeads = heads.get(share.userId);
+      if (userHeads == null || userHeads.isEmpty()) {
+        // No pending job of this type, the user stays out of this round.
+        continue;
+      }
+      var pendingJob = userHeads.poll();
+      var queueName = placement.place(pendingJob.getQueueName()).orElseThrow();
+      outboxService.enqueueJob(queueName, pendingJob.getPayload(), now);
+      dispatchedJobIds
+          .computeIfAbsent(
+              placementQueueName(queueName, pendingJob.getQueueName()), key -> new ArrayList<>())
+          .add(pendingJob.getJobId());
+      dispatched++;
+      share.dispatched++;
+      if (share.canTakeMore(jobDispatchProperties.maxActiveJobsPerUser())) {
+        queue.add(share);
+      }
+    }
+    dispatchedJobIds.forEach(
+        (placementQueueName, jobIds) -> {
+          pendingJobsRepository.deleteAllByIdInBatch(jobIds);
+          jobsRepository.markDispatched(jobIds, placementQueueName, now);
+        });
+    return dispatched;
+  }
+
+  /**
+   * Places again one batch of submitted jobs whose Workers stopped sending heartbeats before any of
+   * them picked the job up. Each job goes to another live Worker, or to the shared queue of its job
+   * type when every live Worker is full. The job is published again with the stored manifest, its
+   * queued and active counters do not change.
+   *
+   * <p>The message left in the queue of the lapsed Workers is not removed. Should such a Worker
+   * come back and start that copy as well, the first Worker to send a status update owns the job
+   * and the updates of the other are rejected.
+   *
+   * @param since Workers with a heartbeat after this instant are live.
+   * @param batchSize maximum number of jobs to place.
+   * @return number of placed jobs.
+   */
+  @Transactional
+  public int reassignBatch(Instant since, int batchSize) {
+    var jobIds = jobsRepository.lockJobIdsOnLapsedWorkers(since, batchSize);
+    if (jobIds.isEmpty()) {
+      return 0;
+    }
+    var now = clock.instant();
+    var placements = new HashMap<String, WorkerPlacementService.Placement>();
+    for (var job : jobsRepository.findAllById(jobIds)) {
+      var jobType = job.getJobType();
+      var placement =
+          placements.computeIfAbsent(
+              jobType,
+              type ->
+                  workerPlacementService.planFor(
+                      type, jobProfileRegistry.forType(type).resources()));
+      var sharedQueueName = "queue-" + jobType;
+      var queueName = placement.place(sharedQueueName).orElse(sharedQueueName);
+      log.warn(
+          "Workers of queue '{}' stopped sending heartbeats, moving job '{}' to '{}'.",
+          job.getPlacementQueueName(),
+          job.getId(),
+          queueName);
+      outboxService.enqueueJob(
+          queueName,
+          new JobMessageDTO(
+              ObjectKeyBuilder.manifestObjectKey(job.getUserId(), job.getId().toString()), null),
+          now);
+      job.setPlacementQueueName(placementQueueName(queueName, sharedQueueName));
+    }
+    return jobIds.size();
+  }
+
+  private static String placementQueueName(String queueName, String sharedQueueName) {
+    return queueName.equals(sharedQueueName) ? null : queueName;
+  }
+
+  private static final Comparator<PendingJobEntity> HEAD_ORDER =
+      Comparator.comparing(PendingJobEntity::getSubmittedAt)
+          .thenComparing(PendingJobEntity::getJobId);
+
+  private static final Comparator<Share> SHARE_ORDER =
+      Comparator.comparingDouble(Share::usage).thenComparingLong(share -> share.userId);
+
+  /** Active jobs and weight of one user during a dispatch round. */
+  private static final class Share {
+    private final long userId;
+    private final double weight;
+    private final int activeJobs;
+    private final int pendingJobs;
+    private int dispatched;
+
+    private Share(UserJobCounterView counter, JobDispatchProperties properties) {
+      this.userId = counter.getUserId();
+      this.weight = properties.weightOf(counter.getLogin());
+      this.activeJobs = counter.getActiveJobs();
+      this.pendingJobs = counter.getPendingJobs();
+    }
+
+    private double usage() {
+      return (activeJobs + dispatched) / weight;
+    }
+
+    private boolean canTakeMore(int maxActiveJobs) {
+      return room(maxActiveJobs) > 0;
+    }
+
+    /** Returns how many more jobs the user can take in this round. */
+    private int room(int maxActiveJobs) {
+      return Math.min(pendingJobs - dispatched, maxActiveJobs - activeJobs - dispatched);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls pending jobs and dispatches them by fair share. Every Web Server replica runs a dispatcher,
+ * but only the one holding the dispatcher advisory lock does the work of a round.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobDispatcher {
+  private final JobDispatchService jobDispatchService;
+  private final JobDispatchProperties jobDispatchProperties;
+
+  private static final String EVENT = "event";
+
+  @Scheduled(fixedDelayString = "${mdds.job-dispatch.poll-interval}")
+  public void run() {
+    if (!jobDispatchProperties.enabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "dispatch_jobs")) {
+      drain();
+    } catch (Exception e) {
+      log.error("Failed to dispatch pending jobs.", e);
+    }
+  }
+
+  /**
+   * Dispatches pending jobs until no more can be dispatched, either because nothing is pending or
+   * because users and job types are at their limits.
+   *
+   * @return number of dispatched jobs.
+   */
+  public int drain() {
+    var total = 0;
+    int dispatched;
+    do {
+      dispatched = jobDispatchService.dispatchBatch();
+      total += dispatched;
+    } while (dispatched > 0);
+    return total;
+  }
+}
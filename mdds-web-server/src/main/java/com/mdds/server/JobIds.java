@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Job identifiers. Jobs are keyed by time-ordered UUIDs (version 7) stored in native {@code uuid}
+ * columns. Clients and Workers see them in the canonical string form.
+ */
+public final class JobIds {
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final int CANONICAL_LENGTH = 36;
+
+  /**
+   * Orders ids the way Postgres orders {@code uuid} values, byte by byte as unsigned numbers.
+   * {@link UUID#compareTo} compares signed halves and disagrees with the database for ids with the
+   * high bit set, so keyset positions computed in Java must use this order.
+   */
+  public static final Comparator<UUID> DATABASE_ORDER =
+      Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+          .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  private JobIds() {}
+
+  /**
+   * Returns a new UUIDv7: 48 bits of Unix time in milliseconds followed by 74 random bits. Jobs
+   * created later get greater ids, so new index entries land on the right-most B-tree pages instead
+   * of random ones. Random bits come from {@link SecureRandom}, so ids stay as hard to guess as
+   * random UUIDs.
+   *
+   * @param now creation time of the job.
+   * @return new job id.
+   */
+  public static UUID newId(Instant now) {
+    var randomBits = new byte[10];
+    RANDOM.nextBytes(randomBits);
+    var msb =
+        now.toEpochMilli() << 16 | 0x7000L | (randomBits[0] & 0x0FL) << 8 | randomBits[1] & 0xFFL;
+    var lsb = 0x8000_0000_0000_0000L | (randomBits[2] & 0x3FL) << 56;
+    for (var i = 3; i < 10; i++) {
+      lsb |= (randomBits[i] & 0xFFL) << (8 * (9 - i));
+    }
+    return new UUID(msb, lsb);
+  }
+
+  /**
+   * Parses a job id received from a client or a Worker.
+   *
+   * @param jobId job id in the canonical string form.
+   * @return parsed id, empty when the string is not a canonical UUID and so can not name any job.
+   */
+  public static Optional<UUID> parse(String jobId) {
+    if (jobId == null || jobId.length() != CANONICAL_LENGTH) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(UUID.fromString(jobId));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+/** Indicates that batch request contains more job identifiers than allowed. */
+public class JobIdsBatchIsTooLargeException extends RuntimeException {
+  public JobIdsBatchIsTooLargeException(String message) {
+    super(message);
+  }
+}
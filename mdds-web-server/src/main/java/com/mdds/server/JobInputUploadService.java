@@ -6,14 +6,23 @@ package com.mdds.server;
 
 import com.mdds.domain.JobStatus;
 import com.mdds.persistence.entity.JobEntity;
+import com.mdds.server.ObjectStorageService.UploadedPart;
 import com.mdds.server.jpa.JobsRepository;
 import java.net.URL;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-/** Creates pre-signed url for a job for certain inputs. */
+/**
+ * Creates pre-signed url for a job for certain inputs. Large inputs can be uploaded in parts with a
+ * multipart upload: create it, issue part urls in batches, then complete or abort it.
+ */
 @Service
 @RequiredArgsConstructor
 public class JobInputUploadService {
@@ -22,17 +31,108 @@ public class JobInputUploadService {
   private final ObjectStorageService objectStorageService;
   private final JobProfileRegistry jobProfileRegistry;
 
+  /** Largest part number object storage accepts, and so the largest number of parts. */
+  static final int MAX_PART_NUMBER = 10_000;
+
+  /** Largest number of part urls issued by one request. */
+  static final int MAX_PARTS_PER_REQUEST = 1_000;
+
   public IssueUploadUrlResult issueUploadUrl(
       long requestedUserId, String requestedJobId, String inputSlot) {
+    var input = resolveDraftInput(requestedUserId, requestedJobId, inputSlot);
+    var presigned =
+        objectStorageService.issueUploadUrl(input.userId(), input.jobId(), input.fileName());
+    return new IssueUploadUrlResult(presigned.uploadUrl(), presigned.expiresAt());
+  }
+
+  /**
+   * Starts a multipart upload for an input slot of a DRAFT job.
+   *
+   * @return upload id that the client passes to the part, complete and abort requests.
+   */
+  public String createMultipartUpload(
+      long requestedUserId, String requestedJobId, String inputSlot) {
+    var input = resolveDraftInput(requestedUserId, requestedJobId, inputSlot);
+    return join(
+        objectStorageService.createMultipartUpload(
+            input.userId(), input.jobId(), input.fileName()));
+  }
+
+  /** Issues pre-signed urls for a batch of parts of a multipart upload. */
+  public IssuePartUploadUrlsResult issuePartUploadUrls(
+      long requestedUserId,
+      String requestedJobId,
+      String inputSlot,
+      String uploadId,
+      List<Integer> partNumbers) {
+    var input = resolveDraftInput(requestedUserId, requestedJobId, inputSlot);
+    requireValidUploadId(uploadId);
+    if (partNumbers == null || partNumbers.isEmpty()) {
+      throw new InvalidMultipartUploadPartsException("Part numbers are null or empty.");
+    }
+    if (partNumbers.size() > MAX_PARTS_PER_REQUEST) {
+      throw new InvalidMultipartUploadPartsException(
+          String.format(
+              "Too many part numbers: %d. Maximum is %d per request.",
+              partNumbers.size(), MAX_PARTS_PER_REQUEST));
+    }
+    requireValidPartNumbers(partNumbers);
+    var presigned =
+        objectStorageService.issuePartUploadUrls(
+            input.userId(), input.jobId(), input.fileName(), uploadId, partNumbers);
+    return new IssuePartUploadUrlsResult(presigned.uploadUrls(), presigned.expiresAt());
+  }
+
+  /** Completes a multipart upload, after which the input artifact is visible to submit. */
+  public void completeMultipartUpload(
+      long requestedUserId,
+      String requestedJobId,
+      String inputSlot,
+      String uploadId,
+      List<UploadedPart> parts) {
+    var input = resolveDraftInput(requestedUserId, requestedJobId, inputSlot);
+    requireValidUploadId(uploadId);
+    if (parts == null || parts.isEmpty()) {
+      throw new InvalidMultipartUploadPartsException("Uploaded parts are null or empty.");
+    }
+    if (parts.size() > MAX_PART_NUMBER) {
+      throw new InvalidMultipartUploadPartsException(
+          String.format(
+              "Too many uploaded parts: %d. Maximum is %d.", parts.size(), MAX_PART_NUMBER));
+    }
+    for (var part : parts) {
+      if (isNullOrBlank(part.eTag())) {
+        throw new InvalidMultipartUploadPartsException(
+            String.format("ETag of part %d is null or blank.", part.partNumber()));
+      }
+    }
+    requireValidPartNumbers(parts.stream().map(UploadedPart::partNumber).toList());
+    join(
+        objectStorageService.completeMultipartUpload(
+            input.userId(), input.jobId(), input.fileName(), uploadId, parts));
+  }
+
+  /** Aborts a multipart upload and discards its parts. */
+  public void abortMultipartUpload(
+      long requestedUserId, String requestedJobId, String inputSlot, String uploadId) {
+    var input = resolveDraftInput(requestedUserId, requestedJobId, inputSlot);
+    requireValidUploadId(uploadId);
+    join(
+        objectStorageService.abortMultipartUpload(
+            input.userId(), input.jobId(), input.fileName(), uploadId));
+  }
+
+  private DraftInput resolveDraftInput(
+      long requestedUserId, String requestedJobId, String inputSlot) {
     var existingJob =
-        jobsRepository
-            .findByIdAndUserId(requestedJobId, requestedUserId)
+        JobIds.parse(requestedJobId)
+            .flatMap(id -> jobsRepository.findByIdAndUserId(id, requestedUserId))
             .orElseThrow(
                 () ->
                     new JobDoesNotExistException(
                         String.format("Job with id '%s' does not exist.", requestedJobId)));
     var existingUserId = existingJob.getUserId();
-    var existingJobId = existingJob.getId();
+    var existingJobId = existingJob.getId().toString();
     var existingJobType = existingJob.getJobType();
     var profile = jobProfileRegistry.forType(existingJobType);
 
@@ -61,14 +161,46 @@ public class JobInputUploadService {
               "Unknown or unsupported input slot '%s' for the given jobType '%s'.",
               normalizedInputSlot, existingJobType));
     }
-    var fileName = artifact.fileName();
+    return new DraftInput(existingUserId, existingJobId, artifact.fileName());
+  }
 
-    var presigned = objectStorageService.issueUploadUrl(existingUserId, existingJobId, fileName);
-    return new IssueUploadUrlResult(presigned.uploadUrl(), presigned.expiresAt());
+  private static void requireValidUploadId(String uploadId) {
+    if (isNullOrBlank(uploadId)) {
+      throw new MultipartUploadDoesNotExistException("Upload id is null or blank.");
+    }
   }
 
+  private static void requireValidPartNumbers(List<Integer> partNumbers) {
+    var seen = new HashSet<Integer>();
+    for (var partNumber : partNumbers) {
+      if (partNumber == null || partNumber < 1 || partNumber > MAX_PART_NUMBER) {
+        throw new InvalidMultipartUploadPartsException(
+            String.format("Part number %s is out of range [1, %d].", partNumber, MAX_PART_NUMBER));
+      }
+      if (!seen.add(partNumber)) {
+        throw new InvalidMultipartUploadPartsException(
+            String.format("Part number %d is duplicated.", partNumber));
+      }
+    }
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record DraftInput(long userId, String jobId, String fileName) {}
+
   public record IssueUploadUrlResult(URL uploadUrl, Instant expiresAt) {}
 
+  public record IssuePartUploadUrlsResult(Map<Integer, URL> uploadUrls, Instant expiresAt) {}
+
   private static String normalize(String value) {
     return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
   }
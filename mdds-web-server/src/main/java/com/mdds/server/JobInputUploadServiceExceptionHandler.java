@@ -33,4 +33,17 @@ public class JobInputUploadServiceExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
         .body(new ErrorResponseDTO(ex.getMessage()));
   }
+
+  @ExceptionHandler(InvalidMultipartUploadPartsException.class)
+  public ResponseEntity<ErrorResponseDTO> handleInvalidMultipartUploadParts(
+      InvalidMultipartUploadPartsException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(new ErrorResponseDTO(ex.getMessage()));
+  }
+
+  @ExceptionHandler(MultipartUploadDoesNotExistException.class)
+  public ResponseEntity<ErrorResponseDTO> handleMultipartUploadDoesNotExist(
+      MultipartUploadDoesNotExistException ex) {
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponseDTO(ex.getMessage()));
+  }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of Worker job leases.
+ *
+ * @param enabled whether the lease scanner runs in this replica. Leases are renewed either way.
+ * @param duration time after the latest status update or heartbeat of the owning Worker when a job
+ *     is considered abandoned. Must be several Worker heartbeat intervals long.
+ * @param scanInterval delay between the end of one scan and the start of the next one.
+ * @param batchSize number of expired jobs failed in one transaction.
+ */
+@ConfigurationProperties(prefix = "mdds.job-lease")
+@Validated
+public record JobLeaseProperties(
+    boolean enabled,
+    @NotNull(message = "must not be null.") Duration duration,
+    @NotNull(message = "must not be null.") Duration scanInterval,
+    @Positive(message = "must be positive.") int batchSize) {}
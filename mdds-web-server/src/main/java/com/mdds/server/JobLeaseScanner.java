@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically fails jobs whose Worker lease has expired. Each batch is a separate transaction, so
+ * a failure only rolls back the current batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLeaseScanner {
+  private final JobLeaseService jobLeaseService;
+  private final JobLeaseProperties jobLeaseProperties;
+  private final Clock clock;
+
+  private static final String EVENT = "event";
+
+  @Scheduled(
+      initialDelayString = "${mdds.job-lease.scan-interval}",
+      fixedDelayString = "${mdds.job-lease.scan-interval}")
+  public void run() {
+    if (!jobLeaseProperties.enabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "expire_job_leases")) {
+      var expired = scan();
+      if (expired > 0) {
+        log.warn("Failed {} jobs with expired worker leases.", expired);
+      }
+    } catch (Exception e) {
+      log.error("Failed to expire job leases.", e);
+    }
+  }
+
+  /**
+   * Expires leases until no expired lease is left.
+   *
+   * @return number of expired jobs.
+   */
+  public int scan() {
+    var now = clock.instant();
+    var batchSize = jobLeaseProperties.batchSize();
+    var total = 0;
+    while (true) {
+      var expired = jobLeaseService.expireBatch(now, batchSize);
+      total += expired;
+      if (expired < batchSize) {
+        return total;
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static com.mdds.domain.JobStatus.CANCELLED;
+import static com.mdds.domain.JobStatus.CANCEL_REQUESTED;
+import static com.mdds.domain.JobStatus.ERROR;
+
+import com.mdds.server.jpa.JobProgressRepository;
+import com.mdds.server.jpa.JobsRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fails jobs whose Worker stopped renewing its lease.
+ *
+ * <p>A Worker takes the lease of a job with its first status update and renews it with every status
+ * update and heartbeat. When the Worker process dies the lease runs out, and the job is moved to
+ * {@code ERROR}, or to {@code CANCELLED} when the user already asked to cancel it. The job keeps
+ * its {@code worker_id}, so a late status update of the same Worker is rejected as an illegal
+ * transition from a terminal state.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLeaseService {
+  private final JobsRepository jobsRepository;
+  private final JobProgressRepository jobProgressRepository;
+  private final JobDispatchService jobDispatchService;
+  private final JobLeaseProperties jobLeaseProperties;
+  private final JobStatusCounters jobStatusCounters;
+
+  /**
+   * Returns the lease expiry of a job renewed at the given instant.
+   *
+   * @param now renewal time.
+   * @return new lease expiry.
+   */
+  public Instant leaseExpiry(Instant now) {
+    return now.plus(jobLeaseProperties.duration());
+  }
+
+  /**
+   * Returns {@code true} when less than half of the lease is left. Heartbeats and status updates
+   * that do not change job status renew the lease only then.
+   *
+   * @param leaseExpiresAt current lease expiry, {@code null} when the job holds no lease.
+   * @param now time of the status update.
+   * @return whether the lease must be renewed.
+   */
+  public boolean isRenewalDue(Instant leaseExpiresAt, Instant now) {
+    return leaseExpiresAt == null || leaseExpiresAt.isBefore(renewBefore(now));
+  }
+
+  private Instant renewBefore(Instant now) {
+    return now.plus(jobLeaseProperties.duration().dividedBy(2));
+  }
+
+  /**
+   * Extends the leases of the jobs the Worker holds that are due for renewal, see {@link
+   * #isRenewalDue}.
+   *
+   * @param workerId Worker that is alive.
+   * @param now renewal time.
+   * @return number of renewed leases.
+   */
+  @Transactional
+  public int renew(String workerId, Instant now) {
+    return jobsRepository.renewLeases(workerId, renewBefore(now), leaseExpiry(now));
+  }
+
+  /**
+   * Expires one batch of leases in a single transaction. Rows are locked with {@code FOR UPDATE
+   * SKIP LOCKED}, so concurrent scanners take disjoint batches and a job being updated by its
+   * Worker right now is left for the next scan.
+   *
+   * @param now leases that expired strictly before this instant are expired.
+   * @param batchSize maximum number of jobs to expire.
+   * @return number of expired jobs, less than {@code batchSize} when nothing is left.
+   */
+  @Transactional
+  public int expireBatch(Instant now, int batchSize) {
+    var jobIds = jobsRepository.lockExpiredLeaseJobIds(now, batchSize);
+    if (jobIds.isEmpty()) {
+      return 0;
+    }
+    for (var job : jobsRepository.findAllById(jobIds)) {
+      var newStatus = job.getStatus() == CANCEL_REQUESTED ? CANCELLED : ERROR;
+      log.warn(
+          "Lease of job '{}' held by worker '{}' expired at {}, moving job from '{}' to '{}'.",
+          job.getId(),
+          job.getWorkerId(),
+          job.getLeaseExpiresAt(),
+          job.getStatus().getCode(),
+          newStatus.getCode());
+      jobStatusCounters.statusChanged(job.getStatus(), newStatus);
+      job.setStatus(newStatus);
+      jobProgressRepository.updateMessage(
+          job.getId(), "Worker '" + job.getWorkerId() + "' stopped responding.", now);
+      job.setFinishedAt(now);
+      job.setStatusChangedAt(now);
+      job.setLeaseExpiresAt(null);
+      jobDispatchService.releaseActive(job.getUserId());
+      jobsRepository.save(job);
+    }
+    return jobIds.size();
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the list of user's jobs. Encoded as an opaque URL-safe string, so clients just
+ * pass back what they received.
+ *
+ * @param createdAt creation time of the last job on the previous page.
+ * @param jobId identifier of the last job on the previous page.
+ */
+record JobListCursor(Instant createdAt, UUID jobId) {
+  private static final char SEPARATOR = '|';
+
+  String encode() {
+    var raw = createdAt.toString() + SEPARATOR + jobId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+  }
+
+  static JobListCursor decode(String cursor) {
+    try {
+      var raw = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+      var separatorIndex = raw.indexOf(SEPARATOR);
+      if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+        throw new InvalidJobListCursorException("Invalid cursor: '" + cursor + "'.");
+      }
+      var jobId =
+          JobIds.parse(raw.substring(separatorIndex + 1))
+              .orElseThrow(
+                  () -> new InvalidJobListCursorException("Invalid cursor: '" + cursor + "'."));
+      return new JobListCursor(Instant.parse(raw.substring(0, separatorIndex)), jobId);
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new InvalidJobListCursorException("Invalid cursor: '" + cursor + "'.");
+    }
+  }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+/** Indicates that requested job list page size is out of allowed range. */
+public class JobListLimitIsOutOfRangeException extends RuntimeException {
+  public JobListLimitIsOutOfRangeException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of job listing endpoint.
+ *
+ * @param defaultPageSize page size used when client does not specify a limit.
+ * @param maxPageSize maximum page size a client may request.
+ */
+@ConfigurationProperties(prefix = "mdds.job-list")
+@Validated
+public record JobListProperties(
+    @Positive(message = "must be positive.") int defaultPageSize,
+    @Positive(message = "must be positive.") int maxPageSize) {}
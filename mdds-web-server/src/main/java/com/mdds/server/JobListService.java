@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.server.JobStatusService.JobStatusResult;
+import com.mdds.server.jpa.JobStatusView;
+import com.mdds.server.jpa.JobsArchiveRepository;
+import com.mdds.server.jpa.JobsRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Lists jobs of a user, newest first.
+ *
+ * <p>Pagination is keyset based: a page ends with a cursor that encodes {@code (createdAt, jobId)}
+ * of its last job, and the next page starts strictly after that position. Unlike {@code OFFSET},
+ * the database never reads and discards the rows of previous pages.
+ *
+ * <p>Archived jobs are listed together with the hot ones: the same keyset query runs against both
+ * tables and the two sorted results are merged. The two queries are separate statements, so the
+ * archiver may move a job in between; the hot table is read first, so such a job is seen by the
+ * archive query as well and the merge keeps one copy of it.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobListService {
+  private final JobsRepository jobsRepository;
+  private final JobsArchiveRepository jobsArchiveRepository;
+  private final JobListProperties jobListProperties;
+
+  private static final Comparator<JobStatusView> NEWEST_FIRST =
+      Comparator.comparing(JobStatusView::getCreatedAt)
+          .thenComparing(JobStatusView::getId, JobIds.DATABASE_ORDER)
+          .reversed();
+
+  /**
+   * Returns one page of jobs.
+   *
+   * @param requestedUserId user id from client request.
+   * @param filter optional filters, {@code null} fields are ignored.
+   * @param limit requested page size or {@code null} for the default one.
+   * @param cursor cursor returned with the previous page or {@code null} for the first page.
+   * @return jobs of the page and the cursor of the next page, {@code null} if this page is last.
+   */
+  @Transactional(readOnly = true)
+  public JobListResult list(
+      long requestedUserId, JobListFilter filter, Integer limit, String cursor) {
+    var pageSize = pageSize(limit);
+    var status = filter.status() == null ? null : JobStatus.from(filter.status());
+    // One extra row tells whether there is a next page without a count query.
+    var fetchLimit = Limit.of(pageSize + 1);
+
+    // The hot table is read before the archive, see the class comment.
+    List<JobStatusView> hotViews;
+    List<JobStatusView> archivedViews;
+    if (cursor == null || cursor.isBlank()) {
+      hotViews =
+          jobsRepository.findFirstPageByUserId(
+              requestedUserId,
+              status,
+              filter.jobType(),
+              filter.createdFrom(),
+              filter.createdTo(),
+              fetchLimit);
+      archivedViews =
+          jobsArchiveRepository.findFirstPageByUserId(
+              requestedUserId,
+              status,
+              filter.jobType(),
+              filter.createdFrom(),
+              filter.createdTo(),
+              fetchLimit);
+    } else {
+      var position = JobListCursor.decode(cursor);
+      hotViews =
+          jobsRepository.findNextPageByUserId(
+              requestedUserId,
+              position.createdAt(),
+              position.jobId(),
+              status,
+              filter.jobType(),
+              filter.createdFrom(),
+              filter.createdTo(),
+              fetchLimit);
+      archivedViews =
+          jobsArchiveRepository.findNextPageByUserId(
+              requestedUserId,
+              position.createdAt(),
+              position.jobId(),
+              status,
+              filter.jobType(),
+              filter.createdFrom(),
+              filter.createdTo(),
+              fetchLimit);
+    }
+    var views = merge(hotViews, archivedViews, pageSize + 1);
+
+    var hasMore = views.size() > pageSize;
+    var page = hasMore ? views.subList(0, pageSize) : views;
+    var jobs = new ArrayList<JobStatusResult>(page.size());
+    for (JobStatusView view : page) {
+      jobs.add(JobStatusService.toResult(view));
+    }
+
+    String nextCursor = null;
+    if (hasMore) {
+      var last = page.getLast();
+      nextCursor = new JobListCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return new JobListResult(jobs, nextCursor);
+  }
+
+  /**
+   * Merges two lists sorted newest first into one list of at most {@code limit} elements. A job
+   * archived between the two queries is in both lists; its copies compare equal and only one is
+   * kept.
+   */
+  private static List<JobStatusView> merge(
+      List<JobStatusView> first, List<JobStatusView> second, int limit) {
+    if (second.isEmpty()) {
+      return first;
+    }
+    if (first.isEmpty()) {
+      return second;
+    }
+    var merged = new ArrayList<JobStatusView>(Math.min(limit, first.size() + second.size()));
+    int i = 0;
+    int j = 0;
+    while (merged.size() < limit && (i < first.size() || j < second.size())) {
+      if (j == second.size()) {
+        merged.add(first.get(i++));
+      } else if (i == first.size()) {
+        merged.add(second.get(j++));
+      } else {
+        var order = NEWEST_FIRST.compare(first.get(i), second.get(j));
+        if (order == 0) {
+          j++;
+        }
+        merged.add(order <= 0 ? first.get(i++) : second.get(j++));
+      }
+    }
+    return merged;
+  }
+
+  private int pageSize(Integer limit) {
+    if (limit == null) {
+      return jobListProperties.defaultPageSize();
+    }
+    var maxPageSize = jobListProperties.maxPageSize();
+    if (limit < 1 || limit > maxPageSize) {
+      throw new JobListLimitIsOutOfRangeException(
+          String.format("Limit must be between 1 and %d.", maxPageSize));
+    }
+    return limit;
+  }
+
+  /**
+   * Optional filters of the job list.
+   *
+   * @param status job status.
+   * @param jobType job type.
+   * @param createdFrom inclusive lower bound of job creation time.
+   * @param createdTo exclusive upper bound of job creation time.
+   */
+  public record JobListFilter(
+      String status, String jobType, Instant createdFrom, Instant createdTo) {}
+
+  public record JobListResult(List<JobStatusResult> jobs, String nextCursor) {}
+}
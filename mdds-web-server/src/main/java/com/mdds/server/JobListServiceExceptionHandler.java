@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.UnknownJobStatusException;
+import com.mdds.dto.rest.v1.ErrorResponseDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class JobListServiceExceptionHandler {
+
+  @ExceptionHandler(InvalidJobListCursorException.class)
+  public ResponseEntity<ErrorResponseDTO> handleInvalidJobListCursor(
+      InvalidJobListCursorException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(new ErrorResponseDTO(ex.getMessage()));
+  }
+
+  @ExceptionHandler(JobListLimitIsOutOfRangeException.class)
+  public ResponseEntity<ErrorResponseDTO> handleJobListLimitIsOutOfRange(
+      JobListLimitIsOutOfRangeException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(new ErrorResponseDTO(ex.getMessage()));
+  }
+
+  @ExceptionHandler(UnknownJobStatusException.class)
+  public ResponseEntity<ErrorResponseDTO> handleUnknownJobStatus(UnknownJobStatusException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(new ErrorResponseDTO(ex.getMessage()));
+  }
+}
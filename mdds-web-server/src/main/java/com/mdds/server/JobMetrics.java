@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Job lifecycle timers, exposed with the other Micrometer meters on {@code /actuator/prometheus}.
+ *
+ * <p>Timers by job type: {@code mdds.job.queue.wait} from submission until a Worker starts the job,
+ * {@code mdds.job.execution} from start to finish and {@code mdds.job.end.to.end} from submission
+ * to finish; the last two are also tagged with the terminal status. They are recorded by the
+ * process that applies the status update, the Web Server or the standalone status ingester, and
+ * both serve them. A timer is recorded when the transaction that made the change commits, so a
+ * rolled back transition leaves no trace. The number of jobs by status is reported by {@link
+ * JobMetricsSampler}.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobMetrics {
+  private static final String QUEUE_WAIT = "mdds.job.queue.wait";
+  private static final String EXECUTION = "mdds.job.execution";
+  private static final String END_TO_END = "mdds.job.end.to.end";
+  private static final String JOB_TYPE = "job.type";
+  private static final String STATUS = "status";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Records the queue wait of a job a Worker started, when the current transaction commits.
+   *
+   * @param jobType job type.
+   * @param submittedAt submission time.
+   * @param startedAt time the Worker started the job.
+   */
+  public void jobStarted(String jobType, Instant submittedAt, Instant startedAt) {
+    afterCommit(
+        () ->
+            record(
+                Timer.builder(QUEUE_WAIT)
+                    .description("Time from submission until a Worker starts the job.")
+                    .tag(JOB_TYPE, jobType),
+                submittedAt,
+                startedAt));
+  }
+
+  /**
+   * Records the execution and end-to-end time of a finished job, when the current transaction
+   * commits.
+   *
+   * @param jobType job type.
+   * @param status terminal status.
+   * @param submittedAt submission time.
+   * @param startedAt time the Worker started the job, {@code null} when it never started.
+   * @param finishedAt time the job finished.
+   */
+  public void jobFinished(
+      String jobType,
+      JobStatus status,
+      Instant submittedAt,
+      Instant startedAt,
+      Instant finishedAt) {
+    afterCommit(
+        () -> {
+          record(
+              Timer.builder(EXECUTION)
+                  .description("Time from the start of the job until it finishes.")
+                  .tag(JOB_TYPE, jobType)
+                  .tag(STATUS, status.getCode()),
+              startedAt,
+              finishedAt);
+          record(
+              Timer.builder(END_TO_END)
+                  .description("Time from submission until the job finishes.")
+                  .tag(JOB_TYPE, jobType)
+                  .tag(STATUS, status.getCode()),
+              submittedAt,
+              finishedAt);
+        });
+  }
+
+  private void record(Timer.Builder timer, Instant from, Instant to) {
+    // Start and finish times come from Worker clocks, a skewed clock must not record a negative
+    // duration.
+    if (from == null || to == null || to.isBefore(from)) {
+      return;
+    }
+    timer.register(meterRegistry).record(Duration.between(from, to));
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of job lifecycle metrics.
+ *
+ * @param statusSampleInterval delay between two reads of the job status counters into the job
+ *     status gauges.
+ */
+@ConfigurationProperties(prefix = "mdds.job-metrics")
+@Validated
+public record JobMetricsProperties(
+    @NotNull(message = "must not be null.") Duration statusSampleInterval) {}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.server.jpa.JobStatusCountersRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports gauge {@code mdds.jobs}, the number of non-terminal jobs by status, read from {@code
+ * job_status_counters} every {@code mdds.job-metrics.status-sample-interval}, so a scrape reads
+ * memory only. The jobs of a status are the sum of its counter stripes. The counters are shared by
+ * all replicas, so every Web Server reports the same numbers. The first read seeds the gauges at
+ * startup.
+ */
+@Slf4j
+@Component
+public class JobMetricsSampler {
+  private static final String JOBS = "mdds.jobs";
+  private static final String STATUS = "status";
+
+  private final JobStatusCountersRepository jobStatusCountersRepository;
+  private final Map<JobStatus, AtomicLong> jobsByStatus = new EnumMap<>(JobStatus.class);
+
+  public JobMetricsSampler(
+      MeterRegistry meterRegistry, JobStatusCountersRepository jobStatusCountersRepository) {
+    this.jobStatusCountersRepository = jobStatusCountersRepository;
+    for (var status : JobStatus.values()) {
+      if (status.isTerminal()) {
+        continue;
+      }
+      var jobs = new AtomicLong();
+      jobsByStatus.put(status, jobs);
+      Gauge.builder(JOBS, jobs, AtomicLong::get)
+          .description("Number of jobs in a non-terminal status.")
+          .tag(STATUS, status.getCode())
+          .register(meterRegistry);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${mdds.job-metrics.status-sample-interval}")
+  public void run() {
+    try {
+      var totals = new EnumMap<JobStatus, Long>(JobStatus.class);
+      for (var counter : jobStatusCountersRepository.findAll()) {
+        totals.merge(JobStatus.from(counter.getStatus()), counter.getJobs(), Long::sum);
+      }
+      jobsByStatus.forEach((status, jobs) -> jobs.set(totals.getOrDefault(status, 0L)));
+    } catch (Exception e) {
+      log.error("Failed to read the number of jobs per status.", e);
+    }
+  }
+}
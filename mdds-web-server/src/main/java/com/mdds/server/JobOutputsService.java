@@ -5,7 +5,8 @@
 package com.mdds.server;
 
 import com.mdds.domain.JobStatus;
-import com.mdds.persistence.entity.JobEntity;
+import com.mdds.server.jpa.JobOutputView;
+import com.mdds.server.jpa.JobsArchiveRepository;
 import com.mdds.server.jpa.JobsRepository;
 import java.net.URL;
 import java.time.Instant;
@@ -21,24 +22,38 @@ import org.springframework.transaction.annotation.Transactional;
 public class JobOutputsService {
 
   private final JobsRepository jobsRepository;
+  private final JobsArchiveRepository jobsArchiveRepository;
   private final ObjectStorageService objectStorageService;
   private final JobProfileRegistry jobProfileRegistry;
+  private final UserLookupService userLookupService;
 
+  /**
+   * Issues a download URL for an output artifact of a job of the user with the given login. The
+   * login and the job are resolved by one statement; the archive is searched only on a miss, so
+   * outputs of archived jobs stay downloadable.
+   */
   @Transactional(readOnly = true)
   public IssueDownloadUrlResult issueDownloadUrl(
-      long requestedUserId, String requestedJobId, String outputSlot) {
-
+      String userLogin, String requestedJobId, String outputSlot) {
+    var login = UserLookupService.login(userLogin);
+    var jobId = JobIds.parse(requestedJobId);
     var existingJob =
-        jobsRepository
-            .findByIdAndUserId(requestedJobId, requestedUserId)
+        jobId
+            .flatMap(id -> jobsRepository.findOutputByIdAndUserLogin(id, login))
+            .or(
+                () -> {
+                  var userId = userLookupService.findUserId(login);
+                  return jobId.flatMap(
+                      id -> jobsArchiveRepository.findOutputByIdAndUserId(id, userId));
+                })
             .orElseThrow(
                 () ->
                     new JobDoesNotExistException(
                         String.format("Job with id '%s' does not exist.", requestedJobId)));
 
-    var existingUserId = existingJob.getUserId();
-    var existingJobId = existingJob.getId();
-    var existingJobType = existingJob.getJobType();
+    var existingUserId = existingJob.userId();
+    var existingJobId = existingJob.id().toString();
+    var existingJobType = existingJob.jobType();
 
     var normalizedOutputSlot = normalize(outputSlot);
     if (isNullOrBlank(normalizedOutputSlot)) {
@@ -65,7 +80,7 @@ public class JobOutputsService {
 
     var outputObjectKey =
         ObjectKeyBuilder.canonicalOutputObjectKey(existingUserId, existingJobId, fileName);
-    if (!objectStorageService.exists(outputObjectKey)) {
+    if (!objectStorageService.exists(outputObjectKey).join()) {
       log.error(
           "Job '{}' is DONE but output artifact '{}' does not exist in object storage.",
           existingJobId,
@@ -87,7 +102,7 @@ public class JobOutputsService {
     return outputSlot == null || outputSlot.isBlank();
   }
 
-  private static boolean isInDoneState(JobEntity jobEntity) {
-    return JobStatus.DONE.equals(jobEntity.getStatus());
+  private static boolean isInDoneState(JobOutputView existingJob) {
+    return JobStatus.DONE.equals(existingJob.status());
   }
 }
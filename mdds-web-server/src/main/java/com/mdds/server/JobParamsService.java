@@ -7,25 +7,23 @@ package com.mdds.server;
 import static com.mdds.server.JsonTypeFormatter.describeJsonType;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.mdds.common.util.JsonHelper;
 import com.mdds.domain.JobProfile;
 import com.mdds.domain.JobStatus;
 import com.mdds.domain.ParamType;
 import com.mdds.persistence.entity.JobEntity;
-import com.mdds.persistence.entity.JobParamEntity;
-import com.mdds.persistence.entity.JobParamId;
-import com.mdds.server.jpa.JobParamsRepository;
 import com.mdds.server.jpa.JobsRepository;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Merges the existing parameter set of a job with an incoming patch.
+ * Merges the existing parameter set of a job with an incoming patch. Parameters are stored as one
+ * {@code jsonb} object on the job row and the patch is applied by the database with the {@code ||}
+ * and {@code -} operators, so a patch is a single row update however many parameters it touches.
  *
  * <ul>
  *   <li>existing parameter + new value → update;
@@ -39,7 +37,6 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class JobParamsService {
 
-  private final JobParamsRepository jobParamsRepository;
   private final JobsRepository jobsRepository;
   private final JobProfileRegistry jobProfileRegistry;
 
@@ -54,8 +51,8 @@ public class JobParamsService {
     // job entity only by jobId. Locking by pair jobId userId we check if a certain
     // job belongs to a user and if so, we lock the entity and throw exception otherwise.
     var existingJob =
-        jobsRepository
-            .lockByIdAndUserId(requestedJobId, requestedUserId)
+        JobIds.parse(requestedJobId)
+            .flatMap(id -> jobsRepository.lockByIdAndUserId(id, requestedUserId))
             .orElseThrow(
                 () ->
                     new JobDoesNotExistException(
@@ -76,7 +73,29 @@ public class JobParamsService {
       return;
     }
 
-    var profile = jobProfileRegistry.forType(existingJobType);
+    validateParams(jobProfileRegistry.forType(existingJobType), existingJobType, params);
+
+    var set = JsonNodeFactory.instance.objectNode();
+    var remove = JsonNodeFactory.instance.arrayNode();
+    for (Map.Entry<String, JsonNode> paramEntry : params.entrySet()) {
+      var paramValue = paramEntry.getValue();
+      if (paramValue.isNull()) {
+        remove.add(paramEntry.getKey());
+      } else {
+        set.set(paramEntry.getKey(), paramValue);
+      }
+    }
+    jobsRepository.patchParams(existingJobId, JsonHelper.toJson(set), JsonHelper.toJson(remove));
+  }
+
+  /**
+   * Checks names, types and values of patched parameters against the job profile.
+   *
+   * @param profile profile of the job type.
+   * @param jobType job type, for error messages.
+   * @param params parameters of the patch, a {@code null} node removes a parameter.
+   */
+  static void validateParams(JobProfile profile, String jobType, Map<String, JsonNode> params) {
     for (Map.Entry<String, JsonNode> paramEntry : params.entrySet()) {
       var paramName = paramEntry.getKey();
       if (isNullOrBlank(paramName)) {
@@ -86,7 +105,7 @@ public class JobParamsService {
         throw new UnknownOrUnsupportedJobParameterException(
             String.format(
                 "Unknown or unsupported parameter '%s' for the given job type: '%s'.",
-                paramName, existingJobType));
+                paramName, jobType));
       }
       var paramValue = paramEntry.getValue();
       if (isNullReference(paramValue)) {
@@ -99,59 +118,15 @@ public class JobParamsService {
             String.format(
                 "Parameter value '%s' for parameter '%s' has an invalid type '%s' for the given job"
                     + " type '%s'.",
-                formatParamValue(paramValue),
-                paramName,
-                describeJsonType(paramType),
-                existingJobType));
+                formatParamValue(paramValue), paramName, describeJsonType(paramType), jobType));
       }
       if (!validParamValue(profile, paramName, paramValue)) {
         throw new InvalidJobParameterValueException(
             String.format(
                 "Invalid value '%s' of parameter '%s' for the given job type '%s'.",
-                formatParamValue(paramValue), paramName, existingJobType));
-      }
-    }
-
-    var existingParams = jobParamsRepository.findAllByIdJobId(existingJobId);
-
-    var newParams = new ArrayList<JobParamEntity>();
-    for (Map.Entry<String, JsonNode> paramEntry : params.entrySet()) {
-      var paramName = paramEntry.getKey();
-      var paramValue = paramEntry.getValue();
-      var jobParamId = new JobParamId(existingJobId, paramName);
-      var param = new JobParamEntity(jobParamId, paramValue);
-      newParams.add(param);
-    }
-
-    var mergedParams = merge(existingParams, newParams);
-    jobParamsRepository.deleteByIdJobId(existingJobId);
-    jobParamsRepository.saveAll(mergedParams);
-  }
-
-  private static List<JobParamEntity> merge(
-      List<JobParamEntity> existingParams, List<JobParamEntity> patchParams) {
-    Map<JobParamId, JsonNode> merged = new LinkedHashMap<>();
-
-    for (JobParamEntity existing : existingParams) {
-      merged.put(existing.getId(), existing.getParamValue());
-    }
-
-    for (JobParamEntity patchParam : patchParams) {
-      var id = patchParam.getId();
-      var value = patchParam.getParamValue();
-
-      if (value != null && value.isNull()) {
-        merged.remove(id);
-      } else {
-        merged.put(id, value);
+                formatParamValue(paramValue), paramName, jobType));
       }
     }
-
-    var result = new ArrayList<JobParamEntity>();
-    for (Map.Entry<JobParamId, JsonNode> entry : merged.entrySet()) {
-      result.add(new JobParamEntity(entry.getKey(), entry.getValue()));
-    }
-    return result;
   }
 
   private static boolean validParamName(JobProfile jobProfile, String paramName) {
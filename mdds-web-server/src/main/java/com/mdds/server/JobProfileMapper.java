@@ -9,6 +9,9 @@ import com.mdds.domain.ArtifactSpec;
 import com.mdds.domain.JobParamSpec;
 import com.mdds.domain.JobProfile;
 import com.mdds.domain.ParamType;
+import com.mdds.domain.ResourceHints;
+import com.mdds.domain.SizeClass;
+import com.mdds.domain.StaleThresholds;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -78,6 +81,35 @@ final class JobProfileMapper {
             });
 
     var enabled = jobProfileConfig.enabled();
-    return new JobProfile(enabled, inputArtifacts, outputArtifacts, paramSpecs);
+    var resources = toDomain(jobProfileConfig.resources());
+    var staleAfter = toDomain(jobProfileConfig.staleAfter());
+    return new JobProfile(
+        enabled, inputArtifacts, outputArtifacts, paramSpecs, resources, staleAfter);
+  }
+
+  private static StaleThresholds toDomain(StaleAfterConfig staleAfterConfig) {
+    var defaults = StaleThresholds.DEFAULT;
+    if (staleAfterConfig == null) {
+      return defaults;
+    }
+    return new StaleThresholds(
+        Optional.ofNullable(staleAfterConfig.submitted()).orElse(defaults.submitted()),
+        Optional.ofNullable(staleAfterConfig.inputsPrepared()).orElse(defaults.inputsPrepared()),
+        Optional.ofNullable(staleAfterConfig.inProgress()).orElse(defaults.inProgress()),
+        Optional.ofNullable(staleAfterConfig.cancelRequested()).orElse(defaults.cancelRequested()));
+  }
+
+  private static ResourceHints toDomain(ResourcesConfig resourcesConfig) {
+    var defaults = ResourceHints.DEFAULT;
+    if (resourcesConfig == null) {
+      return defaults;
+    }
+    var cpu = Optional.ofNullable(resourcesConfig.cpu()).orElse(defaults.cpu());
+    var memoryMb = Optional.ofNullable(resourcesConfig.memoryMb()).orElse(defaults.memoryMb());
+    var sizeClass =
+        Optional.ofNullable(resourcesConfig.sizeClass())
+            .map(SizeClass::from)
+            .orElse(defaults.sizeClass());
+    return new ResourceHints(cpu, memoryMb, sizeClass);
   }
 }
@@ -4,6 +4,7 @@
  */
 package com.mdds.server;
 
+import java.time.Duration;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -22,13 +23,37 @@ public record JobProfilesProperties(List<JobProfileConfig> jobs) {}
  * @param inputSlots input data of the job;
  * @param params job input parameters;
  * @param outputSlots output data of the job;
+ * @param resources nullable resources one job needs on a Worker;
+ * @param staleAfter nullable time a job may stay in each non-terminal status;
  */
 record JobProfileConfig(
     String type,
     boolean enabled,
     List<ArtifactConfig> inputSlots,
     List<JobParamConfig> params,
-    List<ArtifactConfig> outputSlots) {}
+    List<ArtifactConfig> outputSlots,
+    ResourcesConfig resources,
+    StaleAfterConfig staleAfter) {}
+
+/**
+ * Resource hints of a job type, absent values fall back to the defaults.
+ *
+ * @param cpu number of CPU cores;
+ * @param memoryMb memory in megabytes;
+ * @param sizeClass estimated size of the job: small, medium or large.
+ */
+record ResourcesConfig(Integer cpu, Long memoryMb, String sizeClass) {}
+
+/**
+ * Stale thresholds of a job type, absent values fall back to the defaults.
+ *
+ * @param submitted time in SUBMITTED;
+ * @param inputsPrepared time in INPUTS_PREPARED;
+ * @param inProgress time in IN_PROGRESS;
+ * @param cancelRequested time in CANCEL_REQUESTED.
+ */
+record StaleAfterConfig(
+    Duration submitted, Duration inputsPrepared, Duration inProgress, Duration cancelRequested) {}
 
 /**
  * Description of job artifact.
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.server.JobReconcilerService.Position;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically fails jobs stuck in a non-terminal status. Each batch is a separate transaction, so
+ * locks are held briefly and a failure only rolls back the current batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobReconciler {
+  private final JobReconcilerService jobReconcilerService;
+  private final JobReconcilerProperties jobReconcilerProperties;
+  private final Clock clock;
+
+  private static final String EVENT = "event";
+
+  @Scheduled(
+      initialDelayString = "${mdds.job-reconciler.interval}",
+      fixedDelayString = "${mdds.job-reconciler.interval}")
+  public void run() {
+    if (!jobReconcilerProperties.enabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "reconcile_stale_jobs")) {
+      var reconciled = reconcile();
+      if (reconciled > 0) {
+        log.warn("Reconciled {} stale jobs.", reconciled);
+      }
+    } catch (Exception e) {
+      log.error("Failed to reconcile stale jobs.", e);
+    }
+  }
+
+  /**
+   * Walks every reconciled status in keyset order until nothing is left, {@code maxBatchesPerRun}
+   * batches are done or another replica holds the reconciler lock.
+   *
+   * @return number of reconciled jobs.
+   */
+  public int reconcile() {
+    var now = clock.instant();
+    var batchSize = jobReconcilerProperties.batchSize();
+    var batchesLeft = jobReconcilerProperties.maxBatchesPerRun();
+    var total = 0;
+    for (var cutoff : jobReconcilerService.cutoffs(now).entrySet()) {
+      var position = Position.START;
+      while (batchesLeft > 0) {
+        batchesLeft--;
+        var batch =
+            jobReconcilerService.reconcileBatch(
+                cutoff.getKey(), now, cutoff.getValue(), position, batchSize);
+        if (!batch.lockAcquired()) {
+          return total;
+        }
+        total += batch.reconciled();
+        if (batch.examined() < batchSize) {
+          break;
+        }
+        position = batch.last();
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the stale-job reconciler. How long a job may stay in a status is set per job type by
+ * {@code staleAfter} of the job profile.
+ *
+ * @param enabled whether the reconciler runs in this replica.
+ * @param interval delay between the end of one run and the start of the next one.
+ * @param batchSize number of jobs examined in one transaction.
+ * @param maxBatchesPerRun upper bound of batches in one run, so a large backlog is drained over
+ *     several runs instead of one long one.
+ */
+@ConfigurationProperties(prefix = "mdds.job-reconciler")
+@Validated
+public record JobReconcilerProperties(
+    boolean enabled,
+    @NotNull(message = "must not be null.") Duration interval,
+    @Positive(message = "must be positive.") int batchSize,
+    @Positive(message = "must be positive.") int maxBatchesPerRun) {}
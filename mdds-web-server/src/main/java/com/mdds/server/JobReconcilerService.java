@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static com.mdds.domain.JobStatus.CANCELLED;
+import static com.mdds.domain.JobStatus.CANCEL_REQUESTED;
+import static com.mdds.domain.JobStatus.ERROR;
+import static com.mdds.domain.JobStatus.SUBMITTED;
+
+import com.mdds.domain.JobProfileNotConfiguredException;
+import com.mdds.domain.JobStatus;
+import com.mdds.domain.StaleThresholds;
+import com.mdds.dto.rest.v1.CancelJobRequestDTO;
+import com.mdds.persistence.entity.JobEntity;
+import com.mdds.server.jpa.JobProgressRepository;
+import com.mdds.server.jpa.JobsRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fails jobs that stay in one non-terminal status longer than their job profile allows.
+ *
+ * <p>Job leases catch Workers that die; the reconciler catches everything else: a job no Worker
+ * ever picks up, a Worker that hangs while it keeps sending heartbeats, a cancel request the Worker
+ * never confirms. A {@code SUBMITTED} job is withdrawn from the dispatcher, a job a Worker owns is
+ * moved to {@code ERROR} and the Worker is asked to cancel it, and a {@code CANCEL_REQUESTED} job
+ * is moved to {@code CANCELLED}. A {@code SUBMITTED} job is measured from its dispatch, a job held
+ * back in pending jobs by the user quota is never failed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobReconcilerService {
+  private static final List<JobStatus> RECONCILED_STATUSES =
+      List.of(SUBMITTED, JobStatus.INPUTS_PREPARED, JobStatus.IN_PROGRESS, CANCEL_REQUESTED);
+
+  private static final Comparator<JobEntity> KEYSET_ORDER =
+      Comparator.comparing(JobEntity::getStatusChangedAt)
+          .thenComparing(JobEntity::getId, JobIds.DATABASE_ORDER);
+
+  private final JobsRepository jobsRepository;
+  private final JobProgressRepository jobProgressRepository;
+  private final JobDispatchService jobDispatchService;
+  private final OutboxService outboxService;
+  private final JobProfileRegistry jobProfileRegistry;
+  private final JobStatusCounters jobStatusCounters;
+
+  /**
+   * Returns, for every reconciled status, the instant before which a job of some job type may be
+   * stale. Jobs changed after it are fresh whatever their job type, so the scan of a status stops
+   * there.
+   *
+   * @param now current time.
+   * @return cutoff per status.
+   */
+  public Map<JobStatus, Instant> cutoffs(Instant now) {
+    var cutoffs = new EnumMap<JobStatus, Instant>(JobStatus.class);
+    for (var status : RECONCILED_STATUSES) {
+      var shortest = threshold(StaleThresholds.DEFAULT, status);
+      for (var jobType : jobProfileRegistry.jobTypes()) {
+        var threshold = threshold(jobProfileRegistry.forType(jobType).staleAfter(), status);
+        if (threshold.compareTo(shortest) < 0) {
+          shortest = threshold;
+        }
+      }
+      cutoffs.put(status, now.minus(shortest));
+    }
+    return cutoffs;
+  }
+
+  /**
+   * Examines one batch of jobs in the given status in a single transaction. Rows are locked with
+   * {@code FOR UPDATE SKIP LOCKED}, so a job being updated by its Worker right now is left for the
+   * next run. The transaction holds a Postgres advisory lock, so only one replica reconciles at a
+   * time.
+   *
+   * @param status status to reconcile.
+   * @param now current time.
+   * @param changedBefore cutoff of the status returned by {@link #cutoffs(Instant)}.
+   * @param after keyset position of the previous batch.
+   * @param batchSize maximum number of jobs to examine.
+   * @return batch result, {@link Batch#LOCKED} when another replica is reconciling.
+   */
+  @Transactional
+  public Batch reconcileBatch(
+      JobStatus status, Instant now, Instant changedBefore, Position after, int batchSize) {
+    if (!jobsRepository.tryLockReconciler()) {
+      return Batch.LOCKED;
+    }
+    var jobIds =
+        jobsRepository.lockStaleJobIds(
+            status.getCode(), changedBefore, after.statusChangedAt(), after.id(), batchSize);
+    if (jobIds.isEmpty()) {
+      return new Batch(true, 0, 0, after);
+    }
+    var jobs = jobsRepository.findAllById(jobIds).stream().sorted(KEYSET_ORDER).toList();
+    var reconciled = 0;
+    for (var job : jobs) {
+      var threshold = threshold(staleThresholdsOf(job.getJobType()), status);
+      if (!staleSince(job).isBefore(now.minus(threshold))) {
+        continue;
+      }
+      reconcile(job, threshold, now);
+      reconciled++;
+    }
+    var last = jobs.getLast();
+    return new Batch(
+        true, jobIds.size(), reconciled, new Position(last.getStatusChangedAt(), last.getId()));
+  }
+
+  private void reconcile(JobEntity job, Duration threshold, Instant now) {
+    var status = job.getStatus();
+    var newStatus = status == CANCEL_REQUESTED ? CANCELLED : ERROR;
+    log.warn(
+        "Job '{}' has been in status '{}' since {}, moving job to '{}'.",
+        job.getId(),
+        status.getCode(),
+        staleSince(job),
+        newStatus.getCode());
+    String message;
+    if (status == SUBMITTED) {
+      jobDispatchService.withdraw(job);
+      message = "Job was not picked up by a Worker within " + threshold + ".";
+    } else if (status == CANCEL_REQUESTED) {
+      jobDispatchService.releaseActive(job.getUserId());
+      message = "Worker did not confirm cancellation within " + threshold + ".";
+    } else {
+      if (job.getWorkerId() != null && !job.getWorkerId().isBlank()) {
+        // The Worker may still be running the job, stop it.
+        outboxService.enqueueCancel(
+            job.getWorkerId(), new CancelJobRequestDTO(job.getId().toString()), now);
+      }
+      jobDispatchService.releaseActive(job.getUserId());
+      message = "Job exceeded " + threshold + " in status '" + status.getCode() + "'.";
+    }
+    job.setStatus(newStatus);
+    jobStatusCounters.statusChanged(status, newStatus);
+    job.setFinishedAt(now);
+    job.setStatusChangedAt(now);
+    job.setLeaseExpiresAt(null);
+    jobsRepository.save(job);
+    jobProgressRepository.updateMessage(job.getId(), message, now);
+  }
+
+  /**
+   * Returns the instant the stale threshold of the job is measured from. A submitted job waits for
+   * a Worker only once it is dispatched, the time it spent held back by the user quota does not
+   * count.
+   */
+  private static Instant staleSince(JobEntity job) {
+    return job.getStatus() == SUBMITTED ? job.getDispatchedAt() : job.getStatusChangedAt();
+  }
+
+  private StaleThresholds staleThresholdsOf(String jobType) {
+    try {
+      return jobProfileRegistry.forType(jobType).staleAfter();
+    } catch (JobProfileNotConfiguredException e) {
+      return StaleThresholds.DEFAULT;
+    }
+  }
+
+  private static Duration threshold(StaleThresholds thresholds, JobStatus status) {
+    return thresholds.forStatus(status).orElseThrow();
+  }
+
+  /** Keyset position of the reconciler scan of one status. */
+  public record Position(Instant statusChangedAt, UUID id) {
+    /** Position before every job. */
+    public static final Position START = new Position(Instant.EPOCH, new UUID(0, 0));
+  }
+
+  /**
+   * Result of one reconciler batch.
+   *
+   * @param lockAcquired {@code false} when another replica is reconciling.
+   * @param examined number of jobs examined.
+   * @param reconciled number of jobs moved to a terminal status.
+   * @param last keyset position to continue from.
+   */
+  public record Batch(boolean lockAcquired, int examined, int reconciled, Position last) {
+    public static final Batch LOCKED = new Batch(false, 0, 0, Position.START);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.server.jpa.JobStatusCountersRepository;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the number of jobs in each non-terminal status in {@code job_status_counters}.
+ *
+ * <p>The status changes of a transaction are summed up and written right before it commits, one row
+ * per status in status order. Counter rows stay locked only for the commit, and every transaction
+ * locks them in the same order, so batches of status changes do not deadlock on the counters. A
+ * rolled back transaction changes nothing.
+ *
+ * <p>Every status is spread over {@value #STRIPES} stripes and a transaction writes to one stripe
+ * chosen at random, so concurrent transactions of all replicas rarely wait for the same row. The
+ * jobs of a status are the sum of its stripes.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobStatusCounters {
+  static final int STRIPES = 16;
+
+  private final JobStatusCountersRepository jobStatusCountersRepository;
+
+  /**
+   * Moves a job from one status counter to another. Must be called in the transaction that changes
+   * job status.
+   *
+   * @param from previous status, {@code null} for a new job.
+   * @param to new status.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void statusChanged(JobStatus from, JobStatus to) {
+    if (from == to) {
+      return;
+    }
+    var deltas = transactionDeltas();
+    add(deltas, from, -1);
+    add(deltas, to, 1);
+  }
+
+  private static void add(Map<JobStatus, Long> deltas, JobStatus status, long delta) {
+    if (status != null && !status.isTerminal()) {
+      deltas.merge(status, delta, Long::sum);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<JobStatus, Long> transactionDeltas() {
+    var deltas = (Map<JobStatus, Long>) TransactionSynchronizationManager.getResource(this);
+    if (deltas != null) {
+      return deltas;
+    }
+    var created = new EnumMap<JobStatus, Long>(JobStatus.class);
+    var stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+    TransactionSynchronizationManager.bindResource(this, created);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            // EnumMap iterates in status order.
+            created.forEach(
+                (status, delta) -> {
+                  if (delta != 0) {
+                    jobStatusCountersRepository.addJobs(status.getCode(), stripe, delta);
+                  }
+                });
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JobStatusCounters.this);
+          }
+        });
+    return created;
+  }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of job status endpoints.
+ *
+ * @param batchMaxSize maximum number of job identifiers accepted by one batch status request.
+ */
+@ConfigurationProperties(prefix = "mdds.job-status")
+@Validated
+public record JobStatusProperties(@Positive(message = "must be positive.") int batchMaxSize) {}
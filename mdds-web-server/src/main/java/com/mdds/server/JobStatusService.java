@@ -4,38 +4,138 @@
  */
 package com.mdds.server;
 
+import com.mdds.server.jpa.JobStatusView;
+import com.mdds.server.jpa.JobsArchiveRepository;
 import com.mdds.server.jpa.JobsRepository;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Returns job status. */
+/**
+ * Returns job status. Jobs are looked up in the hot table first and in the archive only when they
+ * are not there, so archived jobs stay visible to clients.
+ */
 @Service
 @RequiredArgsConstructor
 public class JobStatusService {
   private final JobsRepository jobsRepository;
+  private final JobsArchiveRepository jobsArchiveRepository;
+  private final JobStatusProperties jobStatusProperties;
+  private final UserLookupService userLookupService;
+
+  /**
+   * Returns status of a job of the user with the given login. The login and the job are resolved by
+   * one statement. Only when the job is not in the hot table is the login looked up on its own, to
+   * tell an unknown user from a missing job and to search the archive.
+   *
+   * @param userLogin user login from client request.
+   * @param requestedJobId job id from client request.
+   * @return job status and the id of the user.
+   */
+  @Transactional(readOnly = true)
+  public UserJobStatusResult status(String userLogin, String requestedJobId) {
+    var login = UserLookupService.login(userLogin);
+    var jobId = JobIds.parse(requestedJobId);
+    var hot = jobId.flatMap(id -> jobsRepository.findStatusByIdAndUserLogin(id, login));
+    if (hot.isPresent()) {
+      return new UserJobStatusResult(hot.get().getUserId(), toResult(hot.get()));
+    }
+    var userId = userLookupService.findUserId(login);
+    return jobId
+        .flatMap(id -> jobsArchiveRepository.findStatusByIdAndUserId(id, userId))
+        .map(view -> new UserJobStatusResult(userId, toResult(view)))
+        .orElseThrow(
+            () ->
+                new JobDoesNotExistException(
+                    String.format("Job with id '%s' does not exist.", requestedJobId)));
+  }
 
+  /**
+   * Returns statuses of several jobs of the same user with a single query, plus one query to the
+   * archive when some of the jobs are not in the hot table.
+   *
+   * <p>Duplicated identifiers are collapsed, the result keeps the order in which identifiers first
+   * appear in the request. Identifiers of jobs that do not exist or belong to another user are
+   * reported in {@link JobStatusBatchResult#notFound()}.
+   *
+   * @param requestedUserId user id from client request.
+   * @param requestedJobIds job ids from client request.
+   * @return found job statuses and identifiers of jobs that were not found.
+   */
   @Transactional(readOnly = true)
-  public JobStatusResult status(long requestedUserId, String requestedJobId) {
-    var existingJob =
-        jobsRepository
-            .findByIdAndUserId(requestedJobId, requestedUserId)
-            .orElseThrow(
-                () ->
-                    new JobDoesNotExistException(
-                        String.format("Job with id '%s' does not exist.", requestedJobId)));
+  public JobStatusBatchResult statuses(long requestedUserId, List<String> requestedJobIds) {
+    var jobIds = new LinkedHashSet<String>();
+    for (String requestedJobId : requestedJobIds) {
+      if (requestedJobId != null) {
+        jobIds.add(requestedJobId);
+      }
+    }
+
+    var batchMaxSize = jobStatusProperties.batchMaxSize();
+    if (jobIds.size() > batchMaxSize) {
+      throw new JobIdsBatchIsTooLargeException(
+          String.format(
+              "Too many job ids in one request: %d, at most %d are allowed.",
+              jobIds.size(), batchMaxSize));
+    }
+
+    // Identifiers that are not UUIDs can not name any job and are reported as not found.
+    var parsedJobIds = new HashMap<String, UUID>();
+    for (String jobId : jobIds) {
+      JobIds.parse(jobId).ifPresent(id -> parsedJobIds.put(jobId, id));
+    }
 
+    var views = new HashMap<UUID, JobStatusView>();
+    if (!parsedJobIds.isEmpty()) {
+      for (JobStatusView view :
+          jobsRepository.findStatusesByIdInAndUserId(parsedJobIds.values(), requestedUserId)) {
+        views.put(view.getId(), view);
+      }
+    }
+    if (views.size() < parsedJobIds.size()) {
+      var missingJobIds = new ArrayList<UUID>(parsedJobIds.size() - views.size());
+      for (UUID jobId : parsedJobIds.values()) {
+        if (!views.containsKey(jobId)) {
+          missingJobIds.add(jobId);
+        }
+      }
+      for (JobStatusView view :
+          jobsArchiveRepository.findStatusesByIdInAndUserId(missingJobIds, requestedUserId)) {
+        views.put(view.getId(), view);
+      }
+    }
+
+    var found = new ArrayList<JobStatusResult>(views.size());
+    var notFound = new ArrayList<String>();
+    for (String jobId : jobIds) {
+      var parsedJobId = parsedJobIds.get(jobId);
+      var view = parsedJobId == null ? null : views.get(parsedJobId);
+      if (view == null) {
+        notFound.add(jobId);
+      } else {
+        found.add(toResult(view));
+      }
+    }
+    return new JobStatusBatchResult(found, notFound);
+  }
+
+  static JobStatusResult toResult(JobStatusView view) {
     return new JobStatusResult(
-        existingJob.getId(),
-        existingJob.getJobType(),
-        existingJob.getStatus().toString(),
-        existingJob.getProgress(),
-        existingJob.getMessage(),
-        existingJob.getCreatedAt(),
-        existingJob.getSubmittedAt(),
-        existingJob.getStartedAt(),
-        existingJob.getFinishedAt());
+        view.getId().toString(),
+        view.getJobType(),
+        view.getStatus().toString(),
+        view.getProgress(),
+        view.getMessage(),
+        view.getCreatedAt(),
+        view.getSubmittedAt(),
+        view.getStartedAt(),
+        view.getFinishedAt());
   }
 
   public record JobStatusResult(
@@ -48,4 +148,8 @@ public class JobStatusService {
       Instant submittedAt,
       Instant startedAt,
       Instant finishedAt) {}
+
+  public record UserJobStatusResult(long userId, JobStatusResult job) {}
+
+  public record JobStatusBatchResult(List<JobStatusResult> found, List<String> notFound) {}
 }
@@ -12,7 +12,9 @@ import static com.mdds.domain.JobStatus.SUBMITTED;
 
 import com.mdds.domain.JobStatus;
 import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.server.jpa.JobProgressRepository;
 import com.mdds.server.jpa.JobsRepository;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class JobStatusUpdateService {
   private final JobsRepository jobsRepository;
+  private final JobProgressRepository jobProgressRepository;
+  private final JobDispatchService jobDispatchService;
+  private final JobLeaseService jobLeaseService;
+  private final JobMetrics jobMetrics;
+  private final JobStatusCounters jobStatusCounters;
+  private final Clock clock;
 
   @Transactional
   public JobStatusUpdateResult apply(JobStatusUpdateDTO update) {
@@ -35,8 +43,8 @@ public class JobStatusUpdateService {
     validateEventTime(eventTime);
 
     var job =
-        jobsRepository
-            .lockById(update.jobId())
+        JobIds.parse(update.jobId())
+            .flatMap(jobsRepository::lockById)
             .orElseThrow(
                 () ->
                     new JobDoesNotExistException(
@@ -50,11 +58,14 @@ public class JobStatusUpdateService {
     validateProgress(newProgress, newStatus);
     validateWorkerStatusUpdate(newStatus, newWorkerId);
     validateStatusTransition(existingStatus, newStatus);
-    validateWorkerOwnership(existingWorkerId, newWorkerId, job.getId());
+    validateWorkerOwnership(existingWorkerId, newWorkerId, update.jobId());
 
+    var now = clock.instant();
+    if (newStatus != existingStatus) {
+      job.setStatusChangedAt(now);
+    }
     job.setStatus(newStatus);
-    job.setProgress(newProgress);
-    job.setMessage(update.message());
+    jobProgressRepository.updateProgress(job.getId(), newProgress, update.message(), now);
 
     if (job.getWorkerId() == null || job.getWorkerId().isBlank()) {
       job.setWorkerId(newWorkerId);
@@ -62,14 +73,29 @@ public class JobStatusUpdateService {
 
     if (newStatus == IN_PROGRESS && job.getStartedAt() == null) {
       job.setStartedAt(eventTime);
+      jobMetrics.jobStarted(job.getJobType(), job.getSubmittedAt(), eventTime);
+    }
+
+    if (existingStatus == SUBMITTED) {
+      jobDispatchService.releaseQueued(job.getJobType());
     }
 
     if (newStatus.isTerminal()) {
       job.setFinishedAt(eventTime);
+      job.setLeaseExpiresAt(null);
+      jobDispatchService.releaseActive(job.getUserId());
+      jobMetrics.jobFinished(
+          job.getJobType(), newStatus, job.getSubmittedAt(), job.getStartedAt(), eventTime);
+    } else if (newStatus != existingStatus
+        || jobLeaseService.isRenewalDue(job.getLeaseExpiresAt(), now)) {
+      // A progress report that keeps the status renews the lease only when it runs low, so most
+      // reports leave the job row alone and change job_progress only.
+      job.setLeaseExpiresAt(jobLeaseService.leaseExpiry(now));
     }
 
     jobsRepository.save(job);
-    return new JobStatusUpdateResult(job.getId(), job.getUserId(), job.getStatus());
+    jobStatusCounters.statusChanged(existingStatus, newStatus);
+    return new JobStatusUpdateResult(job.getId().toString(), job.getUserId(), job.getStatus());
   }
 
   public record JobStatusUpdateResult(String jobId, long userId, JobStatus status) {}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/** Job type is overloaded and submissions are temporarily rejected. */
+@Getter
+public class JobSubmissionIsThrottledException extends RuntimeException {
+  private final Duration retryAfter;
+
+  public JobSubmissionIsThrottledException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+}
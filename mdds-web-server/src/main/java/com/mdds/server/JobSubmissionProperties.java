@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of job submission.
+ *
+ * @param inlineManifestMaxBytes largest serialized manifest, in bytes, that is carried inside the
+ *     job queue message; {@code 0} disables inline manifests.
+ * @param asyncManifestUpload whether submission of a job with an inline manifest skips waiting for
+ *     the audit copy of {@code manifest.json} to be written to object storage.
+ */
+@ConfigurationProperties(prefix = "mdds.job-submission")
+@Validated
+public record JobSubmissionProperties(
+    @PositiveOrZero(message = "must be positive or zero.") int inlineManifestMaxBytes,
+    boolean asyncManifestUpload) {}
@@ -4,39 +4,38 @@
  */
 package com.mdds.server;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.mdds.common.util.JsonHelper;
 import com.mdds.domain.ArtifactSpec;
 import com.mdds.domain.JobParamSpec;
 import com.mdds.domain.JobStatus;
 import com.mdds.dto.worker.v1.JobMessageDTO;
 import com.mdds.persistence.entity.JobEntity;
-import com.mdds.persistence.entity.JobParamEntity;
-import com.mdds.queue.Message;
-import com.mdds.queue.QueueClient;
-import com.mdds.server.jpa.JobParamsRepository;
 import com.mdds.server.jpa.JobsRepository;
 import java.time.Clock;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Submits job: changes job state to submitted in RDBMS, creates job manifest and stores it in s3
- * storage, publishes job message to job queue.
+ * storage, hands job message over to the dispatcher, which releases it to the outbox for the job
+ * queue.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobSubmissionService {
-  private final JobParamsRepository jobParamsRepository;
   private final JobsRepository jobsRepository;
   private final ObjectStorageService objectStorageService;
-  private final @Qualifier("jobQueueClient") QueueClient queueClient;
+  private final JobDispatchService jobDispatchService;
   private final JobProfileRegistry jobProfileRegistry;
+  private final JobSubmissionProperties jobSubmissionProperties;
+  private final JobAdmissionService jobAdmissionService;
+  private final JobStatusCounters jobStatusCounters;
   private final Clock clock;
 
   /**
@@ -46,22 +45,24 @@ public class JobSubmissionService {
    *
    * <ul>
    *   <li>locks the job record in the metadata database;
-   *   <li>verifies structural readiness of the job;
+   *   <li>rejects the submission while the job type is over its admission high watermark;
+   *   <li>verifies structural readiness of the job, input artifacts are checked with a single
+   *       listing of the job input prefix;
    *   <li>creates and stores {@code manifest.json} in object storage;
-   *   <li>publishes a submitted job message to the execution queue;
+   *   <li>hands a submitted job message over to {@link JobDispatchService}, with the manifest
+   *       inline when it is not larger than {@code mdds.job-submission.inline-manifest-max-bytes};
    *   <li>updates the job status to {@code SUBMITTED} in the database.
    * </ul>
    *
-   * <p><strong>Consistency note:</strong> this operation is transactional only with respect to the
-   * relational database. Object storage and queue publication are external side effects and are not
-   * part of the same atomic transaction. Therefore, partial success is possible, for example:
-   *
-   * <ul>
-   *   <li>the manifest is written but the queue publish fails;
-   *   <li>the message is published but the database update fails.
-   * </ul>
-   *
-   * <p>A more reliable design would use an outbox / reliable publish pattern.
+   * <p><strong>Consistency note:</strong> the pending job message and the status change are
+   * committed in the same database transaction, so the job is either {@code SUBMITTED} with its
+   * message waiting to be dispatched, or still {@code DRAFT} with no message. {@link JobDispatcher}
+   * moves the message to the outbox and {@link OutboxRelay} publishes it with at least once
+   * delivery. The manifest is written to object storage before commit; if the transaction then
+   * fails, the manifest is left behind and is overwritten by the next submission of the same job.
+   * When the manifest travels inline and {@code mdds.job-submission.async-manifest-upload} is
+   * enabled, submission does not wait for that write, because the Worker does not read the stored
+   * copy; a failed write only loses the audit copy.
    *
    * @param requestedUserId user id from client request.
    * @param requestedJobId job id from client request.
@@ -70,14 +71,14 @@ public class JobSubmissionService {
   public void submit(long requestedUserId, String requestedJobId) {
 
     var existingJob =
-        jobsRepository
-            .lockByIdAndUserId(requestedJobId, requestedUserId)
+        JobIds.parse(requestedJobId)
+            .flatMap(id -> jobsRepository.lockByIdAndUserId(id, requestedUserId))
             .orElseThrow(
                 () ->
                     new JobDoesNotExistException(
                         String.format("Job with id '%s' does not exist.", requestedJobId)));
 
-    var existingJobId = existingJob.getId();
+    var existingJobId = existingJob.getId().toString();
     var existingJobType = existingJob.getJobType();
     var existingUserId = existingJob.getUserId();
 
@@ -86,14 +87,19 @@ public class JobSubmissionService {
           String.format(
               "Job '%s' is not in DRAFT state and submission is not allowed.", existingJobId));
     }
+    jobAdmissionService.requireAdmission(existingJobType);
 
-    var existingParams = jobParamsRepository.findAllByIdJobId(existingJobId);
+    // Listing the inputs runs in the background while parameters are checked.
+    var storedInputsFuture =
+        objectStorageService.list(
+            ObjectKeyBuilder.canonicalInputPrefix(existingUserId, existingJobId));
+    var existingParams = existingJob.getParams();
     var profile = jobProfileRegistry.forType(existingJobType);
     var specifiedParams = profile.paramSpecs();
     for (Map.Entry<String, JobParamSpec> specifiedParam : specifiedParams.entrySet()) {
       if (isRequired(specifiedParam)) {
         var specifiedParamName = specifiedParam.getKey();
-        if (!contains(existingParams, specifiedParamName)) {
+        if (!existingParams.has(specifiedParamName)) {
           throw new RequiredParameterIsAbsentException(
               String.format("Required parameter '%s' is absent.", specifiedParamName));
         }
@@ -101,43 +107,63 @@ public class JobSubmissionService {
     }
 
     var specifiedInputArtifacts = profile.inputArtifacts();
+    var storedInputs = storedInputsFuture.join();
     for (Map.Entry<String, ArtifactSpec> specifiedInputArtifact :
         specifiedInputArtifacts.entrySet()) {
       var fileName = specifiedInputArtifact.getValue().fileName();
       var objectKey =
           ObjectKeyBuilder.canonicalInputObjectKey(existingUserId, existingJobId, fileName);
-      if (!objectStorageService.exists(objectKey)) {
+      var storedInput = storedInputs.get(objectKey);
+      if (storedInput == null) {
         throw new RequiredInputArtifactIsAbsentException(
             String.format("Required input artifact '%s' is absent in object storage.", fileName));
       }
+      log.debug(
+          "Input artifact '{}' is present, size {} bytes, ETag {}.",
+          objectKey,
+          storedInput.size(),
+          storedInput.eTag());
     }
 
     var manifest =
         ManifestBuilder.build(
             profile, 1, existingUserId, existingJobId, existingJobType, existingParams);
     var manifestObjectKey = ObjectKeyBuilder.manifestObjectKey(existingUserId, existingJobId);
-    objectStorageService.putManifest(manifestObjectKey, manifest);
+    var manifestJson = JsonHelper.toJson(manifest);
+    var inline = isSmallEnoughToInline(manifestJson);
+    var manifestUpload = objectStorageService.putManifest(manifestObjectKey, manifestJson);
+    if (inline && jobSubmissionProperties.asyncManifestUpload()) {
+      // The Worker reads the inline copy, the stored one is kept for audit only.
+      manifestUpload.whenComplete(
+          (ignored, error) -> {
+            if (error != null) {
+              log.warn("Failed to store manifest '{}' for audit.", manifestObjectKey, error);
+            }
+          });
+    } else {
+      manifestUpload.join();
+    }
 
     var now = clock.instant();
     var queueName = "queue-" + existingJobType;
 
-    queueClient.publish(
+    jobDispatchService.enqueue(
+        existingJob,
         queueName,
-        new Message<>(new JobMessageDTO(manifestObjectKey), Collections.emptyMap(), now));
-    log.info("Published job to queue '{}' = {}", queueName, queueClient);
+        new JobMessageDTO(manifestObjectKey, inline ? manifest : null),
+        now);
+    log.info("Handed job over to the dispatcher for queue '{}'", queueName);
 
     existingJob.setSubmittedAt(now);
     existingJob.setStatus(JobStatus.SUBMITTED);
+    existingJob.setStatusChangedAt(now);
     jobsRepository.save(existingJob);
+    jobStatusCounters.statusChanged(JobStatus.DRAFT, JobStatus.SUBMITTED);
   }
 
-  private static boolean contains(List<JobParamEntity> params, String specifiedParamName) {
-    for (JobParamEntity param : params) {
-      if (param.getId().getParamName().equals(specifiedParamName)) {
-        return true;
-      }
-    }
-    return false;
+  private boolean isSmallEnoughToInline(String manifestJson) {
+    var maxBytes = jobSubmissionProperties.inlineManifestMaxBytes();
+    return maxBytes > 0 && manifestJson.getBytes(UTF_8).length <= maxBytes;
   }
 
   private static boolean isRequired(Map.Entry<String, JobParamSpec> param) {
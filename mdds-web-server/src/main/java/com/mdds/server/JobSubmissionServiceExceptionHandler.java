@@ -5,6 +5,7 @@
 package com.mdds.server;
 
 import com.mdds.dto.rest.v1.ErrorResponseDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,4 +27,12 @@ public class JobSubmissionServiceExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
         .body(new ErrorResponseDTO(ex.getMessage()));
   }
+
+  @ExceptionHandler(JobSubmissionIsThrottledException.class)
+  public ResponseEntity<ErrorResponseDTO> handleJobSubmissionIsThrottled(
+      JobSubmissionIsThrottledException ex) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfter().toSeconds()))
+        .body(new ErrorResponseDTO(ex.getMessage()));
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically places again submitted jobs whose Workers stopped sending heartbeats before picking
+ * them up. Each batch is a separate transaction, so a failure only rolls back the current batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LapsedWorkerScanner {
+  private final JobDispatchService jobDispatchService;
+  private final WorkerRegistryProperties workerRegistryProperties;
+  private final Clock clock;
+
+  private static final String EVENT = "event";
+
+  @Scheduled(
+      initialDelayString = "${mdds.worker-registry.reassign-interval}",
+      fixedDelayString = "${mdds.worker-registry.reassign-interval}")
+  public void run() {
+    if (!workerRegistryProperties.reassignEnabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "reassign_lapsed_workers")) {
+      var reassigned = scan();
+      if (reassigned > 0) {
+        log.warn("Placed again {} jobs of workers with lapsed heartbeats.", reassigned);
+      }
+    } catch (Exception e) {
+      log.error("Failed to place again jobs of lapsed workers.", e);
+    }
+  }
+
+  /**
+   * Places again jobs until no job is left on a lapsed Worker.
+   *
+   * @return number of jobs placed again.
+   */
+  public int scan() {
+    var since = clock.instant().minus(workerRegistryProperties.heartbeatTtl());
+    var batchSize = workerRegistryProperties.reassignBatchSize();
+    var total = 0;
+    while (true) {
+      var reassigned = jobDispatchService.reassignBatch(since, batchSize);
+      total += reassigned;
+      if (reassigned < batchSize) {
+        return total;
+      }
+    }
+  }
+}
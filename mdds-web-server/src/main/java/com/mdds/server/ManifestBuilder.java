@@ -9,9 +9,7 @@ import com.mdds.domain.ArtifactSpec;
 import com.mdds.domain.JobProfile;
 import com.mdds.dto.worker.v1.ManifestArtifactDTO;
 import com.mdds.dto.worker.v1.ManifestDTO;
-import com.mdds.persistence.entity.JobParamEntity;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 /** Helper class for manifest creation. */
@@ -24,7 +22,7 @@ public final class ManifestBuilder {
       long userId,
       String jobId,
       String jobType,
-      List<JobParamEntity> params) {
+      JsonNode params) {
 
     return new ManifestDTO(
         manifestVersion,
@@ -36,12 +34,10 @@ public final class ManifestBuilder {
         outputs(jobProfile, userId, jobId));
   }
 
-  private static Map<String, JsonNode> params(List<JobParamEntity> params) {
+  private static Map<String, JsonNode> params(JsonNode params) {
     var result = new LinkedHashMap<String, JsonNode>();
-    for (JobParamEntity param : params) {
-      var paramName = param.getId().getParamName();
-      var paramValue = param.getParamValue();
-      result.put(paramName, paramValue);
+    for (Map.Entry<String, JsonNode> param : params.properties()) {
+      result.put(param.getKey(), param.getValue());
     }
     return result;
   }
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+/** Multipart upload is unknown to object storage, was already completed or aborted. */
+public class MultipartUploadDoesNotExistException extends RuntimeException {
+  public MultipartUploadDoesNotExistException(String message) {
+    super(message);
+  }
+}
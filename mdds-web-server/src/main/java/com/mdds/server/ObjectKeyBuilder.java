@@ -17,6 +17,11 @@ public final class ObjectKeyBuilder {
     return canonicalKey(userId, jobId) + "/" + IN + "/" + fileName;
   }
 
+  /** Returns the common prefix of all canonical input object keys of the job. */
+  public static String canonicalInputPrefix(long userId, String jobId) {
+    return canonicalKey(userId, jobId) + "/" + IN + "/";
+  }
+
   public static String canonicalOutputObjectKey(long userId, String jobId, String fileName) {
     return canonicalKey(userId, jobId) + "/" + OUT + "/" + fileName;
   }
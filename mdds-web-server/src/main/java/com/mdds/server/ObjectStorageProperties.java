@@ -4,12 +4,38 @@
  */
 package com.mdds.server;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+/**
+ * Settings of object storage access.
+ *
+ * @param bucket bucket that holds job artifacts.
+ * @param region storage region.
+ * @param internalEndpoint endpoint used by the Web Server itself.
+ * @param publicEndpoint endpoint put into pre-signed URLs for clients.
+ * @param accessKey access key.
+ * @param secretKey secret key.
+ * @param pathStyleAccessEnabled whether to use path style instead of virtual host style access.
+ * @param presignPutTtl lifetime of pre-signed upload URLs.
+ * @param presignGetTtl lifetime of pre-signed download URLs.
+ * @param presignReuseFraction share of a pre-signed URL lifetime during which the same URL is
+ *     handed out again for the same object and operation, {@code 0} disables reuse.
+ * @param presignCacheMaxEntries maximum number of cached pre-signed URLs.
+ * @param maxConcurrency maximum number of concurrent requests, that is the size of the HTTP
+ *     connection pool.
+ * @param connectionTimeout timeout of establishing a new connection.
+ * @param connectionAcquisitionTimeout how long a request waits for a free pooled connection.
+ * @param readTimeout how long to wait for data on an open connection.
+ * @param apiCallTimeout overall time limit of one call, including all retries.
+ * @param maxAttempts maximum number of attempts of one call, the first one included.
+ */
 @ConfigurationProperties(prefix = "mdds.object-storage")
 @Validated
 public record ObjectStorageProperties(
@@ -21,4 +47,14 @@ public record ObjectStorageProperties(
     @NotBlank(message = "must not be null or blank.") String secretKey,
     boolean pathStyleAccessEnabled,
     @NotNull(message = "must not be null.") Duration presignPutTtl,
-    @NotNull(message = "must not be null.") Duration presignGetTtl) {}
+    @NotNull(message = "must not be null.") Duration presignGetTtl,
+    @DecimalMin(value = "0.0", message = "must be between 0 and 1.")
+        @DecimalMax(value = "1.0", message = "must be between 0 and 1.")
+        double presignReuseFraction,
+    @Positive(message = "must be positive.") int presignCacheMaxEntries,
+    @Positive(message = "must be positive.") int maxConcurrency,
+    @NotNull(message = "must not be null.") Duration connectionTimeout,
+    @NotNull(message = "must not be null.") Duration connectionAcquisitionTimeout,
+    @NotNull(message = "must not be null.") Duration readTimeout,
+    @NotNull(message = "must not be null.") Duration apiCallTimeout,
+    @Positive(message = "must be positive.") int maxAttempts) {}
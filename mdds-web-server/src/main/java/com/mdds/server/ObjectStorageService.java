@@ -6,38 +6,74 @@ package com.mdds.server;
 
 import com.mdds.common.util.JsonHelper;
 import com.mdds.dto.worker.v1.ManifestDTO;
+import com.mdds.server.PresignedUrlCache.Operation;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.net.URI;
 import java.net.URL;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
-/** Here we create an instance to access data from s3. */
+/**
+ * Here we create an instance to access data from s3.
+ *
+ * <p>Object I/O goes through {@link S3AsyncClient} backed by a pooled Netty HTTP client and returns
+ * futures, so a slow storage call does not hold a thread while it waits, and storage throughput is
+ * bounded by {@code mdds.object-storage.max-concurrency} instead of by the number of request
+ * threads.
+ */
 @Service
 @RequiredArgsConstructor
 public class ObjectStorageService {
   private final ObjectStorageProperties objectStorageProperties;
+  private final Clock clock;
+  private final Environment environment;
+  private ExecutorService futureCompletionExecutor;
+  private PresignedUrlCache presignedUrlCache;
   private S3Presigner preSigner;
   private Duration presignedPutTtl;
   private Duration presignedGetTtl;
-  private S3Client s3;
+  private S3AsyncClient s3;
   private String bucket;
 
   @PostConstruct
@@ -46,6 +82,12 @@ public class ObjectStorageService {
     bucket = objectStorageProperties.bucket();
     presignedPutTtl = objectStorageProperties.presignPutTtl();
     presignedGetTtl = objectStorageProperties.presignGetTtl();
+    presignedUrlCache =
+        new PresignedUrlCache(
+            objectStorageProperties.presignReuseFraction(),
+            objectStorageProperties.presignCacheMaxEntries(),
+            presignedPutTtl.compareTo(presignedGetTtl) > 0 ? presignedPutTtl : presignedGetTtl,
+            clock);
     var credentialsProvider =
         StaticCredentialsProvider.create(
             AwsBasicCredentials.create(
@@ -58,6 +100,8 @@ public class ObjectStorageService {
             .pathStyleAccessEnabled(objectStorageProperties.pathStyleAccessEnabled())
             .build();
 
+    // One long-lived presigner with static credentials: the SDK caches derived SigV4 signing keys
+    // per credentials, date, region and service, so only the first URL of a day derives the key.
     preSigner =
         S3Presigner.builder()
             .endpointOverride(publicEndpoint)
@@ -65,8 +109,35 @@ public class ObjectStorageService {
             .credentialsProvider(credentialsProvider)
             .region(region)
             .build();
+    var httpClient =
+        NettyNioAsyncHttpClient.builder()
+            .maxConcurrency(objectStorageProperties.maxConcurrency())
+            .connectionTimeout(objectStorageProperties.connectionTimeout())
+            .connectionAcquisitionTimeout(objectStorageProperties.connectionAcquisitionTimeout())
+            .readTimeout(objectStorageProperties.readTimeout());
+    var overrideConfiguration =
+        ClientOverrideConfiguration.builder()
+            .apiCallTimeout(objectStorageProperties.apiCallTimeout())
+            .retryStrategy(
+                AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                    .maxAttempts(objectStorageProperties.maxAttempts())
+                    .build())
+            .build();
+    var s3Builder = S3AsyncClient.builder();
+    if (Threading.VIRTUAL.isActive(environment)) {
+      // Callbacks chained on storage futures run on virtual threads instead of queueing on the
+      // small platform pool the SDK uses by default.
+      futureCompletionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+      s3Builder.asyncConfiguration(
+          b ->
+              b.advancedOption(
+                  SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR,
+                  futureCompletionExecutor));
+    }
     s3 =
-        S3Client.builder()
+        s3Builder
+            .httpClientBuilder(httpClient)
+            .overrideConfiguration(overrideConfiguration)
             .region(region)
             .credentialsProvider(credentialsProvider)
             .endpointOverride(internalEndpoint)
@@ -80,41 +151,200 @@ public class ObjectStorageService {
     var bucketName = objectStorageProperties.bucket();
     var objectKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName);
     var presigned =
-        preSigner.presignPutObject(
-            b ->
-                b.signatureDuration(presignedPutTtl)
-                    .putObjectRequest(r -> r.bucket(bucketName).key(objectKey)));
-    return new PresignedUpload(presigned.url(), presigned.expiration());
+        presignedUrlCache.getOrIssue(
+            Operation.PUT,
+            objectKey,
+            presignedPutTtl,
+            () -> {
+              var request =
+                  preSigner.presignPutObject(
+                      b ->
+                          b.signatureDuration(presignedPutTtl)
+                              .putObjectRequest(r -> r.bucket(bucketName).key(objectKey)));
+              return request.url();
+            });
+    return new PresignedUpload(presigned.url(), presigned.expiresAt());
   }
 
   public PresignedDownload issueDownloadUrl(long userId, String jobId, String fileName) {
     var bucketName = objectStorageProperties.bucket();
     var objectKey = ObjectKeyBuilder.canonicalOutputObjectKey(userId, jobId, fileName);
     var presigned =
-        preSigner.presignGetObject(
-            b ->
-                b.signatureDuration(presignedGetTtl)
-                    .getObjectRequest(r -> r.bucket(bucketName).key(objectKey)));
-    return new PresignedDownload(presigned.url(), presigned.expiration());
+        presignedUrlCache.getOrIssue(
+            Operation.GET,
+            objectKey,
+            presignedGetTtl,
+            () -> {
+              var request =
+                  preSigner.presignGetObject(
+                      b ->
+                          b.signatureDuration(presignedGetTtl)
+                              .getObjectRequest(r -> r.bucket(bucketName).key(objectKey)));
+              return request.url();
+            });
+    return new PresignedDownload(presigned.url(), presigned.expiresAt());
+  }
+
+  /**
+   * Starts a multipart upload of an input artifact. Large artifacts are uploaded by the client in
+   * parts straight to object storage, so neither the request size limit of a single pre-signed
+   * {@code PUT} nor a failed transfer forces the whole artifact to be re-sent.
+   *
+   * @return future that completes with the upload id issued by object storage.
+   */
+  public CompletableFuture<String> createMultipartUpload(
+      long userId, String jobId, String fileName) {
+    var objectKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName);
+    var request = CreateMultipartUploadRequest.builder().bucket(bucket).key(objectKey).build();
+    return s3.createMultipartUpload(request).thenApply(response -> response.uploadId());
   }
 
-  public boolean exists(String key) {
-    try {
-      var request = HeadObjectRequest.builder().bucket(bucket).key(key).build();
-      s3.headObject(request);
-      return true;
-    } catch (S3Exception e) {
-      if (e instanceof NoSuchKeyException || e.statusCode() == HttpStatus.NOT_FOUND.value()) {
-        return false;
-      }
-      throw e;
+  /**
+   * Issues pre-signed {@code UploadPart} urls for several parts at once. Signing is local, so a
+   * batch costs no round trips to object storage. Part urls are not cached: each one is bound to an
+   * upload id that lives only until the upload is completed or aborted.
+   *
+   * @return pre-signed url per part number, in the order of {@code partNumbers}.
+   */
+  public PresignedParts issuePartUploadUrls(
+      long userId, String jobId, String fileName, String uploadId, List<Integer> partNumbers) {
+    var objectKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName);
+    var urls = new LinkedHashMap<Integer, URL>();
+    // Expiration is read from the injected clock, like the expiration of cached URLs.
+    var expiresAt = clock.instant().plus(presignedPutTtl);
+    for (var partNumber : partNumbers) {
+      var request =
+          preSigner.presignUploadPart(
+              b ->
+                  b.signatureDuration(presignedPutTtl)
+                      .uploadPartRequest(
+                          r ->
+                              r.bucket(bucket)
+                                  .key(objectKey)
+                                  .uploadId(uploadId)
+                                  .partNumber(partNumber)));
+      urls.put(partNumber, request.url());
     }
+    return new PresignedParts(urls, expiresAt);
+  }
+
+  /**
+   * Completes a multipart upload. Object storage requires parts in ascending order, so they are
+   * sorted here and clients may report them in any order.
+   *
+   * @return future that completes when the object is assembled, or fails with {@link
+   *     MultipartUploadDoesNotExistException} or {@link InvalidMultipartUploadPartsException}.
+   */
+  public CompletableFuture<Void> completeMultipartUpload(
+      long userId, String jobId, String fileName, String uploadId, List<UploadedPart> parts) {
+    var objectKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName);
+    var completedParts =
+        parts.stream()
+            .sorted(Comparator.comparingInt(UploadedPart::partNumber))
+            .map(p -> CompletedPart.builder().partNumber(p.partNumber()).eTag(p.eTag()).build())
+            .toList();
+    var request =
+        CompleteMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(objectKey)
+            .uploadId(uploadId)
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+            .build();
+    return s3.completeMultipartUpload(request)
+        .handle((response, error) -> translateMultipartError(error, uploadId));
+  }
+
+  /**
+   * Aborts a multipart upload and lets object storage drop the parts uploaded so far.
+   *
+   * @return future that completes when the upload is aborted, or fails with {@link
+   *     MultipartUploadDoesNotExistException}.
+   */
+  public CompletableFuture<Void> abortMultipartUpload(
+      long userId, String jobId, String fileName, String uploadId) {
+    var objectKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName);
+    var request =
+        AbortMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(objectKey)
+            .uploadId(uploadId)
+            .build();
+    return s3.abortMultipartUpload(request)
+        .handle((response, error) -> translateMultipartError(error, uploadId));
   }
 
-  void putManifest(String manifestObjectKey, ManifestDTO manifest) {
+  /**
+   * Checks whether the object exists with {@code HeadObject}.
+   *
+   * @param key object key.
+   * @return future that completes with {@code true} if the object exists.
+   */
+  public CompletableFuture<Boolean> exists(String key) {
+    var request = HeadObjectRequest.builder().bucket(bucket).key(key).build();
+    return s3.headObject(request)
+        .handle(
+            (response, error) -> {
+              if (error == null) {
+                return true;
+              }
+              var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (cause instanceof NoSuchKeyException
+                  || (cause instanceof S3Exception e
+                      && e.statusCode() == HttpStatus.NOT_FOUND.value())) {
+                return false;
+              }
+              throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+            });
+  }
+
+  /**
+   * Lists all objects under the given prefix with {@code ListObjectsV2}. One request returns up to
+   * 1000 objects, so checking all input artifacts of a job costs a single round trip regardless of
+   * how many input slots the job profile declares, unlike one {@code HeadObject} per slot.
+   *
+   * @param prefix object key prefix, for example {@link ObjectKeyBuilder#canonicalInputPrefix(long,
+   *     String)}.
+   * @return future that completes with stored objects by object key.
+   */
+  public CompletableFuture<Map<String, StoredObject>> list(String prefix) {
+    var request = ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).build();
+    var result = new HashMap<String, StoredObject>();
+    return s3.listObjectsV2Paginator(request)
+        .contents()
+        .subscribe(
+            (S3Object object) ->
+                result.put(
+                    object.key(), new StoredObject(object.key(), object.size(), object.eTag())))
+        .thenApply(ignored -> result);
+  }
+
+  CompletableFuture<Void> putManifest(String manifestObjectKey, ManifestDTO manifest) {
+    return putManifest(manifestObjectKey, JsonHelper.toJson(manifest));
+  }
+
+  CompletableFuture<Void> putManifest(String manifestObjectKey, String manifestJson) {
     var putOb = PutObjectRequest.builder().bucket(bucket).key(manifestObjectKey).build();
 
-    s3.putObject(putOb, RequestBody.fromString(JsonHelper.toJson(manifest)));
+    return s3.putObject(putOb, AsyncRequestBody.fromString(manifestJson))
+        .thenApply(ignored -> null);
+  }
+
+  private static Void translateMultipartError(Throwable error, String uploadId) {
+    if (error == null) {
+      return null;
+    }
+    var cause = error instanceof CompletionException ? error.getCause() : error;
+    if (cause instanceof NoSuchUploadException
+        || (cause instanceof S3Exception e && e.statusCode() == HttpStatus.NOT_FOUND.value())) {
+      throw new MultipartUploadDoesNotExistException(
+          String.format("Multipart upload '%s' does not exist.", uploadId));
+    }
+    if (cause instanceof S3Exception e && e.statusCode() == HttpStatus.BAD_REQUEST.value()) {
+      throw new InvalidMultipartUploadPartsException(
+          String.format(
+              "Parts of multipart upload '%s' were rejected by object storage.", uploadId));
+    }
+    throw error instanceof CompletionException ce ? ce : new CompletionException(error);
   }
 
   @PreDestroy
@@ -125,9 +355,18 @@ public class ObjectStorageService {
     if (s3 != null) {
       s3.close();
     }
+    if (futureCompletionExecutor != null) {
+      futureCompletionExecutor.close();
+    }
   }
 
   public record PresignedUpload(URL uploadUrl, Instant expiresAt) {}
 
   public record PresignedDownload(URL downloadUrl, Instant expiresAt) {}
+
+  public record StoredObject(String key, long size, String eTag) {}
+
+  public record PresignedParts(Map<Integer, URL> uploadUrls, Instant expiresAt) {}
+
+  public record UploadedPart(int partNumber, String eTag) {}
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the outbox relay.
+ *
+ * @param enabled whether the relay runs in this replica.
+ * @param batchSize number of messages published and confirmed together.
+ * @param pollInterval delay between the moment the outbox is drained and the next poll.
+ * @param confirmTimeout how long to wait for broker confirms of one batch.
+ */
+@ConfigurationProperties(prefix = "mdds.outbox")
+@Validated
+public record OutboxProperties(
+    boolean enabled,
+    @Positive(message = "must be positive.") int batchSize,
+    @NotNull(message = "must not be null.") Duration pollInterval,
+    @NotNull(message = "must not be null.") Duration confirmTimeout) {}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the outbox and drains it batch by batch. Every Web Server replica runs a relay, batches are
+ * taken with {@code FOR UPDATE SKIP LOCKED}, so replicas share the work instead of waiting for each
+ * other.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+  private final OutboxRelayService outboxRelayService;
+  private final OutboxProperties outboxProperties;
+
+  private static final String EVENT = "event";
+
+  @Scheduled(fixedDelayString = "${mdds.outbox.poll-interval}")
+  public void run() {
+    if (!outboxProperties.enabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "relay_outbox")) {
+      drain();
+    } catch (Exception e) {
+      log.error("Failed to relay outbox messages.", e);
+    }
+  }
+
+  /**
+   * Publishes outbox messages until the outbox is empty.
+   *
+   * @return number of published messages.
+   */
+  public int drain() {
+    var total = 0;
+    int published;
+    do {
+      published = outboxRelayService.relayBatch();
+      total += published;
+    } while (published == outboxProperties.batchSize());
+    if (total > 0) {
+      log.debug("Relayed {} outbox messages.", total);
+    }
+    return total;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.common.util.JsonHelper;
+import com.mdds.dto.rest.v1.CancelJobRequestDTO;
+import com.mdds.dto.worker.v1.JobMessageDTO;
+import com.mdds.persistence.entity.OutboxEntity;
+import com.mdds.queue.CancelDestinationResolver;
+import com.mdds.queue.Message;
+import com.mdds.queue.OutgoingMessage;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.jpa.OutboxRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Publishes outbox messages to the broker. */
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+  private final OutboxRepository outboxRepository;
+  private final @Qualifier("jobQueueClient") QueueClient jobQueueClient;
+  private final @Qualifier("cancelQueueClient") QueueClient cancelQueueClient;
+  private final CancelDestinationResolver cancelDestinationResolver;
+  private final OutboxProperties outboxProperties;
+
+  /**
+   * Publishes one batch of outbox messages and deletes them once the broker has confirmed them.
+   *
+   * <p>Rows stay locked until the transaction ends, so no other relay publishes them concurrently.
+   * If publishing fails, the transaction is rolled back and the batch is retried by the next poll.
+   * If the commit fails after the broker has confirmed the batch, the messages are published again,
+   * so delivery is at least once.
+   *
+   * @return number of published messages, less than the batch size when the outbox is drained.
+   */
+  @Transactional
+  public int relayBatch() {
+    var batch = outboxRepository.lockBatch(outboxProperties.batchSize());
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    var jobMessages = new ArrayList<OutgoingMessage<?>>();
+    var cancelMessages = new ArrayList<OutgoingMessage<?>>();
+    for (OutboxEntity entity : batch) {
+      switch (entity.getKind()) {
+        case JOB ->
+            jobMessages.add(
+                outgoing(
+                    entity.getDestination(),
+                    JsonHelper.fromJsonNode(entity.getPayload(), JobMessageDTO.class),
+                    entity));
+        case CANCEL ->
+            cancelMessages.add(
+                outgoing(
+                    cancelDestinationResolver.destinationFor(entity.getDestination()),
+                    JsonHelper.fromJsonNode(entity.getPayload(), CancelJobRequestDTO.class),
+                    entity));
+      }
+    }
+
+    publish(jobQueueClient, jobMessages);
+    publish(cancelQueueClient, cancelMessages);
+    outboxRepository.deleteAllInBatch(batch);
+    return batch.size();
+  }
+
+  private void publish(QueueClient queueClient, List<OutgoingMessage<?>> messages) {
+    if (!messages.isEmpty()) {
+      queueClient.publishConfirmed(messages, outboxProperties.confirmTimeout());
+    }
+  }
+
+  private static <T> OutgoingMessage<T> outgoing(String queueName, T payload, OutboxEntity entity) {
+    return new OutgoingMessage<>(
+        queueName, new Message<>(payload, Collections.emptyMap(), entity.getCreatedAt()));
+  }
+}
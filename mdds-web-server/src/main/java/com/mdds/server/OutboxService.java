@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mdds.common.util.JsonHelper;
+import com.mdds.dto.rest.v1.CancelJobRequestDTO;
+import com.mdds.dto.worker.v1.JobMessageDTO;
+import com.mdds.persistence.entity.OutboxEntity;
+import com.mdds.persistence.entity.OutboxEntity.Kind;
+import com.mdds.server.jpa.OutboxRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes messages to the transactional outbox. Methods must be called inside the transaction that
+ * changes job state, so the message is stored if and only if the state change is committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+  private final OutboxRepository outboxRepository;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueueJob(String queueName, JobMessageDTO message, Instant now) {
+    save(Kind.JOB, queueName, JsonHelper.toJsonNode(message), now);
+  }
+
+  /** Enqueues a job message that is already serialized, e.g. one kept in {@code pending_jobs}. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueueJob(String queueName, JsonNode message, Instant now) {
+    save(Kind.JOB, queueName, message, now);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueueCancel(String workerId, CancelJobRequestDTO message, Instant now) {
+    save(Kind.CANCEL, workerId, JsonHelper.toJsonNode(message), now);
+  }
+
+  private void save(Kind kind, String destination, JsonNode payload, Instant now) {
+    var entity = new OutboxEntity();
+    entity.setKind(kind);
+    entity.setDestination(destination);
+    entity.setPayload(payload);
+    entity.setCreatedAt(now);
+    outboxRepository.save(entity);
+  }
+}
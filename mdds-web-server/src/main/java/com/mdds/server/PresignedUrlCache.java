@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps issued pre-signed URLs and hands them out again while they still have enough lifetime left.
+ * A URL issued with TTL {@code T} is reused during the first {@code reuseFraction * T}, so a client
+ * always gets a URL that is valid for at least {@code (1 - reuseFraction) * T}.
+ *
+ * <p>Issue and expiration times are read from the injected clock. The cache is bounded: entries
+ * expire after the longest reuse window and the least recently used ones are evicted when it is
+ * full, so a miss never scans the cache.
+ */
+class PresignedUrlCache {
+  private final Cache<Key, Entry> entries;
+  private final double reuseFraction;
+  private final Clock clock;
+
+  /**
+   * Creates the cache.
+   *
+   * @param reuseFraction share of the URL lifetime during which it is reused, {@code 0} disables
+   *     reuse.
+   * @param maxEntries maximum number of cached URLs.
+   * @param maxTtl longest lifetime URLs are issued with.
+   * @param clock clock of issue and expiration times.
+   */
+  PresignedUrlCache(double reuseFraction, int maxEntries, Duration maxTtl, Clock clock) {
+    this.reuseFraction = reuseFraction;
+    this.clock = clock;
+    this.entries =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(reuseWindow(maxTtl))
+            .ticker(
+                new Ticker() {
+                  @Override
+                  public long read() {
+                    return TimeUnit.MILLISECONDS.toNanos(clock.millis());
+                  }
+                })
+            .build();
+  }
+
+  /**
+   * Returns a cached URL for the object and operation or issues a new one.
+   *
+   * @param operation operation the URL is signed for.
+   * @param objectKey object key.
+   * @param ttl lifetime the URL is signed with.
+   * @param issuer signs a new URL.
+   * @return pre-signed URL and its expiration.
+   */
+  PresignedUrl getOrIssue(
+      Operation operation, String objectKey, Duration ttl, Supplier<URL> issuer) {
+    var now = clock.instant();
+    if (reuseFraction <= 0) {
+      return new PresignedUrl(issuer.get(), now.plus(ttl));
+    }
+    var key = new Key(operation, objectKey);
+    var cached = entries.getIfPresent(key);
+    if (cached != null && now.isBefore(cached.reuseUntil())) {
+      return cached.presignedUrl();
+    }
+
+    var presignedUrl = new PresignedUrl(issuer.get(), now.plus(ttl));
+    entries.put(key, new Entry(presignedUrl, now.plus(reuseWindow(ttl))));
+    return presignedUrl;
+  }
+
+  private Duration reuseWindow(Duration ttl) {
+    return Duration.ofMillis((long) (ttl.toMillis() * Math.max(reuseFraction, 0)));
+  }
+
+  enum Operation {
+    PUT,
+    GET
+  }
+
+  record PresignedUrl(URL url, Instant expiresAt) {}
+
+  private record Key(Operation operation, String objectKey) {}
+
+  private record Entry(PresignedUrl presignedUrl, Instant reuseUntil) {}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.mdds.server.ReadReplicaRoutingDataSource.PrimaryScope;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers which users wrote recently, so their reads go to the primary while replicas may still
+ * lag behind the write. A client that submits a job and reads its status right away sees {@code
+ * SUBMITTED} and not {@code DRAFT}.
+ *
+ * <p>Users are keyed by login, the way requests name them, so a read is routed before any statement
+ * resolves the login. Writes are remembered per Web Server replica. Reads that land on another
+ * replica rely on the lag tolerance of {@link ReadReplicaRoutingDataSource} alone.
+ *
+ * <p>Writes older than the window are evicted by the first write after each window, so the map
+ * holds no more than the users who wrote within the last two windows.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadAfterWriteTracker {
+  private static final PrimaryScope NO_ROUTING = () -> {};
+
+  private final ReadReplicaProperties readReplicaProperties;
+  private final Clock clock;
+  private final ConcurrentHashMap<String, Instant> lastWrites = new ConcurrentHashMap<>();
+  private volatile Instant nextEviction = Instant.MIN;
+
+  /**
+   * Records a write of the user.
+   *
+   * @param userLogin login of the user who changed a job.
+   */
+  public void recordWrite(String userLogin) {
+    if (readReplicaProperties.enabled() && userLogin != null) {
+      var now = clock.instant();
+      lastWrites.put(userLogin.trim(), now);
+      if (!now.isBefore(nextEviction)) {
+        evictExpired(now);
+      }
+    }
+  }
+
+  /**
+   * Sends reads of the current thread to the primary when the user wrote within {@code
+   * mdds.read-replicas.read-after-write-window}. Must be opened before the first read transaction
+   * of the request.
+   *
+   * @param userLogin login of the user whose data is read.
+   * @return scope to close once the reads are done.
+   */
+  public PrimaryScope routeReadsOf(String userLogin) {
+    if (userLogin == null || lastWrites.isEmpty()) {
+      return NO_ROUTING;
+    }
+    var login = userLogin.trim();
+    var lastWrite = lastWrites.get(login);
+    if (lastWrite == null) {
+      return NO_ROUTING;
+    }
+    if (lastWrite.plus(readReplicaProperties.readAfterWriteWindow()).isAfter(clock.instant())) {
+      return ReadReplicaRoutingDataSource.usePrimary();
+    }
+    lastWrites.remove(login, lastWrite);
+    return NO_ROUTING;
+  }
+
+  @VisibleForTesting
+  int trackedUsers() {
+    return lastWrites.size();
+  }
+
+  private void evictExpired(Instant now) {
+    var window = readReplicaProperties.readAfterWriteWindow();
+    nextEviction = now.plus(window);
+    // Removal is conditional on the value, a write recorded meanwhile is kept.
+    lastWrites.entrySet().removeIf(entry -> !entry.getValue().plus(window).isAfter(now));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Data sources of the Web Server. With read replicas disabled, Spring Boot creates the single
+ * primary data source as before. With replicas enabled, the data source handed to JPA is a {@link
+ * LazyConnectionDataSourceProxy}: it takes the physical connection at the first statement, when the
+ * transaction is already marked read-only or not, and takes it from {@link
+ * ReadReplicaRoutingDataSource} for read-only transactions and from the primary otherwise.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "mdds.read-replicas.enabled", havingValue = "true")
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mdds.read-replicas.enabled", havingValue = "true")
+  public ReadReplicaRoutingDataSource readReplicaDataSource(
+      HikariDataSource primaryDataSource, ReadReplicaProperties readReplicaProperties) {
+    var replicas = new LinkedHashMap<String, DataSource>();
+    var urls = readReplicaProperties.urls();
+    for (var i = 0; i < urls.size(); i++) {
+      var replica = new HikariDataSource();
+      replica.setPoolName("mdds-replica-" + i);
+      replica.setJdbcUrl(urls.get(i));
+      replica.setUsername(readReplicaProperties.username());
+      replica.setPassword(readReplicaProperties.password());
+      replica.setMaximumPoolSize(readReplicaProperties.poolSize());
+      replica.setReadOnly(true);
+      replicas.put(replica.getPoolName(), replica);
+    }
+    return new ReadReplicaRoutingDataSource(
+        primaryDataSource, replicas, readReplicaProperties.maxLag());
+  }
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "mdds.read-replicas.enabled", havingValue = "true")
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource, ReadReplicaRoutingDataSource readReplicaDataSource) {
+    var dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(readReplicaDataSource);
+    return dataSource;
+  }
+}
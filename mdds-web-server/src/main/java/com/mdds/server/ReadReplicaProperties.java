@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of read replica routing.
+ *
+ * @param enabled whether read-only transactions may go to replicas. When disabled every transaction
+ *     uses the primary data source.
+ * @param urls JDBC URLs of the replicas.
+ * @param username user of the replicas.
+ * @param password password of the replicas.
+ * @param poolSize maximum number of connections to one replica.
+ * @param maxLag replication lag above which a replica stops serving reads until it catches up.
+ * @param lagCheckInterval delay between two lag checks of every replica.
+ * @param readAfterWriteWindow time after a write of a user during which reads of that user go to
+ *     the primary, so the user sees their own writes. Must be longer than {@code maxLag}.
+ */
+@ConfigurationProperties(prefix = "mdds.read-replicas")
+@Validated
+public record ReadReplicaProperties(
+    boolean enabled,
+    List<String> urls,
+    String username,
+    String password,
+    @Positive(message = "must be positive.") int poolSize,
+    @NotNull(message = "must not be null.") Duration maxLag,
+    @NotNull(message = "must not be null.") Duration lagCheckInterval,
+    @NotNull(message = "must not be null.") Duration readAfterWriteWindow) {
+
+  public ReadReplicaProperties {
+    urls = urls == null ? List.of() : urls.stream().filter(url -> !url.isBlank()).toList();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Data source of read-only transactions. Connections are taken round-robin from replicas whose
+ * replication lag is within {@code mdds.read-replicas.max-lag}. When no replica qualifies, or the
+ * current thread asked for the primary with {@link #usePrimary()}, the connection is taken from the
+ * primary.
+ *
+ * <p>Replicas serve reads only after their first successful lag check, so a replica that is down at
+ * startup never receives traffic.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+  private static final PrimaryScope NO_SCOPE = () -> {};
+
+  // Lag of a replica that is not in recovery is zero. A replica that has replayed everything it
+  // received is up to date even if the primary has been idle for a while.
+  private static final String LAG_QUERY =
+      "select case when not pg_is_in_recovery() then 0"
+          + " when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+          + " else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+  private final Map<String, DataSource> replicas;
+  private final Duration maxLag;
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile List<String> healthyReplicas = List.of();
+
+  public ReadReplicaRoutingDataSource(
+      DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+    this.replicas = Map.copyOf(replicas);
+    this.maxLag = maxLag;
+    setDefaultTargetDataSource(primary);
+    setTargetDataSources(new HashMap<>(replicas));
+  }
+
+  /**
+   * Sends read-only transactions of the current thread to the primary until the returned scope is
+   * closed. Must be opened before the transaction takes its connection, the choice is made at the
+   * first statement. Nested scopes leave the primary in use until the outermost one is closed.
+   *
+   * @return scope to close once the reads are done.
+   */
+  public static PrimaryScope usePrimary() {
+    if (Boolean.TRUE.equals(PRIMARY_REQUIRED.get())) {
+      return NO_SCOPE;
+    }
+    PRIMARY_REQUIRED.set(Boolean.TRUE);
+    return PRIMARY_REQUIRED::remove;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    var healthy = healthyReplicas;
+    if (healthy.isEmpty() || Boolean.TRUE.equals(PRIMARY_REQUIRED.get())) {
+      // No key, the default target data source, that is the primary, is used.
+      return null;
+    }
+    return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+  }
+
+  /** Measures the lag of every replica and lets only replicas within the tolerance serve reads. */
+  @Scheduled(fixedDelayString = "${mdds.read-replicas.lag-check-interval}")
+  public void checkLag() {
+    var healthy = new ArrayList<String>();
+    for (var replica : replicas.entrySet()) {
+      var lag = measureLag(replica.getKey(), replica.getValue());
+      if (lag.isPresent() && lag.get().compareTo(maxLag) <= 0) {
+        healthy.add(replica.getKey());
+      } else if (healthyReplicas.contains(replica.getKey())) {
+        log.warn(
+            "Replica '{}' stops serving reads, lag {} exceeds {}.",
+            replica.getKey(),
+            lag.map(Duration::toString).orElse("unknown"),
+            maxLag);
+      }
+    }
+    healthy.sort(null);
+    healthyReplicas = List.copyOf(healthy);
+  }
+
+  /**
+   * Returns replication lag of a replica.
+   *
+   * @return lag, empty when the replica can not be reached or has not replayed anything yet.
+   */
+  protected Optional<Duration> measureLag(String name, DataSource replica) {
+    try (var connection = replica.getConnection();
+        var statement = connection.createStatement();
+        var resultSet = statement.executeQuery(LAG_QUERY)) {
+      if (!resultSet.next()) {
+        return Optional.empty();
+      }
+      var seconds = resultSet.getDouble(1);
+      return resultSet.wasNull()
+          ? Optional.empty()
+          : Optional.of(Duration.ofMillis(Math.round(seconds * 1000)));
+    } catch (SQLException e) {
+      log.warn("Failed to measure lag of replica '{}'.", name, e);
+      return Optional.empty();
+    }
+  }
+
+  /** Closes connection pools of the replicas. */
+  public void close() throws Exception {
+    for (var replica : replicas.values()) {
+      if (replica instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  /** Keeps reads of the current thread on the primary until closed. */
+  @FunctionalInterface
+  public interface PrimaryScope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -8,11 +8,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /** Start point for web server. */
 @Slf4j
 @SpringBootApplication(scanBasePackages = "com.mdds")
 @EntityScan(basePackages = "com.mdds.persistence.entity")
+@EnableScheduling
 public class ServerApplication {
   public static void main(String[] args) {
     SpringApplication.run(ServerApplication.class, args);
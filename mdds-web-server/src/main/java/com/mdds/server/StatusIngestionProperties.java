@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of status ingestion. The number of status queue shards is {@code
+ * mdds.common.status-queue-shards}, shared with the Workers.
+ *
+ * @param enabled whether this process consumes status queues. Turn it off in the Web Server when
+ *     standalone status ingesters are deployed.
+ * @param maxOwnedShards upper bound of shards one process consumes, so shards are spread across
+ *     ingesters instead of all going to the one that started first.
+ * @param claimInterval how often the process tries to take over shards nobody consumes.
+ * @param prefetch number of unacknowledged status updates one shard consumer may hold.
+ */
+@ConfigurationProperties(prefix = "mdds.status-ingestion")
+@Validated
+public record StatusIngestionProperties(
+    boolean enabled,
+    @Positive(message = "must be positive.") int maxOwnedShards,
+    @NotNull(message = "must not be null.") Duration claimInterval,
+    @Positive(message = "must be positive.") int prefetch) {}
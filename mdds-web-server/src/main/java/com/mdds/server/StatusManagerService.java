@@ -6,28 +6,40 @@ package com.mdds.server;
 
 import com.mdds.common.CommonProperties;
 import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.queue.MessageHandler;
 import com.mdds.queue.QueueClient;
 import com.mdds.queue.Subscription;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
- * Service that creates subscription to status Queue where it takes message from Queue and puts it
- * to Metadata Storage.
+ * Service that consumes status queues, where it takes message from Queue and puts it to Metadata
+ * Storage.
+ *
+ * <p>Workers publish status updates of a job to one of {@code status-queue-shards} queues chosen by
+ * job id. Every shard is consumed by a single exclusive consumer, so updates of one job are applied
+ * in the order the Worker sent them, no matter how many processes ingest statuses. A process
+ * periodically claims shards that have no consumer, up to {@code max-owned-shards}, and takes over
+ * the shards of a process that went away.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatusManagerService {
-  private Subscription subscription;
+  private final Map<Integer, Subscription> subscriptions = new ConcurrentHashMap<>();
   private final @Qualifier("statusQueueClient") QueueClient queueClient;
   private final CommonProperties commonProperties;
+  private final StatusIngestionProperties statusIngestionProperties;
   private final JobStatusUpdateService jobStatusUpdateService;
 
   private static final String JOB_ID = "jobId";
@@ -36,39 +48,110 @@ public class StatusManagerService {
 
   @PostConstruct
   public void start() {
-    subscription =
-        queueClient.subscribe(
-            commonProperties.getStatusQueueName(),
-            JobStatusUpdateDTO.class,
-            (message, ack) -> {
-              var payload = message == null ? null : message.payload();
-              var jobId =
-                  Optional.ofNullable(payload).map(JobStatusUpdateDTO::jobId).orElse("<null>");
-              try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
-                  var ignoredEvent = MDC.putCloseable(EVENT, "persist_status")) {
+    if (!statusIngestionProperties.enabled()) {
+      log.info("Status ingestion is disabled, status queues are consumed elsewhere.");
+      return;
+    }
+    claimShards();
+    log.info(
+        "Started Status Manager Service with queue '{}', owned shards {} of {} = {}.",
+        commonProperties.getStatusQueueName(),
+        subscriptions.keySet(),
+        commonProperties.getStatusQueueShards(),
+        queueClient);
+  }
 
-                var result = jobStatusUpdateService.apply(payload);
+  @Scheduled(
+      initialDelayString = "${mdds.status-ingestion.claim-interval}",
+      fixedDelayString = "${mdds.status-ingestion.claim-interval}")
+  public void claim() {
+    if (!statusIngestionProperties.enabled()) {
+      return;
+    }
+    try (var ignoredEvent = MDC.putCloseable(EVENT, "claim_status_shards")) {
+      claimShards();
+    } catch (Exception e) {
+      log.error("Failed to claim status queue shards.", e);
+    }
+  }
 
-                try (var ignoredUserId =
-                    MDC.putCloseable(USER_ID, Long.toString(result.userId()))) {
-                  ack.ack();
-                  log.info(
-                      "Stored status '{}' for job to metadata storage.", result.status().getCode());
-                }
-              } catch (Exception e) {
-                log.error("Failed to persist status update for job '{}'.", jobId, e);
-                ack.nack(false);
+  /**
+   * Drops subscriptions the broker ended and tries to consume shards nobody consumes. Shards are
+   * tried from a random offset, so processes started together do not all compete for the same
+   * shards.
+   *
+   * @return shards owned by this process after the claim.
+   */
+  public int claimShards() {
+    subscriptions
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (entry.getValue().isActive()) {
+                return false;
               }
+              log.warn("Lost status queue shard {}.", entry.getKey());
+              closeQuietly(entry.getValue());
+              return true;
             });
-    log.info(
-        "Started Status Manager Service with queue '{}' = {}.",
-        commonProperties.getStatusQueueName(),
-        queueClient);
+    var shards = commonProperties.getStatusQueueShards();
+    var offset = ThreadLocalRandom.current().nextInt(shards);
+    for (var i = 0; i < shards; i++) {
+      if (subscriptions.size() >= statusIngestionProperties.maxOwnedShards()) {
+        break;
+      }
+      var shard = (offset + i) % shards;
+      if (subscriptions.containsKey(shard)) {
+        continue;
+      }
+      var queueName = commonProperties.statusQueueName(shard);
+      queueClient
+          .trySubscribeExclusive(
+              queueName,
+              JobStatusUpdateDTO.class,
+              statusIngestionProperties.prefetch(),
+              statusUpdateHandler())
+          .ifPresent(
+              subscription -> {
+                subscriptions.put(shard, subscription);
+                log.info("Claimed status queue shard '{}'.", queueName);
+              });
+    }
+    return subscriptions.size();
+  }
+
+  private MessageHandler<JobStatusUpdateDTO> statusUpdateHandler() {
+    return (message, ack) -> {
+      var payload = message == null ? null : message.payload();
+      var jobId = Optional.ofNullable(payload).map(JobStatusUpdateDTO::jobId).orElse("<null>");
+      try (var ignoredJobId = MDC.putCloseable(JOB_ID, jobId);
+          var ignoredEvent = MDC.putCloseable(EVENT, "persist_status")) {
+
+        var result = jobStatusUpdateService.apply(payload);
+
+        try (var ignoredUserId = MDC.putCloseable(USER_ID, Long.toString(result.userId()))) {
+          ack.ack();
+          log.info("Stored status '{}' for job to metadata storage.", result.status().getCode());
+        }
+      } catch (Exception e) {
+        log.error("Failed to persist status update for job '{}'.", jobId, e);
+        ack.nack(false);
+      }
+    };
+  }
+
+  private static void closeQuietly(Subscription subscription) {
+    try {
+      subscription.close();
+    } catch (Exception e) {
+      log.debug("Failed to close status queue subscription.", e);
+    }
   }
 
   @PreDestroy
   public void close() {
-    Optional.ofNullable(subscription).ifPresent(Subscription::close);
+    subscriptions.values().forEach(StatusManagerService::closeQuietly);
+    subscriptions.clear();
     queueClient.close();
     log.info("Status Manager Service shut down cleanly");
   }
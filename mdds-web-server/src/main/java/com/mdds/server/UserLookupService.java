@@ -20,13 +20,22 @@ public class UserLookupService {
 
   @Transactional(readOnly = true)
   public long findUserId(String loginHeader) {
-    if (loginHeader == null || loginHeader.isBlank()) {
-      throw new UserIsNullOrBlankException("User is null or blank.");
-    }
-
-    var login = loginHeader.trim();
+    var login = login(loginHeader);
     return usersRepository
         .findIdByLogin(login)
         .orElseThrow(() -> new UnknownUserException("Unknown user login: " + login + "."));
   }
+
+  /**
+   * Returns the login named by the login header, for queries that resolve the login themselves.
+   *
+   * @param loginHeader value of the login header.
+   * @return trimmed login.
+   */
+  static String login(String loginHeader) {
+    if (loginHeader == null || loginHeader.isBlank()) {
+      throw new UserIsNullOrBlankException("User is null or blank.");
+    }
+    return loginHeader.trim();
+  }
 }
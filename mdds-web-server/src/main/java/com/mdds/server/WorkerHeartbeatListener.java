@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.common.CommonProperties;
+import com.mdds.dto.worker.v1.WorkerHeartbeatDTO;
+import com.mdds.queue.QueueClient;
+import com.mdds.queue.Subscription;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service that subscribes to the Worker heartbeat queue and stores every heartbeat in the Worker
+ * registry. It shares the connection of the status queue client, which is closed by {@link
+ * StatusManagerService}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkerHeartbeatListener {
+  private Subscription subscription;
+  private final @Qualifier("statusQueueClient") QueueClient queueClient;
+  private final CommonProperties commonProperties;
+  private final WorkerRegistryService workerRegistryService;
+
+  private static final String WORKER_ID = "workerId";
+  private static final String EVENT = "event";
+
+  @PostConstruct
+  public void start() {
+    subscription =
+        queueClient.subscribe(
+            commonProperties.getHeartbeatQueueName(),
+            WorkerHeartbeatDTO.class,
+            (message, ack) -> {
+              var payload = message == null ? null : message.payload();
+              var workerId =
+                  Optional.ofNullable(payload).map(WorkerHeartbeatDTO::workerId).orElse("<null>");
+              try (var ignoredWorkerId = MDC.putCloseable(WORKER_ID, workerId);
+                  var ignoredEvent = MDC.putCloseable(EVENT, "register_worker")) {
+                workerRegistryService.register(payload);
+                ack.ack();
+                log.debug("Stored heartbeat of worker.");
+              } catch (Exception e) {
+                // A newer heartbeat follows shortly, so a broken one is dropped, not requeued.
+                log.error("Failed to store heartbeat of worker '{}'.", workerId, e);
+                ack.nack(false);
+              }
+            });
+    log.info(
+        "Started Worker Heartbeat Listener with queue '{}' = {}.",
+        commonProperties.getHeartbeatQueueName(),
+        queueClient);
+  }
+
+  @PreDestroy
+  public void close() {
+    Optional.ofNullable(subscription).ifPresent(Subscription::close);
+    log.info("Worker Heartbeat Listener shut down cleanly");
+  }
+}
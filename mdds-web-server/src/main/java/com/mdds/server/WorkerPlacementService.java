@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.ResourceHints;
+import com.mdds.persistence.entity.WorkerEntity;
+import com.mdds.server.jpa.JobsRepository;
+import com.mdds.server.jpa.WorkersRepository;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Chooses the Worker queue of a dispatched job by best-fit bin packing.
+ *
+ * <p>Every Worker consumes the queue it reports in its heartbeat: its own queue, or the queue of
+ * its pool when it belongs to one. Live Workers are grouped into bins by pool and queue, a bin has
+ * the free slots of all its Workers and the size of its smallest Worker, since any of them may take
+ * the job. A job fits a bin when that size has at least the CPU cores and memory of the job profile
+ * resource hints and a slot is free. Among fitting bins the smallest wins, so small jobs fill small
+ * nodes and big nodes stay available for jobs only they can take.
+ *
+ * <p>Free slots of a bin are the ones reported by the latest heartbeats minus the submitted jobs
+ * placed on its queue, which are in the outbox or in the queue and no Worker has picked up yet. A
+ * heartbeat does not account for them until a Worker takes them, so they are counted from the jobs
+ * and not kept on the Worker rows. A job a Worker has just taken is briefly counted twice, until
+ * its status update arrives, which only delays the next placement on that queue.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkerPlacementService {
+  private final WorkersRepository workersRepository;
+  private final JobsRepository jobsRepository;
+  private final WorkerRegistryProperties workerRegistryProperties;
+  private final Clock clock;
+
+  private static final Comparator<Bin> BEST_FIT =
+      Comparator.<Bin>comparingInt(bin -> bin.cpuCores)
+          .thenComparingLong(bin -> bin.memoryMb)
+          .thenComparingInt(Bin::freeSlots)
+          .thenComparing(bin -> bin.jobQueueName);
+
+  /**
+   * Loads live Workers of the job type and the jobs placed on their queues for one dispatch round.
+   * Must be called in the dispatch transaction.
+   *
+   * @param jobType job type to place.
+   * @param hints resources one job of this type needs.
+   * @return placement of the round.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Placement planFor(String jobType, ResourceHints hints) {
+    var since = clock.instant().minus(workerRegistryProperties.heartbeatTtl());
+    var workers = workersRepository.findByJobTypeAndLastHeartbeatAtAfter(jobType, since);
+    var grouped = new TreeMap<String, List<WorkerEntity>>();
+    for (var worker : workers) {
+      grouped.computeIfAbsent(binKey(worker), key -> new ArrayList<>()).add(worker);
+    }
+    var placedJobs = new HashMap<String, Long>();
+    if (!workers.isEmpty()) {
+      for (var placed :
+          jobsRepository.countPlacedJobs(
+              workers.stream().map(WorkerEntity::getJobQueueName).distinct().toList())) {
+        placedJobs.put(placed.getQueueName(), placed.getJobs());
+      }
+    }
+    var bins =
+        grouped.values().stream()
+            .map(
+                binWorkers ->
+                    new Bin(
+                        binWorkers,
+                        placedJobs.getOrDefault(binWorkers.getFirst().getJobQueueName(), 0L)))
+            .toList();
+    var fitting = bins.stream().filter(bin -> bin.fits(hints)).toList();
+    if (fitting.isEmpty() && !bins.isEmpty()) {
+      // Nothing is big enough; the biggest nodes are the best that can be done.
+      var maxCores = bins.stream().mapToInt(bin -> bin.cpuCores).max().orElseThrow();
+      fitting = bins.stream().filter(bin -> bin.cpuCores == maxCores).toList();
+      log.warn(
+          "No live worker of jobType '{}' has {} cores and {} MB, using the biggest ones.",
+          jobType,
+          hints.cpu(),
+          hints.memoryMb());
+    }
+    return new Placement(!workers.isEmpty(), fitting);
+  }
+
+  private static String binKey(WorkerEntity worker) {
+    return Objects.toString(worker.getPool(), "") + "/" + worker.getJobQueueName();
+  }
+
+  /**
+   * Workers of one job type during a dispatch round. When no Worker of the job type has a live
+   * heartbeat, jobs go to the shared queue of the job type, as before Workers registered.
+   */
+  public final class Placement {
+    private final boolean managed;
+    private final List<Bin> bins;
+
+    private Placement(boolean managed, List<Bin> bins) {
+      this.managed = managed;
+      this.bins = bins;
+    }
+
+    /** Returns {@code true} when at least one more job can be placed in this round. */
+    public boolean hasCapacity() {
+      return !managed || bins.stream().anyMatch(bin -> bin.freeSlots() > 0);
+    }
+
+    /**
+     * Places one job and takes a slot of the chosen bin for the rest of the round.
+     *
+     * @param sharedQueueName queue of the job type, used when no Worker is registered.
+     * @return queue to publish the job to, empty when every Worker is full.
+     */
+    public Optional<String> place(String sharedQueueName) {
+      if (!managed) {
+        return Optional.of(sharedQueueName);
+      }
+      var chosen = bins.stream().filter(bin -> bin.freeSlots() > 0).min(BEST_FIT);
+      chosen.ifPresent(Bin::reserve);
+      return chosen.map(bin -> bin.jobQueueName);
+    }
+  }
+
+  /** Workers consuming one queue, a single Worker unless they share the queue of a pool. */
+  private static final class Bin {
+    private final String jobQueueName;
+    private final int cpuCores;
+    private final long memoryMb;
+    private final int[] freeSlots;
+
+    private Bin(List<WorkerEntity> workers, long placedJobs) {
+      this.jobQueueName = workers.getFirst().getJobQueueName();
+      this.cpuCores = workers.stream().mapToInt(WorkerEntity::getCpuCores).min().orElseThrow();
+      this.memoryMb = workers.stream().mapToLong(WorkerEntity::getMemoryMb).min().orElseThrow();
+      this.freeSlots = new int[workers.size()];
+      for (var i = 0; i < freeSlots.length; i++) {
+        freeSlots[i] = Math.max(workers.get(i).getFreeSlots(), 0);
+      }
+      for (var i = 0L; i < placedJobs && freeSlots() > 0; i++) {
+        reserve();
+      }
+    }
+
+    private boolean fits(ResourceHints hints) {
+      return cpuCores >= hints.cpu() && memoryMb >= hints.memoryMb();
+    }
+
+    private int freeSlots() {
+      return Arrays.stream(freeSlots).sum();
+    }
+
+    /**
+     * Takes a slot of the Worker with the most free slots, the one most likely to take the job from
+     * the queue first.
+     */
+    private void reserve() {
+      var most = 0;
+      for (var i = 1; i < freeSlots.length; i++) {
+        if (freeSlots[i] > freeSlots[most]) {
+          most = i;
+        }
+      }
+      freeSlots[most]--;
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the Worker registry.
+ *
+ * @param heartbeatTtl time after the latest heartbeat when a Worker is no longer used for
+ *     placement.
+ * @param reassignEnabled whether jobs placed on lapsed Workers are placed again by this replica.
+ * @param reassignInterval delay between the end of one reassignment scan and the start of the next
+ *     one.
+ * @param reassignBatchSize number of jobs placed again in one transaction.
+ */
+@ConfigurationProperties(prefix = "mdds.worker-registry")
+@Validated
+public record WorkerRegistryProperties(
+    @NotNull(message = "must not be null.") Duration heartbeatTtl,
+    boolean reassignEnabled,
+    @NotNull(message = "must not be null.") Duration reassignInterval,
+    @Positive(message = "must be positive.") int reassignBatchSize) {}
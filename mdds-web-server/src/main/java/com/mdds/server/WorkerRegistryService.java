@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.dto.worker.v1.WorkerHeartbeatDTO;
+import com.mdds.server.jpa.WorkersRepository;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registers Workers and keeps their capacity up to date from heartbeats. A heartbeat also renews
+ * the leases of the jobs the Worker holds once less than half of a lease is left.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkerRegistryService {
+  private final WorkersRepository workersRepository;
+  private final JobLeaseService jobLeaseService;
+  private final Clock clock;
+
+  @Transactional
+  public void register(WorkerHeartbeatDTO heartbeat) {
+    if (heartbeat == null) {
+      throw new IllegalWorkerHeartbeatException("Heartbeat must not be null.");
+    }
+    requireNotBlank(heartbeat.workerId(), "workerId");
+    requireNotBlank(heartbeat.jobType(), "jobType");
+    requireNotBlank(heartbeat.jobQueueName(), "jobQueueName");
+    if (heartbeat.cpuCores() <= 0) {
+      throw new IllegalWorkerHeartbeatException("cpuCores must be positive.");
+    }
+    if (heartbeat.memoryMb() <= 0) {
+      throw new IllegalWorkerHeartbeatException("memoryMb must be positive.");
+    }
+    if (heartbeat.totalSlots() <= 0) {
+      throw new IllegalWorkerHeartbeatException("totalSlots must be positive.");
+    }
+    if (heartbeat.freeSlots() < 0 || heartbeat.freeSlots() > heartbeat.totalSlots()) {
+      throw new IllegalWorkerHeartbeatException("freeSlots must be between 0 and totalSlots.");
+    }
+    if (heartbeat.eventTime() == null) {
+      throw new IllegalWorkerHeartbeatException("eventTime is required.");
+    }
+    var pool = heartbeat.pool() == null || heartbeat.pool().isBlank() ? null : heartbeat.pool();
+    workersRepository.upsertHeartbeat(
+        heartbeat.workerId(),
+        heartbeat.jobType(),
+        heartbeat.jobQueueName(),
+        pool,
+        heartbeat.cpuCores(),
+        heartbeat.memoryMb(),
+        heartbeat.totalSlots(),
+        heartbeat.freeSlots(),
+        heartbeat.eventTime());
+    jobLeaseService.renew(heartbeat.workerId(), clock.instant());
+  }
+
+  private static void requireNotBlank(String value, String name) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalWorkerHeartbeatException(name + " is required.");
+    }
+  }
+}
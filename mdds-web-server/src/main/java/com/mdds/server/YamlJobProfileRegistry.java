@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import com.mdds.domain.JobProfile;
+import com.mdds.domain.JobProfileNotConfiguredException;
+import jakarta.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Job profiles read from {@code mdds.job-profiles}, used when {@code mdds.job-profile.mode} is
+ * {@code yaml}.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mdds.job-profile.mode", havingValue = "yaml")
+public class YamlJobProfileRegistry implements JobProfileRegistry {
+  private final JobProfilesProperties jobProfilesProperties;
+  private final Map<String, JobProfile> profiles = new HashMap<>();
+
+  @PostConstruct
+  public void init() {
+    var jobs = jobProfilesProperties.jobs();
+    for (JobProfileConfig jobProfileConfig : jobs) {
+      var jobType = jobProfileConfig.type();
+      profiles.put(jobType, JobProfileMapper.toDomain(jobProfileConfig));
+    }
+  }
+
+  @Override
+  public JobProfile forType(String jobType) {
+    var profile = profiles.get(jobType);
+    if (profile == null) {
+      throw new JobProfileNotConfiguredException("No profile for job type: '" + jobType + "'.");
+    }
+    return profile;
+  }
+
+  @Override
+  public Set<String> jobTypes() {
+    return profiles.keySet();
+  }
+}
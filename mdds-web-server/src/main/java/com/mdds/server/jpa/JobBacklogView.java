@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import java.time.Instant;
+
+/** Number of queued jobs of one job type and dispatch time of the oldest of them. */
+public interface JobBacklogView {
+  String getJobType();
+
+  long getDepth();
+
+  Instant getOldestDispatchedAt();
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.domain.JobStatus;
+import java.util.UUID;
+
+/**
+ * Projection of the job columns needed to issue a download URL. Built by a constructor expression,
+ * so a read allocates one record and no managed entity.
+ */
+public record JobOutputView(UUID id, long userId, String jobType, JobStatus status) {}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.JobProgressEntity;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA repository to process JobProgressEntity. Updates are single statements that touch no indexed
+ * column, so Postgres applies them as heap-only-tuple updates in the free space left by the table
+ * fillfactor.
+ */
+public interface JobProgressRepository extends JpaRepository<JobProgressEntity, UUID> {
+
+  @Modifying
+  @Query(
+      value =
+          "update job_progress set progress = :progress, message = :message,"
+              + " updated_at = :updatedAt where job_id = :jobId",
+      nativeQuery = true)
+  int updateProgress(
+      @Param("jobId") UUID jobId,
+      @Param("progress") int progress,
+      @Param("message") String message,
+      @Param("updatedAt") Instant updatedAt);
+
+  @Modifying
+  @Query(
+      value =
+          "update job_progress set message = :message, updated_at = :updatedAt"
+              + " where job_id = :jobId",
+      nativeQuery = true)
+  int updateMessage(
+      @Param("jobId") UUID jobId,
+      @Param("message") String message,
+      @Param("updatedAt") Instant updatedAt);
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.JobStatusCounterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA repository to process JobStatusCounterEntity. Counters are changed with single row upserts,
+ * the jobs of a status are the sum of its stripes.
+ */
+public interface JobStatusCountersRepository
+    extends JpaRepository<JobStatusCounterEntity, JobStatusCounterEntity.Key> {
+
+  @Modifying
+  @Query(
+      value =
+          "insert into job_status_counters(status, stripe, jobs) values (:status, :stripe, :delta)"
+              + " on conflict (status, stripe) do update"
+              + " set jobs = job_status_counters.jobs + :delta",
+      nativeQuery = true)
+  void addJobs(
+      @Param("status") String status, @Param("stripe") int stripe, @Param("delta") long delta);
+}
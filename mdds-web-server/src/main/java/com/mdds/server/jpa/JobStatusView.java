@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.domain.JobStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/** Projection of the job columns exposed by the status endpoints. */
+public interface JobStatusView {
+  UUID getId();
+
+  String getJobType();
+
+  JobStatus getStatus();
+
+  int getProgress();
+
+  String getMessage();
+
+  Instant getCreatedAt();
+
+  Instant getSubmittedAt();
+
+  Instant getStartedAt();
+
+  Instant getFinishedAt();
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.JobTypeCounterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA repository to process JobTypeCounterEntity. Counters are changed with single row upserts,
+ * counters never go below zero.
+ */
+public interface JobTypeCountersRepository extends JpaRepository<JobTypeCounterEntity, String> {
+
+  /** Adds to the queued jobs of the job type, creating the row on first use. */
+  @Modifying
+  @Query(
+      value =
+          "insert into job_type_counters(job_type, queued_jobs)"
+              + " values (:jobType, greatest(:count, 0))"
+              + " on conflict (job_type) do update"
+              + " set queued_jobs = greatest(job_type_counters.queued_jobs + :count, 0)",
+      nativeQuery = true)
+  void addQueued(@Param("jobType") String jobType, @Param("count") int count);
+}
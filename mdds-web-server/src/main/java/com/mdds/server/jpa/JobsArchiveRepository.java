@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import static com.mdds.server.jpa.JobsRepository.JOB_LIST_FILTER;
+import static com.mdds.server.jpa.JobsRepository.JOB_LIST_ORDER;
+import static com.mdds.server.jpa.JobsRepository.SELECT_JOB_OUTPUT_VIEW;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.persistence.entity.JobArchiveEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA repository to process JobArchiveEntity. Read queries mirror the ones of {@link
+ * JobsRepository}, so read paths can fall back to the archive with the same projections.
+ */
+public interface JobsArchiveRepository extends JpaRepository<JobArchiveEntity, UUID> {
+
+  String SELECT_ARCHIVED_JOB_STATUS_VIEW =
+      "select je.id as id, je.jobType as jobType, je.status as status, je.progress as progress,"
+          + " je.message as message, je.createdAt as createdAt, je.submittedAt as submittedAt,"
+          + " je.startedAt as startedAt, je.finishedAt as finishedAt";
+
+  Optional<JobArchiveEntity> findFirstByUserIdAndUploadSessionId(
+      Long userId, String uploadSessionId);
+
+  @Query(
+      SELECT_ARCHIVED_JOB_STATUS_VIEW
+          + " from JobArchiveEntity je where je.id = :id and je.userId = :userId")
+  Optional<JobStatusView> findStatusByIdAndUserId(
+      @Param("id") UUID id, @Param("userId") Long userId);
+
+  @Query(
+      SELECT_JOB_OUTPUT_VIEW
+          + " from JobArchiveEntity je where je.id = :id and je.userId = :userId")
+  Optional<JobOutputView> findOutputByIdAndUserId(
+      @Param("id") UUID id, @Param("userId") Long userId);
+
+  @Query(
+      SELECT_ARCHIVED_JOB_STATUS_VIEW
+          + " from JobArchiveEntity je where je.id in :ids and je.userId = :userId")
+  List<JobStatusView> findStatusesByIdInAndUserId(
+      @Param("ids") Collection<UUID> ids, @Param("userId") Long userId);
+
+  @Query(
+      SELECT_ARCHIVED_JOB_STATUS_VIEW
+          + " from JobArchiveEntity je where je.userId = :userId"
+          + JOB_LIST_FILTER
+          + JOB_LIST_ORDER)
+  List<JobStatusView> findFirstPageByUserId(
+      @Param("userId") Long userId,
+      @Param("status") JobStatus status,
+      @Param("jobType") String jobType,
+      @Param("createdFrom") Instant createdFrom,
+      @Param("createdTo") Instant createdTo,
+      Limit limit);
+
+  @Query(
+      SELECT_ARCHIVED_JOB_STATUS_VIEW
+          + " from JobArchiveEntity je where je.userId = :userId"
+          + " and (je.createdAt, je.id) < (:afterCreatedAt, :afterId)"
+          + JOB_LIST_FILTER
+          + JOB_LIST_ORDER)
+  List<JobStatusView> findNextPageByUserId(
+      @Param("userId") Long userId,
+      @Param("afterCreatedAt") Instant afterCreatedAt,
+      @Param("afterId") UUID afterId,
+      @Param("status") JobStatus status,
+      @Param("jobType") String jobType,
+      @Param("createdFrom") Instant createdFrom,
+      @Param("createdTo") Instant createdTo,
+      Limit limit);
+
+  /**
+   * Makes sure the monthly archive partitions exist for every month in which the given jobs
+   * finished.
+   *
+   * @return names of the jobs archive partitions.
+   */
+  @Query(
+      value =
+          "select ensure_jobs_archive_partition(m.month_start) from ("
+              + "select distinct cast(date_trunc('month', finished_at at time zone 'UTC') as date)"
+              + " as month_start from jobs where id in (:ids)) m",
+      nativeQuery = true)
+  List<String> ensurePartitionsForJobs(@Param("ids") Collection<UUID> ids);
+
+  @Modifying
+  @Query(
+      value =
+          "insert into jobs_archive (id, user_id, status, job_type, worker_id, progress, message,"
+              + " upload_session_id, created_at, submitted_at, started_at, finished_at, params)"
+              + " select j.id, j.user_id, j.status, j.job_type, j.worker_id, p.progress, p.message,"
+              + " j.upload_session_id, j.created_at, j.submitted_at, j.started_at, j.finished_at,"
+              + " j.params from jobs j join job_progress p on p.job_id = j.id where j.id in (:ids)",
+      nativeQuery = true)
+  int copyJobs(@Param("ids") Collection<UUID> ids);
+
+  /** Deletes archived jobs from the hot table, their progress rows are removed by cascade. */
+  @Modifying
+  @Query(value = "delete from jobs where id in (:ids)", nativeQuery = true)
+  int deleteJobs(@Param("ids") Collection<UUID> ids);
+}
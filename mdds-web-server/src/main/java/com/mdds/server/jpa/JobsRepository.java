@@ -5,16 +5,26 @@
 package com.mdds.server.jpa;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.mdds.domain.JobStatus;
 import com.mdds.persistence.entity.JobEntity;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /** JPA repository to process JobEntity. */
-public interface JobsRepository extends JpaRepository<JobEntity, String> {
+public interface JobsRepository extends JpaRepository<JobEntity, UUID> {
 
   @VisibleForTesting
   long countByUserIdAndUploadSessionId(Long userId, String uploadSessionId);
@@ -23,12 +33,277 @@ public interface JobsRepository extends JpaRepository<JobEntity, String> {
 
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select je from JobEntity je where je.id = :id and je.userId = :userId")
-  Optional<JobEntity> lockByIdAndUserId(@Param("id") String id, @Param("userId") Long userId);
+  Optional<JobEntity> lockByIdAndUserId(@Param("id") UUID id, @Param("userId") Long userId);
 
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select je from JobEntity je where je.id = :id")
-  Optional<JobEntity> lockById(@Param("id") String id);
+  Optional<JobEntity> lockById(@Param("id") UUID id);
 
+  /**
+   * Returns the job for reading only. Hibernate keeps no snapshot of a read-only entity, so the
+   * {@code params} document is not copied for dirty checking.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
   @Query("select je from JobEntity je where je.id = :id and je.userId = :userId")
-  Optional<JobEntity> findByIdAndUserId(@Param("id") String id, @Param("userId") Long userId);
+  Optional<JobEntity> findByIdAndUserId(@Param("id") UUID id, @Param("userId") Long userId);
+
+  /** Selects {@link JobStatusView}, must be followed by {@link #FROM_JOBS_WITH_PROGRESS}. */
+  String SELECT_JOB_STATUS_VIEW =
+      "select je.id as id, je.jobType as jobType, je.status as status, jp.progress as progress,"
+          + " jp.message as message, je.createdAt as createdAt, je.submittedAt as submittedAt,"
+          + " je.startedAt as startedAt, je.finishedAt as finishedAt";
+
+  String FROM_JOBS_WITH_PROGRESS =
+      " from JobEntity je join JobProgressEntity jp on jp.jobId = je.id";
+
+  /** Selects {@link JobOutputView}, must be followed by a from clause naming the job {@code je}. */
+  String SELECT_JOB_OUTPUT_VIEW =
+      "select new com.mdds.server.jpa.JobOutputView(je.id, je.userId, je.jobType, je.status)";
+
+  String JOIN_USER_BY_LOGIN = " join UserEntity u on u.id = je.userId and u.login = :login";
+
+  String JOB_LIST_FILTER =
+      " and (:status is null or je.status = :status)"
+          + " and (:jobType is null or je.jobType = :jobType)"
+          + " and (:createdFrom is null or je.createdAt >= :createdFrom)"
+          + " and (:createdTo is null or je.createdAt < :createdTo)";
+
+  String JOB_LIST_ORDER = " order by je.createdAt desc, je.id desc";
+
+  @Query(
+      SELECT_JOB_STATUS_VIEW
+          + FROM_JOBS_WITH_PROGRESS
+          + " where je.id = :id and je.userId = :userId")
+  Optional<JobStatusView> findStatusByIdAndUserId(
+      @Param("id") UUID id, @Param("userId") Long userId);
+
+  /**
+   * Returns the status of a job of the user with the given login. The login is resolved in the same
+   * statement, so a status read is one round trip on the happy path.
+   */
+  @Query(
+      SELECT_JOB_STATUS_VIEW
+          + ", je.userId as userId"
+          + FROM_JOBS_WITH_PROGRESS
+          + JOIN_USER_BY_LOGIN
+          + " where je.id = :id")
+  Optional<UserJobStatusView> findStatusByIdAndUserLogin(
+      @Param("id") UUID id, @Param("login") String login);
+
+  /** Returns what a download needs of a job of the user with the given login, in one statement. */
+  @Query(SELECT_JOB_OUTPUT_VIEW + " from JobEntity je" + JOIN_USER_BY_LOGIN + " where je.id = :id")
+  Optional<JobOutputView> findOutputByIdAndUserLogin(
+      @Param("id") UUID id, @Param("login") String login);
+
+  @Query(
+      SELECT_JOB_STATUS_VIEW
+          + FROM_JOBS_WITH_PROGRESS
+          + " where je.id in :ids and je.userId = :userId")
+  List<JobStatusView> findStatusesByIdInAndUserId(
+      @Param("ids") Collection<UUID> ids, @Param("userId") Long userId);
+
+  /**
+   * Returns the first page of user's jobs, newest first. Served by the {@code (user_id, created_at,
+   * id)} index.
+   */
+  @Query(
+      SELECT_JOB_STATUS_VIEW
+          + FROM_JOBS_WITH_PROGRESS
+          + " where je.userId = :userId"
+          + JOB_LIST_FILTER
+          + JOB_LIST_ORDER)
+  List<JobStatusView> findFirstPageByUserId(
+      @Param("userId") Long userId,
+      @Param("status") JobStatus status,
+      @Param("jobType") String jobType,
+      @Param("createdFrom") Instant createdFrom,
+      @Param("createdTo") Instant createdTo,
+      Limit limit);
+
+  /**
+   * Returns the page of user's jobs that follows the given keyset position. Row value comparison
+   * lets the {@code (user_id, created_at, id)} index seek directly to the position, so the cost of
+   * a page does not depend on how deep it is.
+   */
+  @Query(
+      SELECT_JOB_STATUS_VIEW
+          + FROM_JOBS_WITH_PROGRESS
+          + " where je.userId = :userId"
+          + " and (je.createdAt, je.id) < (:afterCreatedAt, :afterId)"
+          + JOB_LIST_FILTER
+          + JOB_LIST_ORDER)
+  List<JobStatusView> findNextPageByUserId(
+      @Param("userId") Long userId,
+      @Param("afterCreatedAt") Instant afterCreatedAt,
+      @Param("afterId") UUID afterId,
+      @Param("status") JobStatus status,
+      @Param("jobType") String jobType,
+      @Param("createdFrom") Instant createdFrom,
+      @Param("createdTo") Instant createdTo,
+      Limit limit);
+
+  /**
+   * Locks a batch of terminal jobs finished before the given instant and returns their ids. Rows
+   * already locked by another archiver are skipped, so several replicas can archive concurrently
+   * without waiting on each other. Served by the partial {@code idx_jobs_terminal_finished_at}
+   * index.
+   */
+  @Query(
+      value =
+          "select id from jobs"
+              + " where status in ('DONE', 'ERROR', 'CANCELLED') and finished_at < :finishedBefore"
+              + " order by finished_at"
+              + " limit :limit"
+              + " for update skip locked",
+      nativeQuery = true)
+  List<UUID> lockArchivableJobIds(
+      @Param("finishedBefore") Instant finishedBefore, @Param("limit") int limit);
+
+  /**
+   * Locks a batch of jobs whose Worker lease expired before the given instant and returns their
+   * ids. Rows locked by another scanner or by a status update in flight are skipped. Served by the
+   * partial {@code idx_jobs_lease_expires_at} index.
+   */
+  @Query(
+      value =
+          "select id from jobs"
+              + " where lease_expires_at < :now"
+              + " order by lease_expires_at"
+              + " limit :limit"
+              + " for update skip locked",
+      nativeQuery = true)
+  List<UUID> lockExpiredLeaseJobIds(@Param("now") Instant now, @Param("limit") int limit);
+
+  /**
+   * Locks a batch of jobs that have been in the given status since before {@code changedBefore} and
+   * follow the given keyset position, and returns their ids in {@code (status_changed_at, id)}
+   * order. A submitted job counts from its dispatch time, so jobs held in pending jobs by the user
+   * quota are left out however long they wait. The repeated status list matches the predicate of
+   * the partial {@code idx_jobs_non_terminal_status_changed_at} index, so the planner can use it
+   * with any parameter value.
+   */
+  @Query(
+      value =
+          "select id from jobs"
+              + " where status in"
+              + " ('SUBMITTED', 'INPUTS_PREPARED', 'IN_PROGRESS', 'CANCEL_REQUESTED')"
+              + " and status = :status"
+              + " and (status_changed_at, id) > (:afterChangedAt, :afterId)"
+              + " and status_changed_at < :changedBefore"
+              + " and (status <> 'SUBMITTED' or dispatched_at < :changedBefore)"
+              + " order by status_changed_at, id"
+              + " limit :limit"
+              + " for update skip locked",
+      nativeQuery = true)
+  List<UUID> lockStaleJobIds(
+      @Param("status") String status,
+      @Param("changedBefore") Instant changedBefore,
+      @Param("afterChangedAt") Instant afterChangedAt,
+      @Param("afterId") UUID afterId,
+      @Param("limit") int limit);
+
+  /**
+   * Takes the reconciler lock until the end of the current transaction. Returns {@code false}
+   * without waiting when a reconciler of another replica holds it.
+   */
+  @Query(
+      value = "select pg_try_advisory_xact_lock(hashtext('mdds.job-reconciler'))",
+      nativeQuery = true)
+  boolean tryLockReconciler();
+
+  /**
+   * Extends the leases of the jobs the Worker holds that expire before {@code renewBefore}. Leases
+   * with more time left are not rewritten, since {@code lease_expires_at} is indexed and every
+   * change of it is a non-HOT update. Served by the partial {@code idx_jobs_leased_worker_id}
+   * index.
+   *
+   * @return number of renewed leases.
+   */
+  @Modifying
+  @Query(
+      value =
+          "update jobs set lease_expires_at = :expiresAt"
+              + " where worker_id = :workerId and lease_expires_at < :renewBefore",
+      nativeQuery = true)
+  int renewLeases(
+      @Param("workerId") String workerId,
+      @Param("renewBefore") Instant renewBefore,
+      @Param("expiresAt") Instant expiresAt);
+
+  /**
+   * Applies a merge patch to the parameters of a job with a single row update: {@code set} is a
+   * JSON object merged over the existing parameters with {@code ||}, {@code remove} is a JSON array
+   * of parameter names deleted with {@code -}.
+   *
+   * @return number of updated jobs.
+   */
+  @Modifying
+  @Query(
+      value =
+          "update jobs set params = (params || cast(:set as jsonb))"
+              + " - array(select jsonb_array_elements_text(cast(:remove as jsonb)))"
+              + " where id = :id",
+      nativeQuery = true)
+  int patchParams(@Param("id") UUID id, @Param("set") String set, @Param("remove") String remove);
+
+  /**
+   * Returns the backlog of every job type that has dispatched jobs in the given status. Jobs still
+   * waiting in pending jobs are left out. Served by the partial {@code
+   * idx_jobs_dispatched_job_type_dispatched_at} index when the status is {@code SUBMITTED}.
+   */
+  @Query(
+      "select je.jobType as jobType, count(je) as depth,"
+          + " min(je.dispatchedAt) as oldestDispatchedAt"
+          + " from JobEntity je where je.status = :status and je.dispatchedAt is not null"
+          + " group by je.jobType")
+  List<JobBacklogView> findBacklogByStatus(@Param("status") JobStatus status);
+
+  /**
+   * Marks jobs released from pending jobs to a job queue.
+   *
+   * @param placementQueueName queue of the Worker or pool the jobs were placed on, {@code null} for
+   *     the shared queue of the job type.
+   */
+  @Modifying
+  @Query(
+      value =
+          "update jobs set dispatched_at = :dispatchedAt,"
+              + " placement_queue_name = cast(:placementQueueName as text)"
+              + " where id in (:ids)",
+      nativeQuery = true)
+  int markDispatched(
+      @Param("ids") Collection<UUID> ids,
+      @Param("placementQueueName") String placementQueueName,
+      @Param("dispatchedAt") Instant dispatchedAt);
+
+  /**
+   * Returns the number of submitted jobs placed on each of the given Worker queues, jobs no Worker
+   * has picked up yet. Served by the partial {@code idx_jobs_submitted_placement_queue_name} index.
+   */
+  @Query(
+      value =
+          "select j.placement_queue_name as queueName, count(*) as jobs from jobs j"
+              + " where j.status = 'SUBMITTED' and j.placement_queue_name in (:queueNames)"
+              + " group by j.placement_queue_name",
+      nativeQuery = true)
+  List<PlacedJobsView> countPlacedJobs(@Param("queueNames") Collection<String> queueNames);
+
+  /**
+   * Locks a batch of submitted jobs placed on a Worker queue that no Worker with a heartbeat after
+   * the given instant consumes, and returns their ids. Rows locked by another scanner or by a
+   * status update in flight are skipped. Served by the partial {@code
+   * idx_jobs_submitted_placement_queue_name} index.
+   */
+  @Query(
+      value =
+          "select j.id from jobs j"
+              + " where j.status = 'SUBMITTED' and j.placement_queue_name is not null"
+              + " and not exists (select 1 from workers w"
+              + " where w.job_queue_name = j.placement_queue_name"
+              + " and w.last_heartbeat_at > :since)"
+              + " order by j.dispatched_at"
+              + " limit :limit"
+              + " for update of j skip locked",
+      nativeQuery = true)
+  List<UUID> lockJobIdsOnLapsedWorkers(@Param("since") Instant since, @Param("limit") int limit);
 }
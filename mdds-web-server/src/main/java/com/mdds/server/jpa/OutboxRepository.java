@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.OutboxEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/** JPA repository to process OutboxEntity. */
+public interface OutboxRepository extends JpaRepository<OutboxEntity, Long> {
+
+  /**
+   * Locks the oldest outbox messages. Rows locked by a relay of another replica are skipped, so
+   * replicas drain disjoint batches in parallel.
+   */
+  @Query(
+      value = "select * from outbox order by id limit :limit for update skip locked",
+      nativeQuery = true)
+  List<OutboxEntity> lockBatch(@Param("limit") int limit);
+}
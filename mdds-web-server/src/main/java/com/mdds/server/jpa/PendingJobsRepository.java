@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.PendingJobEntity;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/** JPA repository to process PendingJobEntity. */
+public interface PendingJobsRepository extends JpaRepository<PendingJobEntity, UUID> {
+
+  /**
+   * Returns up to {@code limit} oldest pending jobs of each given user with the given job type, in
+   * one query. Each user is one range scan of the pending jobs index. Rows come in no particular
+   * order.
+   */
+  @Query(
+      value =
+          "select p.* from user_job_counters c"
+              + " cross join lateral (select * from pending_jobs q"
+              + " where q.user_id = c.user_id and q.job_type = :jobType"
+              + " order by q.submitted_at, q.job_id limit :limit) p"
+              + " where c.user_id in (:userIds)",
+      nativeQuery = true)
+  List<PendingJobEntity> findOldestOfUsers(
+      @Param("userIds") Collection<Long> userIds,
+      @Param("jobType") String jobType,
+      @Param("limit") int limit);
+
+  /**
+   * Takes the dispatcher lock until the end of the current transaction. Returns {@code false}
+   * without waiting when a dispatcher of another replica holds it.
+   */
+  @Query(
+      value = "select pg_try_advisory_xact_lock(hashtext('mdds.job-dispatch'))",
+      nativeQuery = true)
+  boolean tryLockDispatcher();
+}
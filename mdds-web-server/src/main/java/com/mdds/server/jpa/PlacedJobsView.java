@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+/** Number of submitted jobs placed on one Worker queue. */
+public interface PlacedJobsView {
+  String getQueueName();
+
+  long getJobs();
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+/** Active and pending job counters of one user together with the user login. */
+public interface UserJobCounterView {
+  long getUserId();
+
+  String getLogin();
+
+  int getActiveJobs();
+
+  int getPendingJobs();
+}
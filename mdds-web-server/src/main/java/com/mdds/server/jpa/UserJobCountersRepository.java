@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.UserJobCounterEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA repository to process UserJobCounterEntity. Counters are changed with single row upserts, so
+ * no caller has to read a counter before changing it. Counters never go below zero.
+ */
+public interface UserJobCountersRepository extends JpaRepository<UserJobCounterEntity, Long> {
+
+  @Query(
+      "select c.userId as userId, u.login as login, c.activeJobs as activeJobs,"
+          + " c.pendingJobs as pendingJobs"
+          + " from UserJobCounterEntity c join UserEntity u on u.id = c.userId"
+          + " where c.pendingJobs > 0")
+  List<UserJobCounterView> findUsersWithPendingJobs();
+
+  /**
+   * Adds to the pending and active jobs of the user, creating the row on first use. Neither counter
+   * goes below zero.
+   */
+  @Modifying
+  @Query(
+      value =
+          "insert into user_job_counters(user_id, pending_jobs, active_jobs)"
+              + " values (:userId, greatest(:pending, 0), greatest(:active, 0))"
+              + " on conflict (user_id) do update"
+              + " set pending_jobs = greatest(user_job_counters.pending_jobs + :pending, 0),"
+              + " active_jobs = greatest(user_job_counters.active_jobs + :active, 0)",
+      nativeQuery = true)
+  void addJobs(
+      @Param("userId") long userId, @Param("pending") int pending, @Param("active") int active);
+}
@@ -0,0 +1,10 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+/** {@link JobStatusView} with the id of the user the job belongs to. */
+public interface UserJobStatusView extends JobStatusView {
+  long getUserId();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server.jpa;
+
+import com.mdds.persistence.entity.WorkerEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/** JPA repository to process WorkerEntity. */
+public interface WorkersRepository extends JpaRepository<WorkerEntity, String> {
+
+  /** Returns Workers of the job type whose latest heartbeat is newer than {@code since}. */
+  List<WorkerEntity> findByJobTypeAndLastHeartbeatAtAfter(String jobType, Instant since);
+
+  /** Stores a heartbeat. A heartbeat older than the stored one is ignored. */
+  @Modifying
+  @Query(
+      value =
+          "insert into workers (worker_id, job_type, job_queue_name, pool, cpu_cores, memory_mb,"
+              + " total_slots, free_slots, last_heartbeat_at)"
+              + " values (:workerId, :jobType, :jobQueueName, :pool, :cpuCores, :memoryMb,"
+              + " :totalSlots, :freeSlots, :heartbeatAt)"
+              + " on conflict (worker_id) do update set job_type = excluded.job_type,"
+              + " job_queue_name = excluded.job_queue_name, pool = excluded.pool,"
+              + " cpu_cores = excluded.cpu_cores, memory_mb = excluded.memory_mb,"
+              + " total_slots = excluded.total_slots, free_slots = excluded.free_slots,"
+              + " last_heartbeat_at = excluded.last_heartbeat_at"
+              + " where workers.last_heartbeat_at <= excluded.last_heartbeat_at",
+      nativeQuery = true)
+  void upsertHeartbeat(
+      @Param("workerId") String workerId,
+      @Param("jobType") String jobType,
+      @Param("jobQueueName") String jobQueueName,
+      @Param("pool") String pool,
+      @Param("cpuCores") int cpuCores,
+      @Param("memoryMb") long memoryMb,
+      @Param("totalSlots") int totalSlots,
+      @Param("freeSlots") int freeSlots,
+      @Param("heartbeatAt") Instant heartbeatAt);
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- The reconciler fails jobs that stay too long in one non-terminal status. It needs the time of the
+-- latest status change, which none of the existing timestamps gives for every status. Only
+-- non-terminal jobs are indexed, so the reconciler scan does not grow with the number of finished
+-- jobs.
+
+alter table jobs add column if not exists status_changed_at timestamptz null;
+
+update jobs
+   set status_changed_at = coalesce(started_at, submitted_at, created_at)
+ where status in ('SUBMITTED', 'INPUTS_PREPARED', 'IN_PROGRESS', 'CANCEL_REQUESTED');
+
+create index if not exists idx_jobs_non_terminal_status_changed_at
+    on jobs(status, status_changed_at, id)
+    where status in ('SUBMITTED', 'INPUTS_PREPARED', 'IN_PROGRESS', 'CANCEL_REQUESTED');
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Job ids were random UUIDs stored as text: 37 bytes per key in every index that contains a job id,
+-- collation-aware comparisons and inserts spread over the whole primary key index. Ids become native
+-- 16-byte uuid values, and new jobs get time-ordered UUIDv7 ids generated by the Web Server, so the
+-- primary key index grows at its right edge. Every existing id is a canonical UUID string, so the
+-- cast keeps all of them. Foreign keys are dropped while the referenced column changes type.
+
+alter table job_params drop constraint if exists job_params_job_id_fkey;
+alter table pending_jobs drop constraint if exists pending_jobs_job_id_fkey;
+
+alter table jobs alter column id type uuid using id::uuid;
+alter table job_params alter column job_id type uuid using job_id::uuid;
+alter table pending_jobs alter column job_id type uuid using job_id::uuid;
+
+alter table jobs_archive alter column id type uuid using id::uuid;
+alter table job_params_archive alter column job_id type uuid using job_id::uuid;
+
+alter table job_params
+    add constraint job_params_job_id_fkey foreign key (job_id) references jobs(id) on delete cascade;
+alter table pending_jobs
+    add constraint pending_jobs_job_id_fkey foreign key (job_id) references jobs(id) on delete cascade;
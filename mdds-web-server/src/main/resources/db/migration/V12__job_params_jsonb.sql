@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Job parameters move from one job_params row per parameter to a single jsonb object on the job
+-- row. A patch becomes one row update with the || and - operators, submission reads the parameters
+-- together with the job it locks anyway, and deleting a job no longer cascades to parameter rows.
+-- The archive gets the same column, so archived jobs keep their parameters.
+
+alter table jobs add column if not exists params jsonb not null default '{}'::jsonb;
+
+update jobs j
+   set params = p.params
+  from (select job_id, jsonb_object_agg(param_name, param_value) as params
+          from job_params
+         group by job_id) p
+ where p.job_id = j.id;
+
+alter table jobs_archive add column if not exists params jsonb not null default '{}'::jsonb;
+
+update jobs_archive j
+   set params = p.params
+  from (select job_id, finished_at, jsonb_object_agg(param_name, param_value) as params
+          from job_params_archive
+         group by job_id, finished_at) p
+ where p.job_id = j.id
+   and p.finished_at = j.finished_at;
+
+drop table if exists job_params;
+drop table if exists job_params_archive;
+
+-- Archive partitions are now needed for jobs_archive only.
+create or replace function ensure_jobs_archive_partition(month_start date)
+    returns text
+    language plpgsql
+as $$
+declare
+    jobs_partition text := 'jobs_archive_' || to_char(month_start, 'YYYY_MM');
+    range_from timestamptz := month_start::timestamp at time zone 'UTC';
+    range_to timestamptz := (month_start + interval '1 month')::timestamp at time zone 'UTC';
+begin
+    if to_regclass(jobs_partition) is not null then
+        return jobs_partition;
+    end if;
+    perform pg_advisory_xact_lock(hashtext('ensure_jobs_archive_partition'));
+    execute format(
+        'create table if not exists %I partition of jobs_archive for values from (%L) to (%L)',
+        jobs_partition, range_from, range_to);
+    return jobs_partition;
+end;
+$$;
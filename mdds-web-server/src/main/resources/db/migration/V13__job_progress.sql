@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Progress reports of running jobs rewrote the wide jobs row, and every rewrite that is not a
+-- heap-only-tuple (HOT) update adds entries to all jobs indexes. Progress and message move to a
+-- narrow table with no index but its primary key, which progress reports never change. A fillfactor
+-- of 70 leaves room on every page for the new row version, so Postgres applies progress reports as
+-- HOT updates: no index writes and little WAL. Status transitions stay in jobs.
+
+create table if not exists job_progress (
+    job_id uuid primary key references jobs(id) on delete cascade,
+    progress int not null default 0,
+    message text,
+    updated_at timestamptz not null
+    ) with (fillfactor = 70);
+
+insert into job_progress (job_id, progress, message, updated_at)
+select id, progress, message, coalesce(status_changed_at, created_at)
+  from jobs
+    on conflict (job_id) do nothing;
+
+alter table jobs drop column if exists progress;
+alter table jobs drop column if exists message;
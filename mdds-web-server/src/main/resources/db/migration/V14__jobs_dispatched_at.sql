@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Admission control samples the jobs that were dispatched to a job queue and no Worker has picked
+-- up yet. Submitted jobs held back in pending_jobs by the per-user quota are not part of that
+-- backlog, and the time they spent there must not count as queue age. dispatched_at is set when a
+-- job leaves pending_jobs (or on submission when the dispatcher is disabled). Jobs already in a
+-- queue are taken as dispatched on submission.
+
+alter table jobs add column if not exists dispatched_at timestamptz null;
+
+update jobs j
+   set dispatched_at = j.submitted_at
+ where j.status = 'SUBMITTED'
+   and not exists (select 1 from pending_jobs p where p.job_id = j.id);
+
+drop index if exists idx_jobs_submitted_job_type_submitted_at;
+
+create index if not exists idx_jobs_dispatched_job_type_dispatched_at
+    on jobs(job_type, dispatched_at)
+    where status = 'SUBMITTED' and dispatched_at is not null;
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- A dispatched job is published to the queue of the Worker, or of the pool of Workers, it was
+-- placed on. When those Workers stop sending heartbeats before one of them picks the job up, the
+-- job is placed again, so the placement queue is kept with the job. It is null for jobs published
+-- to the shared queue of the job type, which every Worker of that type consumes.
+
+alter table jobs add column if not exists placement_queue_name text null;
+
+create index if not exists idx_jobs_submitted_placement_queue_name
+    on jobs(placement_queue_name, dispatched_at)
+    where status = 'SUBMITTED' and placement_queue_name is not null;
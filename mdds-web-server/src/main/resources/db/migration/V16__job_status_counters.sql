@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Number of jobs in each non-terminal status, for the mdds_jobs gauge. Every service that changes a
+-- job status changes the counters in the same transaction, so the gauge never counts jobs and
+-- agrees across Web Server replicas and status ingesters.
+
+create table if not exists job_status_counters (
+    status text primary key,
+    jobs bigint not null default 0
+    );
+
+insert into job_status_counters(status, jobs)
+select status, count(*)
+from jobs
+where status in ('DRAFT', 'SUBMITTED', 'INPUTS_PREPARED', 'IN_PROGRESS', 'CANCEL_REQUESTED')
+group by status
+on conflict (status) do nothing;
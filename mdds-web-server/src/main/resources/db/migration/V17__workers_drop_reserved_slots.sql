@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Slots of jobs placed on a Worker queue but not taken yet are counted from the submitted jobs of
+-- that queue, served by idx_jobs_submitted_placement_queue_name. A counter on the Worker row was
+-- cleared by every heartbeat, although the heartbeat does not account for jobs still in the outbox
+-- or in the queue.
+
+alter table workers drop column if exists reserved_slots;
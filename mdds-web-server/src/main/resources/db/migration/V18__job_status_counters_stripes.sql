@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- With one row per status every transaction that changes a job status updates the same few rows,
+-- and replicas wait for each other on them until commit. Each status is spread over stripes, a
+-- transaction updates the rows of one random stripe and the gauge sums the stripes of a status.
+-- Existing counts become stripe 0.
+
+alter table job_status_counters add column if not exists stripe int not null default 0;
+
+alter table job_status_counters alter column stripe drop default;
+
+alter table job_status_counters drop constraint if exists job_status_counters_pkey;
+
+alter table job_status_counters add primary key (status, stripe);
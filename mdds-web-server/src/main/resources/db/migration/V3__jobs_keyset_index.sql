@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Supports keyset pagination of user's jobs ordered by (created_at, id).
+-- The composite index also serves every lookup by user_id, so the single-column
+-- indexes from V1 are no longer needed and only slow down inserts.
+
+create index if not exists idx_jobs_user_created_at_id on jobs(user_id, created_at, id);
+
+drop index if exists idx_jobs_user_id;
+drop index if exists idx_jobs_created_at;
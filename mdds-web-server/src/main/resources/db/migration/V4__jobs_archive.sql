@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Cold storage for terminal jobs. The archiver moves DONE/ERROR/CANCELLED jobs
+-- from jobs/job_params into these tables, so the hot tables and their indexes
+-- only hold jobs that can still change. Archive tables are range partitioned
+-- by finished_at, one partition per month, so old months can be detached or
+-- dropped without touching the rest.
+
+create table if not exists jobs_archive (
+    id text not null,
+    user_id bigint not null,
+    status text not null,
+    job_type text not null,
+    worker_id text,
+    progress int not null,
+    message text,
+    upload_session_id text not null,
+    created_at timestamptz not null,
+    submitted_at timestamptz null,
+    started_at timestamptz null,
+    finished_at timestamptz not null,
+    primary key (id, finished_at)
+    ) partition by range (finished_at);
+
+create table if not exists job_params_archive (
+    job_id text not null,
+    param_name text not null,
+    param_value jsonb not null,
+    finished_at timestamptz not null,
+    primary key (job_id, param_name, finished_at)
+    ) partition by range (finished_at);
+
+create index if not exists idx_jobs_archive_user_created_at_id
+    on jobs_archive(user_id, created_at, id);
+create index if not exists idx_jobs_archive_user_upload_session
+    on jobs_archive(user_id, upload_session_id);
+
+-- Candidates for archiving. Partial, so it stays as small as the set of
+-- terminal jobs that are still in the hot table.
+create index if not exists idx_jobs_terminal_finished_at
+    on jobs(finished_at)
+    where status in ('DONE', 'ERROR', 'CANCELLED');
+
+-- Creates monthly partitions of both archive tables for the month that starts
+-- at month_start (UTC). Existing partitions are detected without locking, so
+-- concurrent archivers only serialize on the rare call that creates them.
+create or replace function ensure_jobs_archive_partition(month_start date)
+    returns text
+    language plpgsql
+as $$
+declare
+    suffix text := to_char(month_start, 'YYYY_MM');
+    jobs_partition text := 'jobs_archive_' || suffix;
+    params_partition text := 'job_params_archive_' || suffix;
+    range_from timestamptz := month_start::timestamp at time zone 'UTC';
+    range_to timestamptz := (month_start + interval '1 month')::timestamp at time zone 'UTC';
+begin
+    if to_regclass(jobs_partition) is not null and to_regclass(params_partition) is not null then
+        return jobs_partition;
+    end if;
+    perform pg_advisory_xact_lock(hashtext('ensure_jobs_archive_partition'));
+    execute format(
+        'create table if not exists %I partition of jobs_archive for values from (%L) to (%L)',
+        jobs_partition, range_from, range_to);
+    execute format(
+        'create table if not exists %I partition of job_params_archive for values from (%L) to (%L)',
+        params_partition, range_from, range_to);
+    return jobs_partition;
+end;
+$$;
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Transactional outbox. Request handlers insert messages here in the same
+-- transaction as the job state change, the relay publishes them to the broker
+-- and deletes the rows once the broker has confirmed them.
+
+create table if not exists outbox (
+    id bigserial primary key,
+    kind text not null,
+    destination text not null,
+    payload jsonb not null,
+    created_at timestamptz not null
+    );
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Supports sampling of the per-job-type backlog for admission control: jobs that are SUBMITTED
+-- but not yet picked up by a Worker. Only queued rows are indexed, so the index stays small and
+-- the grouped count and min(submitted_at) are answered from the index alone.
+
+create index if not exists idx_jobs_submitted_job_type_submitted_at
+    on jobs(job_type, submitted_at)
+    where status = 'SUBMITTED';
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Fair-share dispatch. Submitted jobs wait in pending_jobs until the dispatcher releases them to
+-- the outbox. Counters are maintained incrementally on dispatch and on status updates, so quota
+-- checks read one row instead of counting jobs.
+
+create table if not exists pending_jobs (
+    job_id text primary key references jobs(id) on delete cascade,
+    user_id bigint not null references users(id),
+    job_type text not null,
+    queue_name text not null,
+    payload jsonb not null,
+    submitted_at timestamptz not null
+    );
+
+-- Oldest pending job of a user and job type is the head of its index range.
+create index if not exists idx_pending_jobs_user_id_job_type_submitted_at
+    on pending_jobs(user_id, job_type, submitted_at, job_id);
+
+-- Jobs of a user that are dispatched and not yet terminal, and jobs waiting in pending_jobs.
+create table if not exists user_job_counters (
+    user_id bigint primary key references users(id),
+    active_jobs int not null default 0,
+    pending_jobs int not null default 0
+    );
+
+-- Users with pending jobs are the only ones the dispatcher looks at.
+create index if not exists idx_user_job_counters_pending
+    on user_job_counters(user_id)
+    where pending_jobs > 0;
+
+-- Jobs of a type that are dispatched and not yet picked up by a Worker.
+create table if not exists job_type_counters (
+    job_type text primary key,
+    queued_jobs int not null default 0
+    );
+
+-- Jobs submitted before this migration are already in the outbox or the broker.
+insert into user_job_counters(user_id, active_jobs)
+select user_id, count(*)
+from jobs
+where status in ('SUBMITTED', 'INPUTS_PREPARED', 'IN_PROGRESS', 'CANCEL_REQUESTED')
+group by user_id
+on conflict (user_id) do nothing;
+
+insert into job_type_counters(job_type, queued_jobs)
+select job_type, count(*)
+from jobs
+where status = 'SUBMITTED'
+group by job_type
+on conflict (job_type) do nothing;
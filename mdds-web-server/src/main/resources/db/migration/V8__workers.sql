@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- Registry of Workers. Every Worker upserts its row on each heartbeat. The dispatcher places jobs
+-- only on Workers with a recent heartbeat, and counts slots it has handed out since that heartbeat
+-- in reserved_slots, so it does not overfill a Worker before the next heartbeat reports it.
+
+create table if not exists workers (
+    worker_id text primary key,
+    job_type text not null,
+    job_queue_name text not null,
+    pool text null,
+    cpu_cores int not null,
+    memory_mb bigint not null,
+    total_slots int not null,
+    free_slots int not null,
+    reserved_slots int not null default 0,
+    last_heartbeat_at timestamptz not null
+    );
+
+create index if not exists idx_workers_job_type_last_heartbeat_at
+    on workers(job_type, last_heartbeat_at);
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+
+-- A Worker holds a lease on every job it owns. The lease is renewed by the Worker's status updates
+-- and heartbeats; a job whose lease has expired belongs to a Worker that is gone and is failed by
+-- the lease scanner. Only jobs that hold a lease are indexed, so both the scanner and the renewal
+-- by worker_id touch a handful of rows however large the table is.
+
+alter table jobs add column if not exists lease_expires_at timestamptz null;
+
+create index if not exists idx_jobs_lease_expires_at
+    on jobs(lease_expires_at)
+    where lease_expires_at is not null;
+
+create index if not exists idx_jobs_leased_worker_id
+    on jobs(worker_id)
+    where lease_expires_at is not null;
+
+-- Jobs already running get a grace period, so Workers alive during the upgrade renew them before
+-- the scanner sees them.
+update jobs
+   set lease_expires_at = now() + interval '5 minutes'
+ where status in ('INPUTS_PREPARED', 'IN_PROGRESS', 'CANCEL_REQUESTED');
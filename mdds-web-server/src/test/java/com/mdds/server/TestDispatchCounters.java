@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.server.jpa.JobStatusCountersRepository;
+import com.mdds.server.jpa.JobTypeCountersRepository;
+import com.mdds.server.jpa.UserJobCountersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TestDispatchCounters {
+  private final JobTypeCountersRepository jobTypeCountersRepository =
+      mock(JobTypeCountersRepository.class);
+  private final UserJobCountersRepository userJobCountersRepository =
+      mock(UserJobCountersRepository.class);
+  private final JobStatusCountersRepository jobStatusCountersRepository =
+      mock(JobStatusCountersRepository.class);
+  private final DispatchCounters dispatchCounters =
+      new DispatchCounters(jobTypeCountersRepository, userJobCountersRepository);
+  private final JobStatusCounters jobStatusCounters =
+      new JobStatusCounters(jobStatusCountersRepository);
+
+  @BeforeEach
+  void initSynchronization() {
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.unbindResourceIfPossible(dispatchCounters);
+    TransactionSynchronizationManager.unbindResourceIfPossible(jobStatusCounters);
+  }
+
+  @Test
+  void testChangesAreSummedAndWrittenBeforeCommitInKeyOrder() {
+    dispatchCounters.addPending(7, 1);
+    dispatchCounters.addQueued("solver", 2);
+    dispatchCounters.addPending(3, -2);
+    dispatchCounters.addActive(3, 2);
+    dispatchCounters.addQueued("mesher", 1);
+    dispatchCounters.addQueued("solver", -1);
+    dispatchCounters.addActive(5, 1);
+    dispatchCounters.addActive(5, -1);
+
+    verify(jobTypeCountersRepository, never()).addQueued(anyString(), anyInt());
+    verify(userJobCountersRepository, never()).addJobs(anyLong(), anyInt(), anyInt());
+
+    commit();
+
+    var inOrder = inOrder(jobTypeCountersRepository, userJobCountersRepository);
+    inOrder.verify(jobTypeCountersRepository).addQueued("mesher", 1);
+    inOrder.verify(jobTypeCountersRepository).addQueued("solver", 1);
+    inOrder.verify(userJobCountersRepository).addJobs(3, -2, 2);
+    inOrder.verify(userJobCountersRepository).addJobs(7, 1, 0);
+    // User 5 gained and lost an active job, its row is not touched.
+    verifyNoMoreInteractions(jobTypeCountersRepository, userJobCountersRepository);
+    assertThat(TransactionSynchronizationManager.hasResource(dispatchCounters)).isFalse();
+  }
+
+  @Test
+  void testDispatchCountersAreWrittenBeforeStatusCounters() {
+    jobStatusCounters.statusChanged(null, JobStatus.DRAFT);
+    dispatchCounters.addPending(1, 1);
+
+    commit();
+
+    var inOrder =
+        inOrder(jobStatusCountersRepository, jobTypeCountersRepository, userJobCountersRepository);
+    inOrder.verify(userJobCountersRepository).addJobs(1, 1, 0);
+    inOrder
+        .verify(jobStatusCountersRepository)
+        .addJobs(eq(JobStatus.DRAFT.getCode()), anyInt(), eq(1L));
+  }
+
+  @Test
+  void testRolledBackChangeIsNotWritten() {
+    dispatchCounters.addQueued("solver", 1);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(
+            synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verifyNoMoreInteractions(jobTypeCountersRepository, userJobCountersRepository);
+    assertThat(TransactionSynchronizationManager.hasResource(dispatchCounters)).isFalse();
+  }
+
+  private static void commit() {
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+    synchronizations.forEach(
+        synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+  }
+}
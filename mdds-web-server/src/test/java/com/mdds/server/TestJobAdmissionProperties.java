@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mdds.server.JobAdmissionProperties.Watermarks;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TestJobAdmissionProperties {
+  private static ValidatorFactory validatorFactory;
+  private static Validator validator;
+
+  @BeforeAll
+  static void createValidator() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+  }
+
+  @AfterAll
+  static void closeValidator() {
+    validatorFactory.close();
+  }
+
+  @Test
+  void testLowWatermarksBelowHighOnesAreValid() {
+    assertThat(validator.validate(properties(new Watermarks(150, 100, minutes(30), minutes(20)))))
+        .isEmpty();
+    assertThat(validator.validate(properties(new Watermarks(100, 100, minutes(30), minutes(30)))))
+        .isEmpty();
+  }
+
+  @Test
+  void testInvertedDepthWatermarksAreRejected() {
+    assertThat(validator.validate(properties(new Watermarks(100, 150, minutes(30), minutes(20)))))
+        .extracting(ConstraintViolation::getMessage)
+        .containsExactly("low watermarks must not exceed high watermarks.");
+  }
+
+  @Test
+  void testInvertedAgeWatermarksOfJobTypeAreRejected() {
+    var properties =
+        new JobAdmissionProperties(
+            true,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(30),
+            new Watermarks(150, 100, minutes(30), minutes(20)),
+            Map.of("solving_slae", new Watermarks(150, 100, minutes(20), minutes(30))));
+
+    assertThat(validator.validate(properties))
+        .extracting(ConstraintViolation::getMessage)
+        .containsExactly("low watermarks must not exceed high watermarks.");
+  }
+
+  private static JobAdmissionProperties properties(Watermarks watermarks) {
+    return new JobAdmissionProperties(
+        true, Duration.ofSeconds(1), Duration.ofSeconds(30), watermarks, Map.of());
+  }
+
+  private static Duration minutes(long minutes) {
+    return Duration.ofMinutes(minutes);
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.support.JobTestFixture;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {"spring.config.import=classpath:test-job-profiles.yml"})
+@Testcontainers
+@Import({TestJobAdmissionServiceIntegration.FixedClockConfiguration.class, JobTestFixture.class})
+class TestJobAdmissionServiceIntegration {
+
+  private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(45);
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class FixedClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock fixedClock() {
+      return Clock.fixed(BASE_EVENT_TIME, ZoneOffset.UTC);
+    }
+  }
+
+  @Autowired private UserLookupService userLookupService;
+  @Autowired private JobCreationService jobCreationService;
+  @Autowired private JobAdmissionService jobAdmissionService;
+  @Autowired private JobDispatchService jobDispatchService;
+  @Autowired private JobTestFixture jobTestFixture;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @MockitoBean(name = "jobQueueClient")
+  private QueueClient jobQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("mdds.object-storage.bucket", () -> "mdds");
+    registry.add("mdds.object-storage.region", () -> "us-east-1");
+    registry.add("mdds.object-storage.public-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.internal-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.access-key", MINIO::getUserName);
+    registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
+    registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+    // Samples are taken by the tests, not by the scheduler.
+    registry.add("mdds.job-admission.sample-interval", () -> "PT1H");
+    registry.add("mdds.job-admission.retry-after", RETRY_AFTER::toString);
+    registry.add("mdds.job-admission.watermarks.high-depth", () -> "2");
+    registry.add("mdds.job-admission.watermarks.low-depth", () -> "0");
+    registry.add("mdds.job-admission.job-types[solving_slae].high-depth", () -> "3");
+    registry.add("mdds.job-admission.job-types[solving_slae].low-depth", () -> "1");
+    registry.add("mdds.job-admission.job-types[solving_slae].high-age", () -> "PT1H");
+    registry.add("mdds.job-admission.job-types[solving_slae].low-age", () -> "PT30M");
+    registry.add("mdds.job-admission.job-types[solving_slae_parallel].high-depth", () -> "100");
+    registry.add("mdds.job-admission.job-types[solving_slae_parallel].low-depth", () -> "50");
+    registry.add("mdds.job-admission.job-types[solving_slae_parallel].high-age", () -> "PT1H");
+    registry.add("mdds.job-admission.job-types[solving_slae_parallel].low-age", () -> "PT30M");
+    // Dispatch rounds are run by the tests, one active job per user.
+    registry.add("mdds.job-dispatch.poll-interval", () -> "PT1H");
+    registry.add("mdds.job-dispatch.max-active-jobs-per-user", () -> "1");
+  }
+
+  private static final String GUEST = "guest";
+
+  @Test
+  void testDepthWatermarksThrottleAndReleaseSubmissions() {
+    var jobType = "solving_slae";
+    var first = newSubmittedJob(jobType, BASE_EVENT_TIME);
+    var second = newSubmittedJob(jobType, BASE_EVENT_TIME);
+    newSubmittedJob(jobType, BASE_EVENT_TIME);
+
+    jobAdmissionService.refresh();
+
+    assertThat(jobAdmissionService.isThrottled(jobType)).isTrue();
+    assertThatExceptionOfType(JobSubmissionIsThrottledException.class)
+        .isThrownBy(() -> jobAdmissionService.requireAdmission(jobType))
+        .withMessage("Too many queued jobs of jobType 'solving_slae'. Retry later.")
+        .satisfies(e -> assertThat(e.getRetryAfter()).isEqualTo(RETRY_AFTER));
+
+    // Two queued jobs are above the low watermark, so submissions stay rejected.
+    jobTestFixture.forceStatus(first, JobStatus.INPUTS_PREPARED);
+    jobAdmissionService.refresh();
+    assertThat(jobAdmissionService.isThrottled(jobType)).isTrue();
+
+    jobTestFixture.forceStatus(second, JobStatus.INPUTS_PREPARED);
+    jobAdmissionService.refresh();
+    assertThat(jobAdmissionService.isThrottled(jobType)).isFalse();
+    assertThatNoException().isThrownBy(() -> jobAdmissionService.requireAdmission(jobType));
+  }
+
+  @Test
+  void testOldestJobAgeThrottlesSubmissions() {
+    var jobType = "solving_slae_parallel";
+    var jobId = newSubmittedJob(jobType, BASE_EVENT_TIME.minus(Duration.ofHours(2)));
+
+    jobAdmissionService.refresh();
+    assertThat(jobAdmissionService.isThrottled(jobType)).isTrue();
+
+    jobTestFixture.forceStatus(jobId, JobStatus.IN_PROGRESS);
+    jobAdmissionService.refresh();
+    assertThat(jobAdmissionService.isThrottled(jobType)).isFalse();
+  }
+
+  @Test
+  void testJobsHeldBackByUserQuotaDoNotThrottleOtherUsers() {
+    var jobType = "solving_slae_parallel";
+    var userId = userLookupService.findUserId(GUEST);
+    for (var i = 0; i < 5; i++) {
+      var jobId =
+          jobCreationService
+              .createOrReuseDraftJob(userId, "session-" + UUID.randomUUID(), jobType)
+              .jobId();
+      jobTestFixture.forceSubmitted(jobId, BASE_EVENT_TIME.minus(Duration.ofHours(2)));
+    }
+    // One job is dispatched, the other four wait in pending jobs for the guest's active job.
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+
+    jobAdmissionService.refresh();
+
+    // The held back jobs were submitted long ago, but only the dispatched one is queued and it has
+    // just been dispatched. Admission is per job type, so other users can still submit.
+    assertThat(jobAdmissionService.isThrottled(jobType)).isFalse();
+    assertThatNoException().isThrownBy(() -> jobAdmissionService.requireAdmission(jobType));
+  }
+
+  @Test
+  void testRecordedDispatchesThrottleBeforeNextSample() {
+    var jobType = "job_type_without_own_watermarks";
+
+    jobAdmissionService.recordDispatch(jobType, 1);
+    assertThat(jobAdmissionService.isThrottled(jobType)).isFalse();
+    jobAdmissionService.recordDispatch(jobType, 1);
+    assertThat(jobAdmissionService.isThrottled(jobType)).isTrue();
+
+    // No job of this type is queued in the database, so the next sample releases it.
+    jobAdmissionService.refresh();
+    assertThat(jobAdmissionService.isThrottled(jobType)).isFalse();
+  }
+
+  @Test
+  void testRolledBackDispatchIsNotRecorded() {
+    var jobType = "job_type_without_own_watermarks";
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          jobAdmissionService.recordDispatch(jobType, 2);
+          status.setRollbackOnly();
+        });
+
+    assertThat(jobAdmissionService.isThrottled(jobType)).isFalse();
+  }
+
+  private String newSubmittedJob(String jobType, Instant submittedAt) {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId =
+        jobCreationService
+            .createOrReuseDraftJob(userId, "session-" + UUID.randomUUID(), jobType)
+            .jobId();
+    jobTestFixture.forceStatus(jobId, JobStatus.SUBMITTED);
+    jobTestFixture.forceSubmittedAt(jobId, submittedAt);
+    jobTestFixture.forceDispatchedAt(jobId, submittedAt);
+    return jobId;
+  }
+}
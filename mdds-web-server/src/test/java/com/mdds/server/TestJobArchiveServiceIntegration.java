@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.JobListService.JobListFilter;
+import com.mdds.server.JobStatusService.JobStatusResult;
+import com.mdds.server.support.JobTestFixture;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {"spring.config.import=classpath:test-job-profiles.yml"})
+@Testcontainers
+@Import({TestJobArchiveServiceIntegration.FixedClockConfiguration.class, JobTestFixture.class})
+class TestJobArchiveServiceIntegration {
+
+  private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+  private static final JobListFilter NO_FILTER = new JobListFilter(null, null, null, null);
+  private static final Instant LONG_AGO = BASE_EVENT_TIME.minus(Duration.ofDays(31));
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class FixedClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock fixedClock() {
+      return Clock.fixed(BASE_EVENT_TIME, ZoneOffset.UTC);
+    }
+  }
+
+  @Autowired private UserLookupService userLookupService;
+  @Autowired private JobCreationService jobCreationService;
+  @Autowired private JobListService jobListService;
+  @Autowired private JobStatusService jobStatusService;
+  @Autowired private JobArchiver jobArchiver;
+  @Autowired private JobTestFixture jobTestFixture;
+
+  @MockitoBean(name = "jobQueueClient")
+  private QueueClient jobQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("mdds.object-storage.bucket", () -> "mdds");
+    registry.add("mdds.object-storage.region", () -> "us-east-1");
+    registry.add("mdds.object-storage.public-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.internal-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.access-key", MINIO::getUserName);
+    registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
+    registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+  }
+
+  private static final String GUEST = "guest";
+
+  @Test
+  void testArchiveMovesOldTerminalJobsOnly() {
+    var userId = userLookupService.findUserId(GUEST);
+    var oldDoneJobId = newFinishedJob(userId, JobStatus.DONE, LONG_AGO);
+    var oldCancelledJobId = newFinishedJob(userId, JobStatus.CANCELLED, LONG_AGO);
+    var recentErrorJobId = newFinishedJob(userId, JobStatus.ERROR, BASE_EVENT_TIME);
+    var oldRunningJobId = newFinishedJob(userId, JobStatus.IN_PROGRESS, LONG_AGO);
+
+    assertThat(jobArchiver.archive()).isGreaterThanOrEqualTo(2);
+
+    assertThat(jobTestFixture.existsInHotTable(oldDoneJobId)).isFalse();
+    assertThat(jobTestFixture.existsInHotTable(oldCancelledJobId)).isFalse();
+    assertThat(jobTestFixture.existsInHotTable(recentErrorJobId)).isTrue();
+    assertThat(jobTestFixture.existsInHotTable(oldRunningJobId)).isTrue();
+  }
+
+  @Test
+  void testArchivedJobIsStillVisibleToReadApis() {
+    var userId = userLookupService.findUserId(GUEST);
+    var hotJobId = newDraftJob(userId, UUID.randomUUID().toString());
+    var archivedJobId = newFinishedJob(userId, JobStatus.DONE, LONG_AGO);
+
+    jobArchiver.archive();
+
+    var status = jobStatusService.status(GUEST, archivedJobId).job();
+    assertThat(status.status()).isEqualTo(JobStatus.DONE.toString());
+    assertThat(status.finishedAt()).isEqualTo(LONG_AGO);
+
+    var batch = jobStatusService.statuses(userId, List.of(hotJobId, archivedJobId));
+    assertThat(batch.found())
+        .extracting(JobStatusResult::jobId)
+        .containsExactly(hotJobId, archivedJobId);
+    assertThat(batch.notFound()).isEmpty();
+
+    var page = jobListService.list(userId, NO_FILTER, 500, null);
+    assertThat(page.jobs())
+        .extracting(JobStatusResult::jobId)
+        .contains(hotJobId, archivedJobId)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void testUploadSessionOfArchivedJobCanNotBeReused() {
+    var userId = userLookupService.findUserId(GUEST);
+    var uploadSessionId = UUID.randomUUID().toString();
+    var jobId = newDraftJob(userId, uploadSessionId);
+    jobTestFixture.forceStatus(jobId, JobStatus.DONE);
+    jobTestFixture.forceFinishedAt(jobId, LONG_AGO);
+
+    jobArchiver.archive();
+
+    assertThatThrownBy(
+            () -> jobCreationService.createOrReuseDraftJob(userId, uploadSessionId, "solving_slae"))
+        .isInstanceOf(JobIsNotDraftException.class)
+        .hasMessageContaining(jobId);
+  }
+
+  private String newFinishedJob(long userId, JobStatus status, Instant finishedAt) {
+    var jobId = newDraftJob(userId, UUID.randomUUID().toString());
+    jobTestFixture.forceStatus(jobId, status);
+    jobTestFixture.forceFinishedAt(jobId, finishedAt);
+    return jobId;
+  }
+
+  private String newDraftJob(long userId, String uploadSessionId) {
+    return jobCreationService
+        .createOrReuseDraftJob(userId, uploadSessionId, "solving_slae")
+        .jobId();
+  }
+}
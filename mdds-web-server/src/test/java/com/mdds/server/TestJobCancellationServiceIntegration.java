@@ -8,8 +8,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.mdds.domain.JobStatus;
@@ -90,22 +90,26 @@ class TestJobCancellationServiceIntegration {
     var userId = userLookupService.findUserId(login);
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     var workerId = newWorkerId();
-    var job = jobsRepository.findById(jobId).orElseThrow();
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     job.setWorkerId(workerId);
     job.setStatus(JobStatus.IN_PROGRESS);
     jobsRepository.save(job);
 
     jobCancellationService.cancel(userId, jobId);
-    job = jobsRepository.findById(jobId).orElseThrow();
+    job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     var queueName = "cancel.queue-" + workerId;
     assertThat(job.getStatus()).isEqualTo(JobStatus.CANCEL_REQUESTED);
-    verify(cancelQueueClient)
-        .publish(
-            eq(queueName),
+    verify(cancelQueueClient, timeout(5_000))
+        .publishConfirmed(
             argThat(
-                message ->
-                    message.payload().equals(new CancelJobRequestDTO(jobId))
-                        && message.headers().isEmpty()));
+                messages ->
+                    messages.stream()
+                        .anyMatch(
+                            m ->
+                                m.queueName().equals(queueName)
+                                    && m.message().payload().equals(new CancelJobRequestDTO(jobId))
+                                    && m.message().headers().isEmpty())),
+            any());
   }
 
   private static Stream<JobStatus> jobTerminalStatusValues() {
@@ -120,7 +124,7 @@ class TestJobCancellationServiceIntegration {
     var userId = userLookupService.findUserId(GUEST);
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     var workerId = newWorkerId();
-    var job = jobsRepository.findById(jobId);
+    var job = jobsRepository.findById(UUID.fromString(jobId));
 
     job.ifPresentOrElse(
         value -> {
@@ -140,7 +144,7 @@ class TestJobCancellationServiceIntegration {
                 + "' is in terminal state '"
                 + jobStatus.getCode()
                 + "' and cancellation is not allowed.");
-    verify(cancelQueueClient, never()).publish(any(), any());
+    verify(cancelQueueClient, never()).publishConfirmed(any(), any());
   }
 
   private static Stream<JobStatus> jobInvalidStatusValues() {
@@ -155,7 +159,7 @@ class TestJobCancellationServiceIntegration {
     var userId = userLookupService.findUserId(GUEST);
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     var workerId = newWorkerId();
-    var job = jobsRepository.findById(jobId);
+    var job = jobsRepository.findById(UUID.fromString(jobId));
 
     job.ifPresentOrElse(
         value -> {
@@ -175,7 +179,7 @@ class TestJobCancellationServiceIntegration {
                 + "' is in state '"
                 + jobStatus.getCode()
                 + "' and cancellation is supported only for 'IN_PROGRESS' jobs.");
-    verify(cancelQueueClient, never()).publish(any(), any());
+    verify(cancelQueueClient, never()).publishConfirmed(any(), any());
   }
 
   @Test
@@ -185,7 +189,7 @@ class TestJobCancellationServiceIntegration {
     var adminUserId = userLookupService.findUserId(ADMIN);
     var jobId = jobCreationService.createOrReuseDraftJob(adminUserId, sessionId, jobType).jobId();
     var workerId = newWorkerId();
-    var job = jobsRepository.findById(jobId);
+    var job = jobsRepository.findById(UUID.fromString(jobId));
 
     job.ifPresentOrElse(
         value -> {
@@ -200,7 +204,7 @@ class TestJobCancellationServiceIntegration {
     assertThatExceptionOfType(JobDoesNotExistException.class)
         .isThrownBy(() -> jobCancellationService.cancel(guestUserId, jobId))
         .withMessage("Job with id '" + jobId + "' does not exist.");
-    verify(cancelQueueClient, never()).publish(any(), any());
+    verify(cancelQueueClient, never()).publishConfirmed(any(), any());
   }
 
   @Test
@@ -209,7 +213,7 @@ class TestJobCancellationServiceIntegration {
     var jobType = "solving_slae";
     var userId = userLookupService.findUserId(GUEST);
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
-    var job = jobsRepository.findById(jobId);
+    var job = jobsRepository.findById(UUID.fromString(jobId));
 
     job.ifPresentOrElse(
         value -> {
@@ -223,7 +227,7 @@ class TestJobCancellationServiceIntegration {
     assertThatExceptionOfType(JobHasNoWorkerAssignedException.class)
         .isThrownBy(() -> jobCancellationService.cancel(userId, jobId))
         .withMessage("Job '" + jobId + "' is in state 'IN_PROGRESS' but workerId is not assigned.");
-    verify(cancelQueueClient, never()).publish(any(), any());
+    verify(cancelQueueClient, never()).publishConfirmed(any(), any());
   }
 
   @Test
@@ -233,7 +237,7 @@ class TestJobCancellationServiceIntegration {
     assertThatExceptionOfType(JobDoesNotExistException.class)
         .isThrownBy(() -> jobCancellationService.cancel(userId, jobId))
         .withMessage("Job with id '" + jobId + "' does not exist.");
-    verify(cancelQueueClient, never()).publish(any(), any());
+    verify(cancelQueueClient, never()).publishConfirmed(any(), any());
   }
 
   @Test
@@ -243,13 +247,13 @@ class TestJobCancellationServiceIntegration {
     var userId = userLookupService.findUserId(GUEST);
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     var workerId = newWorkerId();
-    var job = jobsRepository.findById(jobId).orElseThrow();
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     job.setStatus(JobStatus.CANCEL_REQUESTED);
     job.setWorkerId(workerId);
     jobsRepository.save(job);
 
     jobCancellationService.cancel(userId, jobId);
-    verify(cancelQueueClient, never()).publish(any(), any());
+    verify(cancelQueueClient, never()).publishConfirmed(any(), any());
   }
 
   private static String newSessionId() {
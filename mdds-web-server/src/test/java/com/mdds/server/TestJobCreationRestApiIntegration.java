@@ -103,7 +103,7 @@ class TestJobCreationRestApiIntegration {
             new CreateJobRequestDTO("solving_slae"));
 
     var jobId = JsonHelper.fromJson(response.body(), CreateJobResponseDTO.class).jobId();
-    var jobResponse = jobsRepository.findById(jobId);
+    var jobResponse = jobsRepository.findById(UUID.fromString(jobId));
     var status = com.mdds.domain.JobStatus.SUBMITTED;
     jobResponse.ifPresent(
         job -> {
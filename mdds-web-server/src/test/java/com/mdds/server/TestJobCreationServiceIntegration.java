@@ -8,6 +8,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.mdds.domain.JobStatus;
+import com.mdds.persistence.entity.JobStatusCounterEntity;
+import com.mdds.server.jpa.JobStatusCountersRepository;
 import com.mdds.server.support.JobTestFixture;
 import java.time.Duration;
 import java.util.HashSet;
@@ -41,6 +43,7 @@ class TestJobCreationServiceIntegration {
   @Autowired private JobCreationService jobCreationService;
   @Autowired private UserLookupService userLookupService;
   @Autowired private JobTestFixture jobFixture;
+  @Autowired private JobStatusCountersRepository jobStatusCountersRepository;
 
   private static final Pattern UUID_REGEX_PATTERN =
       Pattern.compile("^[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}$");
@@ -83,6 +86,16 @@ class TestJobCreationServiceIntegration {
     assertSingleJobRow(userId, sessionId);
   }
 
+  @Test
+  void testCreatedDraftJobIsCountedOnce() {
+    var sessionId = newSessionId();
+    var userId = userLookupService.findUserId(GUEST);
+    var before = draftJobs();
+    createOrReuseDraftJob(userId, sessionId);
+    createOrReuseDraftJob(userId, sessionId);
+    assertThat(draftJobs()).isEqualTo(before + 1);
+  }
+
   @Test
   void testCreateOrReuseDraftJobThrowsExceptionForInvalidJobType() {
     var sessionId = newSessionId();
@@ -293,6 +306,13 @@ class TestJobCreationServiceIntegration {
     }
   }
 
+  private long draftJobs() {
+    return jobStatusCountersRepository.findAll().stream()
+        .filter(counter -> counter.getStatus().equals(JobStatus.DRAFT.getCode()))
+        .mapToLong(JobStatusCounterEntity::getJobs)
+        .sum();
+  }
+
   private static String newSessionId() {
     return "session-" + UUID.randomUUID();
   }
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.dto.worker.v1.WorkerHeartbeatDTO;
+import com.mdds.persistence.entity.JobTypeCounterEntity;
+import com.mdds.persistence.entity.OutboxEntity;
+import com.mdds.persistence.entity.UserJobCounterEntity;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.jpa.JobTypeCountersRepository;
+import com.mdds.server.jpa.JobsRepository;
+import com.mdds.server.jpa.OutboxRepository;
+import com.mdds.server.jpa.PendingJobsRepository;
+import com.mdds.server.jpa.UserJobCountersRepository;
+import com.mdds.server.jpa.WorkersRepository;
+import com.mdds.server.support.JobTestFixture;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {"spring.config.import=classpath:test-job-profiles.yml"})
+@Testcontainers
+@Import({TestJobDispatchServiceIntegration.FixedClockConfiguration.class, JobTestFixture.class})
+class TestJobDispatchServiceIntegration {
+
+  private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class FixedClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock fixedClock() {
+      return Clock.fixed(BASE_EVENT_TIME, ZoneOffset.UTC);
+    }
+  }
+
+  @Autowired private UserLookupService userLookupService;
+  @Autowired private JobCreationService jobCreationService;
+  @Autowired private JobDispatchService jobDispatchService;
+  @Autowired private JobStatusUpdateService jobStatusUpdateService;
+  @Autowired private PendingJobsRepository pendingJobsRepository;
+  @Autowired private UserJobCountersRepository userJobCountersRepository;
+  @Autowired private JobTypeCountersRepository jobTypeCountersRepository;
+  @Autowired private WorkerRegistryService workerRegistryService;
+  @Autowired private WorkersRepository workersRepository;
+  @Autowired private OutboxRepository outboxRepository;
+  @Autowired private JobsRepository jobsRepository;
+  @Autowired private LapsedWorkerScanner lapsedWorkerScanner;
+  @Autowired private JobTestFixture jobTestFixture;
+
+  @MockitoBean(name = "jobQueueClient")
+  private QueueClient jobQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("mdds.object-storage.bucket", () -> "mdds");
+    registry.add("mdds.object-storage.region", () -> "us-east-1");
+    registry.add("mdds.object-storage.public-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.internal-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.access-key", MINIO::getUserName);
+    registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
+    registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+    // Rounds are run by the tests, not by the scheduler.
+    registry.add("mdds.job-dispatch.poll-interval", () -> "PT1H");
+    registry.add("mdds.job-dispatch.max-active-jobs-per-user", () -> "3");
+    registry.add("mdds.job-dispatch.max-queued-jobs-per-job-type", () -> "3");
+    // Dispatched messages stay in the outbox, so tests can see their queues.
+    registry.add("mdds.outbox.enabled", () -> "false");
+    // Lapsed workers are scanned by the tests.
+    registry.add("mdds.worker-registry.reassign-enabled", () -> "false");
+  }
+
+  private static final String GUEST = "guest";
+  private static final String ADMIN = "admin";
+  private static final String JOB_TYPE = "solving_slae";
+
+  @BeforeEach
+  void resetDispatcherState() {
+    pendingJobsRepository.deleteAll();
+    userJobCountersRepository.deleteAll();
+    jobTypeCountersRepository.deleteAll();
+    workersRepository.deleteAll();
+    outboxRepository.deleteAll();
+  }
+
+  @Test
+  void testLaterUserIsNotStarvedByEarlierBurst() {
+    var guestJobs = newSubmittedJobs(GUEST, 4);
+    var adminJob = newSubmittedJobs(ADMIN, 1).getFirst();
+
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(3);
+
+    // Both users start with no active jobs, so they alternate instead of following submit order.
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(adminJob))).isFalse();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(0)))).isFalse();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(1)))).isFalse();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(2)))).isTrue();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(3)))).isTrue();
+    assertThat(queuedJobs(JOB_TYPE)).isEqualTo(3);
+    assertThat(counter(GUEST).getActiveJobs()).isEqualTo(2);
+    assertThat(counter(GUEST).getPendingJobs()).isEqualTo(2);
+    assertThat(counter(ADMIN).getActiveJobs()).isEqualTo(1);
+    assertThat(counter(ADMIN).getPendingJobs()).isZero();
+
+    // The job type is at its queued limit until a Worker picks a job up.
+    assertThat(jobDispatchService.dispatchBatch()).isZero();
+    applyStatus(adminJob, JobStatus.INPUTS_PREPARED, 0);
+    assertThat(queuedJobs(JOB_TYPE)).isEqualTo(2);
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(2)))).isFalse();
+  }
+
+  @Test
+  void testUserAtQuotaIsSkippedUntilJobFinishes() {
+    var guestJobs = newSubmittedJobs(GUEST, 4);
+
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(3);
+    for (var jobId : guestJobs.subList(0, 3)) {
+      applyStatus(jobId, JobStatus.INPUTS_PREPARED, 0);
+    }
+    assertThat(queuedJobs(JOB_TYPE)).isZero();
+
+    // Queue has room, but the user already has the maximum of active jobs.
+    assertThat(jobDispatchService.dispatchBatch()).isZero();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(3)))).isTrue();
+
+    applyStatus(guestJobs.getFirst(), JobStatus.ERROR, 0);
+    assertThat(counter(GUEST).getActiveJobs()).isEqualTo(2);
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(guestJobs.get(3)))).isFalse();
+    assertThat(counter(GUEST).getActiveJobs()).isEqualTo(3);
+    assertThat(counter(GUEST).getPendingJobs()).isZero();
+  }
+
+  @Test
+  void testJobsArePackedOntoSmallestFittingWorker() {
+    // solving_slae needs 2 cores and 2048 MB, the tiny worker is too small for it.
+    registerWorker("tiny", 1, 1024, 4, BASE_EVENT_TIME);
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME);
+    registerWorker("big", 64, 262144, 1, BASE_EVENT_TIME);
+    var jobIds = newSubmittedJobs(GUEST, 3);
+
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(2);
+    assertThat(outboxDestinations())
+        .containsExactly("queue-solving_slae.small", "queue-solving_slae.big");
+
+    // Both fitting workers are full until one of them takes its job and reports a free slot.
+    assertThat(jobDispatchService.dispatchBatch()).isZero();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(jobIds.get(2)))).isTrue();
+
+    applyStatus(jobIds.getFirst(), JobStatus.IN_PROGRESS, 10);
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME.plusSeconds(1));
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+    assertThat(outboxDestinations())
+        .containsExactly(
+            "queue-solving_slae.small", "queue-solving_slae.big", "queue-solving_slae.small");
+  }
+
+  @Test
+  void testJobsGoToSharedQueueWithoutLiveWorkers() {
+    registerWorker("stale", 4, 8192, 1, BASE_EVENT_TIME.minusSeconds(3600));
+    newSubmittedJobs(GUEST, 2);
+
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(2);
+    assertThat(outboxDestinations()).containsExactly("queue-solving_slae", "queue-solving_slae");
+  }
+
+  @Test
+  void testWorkersOfPoolShareItsQueue() {
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME);
+    registerPoolWorker("a", 16, 65536, 1);
+    registerPoolWorker("b", 8, 32768, 1);
+    newSubmittedJobs(GUEST, 3);
+
+    // The pool is as big as its smallest worker and has the free slots of both.
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(3);
+    assertThat(outboxDestinations())
+        .containsExactly(
+            "queue-solving_slae.small",
+            "queue-solving_slae.pool-gpu",
+            "queue-solving_slae.pool-gpu");
+  }
+
+  @Test
+  void testHeartbeatKeepsSlotsOfJobsNotTakenYet() {
+    registerWorker("small", 4, 8192, 2, BASE_EVENT_TIME);
+    var jobIds = newSubmittedJobs(GUEST, 3);
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(2);
+
+    // The heartbeat arrives before the worker takes either job from its queue.
+    registerWorker("small", 4, 8192, 2, BASE_EVENT_TIME.plusSeconds(1));
+    assertThat(jobDispatchService.dispatchBatch()).isZero();
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(jobIds.get(2)))).isTrue();
+
+    // The reported free slot still belongs to the job left in the queue.
+    applyStatus(jobIds.getFirst(), JobStatus.IN_PROGRESS, 10);
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME.plusSeconds(2));
+    assertThat(jobDispatchService.dispatchBatch()).isZero();
+
+    applyStatus(jobIds.get(1), JobStatus.IN_PROGRESS, 10);
+    applyStatus(jobIds.getFirst(), JobStatus.ERROR, 10);
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME.plusSeconds(3));
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+    assertThat(outboxDestinations())
+        .containsExactly(
+            "queue-solving_slae.small", "queue-solving_slae.small", "queue-solving_slae.small");
+  }
+
+  @Test
+  void testJobsOfLapsedWorkerArePlacedAgain() {
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME);
+    var jobId = UUID.fromString(newSubmittedJobs(GUEST, 1).getFirst());
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+    assertThat(jobsRepository.findById(jobId).orElseThrow().getPlacementQueueName())
+        .isEqualTo("queue-solving_slae.small");
+
+    lapse("worker-small");
+    registerWorker("big", 64, 262144, 1, BASE_EVENT_TIME);
+
+    assertThat(lapsedWorkerScanner.scan()).isEqualTo(1);
+    assertThat(outboxDestinations())
+        .containsExactly("queue-solving_slae.small", "queue-solving_slae.big");
+    assertThat(jobsRepository.findById(jobId).orElseThrow().getPlacementQueueName())
+        .isEqualTo("queue-solving_slae.big");
+    // Counted once, the job was queued before and is queued now.
+    assertThat(queuedJobs(JOB_TYPE)).isEqualTo(1);
+
+    assertThat(lapsedWorkerScanner.scan()).isZero();
+  }
+
+  @Test
+  void testJobsOfLapsedWorkerGoToSharedQueueWithoutLiveWorkers() {
+    registerWorker("small", 4, 8192, 1, BASE_EVENT_TIME);
+    var jobId = UUID.fromString(newSubmittedJobs(GUEST, 1).getFirst());
+    assertThat(jobDispatchService.dispatchBatch()).isEqualTo(1);
+
+    lapse("worker-small");
+
+    assertThat(lapsedWorkerScanner.scan()).isEqualTo(1);
+    assertThat(outboxDestinations())
+        .containsExactly("queue-solving_slae.small", "queue-solving_slae");
+    assertThat(jobsRepository.findById(jobId).orElseThrow().getPlacementQueueName()).isNull();
+    assertThat(lapsedWorkerScanner.scan()).isZero();
+  }
+
+  @Test
+  void testHeartbeatWithMoreFreeThanTotalSlotsIsRejected() {
+    var heartbeat =
+        new WorkerHeartbeatDTO(
+            "worker-1", JOB_TYPE, "queue-solving_slae", null, 4, 8192, 1, 2, BASE_EVENT_TIME);
+
+    assertThatExceptionOfType(IllegalWorkerHeartbeatException.class)
+        .isThrownBy(() -> workerRegistryService.register(heartbeat))
+        .withMessage("freeSlots must be between 0 and totalSlots.");
+  }
+
+  private void registerWorker(
+      String name, int cpuCores, long memoryMb, int freeSlots, Instant eventTime) {
+    workerRegistryService.register(
+        new WorkerHeartbeatDTO(
+            "worker-" + name,
+            JOB_TYPE,
+            "queue-solving_slae." + name,
+            null,
+            cpuCores,
+            memoryMb,
+            freeSlots,
+            freeSlots,
+            eventTime));
+  }
+
+  private void registerPoolWorker(String name, int cpuCores, long memoryMb, int freeSlots) {
+    workerRegistryService.register(
+        new WorkerHeartbeatDTO(
+            "worker-" + name,
+            JOB_TYPE,
+            "queue-solving_slae.pool-gpu",
+            "gpu",
+            cpuCores,
+            memoryMb,
+            freeSlots,
+            freeSlots,
+            BASE_EVENT_TIME));
+  }
+
+  private void lapse(String workerId) {
+    var worker = workersRepository.findById(workerId).orElseThrow();
+    worker.setLastHeartbeatAt(BASE_EVENT_TIME.minusSeconds(3600));
+    workersRepository.save(worker);
+  }
+
+  private List<String> outboxDestinations() {
+    return outboxRepository.findAll(Sort.by("id")).stream()
+        .map(OutboxEntity::getDestination)
+        .toList();
+  }
+
+  private void applyStatus(String jobId, JobStatus status, int progress) {
+    jobStatusUpdateService.apply(
+        new JobStatusUpdateDTO(
+            jobId, "worker-1", status.getCode(), progress, "Worker update", BASE_EVENT_TIME));
+  }
+
+  private UserJobCounterEntity counter(String login) {
+    return userJobCountersRepository.findById(userLookupService.findUserId(login)).orElseThrow();
+  }
+
+  private int queuedJobs(String jobType) {
+    return jobTypeCountersRepository
+        .findById(jobType)
+        .map(JobTypeCounterEntity::getQueuedJobs)
+        .orElse(0);
+  }
+
+  private List<String> newSubmittedJobs(String login, int count) {
+    var userId = userLookupService.findUserId(login);
+    var jobIds = new ArrayList<String>();
+    for (var i = 0; i < count; i++) {
+      var jobId =
+          jobCreationService
+              .createOrReuseDraftJob(userId, "session-" + UUID.randomUUID(), JOB_TYPE)
+              .jobId();
+      jobTestFixture.forceSubmitted(jobId, BASE_EVENT_TIME.plusSeconds(i));
+      jobIds.add(jobId);
+    }
+    return jobIds;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TestJobIds {
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  @Test
+  void testNewIdIsVersion7WithCreationTime() {
+    var id = JobIds.newId(NOW);
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+  }
+
+  @Test
+  void testLaterIdsAreGreaterInDatabaseOrder() {
+    var earlier = JobIds.newId(NOW);
+    var later = JobIds.newId(NOW.plusMillis(1));
+    assertThat(JobIds.DATABASE_ORDER.compare(earlier, later)).isNegative();
+    assertThat(earlier.toString()).isLessThan(later.toString());
+  }
+
+  @Test
+  void testDatabaseOrderComparesUnsigned() {
+    var low = UUID.fromString("7fffffff-ffff-7fff-bfff-ffffffffffff");
+    var high = UUID.fromString("80000000-0000-7000-8000-000000000000");
+    assertThat(low.compareTo(high)).isPositive();
+    assertThat(JobIds.DATABASE_ORDER.compare(low, high)).isNegative();
+  }
+
+  @Test
+  void testParseCanonicalId() {
+    var id = JobIds.newId(NOW);
+    assertThat(JobIds.parse(id.toString())).contains(id);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"job-1", "1-2-3-4-5", "0192f1a0-0000-7000-8000-00000000000z"})
+  void testParseRejectsNonCanonicalId(String jobId) {
+    assertThat(JobIds.parse(jobId)).isEmpty();
+  }
+}
@@ -9,10 +9,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.mdds.domain.JobStatus;
+import com.mdds.server.ObjectStorageService.UploadedPart;
 import com.mdds.server.support.JobTestFixture;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -210,6 +213,79 @@ class TestJobInputUploadServiceIntegration {
                 + "' for the given jobType 'solving_slae'.");
   }
 
+  @Test
+  void testIssuePartUploadUrlsSignsEveryRequestedPart() throws URISyntaxException {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId = createOrReuseDraftJob(userId, newSessionId(), "solving_slae").jobId();
+    var uploadId = "upload-" + UUID.randomUUID();
+
+    var result =
+        jobInputUploadService.issuePartUploadUrls(
+            userId, jobId, "matrix", uploadId, List.of(3, 1, 2));
+
+    assertThat(result.uploadUrls().keySet()).containsExactly(3, 1, 2);
+    for (var entry : result.uploadUrls().entrySet()) {
+      var url = entry.getValue();
+      assertThat(url.getQuery())
+          .contains("partNumber=" + entry.getKey())
+          .contains("uploadId=" + uploadId);
+      assertExpiresAtMatchesSignature(result.expiresAt(), url, PRE_SIGNED_PUT_TTL);
+    }
+  }
+
+  private static Stream<Arguments> invalidPartNumbers() {
+    return Stream.of(
+        Arguments.of(List.of(0), "Part number 0 is out of range [1, 10000]."),
+        Arguments.of(List.of(10_001), "Part number 10001 is out of range [1, 10000]."),
+        Arguments.of(List.of(1, 2, 1), "Part number 1 is duplicated."),
+        Arguments.of(List.of(), "Part numbers are null or empty."),
+        Arguments.of(
+            IntStream.rangeClosed(1, 1_001).boxed().toList(),
+            "Too many part numbers: 1001. Maximum is 1000 per request."));
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidPartNumbers")
+  void testIssuePartUploadUrlsInvalidPartNumbers(List<Integer> partNumbers, String message) {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId = createOrReuseDraftJob(userId, newSessionId(), "solving_slae").jobId();
+
+    assertThatExceptionOfType(InvalidMultipartUploadPartsException.class)
+        .isThrownBy(
+            () ->
+                jobInputUploadService.issuePartUploadUrls(
+                    userId, jobId, "matrix", "upload-id", partNumbers))
+        .withMessage(message);
+  }
+
+  @Test
+  void testCompleteMultipartUploadBlankETag() {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId = createOrReuseDraftJob(userId, newSessionId(), "solving_slae").jobId();
+    var parts = List.of(new UploadedPart(1, "etag-1"), new UploadedPart(2, " "));
+
+    assertThatExceptionOfType(InvalidMultipartUploadPartsException.class)
+        .isThrownBy(
+            () ->
+                jobInputUploadService.completeMultipartUpload(
+                    userId, jobId, "matrix", "upload-id", parts))
+        .withMessage("ETag of part 2 is null or blank.");
+  }
+
+  @Test
+  void testCreateMultipartUploadInvalidInputJobState() {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId = createOrReuseDraftJob(userId, newSessionId(), "solving_slae").jobId();
+    jobFixture.forceStatus(jobId, JobStatus.SUBMITTED);
+
+    assertThatExceptionOfType(JobIsNotDraftException.class)
+        .isThrownBy(() -> jobInputUploadService.createMultipartUpload(userId, jobId, "matrix"))
+        .withMessage(
+            "Job '"
+                + jobId
+                + "' is not in DRAFT state and no more input artifacts can be uploaded.");
+  }
+
   private static String newSessionId() {
     return "session-" + UUID.randomUUID();
   }
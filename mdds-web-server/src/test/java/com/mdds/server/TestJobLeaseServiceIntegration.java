@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.dto.worker.v1.WorkerHeartbeatDTO;
+import com.mdds.persistence.entity.JobEntity;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.jpa.JobsRepository;
+import com.mdds.server.support.JobTestFixture;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {"spring.config.import=classpath:test-job-profiles.yml"})
+@Testcontainers
+@Import({TestJobLeaseServiceIntegration.FixedClockConfiguration.class, JobTestFixture.class})
+class TestJobLeaseServiceIntegration {
+
+  private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Instant LEASE_EXPIRY = BASE_EVENT_TIME.plusSeconds(30);
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class FixedClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock fixedClock() {
+      return Clock.fixed(BASE_EVENT_TIME, ZoneOffset.UTC);
+    }
+  }
+
+  @Autowired private UserLookupService userLookupService;
+  @Autowired private JobCreationService jobCreationService;
+  @Autowired private JobStatusUpdateService jobStatusUpdateService;
+  @Autowired private JobLeaseService jobLeaseService;
+  @Autowired private WorkerRegistryService workerRegistryService;
+  @Autowired private JobsRepository jobsRepository;
+  @Autowired private JobTestFixture jobTestFixture;
+
+  @MockitoBean(name = "jobQueueClient")
+  private QueueClient jobQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("mdds.object-storage.bucket", () -> "mdds");
+    registry.add("mdds.object-storage.region", () -> "us-east-1");
+    registry.add("mdds.object-storage.public-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.internal-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.access-key", MINIO::getUserName);
+    registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
+    registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+    registry.add("mdds.job-lease.duration", () -> "PT30S");
+    // Scans are run by the tests, not by the scheduler.
+    registry.add("mdds.job-lease.scan-interval", () -> "PT1H");
+  }
+
+  private static final String GUEST = "guest";
+  private static final String JOB_TYPE = "solving_slae";
+
+  @Test
+  void testStatusUpdatesTakeAndTerminalStatusReleasesLease() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+
+    assertThat(job(jobId).getLeaseExpiresAt()).isEqualTo(LEASE_EXPIRY);
+
+    applyStatus(jobId, workerId, JobStatus.DONE, 100);
+
+    assertThat(job(jobId).getLeaseExpiresAt()).isNull();
+    assertThat(jobLeaseService.expireBatch(LEASE_EXPIRY.plusSeconds(3600), 100)).isZero();
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.DONE);
+  }
+
+  @Test
+  void testProgressReportRenewsLeaseOnlyWhenItRunsLow() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+    var lowLease = BASE_EVENT_TIME.plusSeconds(10);
+    jobTestFixture.forceLeaseExpiresAt(jobId, BASE_EVENT_TIME.plusSeconds(20));
+
+    applyStatus(jobId, workerId, JobStatus.IN_PROGRESS, 30);
+
+    assertThat(job(jobId).getLeaseExpiresAt()).isEqualTo(BASE_EVENT_TIME.plusSeconds(20));
+    assertThat(jobTestFixture.progress(jobId).getProgress()).isEqualTo(30);
+
+    jobTestFixture.forceLeaseExpiresAt(jobId, lowLease);
+    applyStatus(jobId, workerId, JobStatus.IN_PROGRESS, 40);
+
+    assertThat(job(jobId).getLeaseExpiresAt()).isEqualTo(LEASE_EXPIRY);
+    assertThat(jobTestFixture.progress(jobId).getProgress()).isEqualTo(40);
+  }
+
+  @Test
+  void testExpiredLeaseFailsJob() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+    var now = LEASE_EXPIRY.plusSeconds(1);
+
+    jobLeaseService.expireBatch(now, 100);
+
+    var job = job(jobId);
+    assertThat(job.getStatus()).isEqualTo(JobStatus.ERROR);
+    assertThat(job.getWorkerId()).isEqualTo(workerId);
+    assertThat(jobTestFixture.progress(jobId).getMessage())
+        .isEqualTo("Worker '" + workerId + "' stopped responding.");
+    assertThat(job.getFinishedAt()).isEqualTo(now);
+    assertThat(job.getLeaseExpiresAt()).isNull();
+    // The Worker may still be alive behind a network partition; its late update is rejected.
+    assertThatExceptionOfType(IllegalJobStatusUpdateException.class)
+        .isThrownBy(() -> applyStatus(jobId, workerId, JobStatus.IN_PROGRESS, 50));
+  }
+
+  @Test
+  void testExpiredLeaseCancelsJobWithCancelRequest() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+    jobTestFixture.forceStatus(jobId, JobStatus.CANCEL_REQUESTED);
+
+    jobLeaseService.expireBatch(LEASE_EXPIRY.plusSeconds(1), 100);
+
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.CANCELLED);
+  }
+
+  @Test
+  void testLeaseIsKeptUntilItExpires() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+
+    jobLeaseService.expireBatch(LEASE_EXPIRY, 100);
+
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.IN_PROGRESS);
+    assertThat(job(jobId).getLeaseExpiresAt()).isEqualTo(LEASE_EXPIRY);
+  }
+
+  @Test
+  void testHeartbeatRenewsLeasesOfWorkerJobs() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+    var otherJobId = newRunningJob(newWorkerId());
+    jobTestFixture.forceLeaseExpiresAt(jobId, BASE_EVENT_TIME.minusSeconds(1));
+    jobTestFixture.forceLeaseExpiresAt(otherJobId, BASE_EVENT_TIME.minusSeconds(1));
+
+    workerRegistryService.register(
+        new WorkerHeartbeatDTO(
+            workerId, JOB_TYPE, "queue-solving_slae", null, 4, 8192, 1, 0, BASE_EVENT_TIME));
+    jobLeaseService.expireBatch(BASE_EVENT_TIME, 100);
+
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.IN_PROGRESS);
+    assertThat(job(jobId).getLeaseExpiresAt()).isEqualTo(LEASE_EXPIRY);
+    assertThat(job(otherJobId).getStatus()).isEqualTo(JobStatus.ERROR);
+  }
+
+  @Test
+  void testHeartbeatKeepsLeaseWithMoreThanHalfLeft() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+    var leaseExpiresAt = LEASE_EXPIRY.minusSeconds(1);
+    jobTestFixture.forceLeaseExpiresAt(jobId, leaseExpiresAt);
+
+    workerRegistryService.register(
+        new WorkerHeartbeatDTO(
+            workerId, JOB_TYPE, "queue-solving_slae", null, 4, 8192, 1, 0, BASE_EVENT_TIME));
+
+    assertThat(job(jobId).getLeaseExpiresAt()).isEqualTo(leaseExpiresAt);
+  }
+
+  private String newRunningJob(String workerId) {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId =
+        jobCreationService
+            .createOrReuseDraftJob(userId, "session-" + UUID.randomUUID(), JOB_TYPE)
+            .jobId();
+    jobTestFixture.forceSubmitted(jobId, BASE_EVENT_TIME);
+    applyStatus(jobId, workerId, JobStatus.INPUTS_PREPARED, 0);
+    applyStatus(jobId, workerId, JobStatus.IN_PROGRESS, 1);
+    return jobId;
+  }
+
+  private void applyStatus(String jobId, String workerId, JobStatus status, int progress) {
+    jobStatusUpdateService.apply(
+        new JobStatusUpdateDTO(
+            jobId, workerId, status.getCode(), progress, "Worker update", BASE_EVENT_TIME));
+  }
+
+  private JobEntity job(String jobId) {
+    return jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
+  }
+
+  private static String newWorkerId() {
+    return "worker-" + UUID.randomUUID();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.server.JobListService.JobListFilter;
+import com.mdds.server.JobStatusService.JobStatusResult;
+import com.mdds.server.jpa.JobStatusView;
+import com.mdds.server.jpa.JobsArchiveRepository;
+import com.mdds.server.jpa.JobsRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestJobListService {
+  private static final long USER_ID = 1L;
+  private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+  private static final JobListFilter NO_FILTER = new JobListFilter(null, null, null, null);
+
+  private final JobsRepository jobsRepository = mock(JobsRepository.class);
+  private final JobsArchiveRepository jobsArchiveRepository = mock(JobsArchiveRepository.class);
+  private final JobListService jobListService =
+      new JobListService(jobsRepository, jobsArchiveRepository, new JobListProperties(10, 100));
+
+  @Test
+  void testJobArchivedBetweenQueriesIsListedOnce() {
+    var newest = view(3);
+    var archivedInBetween = view(2);
+    var oldest = view(1);
+    // The hot query still saw the job, the archive query already sees it too.
+    when(jobsRepository.findFirstPageByUserId(anyLong(), any(), any(), any(), any(), any()))
+        .thenReturn(List.of(newest, archivedInBetween));
+    when(jobsArchiveRepository.findFirstPageByUserId(anyLong(), any(), any(), any(), any(), any()))
+        .thenReturn(List.of(archivedInBetween, oldest));
+
+    var result = jobListService.list(USER_ID, NO_FILTER, null, null);
+
+    assertThat(result.jobs())
+        .extracting(JobStatusResult::jobId)
+        .containsExactly(
+            newest.getId().toString(),
+            archivedInBetween.getId().toString(),
+            oldest.getId().toString());
+    assertThat(result.nextCursor()).isNull();
+  }
+
+  @Test
+  void testHotTableIsReadBeforeArchive() {
+    jobListService.list(USER_ID, NO_FILTER, null, null);
+
+    // Read the other way round, a job archived between the queries would be in neither result.
+    var order = inOrder(jobsRepository, jobsArchiveRepository);
+    order
+        .verify(jobsRepository)
+        .findFirstPageByUserId(anyLong(), any(), any(), any(), any(), any());
+    order
+        .verify(jobsArchiveRepository)
+        .findFirstPageByUserId(anyLong(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testDuplicateDoesNotHideNextPage() {
+    var first = view(3);
+    var duplicate = view(2);
+    var third = view(1);
+    when(jobsRepository.findFirstPageByUserId(anyLong(), any(), any(), any(), any(), any()))
+        .thenReturn(List.of(first, duplicate, third));
+    when(jobsArchiveRepository.findFirstPageByUserId(anyLong(), any(), any(), any(), any(), any()))
+        .thenReturn(List.of(duplicate));
+
+    var result = jobListService.list(USER_ID, NO_FILTER, 2, null);
+
+    assertThat(result.jobs())
+        .extracting(JobStatusResult::jobId)
+        .containsExactly(first.getId().toString(), duplicate.getId().toString());
+    assertThat(result.nextCursor()).isNotNull();
+  }
+
+  private static JobStatusView view(int minutes) {
+    var createdAt = CREATED_AT.plusSeconds(60L * minutes);
+    var view = mock(JobStatusView.class);
+    when(view.getId()).thenReturn(JobIds.newId(createdAt));
+    when(view.getJobType()).thenReturn("solving_slae");
+    when(view.getStatus()).thenReturn(JobStatus.DONE);
+    when(view.getCreatedAt()).thenReturn(createdAt);
+    return view;
+  }
+}
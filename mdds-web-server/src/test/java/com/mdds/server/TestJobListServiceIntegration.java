@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.domain.UnknownJobStatusException;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.JobListService.JobListFilter;
+import com.mdds.server.JobStatusService.JobStatusResult;
+import com.mdds.server.support.JobTestFixture;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {"spring.config.import=classpath:test-job-profiles.yml"})
+@Testcontainers
+@Import({TestJobListServiceIntegration.FixedClockConfiguration.class, JobTestFixture.class})
+class TestJobListServiceIntegration {
+
+  private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+  private static final JobListFilter NO_FILTER = new JobListFilter(null, null, null, null);
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class FixedClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock fixedClock() {
+      return Clock.fixed(BASE_EVENT_TIME, ZoneOffset.UTC);
+    }
+  }
+
+  @Autowired private UserLookupService userLookupService;
+  @Autowired private JobCreationService jobCreationService;
+  @Autowired private JobListService jobListService;
+  @Autowired private JobTestFixture jobTestFixture;
+
+  @MockitoBean(name = "jobQueueClient")
+  private QueueClient jobQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("mdds.object-storage.bucket", () -> "mdds");
+    registry.add("mdds.object-storage.region", () -> "us-east-1");
+    registry.add("mdds.object-storage.public-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.internal-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.access-key", MINIO::getUserName);
+    registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
+    registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+  }
+
+  private static final String GUEST = "guest";
+  private static final String ADMIN = "admin";
+
+  @Test
+  void testListPagesThroughAllJobsWithoutDuplicates() {
+    var userId = userLookupService.findUserId(GUEST);
+    var created = new HashSet<String>();
+    for (int i = 0; i < 7; i++) {
+      created.add(newDraftJob(userId));
+    }
+
+    var listed = new ArrayList<JobStatusResult>();
+    String cursor = null;
+    do {
+      var page = jobListService.list(userId, NO_FILTER, 3, cursor);
+      assertThat(page.jobs()).hasSizeLessThanOrEqualTo(3);
+      listed.addAll(page.jobs());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    var listedIds = listed.stream().map(JobStatusResult::jobId).toList();
+    assertThat(listedIds).doesNotHaveDuplicates().containsAll(created);
+    assertThat(listed)
+        .isSortedAccordingTo(
+            Comparator.comparing(JobStatusResult::createdAt)
+                .thenComparing(JobStatusResult::jobId)
+                .reversed());
+  }
+
+  @Test
+  void testListDoesNotReturnJobsOfOtherUser() {
+    var guestId = userLookupService.findUserId(GUEST);
+    var adminId = userLookupService.findUserId(ADMIN);
+    var adminJobId = newDraftJob(adminId);
+
+    var page = jobListService.list(guestId, NO_FILTER, 500, null);
+
+    assertThat(page.jobs()).extracting(JobStatusResult::jobId).doesNotContain(adminJobId);
+  }
+
+  @Test
+  void testListFiltersByStatus() {
+    var userId = userLookupService.findUserId(ADMIN);
+    var draftJobId = newDraftJob(userId);
+    var doneJobId = newDraftJob(userId);
+    jobTestFixture.forceStatus(doneJobId, JobStatus.DONE);
+
+    var page =
+        jobListService.list(
+            userId, new JobListFilter(JobStatus.DONE.getCode(), null, null, null), 500, null);
+
+    assertThat(page.jobs())
+        .extracting(JobStatusResult::jobId)
+        .contains(doneJobId)
+        .doesNotContain(draftJobId);
+    assertThat(page.jobs())
+        .extracting(JobStatusResult::status)
+        .containsOnly(JobStatus.DONE.toString());
+  }
+
+  @Test
+  void testListFiltersByJobTypeAndCreatedAt() {
+    var userId = userLookupService.findUserId(ADMIN);
+    var jobId = newDraftJob(userId);
+
+    var inRange =
+        jobListService.list(
+            userId,
+            new JobListFilter(
+                null, "solving_slae", BASE_EVENT_TIME, BASE_EVENT_TIME.plusSeconds(1)),
+            500,
+            null);
+    var unknownJobType =
+        jobListService.list(
+            userId, new JobListFilter(null, "unknown_job_type", null, null), 500, null);
+    var outOfRange =
+        jobListService.list(
+            userId, new JobListFilter(null, null, null, BASE_EVENT_TIME), 500, null);
+
+    assertThat(inRange.jobs()).extracting(JobStatusResult::jobId).contains(jobId);
+    assertThat(unknownJobType.jobs()).isEmpty();
+    assertThat(outOfRange.jobs()).isEmpty();
+  }
+
+  @Test
+  void testListLastPageHasNoCursor() {
+    var userId = userLookupService.findUserId(GUEST);
+    newDraftJob(userId);
+
+    var page = jobListService.list(userId, NO_FILTER, 500, null);
+
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void testListInvalidLimit() {
+    var userId = userLookupService.findUserId(GUEST);
+
+    assertThatThrownBy(() -> jobListService.list(userId, NO_FILTER, 0, null))
+        .isInstanceOf(JobListLimitIsOutOfRangeException.class)
+        .hasMessage("Limit must be between 1 and 500.");
+    assertThatThrownBy(() -> jobListService.list(userId, NO_FILTER, 501, null))
+        .isInstanceOf(JobListLimitIsOutOfRangeException.class)
+        .hasMessage("Limit must be between 1 and 500.");
+  }
+
+  @Test
+  void testListInvalidCursor() {
+    var userId = userLookupService.findUserId(GUEST);
+
+    assertThatThrownBy(() -> jobListService.list(userId, NO_FILTER, null, "not-a-cursor"))
+        .isInstanceOf(InvalidJobListCursorException.class)
+        .hasMessage("Invalid cursor: 'not-a-cursor'.");
+  }
+
+  @Test
+  void testListInvalidStatus() {
+    var userId = userLookupService.findUserId(GUEST);
+    var filter = new JobListFilter("UNKNOWN", null, null, null);
+
+    assertThatThrownBy(() -> jobListService.list(userId, filter, null, null))
+        .isInstanceOf(UnknownJobStatusException.class);
+  }
+
+  private String newDraftJob(long userId) {
+    return jobCreationService
+        .createOrReuseDraftJob(userId, "session-" + UUID.randomUUID(), "solving_slae")
+        .jobId();
+  }
+}
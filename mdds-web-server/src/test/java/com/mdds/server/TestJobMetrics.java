@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static com.mdds.domain.JobStatus.DONE;
+import static com.mdds.domain.JobStatus.ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TestJobMetrics {
+  private static final Instant SUBMITTED_AT = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String JOB_TYPE = "solving_slae";
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JobMetrics jobMetrics = new JobMetrics(meterRegistry);
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void testTransitionIsRecordedWhenTransactionCommits() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    jobMetrics.jobStarted(JOB_TYPE, SUBMITTED_AT, SUBMITTED_AT.plusSeconds(5));
+
+    assertThat(meterRegistry.find("mdds.job.queue.wait").timer()).isNull();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(meterRegistry.get("mdds.job.queue.wait").tag("job.type", JOB_TYPE).timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testRolledBackTransitionIsNotRecorded() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    jobMetrics.jobFinished(
+        JOB_TYPE, DONE, SUBMITTED_AT, SUBMITTED_AT.plusSeconds(5), SUBMITTED_AT.plusSeconds(65));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(
+            synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    assertThat(meterRegistry.find("mdds.job.execution").timer()).isNull();
+    assertThat(meterRegistry.find("mdds.job.end.to.end").timer()).isNull();
+  }
+
+  @Test
+  void testLifecycleTimersAreRecordedByJobTypeAndStatus() {
+    var startedAt = SUBMITTED_AT.plusSeconds(5);
+    var finishedAt = startedAt.plusSeconds(60);
+
+    jobMetrics.jobStarted(JOB_TYPE, SUBMITTED_AT, startedAt);
+    jobMetrics.jobFinished(JOB_TYPE, DONE, SUBMITTED_AT, startedAt, finishedAt);
+
+    assertThat(
+            meterRegistry
+                .get("mdds.job.queue.wait")
+                .tag("job.type", JOB_TYPE)
+                .timer()
+                .totalTime(TimeUnit.SECONDS))
+        .isEqualTo(5);
+    assertThat(
+            meterRegistry
+                .get("mdds.job.execution")
+                .tag("job.type", JOB_TYPE)
+                .tag("status", DONE.getCode())
+                .timer()
+                .totalTime(TimeUnit.SECONDS))
+        .isEqualTo(60);
+    assertThat(
+            meterRegistry
+                .get("mdds.job.end.to.end")
+                .tag("job.type", JOB_TYPE)
+                .tag("status", DONE.getCode())
+                .timer()
+                .totalTime(TimeUnit.SECONDS))
+        .isEqualTo(65);
+  }
+
+  @Test
+  void testJobThatNeverStartedHasNoExecutionTime() {
+    jobMetrics.jobFinished(JOB_TYPE, ERROR, SUBMITTED_AT, null, SUBMITTED_AT.plusSeconds(30));
+
+    assertThat(meterRegistry.find("mdds.job.execution").timer()).isNull();
+    assertThat(
+            meterRegistry.get("mdds.job.end.to.end").tag("status", ERROR.getCode()).timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testSkewedWorkerClockRecordsNothing() {
+    jobMetrics.jobStarted(JOB_TYPE, SUBMITTED_AT, SUBMITTED_AT.minusSeconds(1));
+
+    assertThat(meterRegistry.find("mdds.job.queue.wait").timer()).isNull();
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static com.mdds.domain.JobStatus.DRAFT;
+import static com.mdds.domain.JobStatus.ERROR;
+import static com.mdds.domain.JobStatus.SUBMITTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.persistence.entity.JobStatusCounterEntity;
+import com.mdds.server.jpa.JobStatusCountersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestJobMetricsSampler {
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JobStatusCountersRepository jobStatusCountersRepository =
+      mock(JobStatusCountersRepository.class);
+  private final JobMetricsSampler jobMetricsSampler =
+      new JobMetricsSampler(meterRegistry, jobStatusCountersRepository);
+
+  @Test
+  void testGaugesReportStatusCounters() {
+    when(jobStatusCountersRepository.findAll())
+        .thenReturn(List.of(counter(DRAFT, 3)), List.of(counter(SUBMITTED, 7)));
+
+    jobMetricsSampler.run();
+
+    assertThat(jobs(DRAFT)).isEqualTo(3);
+    assertThat(jobs(SUBMITTED)).isZero();
+
+    jobMetricsSampler.run();
+
+    // A status without a counter row has no jobs.
+    assertThat(jobs(DRAFT)).isZero();
+    assertThat(jobs(SUBMITTED)).isEqualTo(7);
+    // Terminal jobs are archived, their number in the jobs table says nothing.
+    assertThat(meterRegistry.find("mdds.jobs").tag("status", ERROR.getCode()).gauge()).isNull();
+  }
+
+  @Test
+  void testStripesOfStatusAreSummed() {
+    when(jobStatusCountersRepository.findAll())
+        .thenReturn(List.of(counter(DRAFT, 0, 3), counter(DRAFT, 5, -1), counter(SUBMITTED, 5, 2)));
+
+    jobMetricsSampler.run();
+
+    assertThat(jobs(DRAFT)).isEqualTo(2);
+    assertThat(jobs(SUBMITTED)).isEqualTo(2);
+  }
+
+  @Test
+  void testFailedReadKeepsGauges() {
+    when(jobStatusCountersRepository.findAll())
+        .thenReturn(List.of(counter(DRAFT, 3)))
+        .thenThrow(new IllegalStateException("Database is down."));
+
+    jobMetricsSampler.run();
+    jobMetricsSampler.run();
+
+    assertThat(jobs(DRAFT)).isEqualTo(3);
+  }
+
+  private static JobStatusCounterEntity counter(JobStatus status, long jobs) {
+    return counter(status, 0, jobs);
+  }
+
+  private static JobStatusCounterEntity counter(JobStatus status, int stripe, long jobs) {
+    var counter = new JobStatusCounterEntity();
+    counter.setStatus(status.getCode());
+    counter.setStripe(stripe);
+    counter.setJobs(jobs);
+    return counter;
+  }
+
+  private double jobs(JobStatus status) {
+    return meterRegistry.get("mdds.jobs").tag("status", status.getCode()).gauge().value();
+  }
+}
@@ -106,7 +106,7 @@ class TestJobOutputsServiceIntegration {
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     uploadToMinIO(solutionObjectKey(userId, jobId), "solution.csv");
     jobFixture.forceStatus(jobId, JobStatus.DONE);
-    var result = jobOutputsService.issueDownloadUrl(userId, jobId, "solution");
+    var result = jobOutputsService.issueDownloadUrl(login, jobId, "solution");
     var downloadUrl = result.downloadUrl();
     var expiresAt = result.expiresAt();
     assertThat(downloadUrl).isNotNull();
@@ -143,7 +143,7 @@ class TestJobOutputsServiceIntegration {
     jobFixture.forceStatus(jobId, status);
 
     assertThatExceptionOfType(JobIsNotDoneException.class)
-        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(userId, jobId, "solution"))
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(GUEST, jobId, "solution"))
         .withMessage(
             "Job '" + jobId + "' is not in DONE state and no output artifacts can be downloaded.");
   }
@@ -155,21 +155,30 @@ class TestJobOutputsServiceIntegration {
     var adminUserId = userLookupService.findUserId(ADMIN);
     var jobId = jobCreationService.createOrReuseDraftJob(adminUserId, sessionId, jobType).jobId();
     jobFixture.forceStatus(jobId, JobStatus.DONE);
-    var guestUserId = userLookupService.findUserId(GUEST);
     assertThatExceptionOfType(JobDoesNotExistException.class)
-        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(guestUserId, jobId, "solution"))
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(GUEST, jobId, "solution"))
         .withMessage("Job with id '" + jobId + "' does not exist.");
   }
 
   @Test
   void testInvalidJobId() {
-    var userId = userLookupService.findUserId(GUEST);
     var jobId = "invalid-job-id";
     assertThatExceptionOfType(JobDoesNotExistException.class)
-        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(userId, jobId, "solution"))
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(GUEST, jobId, "solution"))
         .withMessage("Job with id '" + jobId + "' does not exist.");
   }
 
+  @Test
+  void testUnknownUser() {
+    var sessionId = newSessionId();
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, "solving_slae").jobId();
+    jobFixture.forceStatus(jobId, JobStatus.DONE);
+    assertThatExceptionOfType(UnknownUserException.class)
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl("nobody", jobId, "solution"))
+        .withMessage("Unknown user login: nobody.");
+  }
+
   private static Stream<String> nullOrBlankOutputSlotValues() {
     return Stream.of(null, "", " ");
   }
@@ -183,7 +192,7 @@ class TestJobOutputsServiceIntegration {
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     jobFixture.forceStatus(jobId, JobStatus.DONE);
     assertThatExceptionOfType(OutputSlotIsNullOrBlankException.class)
-        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(userId, jobId, outputSlot))
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(GUEST, jobId, outputSlot))
         .withMessage("Output slot is null or blank.");
   }
 
@@ -200,7 +209,7 @@ class TestJobOutputsServiceIntegration {
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     jobFixture.forceStatus(jobId, JobStatus.DONE);
     assertThatExceptionOfType(UnknownOrUnsupportedOutputSlotException.class)
-        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(userId, jobId, outputSlot))
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(GUEST, jobId, outputSlot))
         .withMessage(
             "Unknown or unsupported output slot '"
                 + outputSlot.toLowerCase(Locale.ROOT)
@@ -217,7 +226,7 @@ class TestJobOutputsServiceIntegration {
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     jobFixture.forceStatus(jobId, JobStatus.DONE);
     assertThatExceptionOfType(OutputArtifactDoesNotExistException.class)
-        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(userId, jobId, "solution"))
+        .isThrownBy(() -> jobOutputsService.issueDownloadUrl(GUEST, jobId, "solution"))
         .withMessage("Output artifact does not exist.");
   }
 
@@ -235,7 +244,7 @@ class TestJobOutputsServiceIntegration {
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
     uploadToMinIO(solutionObjectKey(userId, jobId), "solution.csv");
     jobFixture.forceStatus(jobId, JobStatus.DONE);
-    var result = jobOutputsService.issueDownloadUrl(userId, jobId, outputSlot);
+    var result = jobOutputsService.issueDownloadUrl(GUEST, jobId, outputSlot);
     var downloadUrl = result.downloadUrl();
     var expiresAt = result.expiresAt();
     assertThat(downloadUrl).isNotNull();
@@ -8,9 +8,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.mdds.domain.ArtifactFormat;
+import com.mdds.domain.JobStatus;
 import com.mdds.domain.ParamType;
+import com.mdds.domain.ResourceHints;
+import com.mdds.domain.SizeClass;
+import com.mdds.domain.StaleThresholds;
 import com.mdds.domain.UnknownArtifactFormatException;
 import com.mdds.domain.UnknownParamTypeException;
+import com.mdds.domain.UnknownSizeClassException;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -34,7 +40,9 @@ class TestJobProfileMapper {
                 new ArtifactConfig("matrix", "csv", "matrix.csv"),
                 new ArtifactConfig("rhs", "csv", "rhs.csv")),
             List.of(new JobParamConfig("solvingMethod", "enum", true, enumValues)),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     assertThatExceptionOfType(NoEnumValuesSpecifiedException.class)
         .isThrownBy(() -> JobProfileMapper.toDomain(jobProfileConfig))
@@ -51,7 +59,9 @@ class TestJobProfileMapper {
                 new ArtifactConfig("matrix", "unknown_format", "matrix.csv"),
                 new ArtifactConfig("rhs", "csv", "rhs.csv")),
             List.of(new JobParamConfig("solvingMethod", "enum", true, List.of())),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     assertThatExceptionOfType(UnknownArtifactFormatException.class)
         .isThrownBy(() -> JobProfileMapper.toDomain(jobProfileConfig))
@@ -68,7 +78,9 @@ class TestJobProfileMapper {
                 new ArtifactConfig("matrix", "", "matrix.csv"),
                 new ArtifactConfig("rhs", "csv", "rhs.csv")),
             List.of(new JobParamConfig("solvingMethod", "enum", true, List.of())),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     assertThatExceptionOfType(UnknownArtifactFormatException.class)
         .isThrownBy(() -> JobProfileMapper.toDomain(jobProfileConfig))
@@ -85,7 +97,9 @@ class TestJobProfileMapper {
                 new ArtifactConfig("matrix", "csv", "matrix.csv"),
                 new ArtifactConfig("rhs", "csv", "rhs.csv")),
             List.of(new JobParamConfig("solvingMethod", "unknown_type", true, List.of())),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     assertThatExceptionOfType(UnknownParamTypeException.class)
         .isThrownBy(() -> JobProfileMapper.toDomain(jobProfileConfig))
@@ -102,7 +116,9 @@ class TestJobProfileMapper {
                 new ArtifactConfig("matrix", "csv", "matrix.csv"),
                 new ArtifactConfig("rhs", "csv", "rhs.csv")),
             List.of(new JobParamConfig("solvingMethod", "", true, List.of())),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     assertThatExceptionOfType(UnknownParamTypeException.class)
         .isThrownBy(() -> JobProfileMapper.toDomain(jobProfileConfig))
@@ -130,7 +146,9 @@ class TestJobProfileMapper {
                         "numpy_pinv_solver",
                         "petsc_solver",
                         "scipy_gmres_solver"))),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     var jobProfile = JobProfileMapper.toDomain(jobProfileConfig);
 
@@ -192,7 +210,9 @@ class TestJobProfileMapper {
                         "numpy_pinv_solver",
                         "petsc_solver",
                         "scipy_gmres_solver"))),
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     var jobProfile = JobProfileMapper.toDomain(jobProfileConfig);
 
@@ -237,7 +257,9 @@ class TestJobProfileMapper {
                 new ArtifactConfig("matrix", "csv", "matrix.csv"),
                 new ArtifactConfig("rhs", "csv", "rhs.csv")),
             params,
-            List.of(new ArtifactConfig("solution", "csv", "solution.csv")));
+            List.of(new ArtifactConfig("solution", "csv", "solution.csv")),
+            null,
+            null);
 
     var jobProfile = JobProfileMapper.toDomain(jobProfileConfig);
 
@@ -283,7 +305,9 @@ class TestJobProfileMapper {
                         "numpy_pinv_solver",
                         "petsc_solver",
                         "scipy_gmres_solver"))),
-            outputSlots);
+            outputSlots,
+            null,
+            null);
 
     var jobProfile = JobProfileMapper.toDomain(jobProfileConfig);
 
@@ -317,4 +341,70 @@ class TestJobProfileMapper {
 
     assertThat(jobProfile.outputArtifacts()).isEmpty();
   }
+
+  @Test
+  void testToDomainResources() {
+    var jobProfileConfig =
+        new JobProfileConfig(
+            "test",
+            true,
+            List.of(),
+            List.of(),
+            List.of(),
+            new ResourcesConfig(16, null, "LARGE"),
+            null);
+
+    var resources = JobProfileMapper.toDomain(jobProfileConfig).resources();
+
+    assertThat(resources.cpu()).isEqualTo(16);
+    assertThat(resources.memoryMb()).isEqualTo(ResourceHints.DEFAULT.memoryMb());
+    assertThat(resources.sizeClass()).isEqualTo(SizeClass.LARGE);
+  }
+
+  @Test
+  void testToDomainWithoutResources() {
+    var jobProfileConfig =
+        new JobProfileConfig("test", true, List.of(), List.of(), List.of(), null, null);
+
+    assertThat(JobProfileMapper.toDomain(jobProfileConfig).resources())
+        .isEqualTo(ResourceHints.DEFAULT);
+  }
+
+  @Test
+  void testToDomainStaleAfter() {
+    var jobProfileConfig =
+        new JobProfileConfig(
+            "test",
+            true,
+            List.of(),
+            List.of(),
+            List.of(),
+            null,
+            new StaleAfterConfig(null, null, Duration.ofMinutes(30), null));
+
+    var staleAfter = JobProfileMapper.toDomain(jobProfileConfig).staleAfter();
+
+    assertThat(staleAfter.inProgress()).isEqualTo(Duration.ofMinutes(30));
+    assertThat(staleAfter.submitted()).isEqualTo(StaleThresholds.DEFAULT.submitted());
+    assertThat(staleAfter.forStatus(JobStatus.CANCEL_REQUESTED))
+        .contains(StaleThresholds.DEFAULT.cancelRequested());
+    assertThat(staleAfter.forStatus(JobStatus.DONE)).isEmpty();
+  }
+
+  @Test
+  void testUnknownSizeClass() {
+    var jobProfileConfig =
+        new JobProfileConfig(
+            "test",
+            true,
+            List.of(),
+            List.of(),
+            List.of(),
+            new ResourcesConfig(1, 512L, "huge"),
+            null);
+
+    assertThatExceptionOfType(UnknownSizeClassException.class)
+        .isThrownBy(() -> JobProfileMapper.toDomain(jobProfileConfig))
+        .withMessage("Unknown or unsupported size class: 'huge'.");
+  }
 }
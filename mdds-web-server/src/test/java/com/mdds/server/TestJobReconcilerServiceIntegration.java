@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mdds.domain.JobStatus;
+import com.mdds.dto.worker.v1.JobStatusUpdateDTO;
+import com.mdds.persistence.entity.JobEntity;
+import com.mdds.queue.QueueClient;
+import com.mdds.server.JobReconcilerService.Position;
+import com.mdds.server.jpa.JobsRepository;
+import com.mdds.server.jpa.PendingJobsRepository;
+import com.mdds.server.support.JobTestFixture;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {"spring.config.import=classpath:test-job-profiles.yml"})
+@Testcontainers
+@Import({TestJobReconcilerServiceIntegration.FixedClockConfiguration.class, JobTestFixture.class})
+class TestJobReconcilerServiceIntegration {
+
+  private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class FixedClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock fixedClock() {
+      return Clock.fixed(BASE_EVENT_TIME, ZoneOffset.UTC);
+    }
+  }
+
+  @Autowired private UserLookupService userLookupService;
+  @Autowired private JobCreationService jobCreationService;
+  @Autowired private JobStatusUpdateService jobStatusUpdateService;
+  @Autowired private JobReconcilerService jobReconcilerService;
+  @Autowired private JobReconcilerProperties jobReconcilerProperties;
+  @Autowired private JobDispatchService jobDispatchService;
+  @Autowired private PendingJobsRepository pendingJobsRepository;
+  @Autowired private JobsRepository jobsRepository;
+  @Autowired private JobTestFixture jobTestFixture;
+
+  @MockitoBean(name = "jobQueueClient")
+  private QueueClient jobQueueClient;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:17")
+          .withDatabaseName("mdds")
+          .withUsername("mdds")
+          .withPassword("mdds123");
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+          .withUserName("testuser")
+          .withPassword("testpassword");
+
+  @DynamicPropertySource
+  static void initProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("mdds.object-storage.bucket", () -> "mdds");
+    registry.add("mdds.object-storage.region", () -> "us-east-1");
+    registry.add("mdds.object-storage.public-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.internal-endpoint", MINIO::getS3URL);
+    registry.add("mdds.object-storage.access-key", MINIO::getUserName);
+    registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
+    registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+    // Runs are done by the tests, not by the scheduler.
+    registry.add("mdds.job-reconciler.interval", () -> "PT1H");
+    registry.add("mdds.job-dispatch.poll-interval", () -> "PT1H");
+    registry.add("mdds.job-lease.scan-interval", () -> "PT1H");
+  }
+
+  private static final String GUEST = "guest";
+  private static final String JOB_TYPE = "solving_slae";
+  private static final String PARALLEL_JOB_TYPE = "solving_slae_parallel";
+
+  @Test
+  void testSubmittedJobNotPickedUpIsFailed() {
+    var jobId = newSubmittedJob(JOB_TYPE);
+    var now = BASE_EVENT_TIME.plus(Duration.ofDays(1)).plusSeconds(1);
+
+    reconcile(now);
+
+    var job = job(jobId);
+    assertThat(job.getStatus()).isEqualTo(JobStatus.ERROR);
+    assertThat(jobTestFixture.progress(jobId).getMessage())
+        .isEqualTo("Job was not picked up by a Worker within PT24H.");
+    assertThat(job.getFinishedAt()).isEqualTo(now);
+    assertThat(job.getStatusChangedAt()).isEqualTo(now);
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(jobId))).isFalse();
+  }
+
+  @Test
+  void testQuotaHeldJobIsMeasuredFromDispatch() {
+    var jobId = newHeldJob(BASE_EVENT_TIME.minus(Duration.ofDays(2)));
+
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofHours(1)));
+
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.SUBMITTED);
+    assertThat(pendingJobsRepository.existsById(UUID.fromString(jobId))).isTrue();
+
+    // Dispatched at BASE_EVENT_TIME, two days after submission.
+    jobDispatchService.dispatchBatch();
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofHours(1)));
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.SUBMITTED);
+
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofDays(1)).plusSeconds(1));
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.ERROR);
+    assertThat(jobTestFixture.progress(jobId).getMessage())
+        .isEqualTo("Job was not picked up by a Worker within PT24H.");
+  }
+
+  @Test
+  void testStaleThresholdIsTakenFromJobProfile() {
+    var jobId = newSubmittedJob(JOB_TYPE);
+    var parallelJobId = newSubmittedJob(PARALLEL_JOB_TYPE);
+
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofHours(2)).plusSeconds(1));
+
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.SUBMITTED);
+    assertThat(job(parallelJobId).getStatus()).isEqualTo(JobStatus.ERROR);
+    assertThat(jobTestFixture.progress(parallelJobId).getMessage())
+        .isEqualTo("Job was not picked up by a Worker within PT2H.");
+  }
+
+  @Test
+  void testJobRunningTooLongIsFailed() {
+    var workerId = newWorkerId();
+    var jobId = newRunningJob(workerId);
+
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofHours(6)).plusSeconds(1));
+
+    var job = job(jobId);
+    assertThat(job.getStatus()).isEqualTo(JobStatus.ERROR);
+    assertThat(job.getWorkerId()).isEqualTo(workerId);
+    assertThat(jobTestFixture.progress(jobId).getMessage())
+        .isEqualTo("Job exceeded PT6H in status 'IN_PROGRESS'.");
+    assertThat(job.getLeaseExpiresAt()).isNull();
+  }
+
+  @Test
+  void testUnconfirmedCancelIsCancelled() {
+    var jobId = newRunningJob(newWorkerId());
+    jobTestFixture.forceStatus(jobId, JobStatus.CANCEL_REQUESTED);
+
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofMinutes(15)).plusSeconds(1));
+
+    var job = job(jobId);
+    assertThat(job.getStatus()).isEqualTo(JobStatus.CANCELLED);
+    assertThat(jobTestFixture.progress(jobId).getMessage())
+        .isEqualTo("Worker did not confirm cancellation within PT15M.");
+  }
+
+  @Test
+  void testFreshJobsAreKept() {
+    var jobId = newRunningJob(newWorkerId());
+    var submittedJobId = newSubmittedJob(JOB_TYPE);
+
+    reconcile(BASE_EVENT_TIME.plus(Duration.ofHours(6)));
+
+    assertThat(job(jobId).getStatus()).isEqualTo(JobStatus.IN_PROGRESS);
+    assertThat(job(submittedJobId).getStatus()).isEqualTo(JobStatus.SUBMITTED);
+  }
+
+  @Test
+  void testScanContinuesAfterJobsOfLongerThreshold() {
+    // Parallel jobs set the SUBMITTED cutoff to 2 hours; the ones of the default profile in front
+    // of them must not stop the scan.
+    var batchSize = 2;
+    var keptJobIds = List.of(newSubmittedJob(JOB_TYPE), newSubmittedJob(JOB_TYPE));
+    var parallelJobId = newSubmittedJob(PARALLEL_JOB_TYPE);
+    for (var jobId : keptJobIds) {
+      jobTestFixture.forceStatusChangedAt(jobId, BASE_EVENT_TIME.minusSeconds(1));
+    }
+    var now = BASE_EVENT_TIME.plus(Duration.ofHours(3));
+    var cutoff = jobReconcilerService.cutoffs(now).get(JobStatus.SUBMITTED);
+
+    var position = Position.START;
+    while (true) {
+      var batch =
+          jobReconcilerService.reconcileBatch(
+              JobStatus.SUBMITTED, now, cutoff, position, batchSize);
+      if (batch.examined() < batchSize) {
+        break;
+      }
+      position = batch.last();
+    }
+
+    assertThat(keptJobIds).allMatch(jobId -> job(jobId).getStatus() == JobStatus.SUBMITTED);
+    assertThat(job(parallelJobId).getStatus()).isEqualTo(JobStatus.ERROR);
+  }
+
+  private void reconcile(Instant now) {
+    var batchSize = jobReconcilerProperties.batchSize();
+    for (var cutoff : jobReconcilerService.cutoffs(now).entrySet()) {
+      var position = Position.START;
+      while (true) {
+        var batch =
+            jobReconcilerService.reconcileBatch(
+                cutoff.getKey(), now, cutoff.getValue(), position, batchSize);
+        if (batch.examined() < batchSize) {
+          break;
+        }
+        position = batch.last();
+      }
+    }
+  }
+
+  private String newSubmittedJob(String jobType) {
+    var jobId = newJob(jobType, BASE_EVENT_TIME);
+    jobDispatchService.dispatchBatch();
+    return jobId;
+  }
+
+  /** Submits a job the dispatcher has not released yet, as if held back by the user quota. */
+  private String newHeldJob(Instant submittedAt) {
+    return newJob(JOB_TYPE, submittedAt);
+  }
+
+  private String newJob(String jobType, Instant submittedAt) {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobId =
+        jobCreationService
+            .createOrReuseDraftJob(userId, "session-" + UUID.randomUUID(), jobType)
+            .jobId();
+    jobTestFixture.forceSubmitted(jobId, submittedAt);
+    return jobId;
+  }
+
+  private String newRunningJob(String workerId) {
+    var jobId = newSubmittedJob(JOB_TYPE);
+    applyStatus(jobId, workerId, JobStatus.INPUTS_PREPARED, 0);
+    applyStatus(jobId, workerId, JobStatus.IN_PROGRESS, 1);
+    return jobId;
+  }
+
+  private void applyStatus(String jobId, String workerId, JobStatus status, int progress) {
+    jobStatusUpdateService.apply(
+        new JobStatusUpdateDTO(
+            jobId, workerId, status.getCode(), progress, "Worker update", BASE_EVENT_TIME));
+  }
+
+  private JobEntity job(String jobId) {
+    return jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
+  }
+
+  private static String newWorkerId() {
+    return "worker-" + UUID.randomUUID();
+  }
+}
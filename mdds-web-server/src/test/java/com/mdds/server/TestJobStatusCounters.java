@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static com.mdds.domain.JobStatus.DRAFT;
+import static com.mdds.domain.JobStatus.ERROR;
+import static com.mdds.domain.JobStatus.IN_PROGRESS;
+import static com.mdds.domain.JobStatus.SUBMITTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.mdds.server.jpa.JobStatusCountersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TestJobStatusCounters {
+  private final JobStatusCountersRepository jobStatusCountersRepository =
+      mock(JobStatusCountersRepository.class);
+  private final JobStatusCounters jobStatusCounters =
+      new JobStatusCounters(jobStatusCountersRepository);
+
+  @BeforeEach
+  void initSynchronization() {
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.unbindResourceIfPossible(jobStatusCounters);
+  }
+
+  @Test
+  void testTransitionsAreSummedAndWrittenBeforeCommitInStatusOrder() {
+    jobStatusCounters.statusChanged(SUBMITTED, IN_PROGRESS);
+    jobStatusCounters.statusChanged(null, DRAFT);
+    jobStatusCounters.statusChanged(null, DRAFT);
+    jobStatusCounters.statusChanged(DRAFT, SUBMITTED);
+    jobStatusCounters.statusChanged(IN_PROGRESS, IN_PROGRESS);
+
+    verify(jobStatusCountersRepository, never()).addJobs(anyString(), anyInt(), anyLong());
+
+    commit();
+
+    var stripes = ArgumentCaptor.forClass(Integer.class);
+    var inOrder = inOrder(jobStatusCountersRepository);
+    inOrder
+        .verify(jobStatusCountersRepository)
+        .addJobs(eq(DRAFT.getCode()), stripes.capture(), eq(1L));
+    inOrder
+        .verify(jobStatusCountersRepository)
+        .addJobs(eq(IN_PROGRESS.getCode()), stripes.capture(), eq(1L));
+    // SUBMITTED gained and lost a job, its row is not touched.
+    verifyNoMoreInteractions(jobStatusCountersRepository);
+    // The whole transaction writes to one stripe.
+    assertThat(stripes.getAllValues())
+        .hasSize(2)
+        .allMatch(stripe -> stripe >= 0 && stripe < JobStatusCounters.STRIPES)
+        .containsOnly(stripes.getValue());
+    assertThat(TransactionSynchronizationManager.hasResource(jobStatusCounters)).isFalse();
+  }
+
+  @Test
+  void testTerminalStatusesAreNotCounted() {
+    jobStatusCounters.statusChanged(IN_PROGRESS, ERROR);
+
+    commit();
+
+    verify(jobStatusCountersRepository).addJobs(eq(IN_PROGRESS.getCode()), anyInt(), eq(-1L));
+    verifyNoMoreInteractions(jobStatusCountersRepository);
+  }
+
+  @Test
+  void testRolledBackTransitionIsNotWritten() {
+    jobStatusCounters.statusChanged(null, DRAFT);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(
+            synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verifyNoMoreInteractions(jobStatusCountersRepository);
+    assertThat(TransactionSynchronizationManager.hasResource(jobStatusCounters)).isFalse();
+  }
+
+  private static void commit() {
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+    synchronizations.forEach(
+        synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+  }
+}
@@ -13,6 +13,9 @@ import com.mdds.domain.JobStatus;
 import com.mdds.dto.rest.v1.CreateJobRequestDTO;
 import com.mdds.dto.rest.v1.CreateJobResponseDTO;
 import com.mdds.dto.rest.v1.ErrorResponseDTO;
+import com.mdds.dto.rest.v1.JobListResponseDTO;
+import com.mdds.dto.rest.v1.JobStatusBatchRequestDTO;
+import com.mdds.dto.rest.v1.JobStatusBatchResponseDTO;
 import com.mdds.dto.rest.v1.JobStatusResponseDTO;
 import com.mdds.dto.rest.v1.JobUploadUrlRequestDTO;
 import com.mdds.dto.rest.v1.JobUploadUrlResponseDTO;
@@ -28,6 +31,8 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -296,6 +301,108 @@ class TestJobStatusRestApiIntegration {
     assertThat(result.status()).isEqualTo(JobStatus.SUBMITTED.toString());
   }
 
+  @ParameterizedTest
+  @MethodSource("userLoginValues")
+  void testStatusBatch(String login) throws IOException, InterruptedException {
+    var http = new HttpTestClient(HOST, port);
+    var jobType = "solving_slae";
+    var firstJobId = createOrReuseJob(http, login, newSessionId(), jobType).jobId();
+    var secondJobId = createOrReuseJob(http, login, newSessionId(), jobType).jobId();
+    var unknownJobId = UUID.randomUUID().toString();
+
+    var response =
+        http.post(
+            "/jobs/status:batch",
+            Map.of("Content-Type", "application/json", "X-MDDS-User-Login", login),
+            new JobStatusBatchRequestDTO(List.of(secondJobId, unknownJobId, firstJobId)));
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    var result = JsonHelper.fromJson(response.body(), JobStatusBatchResponseDTO.class);
+    assertThat(result.jobs())
+        .extracting(JobStatusResponseDTO::jobId)
+        .containsExactly(secondJobId, firstJobId);
+    assertThat(result.jobs())
+        .extracting(JobStatusResponseDTO::status)
+        .containsOnly(JobStatus.DRAFT.toString());
+    assertThat(result.notFound()).containsExactly(unknownJobId);
+  }
+
+  @Test
+  void testStatusBatchEmptyJobIds() throws IOException, InterruptedException {
+    var http = new HttpTestClient(HOST, port);
+
+    var response =
+        http.post(
+            "/jobs/status:batch",
+            Map.of("Content-Type", "application/json", "X-MDDS-User-Login", GUEST),
+            new JobStatusBatchRequestDTO(List.of()));
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(message(response.body())).isEqualTo("jobIds: must not be null or empty.");
+  }
+
+  @Test
+  void testStatusBatchIsTooLarge() throws IOException, InterruptedException {
+    var http = new HttpTestClient(HOST, port);
+    var jobIds = Stream.generate(() -> UUID.randomUUID().toString()).limit(501).toList();
+
+    var response =
+        http.post(
+            "/jobs/status:batch",
+            Map.of("Content-Type", "application/json", "X-MDDS-User-Login", GUEST),
+            new JobStatusBatchRequestDTO(jobIds));
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(message(response.body()))
+        .isEqualTo("Too many job ids in one request: 501, at most 500 are allowed.");
+  }
+
+  @Test
+  void testListJobs() throws IOException, InterruptedException {
+    var http = new HttpTestClient(HOST, port);
+    var jobType = "solving_slae";
+    var firstJobId = createOrReuseJob(http, ADMIN, newSessionId(), jobType).jobId();
+    var secondJobId = createOrReuseJob(http, ADMIN, newSessionId(), jobType).jobId();
+
+    var listedIds = new ArrayList<String>();
+    String cursor = null;
+    do {
+      var path = "/jobs?status=DRAFT&jobType=" + jobType + "&limit=1";
+      if (cursor != null) {
+        path += "&cursor=" + cursor;
+      }
+      var response = http.get(path, Map.of("X-MDDS-User-Login", ADMIN));
+      assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+      var page = JsonHelper.fromJson(response.body(), JobListResponseDTO.class);
+      assertThat(page.jobs()).hasSizeLessThanOrEqualTo(1);
+      page.jobs().forEach(job -> listedIds.add(job.jobId()));
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    assertThat(listedIds).doesNotHaveDuplicates().contains(firstJobId, secondJobId);
+  }
+
+  @Test
+  void testListJobsInvalidCreatedFrom() throws IOException, InterruptedException {
+    var http = new HttpTestClient(HOST, port);
+
+    var response = http.get("/jobs?createdFrom=yesterday", Map.of("X-MDDS-User-Login", GUEST));
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(message(response.body()))
+        .isEqualTo("Request parameter 'createdFrom' has invalid value.");
+  }
+
+  @Test
+  void testListJobsInvalidCursor() throws IOException, InterruptedException {
+    var http = new HttpTestClient(HOST, port);
+
+    var response = http.get("/jobs?cursor=broken", Map.of("X-MDDS-User-Login", GUEST));
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(message(response.body())).isEqualTo("Invalid cursor: 'broken'.");
+  }
+
   private static Stream<Arguments> userValues() {
     return Stream.of(
         Arguments.of(
@@ -5,8 +5,10 @@
 package com.mdds.server;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,10 +27,12 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -127,7 +131,7 @@ class TestJobStatusServiceIntegration {
     var userId = userLookupService.findUserId(login);
     var jobId = jobCreationService.createOrReuseDraftJob(userId, sessionId, jobType).jobId();
 
-    var statusResponse = jobStatusService.status(userId, jobId);
+    var statusResponse = jobStatusService.status(login, jobId).job();
     assertThat(statusResponse.status()).isEqualTo(JobStatus.DRAFT.toString());
 
     var result = jobInputUploadService.issueUploadUrl(userId, jobId, "matrix");
@@ -145,7 +149,7 @@ class TestJobStatusServiceIntegration {
 
     jobSubmissionService.submit(userId, jobId);
 
-    statusResponse = jobStatusService.status(userId, jobId);
+    statusResponse = jobStatusService.status(login, jobId).job();
     assertThat(statusResponse.status()).isEqualTo(JobStatus.SUBMITTED.toString());
 
     assertThat(statusResponse.jobId()).isEqualTo(jobId);
@@ -159,7 +163,61 @@ class TestJobStatusServiceIntegration {
     assertThat(statusResponse.finishedAt()).isNull();
 
     var queueName = "queue-" + jobType;
-    verify(jobQueueClient).publish(eq(queueName), any());
+    verify(jobQueueClient, timeout(5_000))
+        .publishConfirmed(
+            argThat(messages -> messages.stream().anyMatch(m -> m.queueName().equals(queueName))),
+            any());
+  }
+
+  @ParameterizedTest
+  @MethodSource("userLoginValues")
+  void testJobStatusBatch(String login) {
+    var jobType = "solving_slae";
+    var userId = userLookupService.findUserId(login);
+    var firstJobId =
+        jobCreationService.createOrReuseDraftJob(userId, newSessionId(), jobType).jobId();
+    var secondJobId =
+        jobCreationService.createOrReuseDraftJob(userId, newSessionId(), jobType).jobId();
+    var unknownJobId = UUID.randomUUID().toString();
+
+    var result =
+        jobStatusService.statuses(
+            userId, List.of(secondJobId, unknownJobId, firstJobId, secondJobId));
+
+    assertThat(result.found())
+        .extracting(JobStatusService.JobStatusResult::jobId)
+        .containsExactly(secondJobId, firstJobId);
+    assertThat(result.found())
+        .extracting(JobStatusService.JobStatusResult::status)
+        .containsOnly(JobStatus.DRAFT.toString());
+    assertThat(result.found())
+        .extracting(JobStatusService.JobStatusResult::createdAt)
+        .containsOnly(BASE_EVENT_TIME);
+    assertThat(result.notFound()).containsExactly(unknownJobId);
+  }
+
+  @Test
+  void testJobStatusBatchDoesNotReturnJobsOfOtherUser() {
+    var jobType = "solving_slae";
+    var guestId = userLookupService.findUserId(GUEST);
+    var adminId = userLookupService.findUserId(ADMIN);
+    var adminJobId =
+        jobCreationService.createOrReuseDraftJob(adminId, newSessionId(), jobType).jobId();
+
+    var result = jobStatusService.statuses(guestId, List.of(adminJobId));
+
+    assertThat(result.found()).isEmpty();
+    assertThat(result.notFound()).containsExactly(adminJobId);
+  }
+
+  @Test
+  void testJobStatusBatchIsTooLarge() {
+    var userId = userLookupService.findUserId(GUEST);
+    var jobIds = Stream.generate(() -> UUID.randomUUID().toString()).limit(501).toList();
+
+    assertThatThrownBy(() -> jobStatusService.statuses(userId, jobIds))
+        .isInstanceOf(JobIdsBatchIsTooLargeException.class)
+        .hasMessage("Too many job ids in one request: 501, at most 500 are allowed.");
   }
 
   private static void initMinioClient() {
@@ -89,14 +89,14 @@ class TestJobStatusUpdateServiceIntegration {
     assertThat(result.jobId()).isEqualTo(jobId);
     assertThat(result.status()).isEqualTo(status);
     assertThat(result.userId()).isEqualTo(userId);
-    var job = jobsRepository.findById(jobId).orElseThrow();
-    assertThat(job.getProgress()).isEqualTo(progress);
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(progress);
     var before = eventTime.minusMillis(10);
     var after = eventTime.plusMillis(10);
     assertThat(job.getStartedAt()).isBetween(before, after);
     assertThat(job.getStatus()).isEqualTo(IN_PROGRESS);
     assertThat(job.getWorkerId()).isEqualTo(workerId);
-    assertThat(job.getMessage()).isEqualTo("Worker started processing");
+    assertThat(jobFixture.progress(jobId).getMessage()).isEqualTo("Worker started processing");
     assertThat(job.getFinishedAt()).isNull();
   }
 
@@ -135,14 +135,14 @@ class TestJobStatusUpdateServiceIntegration {
     assertThat(result.jobId()).isEqualTo(jobId);
     assertThat(result.status()).isEqualTo(status);
     assertThat(result.userId()).isEqualTo(userId);
-    var job = jobsRepository.findById(jobId).orElseThrow();
-    assertThat(job.getProgress()).isEqualTo(progress);
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(progress);
     var beforeStarted = startedTime.minusMillis(10);
     var afterStarted = startedTime.plusMillis(10);
     assertThat(job.getStartedAt()).isBetween(beforeStarted, afterStarted);
     assertThat(job.getStatus()).isEqualTo(DONE);
     assertThat(job.getWorkerId()).isEqualTo(workerId);
-    assertThat(job.getMessage()).isEqualTo("Worker finished processing");
+    assertThat(jobFixture.progress(jobId).getMessage()).isEqualTo("Worker finished processing");
     var beforeFinished = finishedTime.minusMillis(10);
     var afterFinished = finishedTime.plusMillis(10);
     assertThat(job.getFinishedAt()).isBetween(beforeFinished, afterFinished);
@@ -185,14 +185,14 @@ class TestJobStatusUpdateServiceIntegration {
     assertThat(result.jobId()).isEqualTo(jobId);
     assertThat(result.status()).isEqualTo(status);
     assertThat(result.userId()).isEqualTo(userId);
-    var job = jobsRepository.findById(jobId).orElseThrow();
-    assertThat(job.getProgress()).isEqualTo(progress);
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(progress);
     var beforeStarted = startedTime.minusMillis(10);
     var afterStarted = startedTime.plusMillis(10);
     assertThat(job.getStartedAt()).isBetween(beforeStarted, afterStarted);
     assertThat(job.getStatus()).isEqualTo(CANCELLED);
     assertThat(job.getWorkerId()).isEqualTo(workerId);
-    assertThat(job.getMessage()).isEqualTo("Worker cancelled processing");
+    assertThat(jobFixture.progress(jobId).getMessage()).isEqualTo("Worker cancelled processing");
     var beforeFinished = finishedTime.minusMillis(10);
     var afterFinished = finishedTime.plusMillis(10);
     assertThat(job.getFinishedAt()).isBetween(beforeFinished, afterFinished);
@@ -233,14 +233,15 @@ class TestJobStatusUpdateServiceIntegration {
     assertThat(result.jobId()).isEqualTo(jobId);
     assertThat(result.status()).isEqualTo(status);
     assertThat(result.userId()).isEqualTo(userId);
-    var job = jobsRepository.findById(jobId).orElseThrow();
-    assertThat(job.getProgress()).isEqualTo(progress);
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(progress);
     var beforeStarted = startedTime.minusMillis(10);
     var afterStarted = startedTime.plusMillis(10);
     assertThat(job.getStartedAt()).isBetween(beforeStarted, afterStarted);
     assertThat(job.getStatus()).isEqualTo(ERROR);
     assertThat(job.getWorkerId()).isEqualTo(workerId);
-    assertThat(job.getMessage()).isEqualTo("Worker finished processing with error");
+    assertThat(jobFixture.progress(jobId).getMessage())
+        .isEqualTo("Worker finished processing with error");
     var beforeFinished = finishedTime.minusMillis(10);
     var afterFinished = finishedTime.plusMillis(10);
     assertThat(job.getFinishedAt()).isBetween(beforeFinished, afterFinished);
@@ -272,15 +273,15 @@ class TestJobStatusUpdateServiceIntegration {
         new JobStatusUpdateDTO(
             jobId, workerId, IN_PROGRESS.getCode(), 40, "Worker is processing", secondEventTime));
 
-    var job = jobsRepository.findById(jobId).orElseThrow();
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     assertThat(job.getStatus()).isEqualTo(IN_PROGRESS);
     assertThat(job.getWorkerId()).isEqualTo(workerId);
-    assertThat(job.getProgress()).isEqualTo(40);
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(40);
     var after = firstEventTime.plusMillis(10);
     var before = firstEventTime.minusMillis(10);
     assertThat(job.getStartedAt()).isBetween(before, after);
     assertThat(job.getFinishedAt()).isNull();
-    assertThat(job.getMessage()).isEqualTo("Worker is processing");
+    assertThat(jobFixture.progress(jobId).getMessage()).isEqualTo("Worker is processing");
   }
 
   @Test
@@ -510,10 +511,10 @@ class TestJobStatusUpdateServiceIntegration {
     assertThat(result.jobId()).isEqualTo(jobId);
     assertThat(result.userId()).isEqualTo(userId);
     assertThat(result.status()).isEqualTo(to);
-    var job = jobsRepository.findById(jobId).orElseThrow();
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     assertThat(job.getStatus()).isEqualTo(to);
-    assertThat(job.getProgress()).isEqualTo(progress);
-    assertThat(job.getMessage()).isEqualTo(message);
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(progress);
+    assertThat(jobFixture.progress(jobId).getMessage()).isEqualTo(message);
     assertThat(job.getWorkerId()).isEqualTo(workerId);
   }
 
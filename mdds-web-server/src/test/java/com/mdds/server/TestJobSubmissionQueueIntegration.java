@@ -161,6 +161,11 @@ class TestJobSubmissionQueueIntegration {
 
     assertThat(actualMessage.get()).isNotNull();
     assertThat(actualMessage.get().manifestObjectKey()).isEqualTo(manifestObjectKey);
+    var inlineManifest = actualMessage.get().manifest();
+    assertThat(inlineManifest).isNotNull();
+    assertThat(inlineManifest.jobId()).isEqualTo(jobId);
+    assertThat(inlineManifest.userId()).isEqualTo(userId);
+    assertThat(inlineManifest.params()).containsEntry(paramName, paramValue);
   }
 
   private static void initMinioClient() {
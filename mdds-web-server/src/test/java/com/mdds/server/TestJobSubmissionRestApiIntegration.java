@@ -115,6 +115,8 @@ class TestJobSubmissionRestApiIntegration {
     registry.add("mdds.object-storage.access-key", MINIO::getUserName);
     registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
     registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+    // Tests read the stored manifest right after submit.
+    registry.add("mdds.job-submission.async-manifest-upload", () -> "false");
     registry.add("mdds.object-storage.presign-put-ttl", PRE_SIGNED_PUT_TTL::toString);
   }
 
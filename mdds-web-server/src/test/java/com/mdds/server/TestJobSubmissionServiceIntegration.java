@@ -7,7 +7,8 @@ package com.mdds.server;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -95,6 +96,8 @@ class TestJobSubmissionServiceIntegration {
     registry.add("mdds.object-storage.access-key", MINIO::getUserName);
     registry.add("mdds.object-storage.secret-key", MINIO::getPassword);
     registry.add("mdds.object-storage.path-style-access-enabled", () -> "true");
+    // Tests read the stored manifest right after submit.
+    registry.add("mdds.job-submission.async-manifest-upload", () -> "false");
     registry.add("mdds.object-storage.presign-put-ttl", PRE_SIGNED_PUT_TTL::toString);
   }
 
@@ -136,10 +139,13 @@ class TestJobSubmissionServiceIntegration {
     jobParamsService.mergeParams(userId, jobId, params);
 
     jobSubmissionService.submit(userId, jobId);
-    var job = jobsRepository.findById(jobId).orElseThrow();
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     assertThat(job.getStatus()).isEqualTo(JobStatus.SUBMITTED);
     var queueName = "queue-" + jobType;
-    verify(jobQueueClient).publish(eq(queueName), any());
+    verify(jobQueueClient, timeout(5_000))
+        .publishConfirmed(
+            argThat(messages -> messages.stream().anyMatch(m -> m.queueName().equals(queueName))),
+            any());
   }
 
   @ParameterizedTest
@@ -185,7 +191,10 @@ class TestJobSubmissionServiceIntegration {
     assertThat(jsonNode.get("outputs").get("solution").get("format").asText()).isEqualTo("csv");
 
     var queueName = "queue-" + jobType;
-    verify(jobQueueClient).publish(eq(queueName), any());
+    verify(jobQueueClient, timeout(5_000))
+        .publishConfirmed(
+            argThat(messages -> messages.stream().anyMatch(m -> m.queueName().equals(queueName))),
+            any());
   }
 
   @Test
@@ -7,19 +7,30 @@ package com.mdds.server;
 import static com.mdds.server.PresignedUrlAssertions.assertExpiresAtMatchesSignature;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mdds.common.util.JsonHelper;
 import com.mdds.dto.worker.v1.ManifestDTO;
+import com.mdds.server.ObjectStorageService.UploadedPart;
 import io.minio.GetObjectArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
 import io.minio.errors.MinioException;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -96,6 +107,25 @@ class TestObjectStorageService {
         .isEqualTo("/" + bucket + "/jobs/" + userId + "/" + jobId + "/in/" + fileName);
   }
 
+  @Test
+  void testPresignedUrlsAreReusedForSameObjectAndOperation() {
+    var userId = 42L;
+    var jobId = UUID.randomUUID().toString();
+    var fileName = "solution.csv";
+
+    var firstDownload = objectStorageService.issueDownloadUrl(userId, jobId, fileName);
+    var secondDownload = objectStorageService.issueDownloadUrl(userId, jobId, fileName);
+    var upload = objectStorageService.issueUploadUrl(userId, jobId, fileName);
+    var otherJobDownload =
+        objectStorageService.issueDownloadUrl(userId, UUID.randomUUID().toString(), fileName);
+
+    assertThat(secondDownload.downloadUrl()).hasToString(firstDownload.downloadUrl().toString());
+    assertThat(secondDownload.expiresAt()).isEqualTo(firstDownload.expiresAt());
+    assertThat(upload.uploadUrl().toString()).isNotEqualTo(firstDownload.downloadUrl().toString());
+    assertThat(otherJobDownload.downloadUrl().toString())
+        .isNotEqualTo(firstDownload.downloadUrl().toString());
+  }
+
   @Test
   void testPutManifestUploadsManifestToMinioWithChecksumCompatibleS3Client() throws Exception {
     var userId = 42L;
@@ -133,12 +163,114 @@ class TestObjectStorageService {
             .formatted(userId, jobId, userId, jobId, userId, jobId, userId, jobId);
 
     var manifest = JsonHelper.fromJson(manifestJson, ManifestDTO.class);
-    objectStorageService.putManifest(manifestObjectKey, manifest);
+    objectStorageService.putManifest(manifestObjectKey, manifest).join();
     var uploadedManifestJson = readObject(manifestObjectKey);
     assertThat(uploadedManifestJson).isNotBlank();
     assertThat(MAPPER.readTree(uploadedManifestJson)).isEqualTo(MAPPER.readTree(manifestJson));
   }
 
+  @Test
+  void testListReturnsObjectsUnderPrefixWithSizeAndETag() throws MinioException {
+    var userId = 42L;
+    var jobId = "job-" + UUID.randomUUID();
+    var matrixKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, "matrix.csv");
+    var rhsKey = ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, "rhs.csv");
+    var outputKey = ObjectKeyBuilder.canonicalOutputObjectKey(userId, jobId, "solution.csv");
+    writeObject(matrixKey, "1,2\n3,4");
+    writeObject(rhsKey, "5\n6");
+    writeObject(outputKey, "7\n8");
+
+    var stored =
+        objectStorageService.list(ObjectKeyBuilder.canonicalInputPrefix(userId, jobId)).join();
+
+    assertThat(stored).containsOnlyKeys(matrixKey, rhsKey);
+    assertThat(stored.get(matrixKey).size()).isEqualTo(7);
+    assertThat(stored.get(rhsKey).size()).isEqualTo(4);
+    assertThat(stored.get(matrixKey).eTag()).isNotBlank();
+  }
+
+  @Test
+  void testListReturnsEmptyMapForUnknownPrefix() {
+    var prefix = ObjectKeyBuilder.canonicalInputPrefix(42L, "job-" + UUID.randomUUID());
+
+    assertThat(objectStorageService.list(prefix).join()).isEmpty();
+  }
+
+  @Test
+  void testExists() throws MinioException {
+    var key = ObjectKeyBuilder.canonicalInputObjectKey(42L, "job-" + UUID.randomUUID(), "rhs.csv");
+
+    assertThat(objectStorageService.exists(key).join()).isFalse();
+    writeObject(key, "1\n2");
+    assertThat(objectStorageService.exists(key).join()).isTrue();
+  }
+
+  @Test
+  void testMultipartUploadIsAssembledFromPresignedParts()
+      throws IOException, InterruptedException, MinioException {
+    var userId = 42L;
+    var jobId = "job-" + UUID.randomUUID();
+    var fileName = "matrix.csv";
+    var uploadId = objectStorageService.createMultipartUpload(userId, jobId, fileName).join();
+    assertThat(uploadId).isNotBlank();
+
+    var presigned =
+        objectStorageService.issuePartUploadUrls(userId, jobId, fileName, uploadId, List.of(1));
+    assertThat(presigned.uploadUrls()).containsOnlyKeys(1);
+    var eTag = uploadPart(presigned.uploadUrls().get(1), "1,2\n3,4");
+
+    objectStorageService
+        .completeMultipartUpload(
+            userId, jobId, fileName, uploadId, List.of(new UploadedPart(1, eTag)))
+        .join();
+
+    assertThat(readObject(ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName)))
+        .isEqualTo("1,2\n3,4");
+  }
+
+  @Test
+  void testAbortedMultipartUploadCanNotBeCompleted() {
+    var userId = 42L;
+    var jobId = "job-" + UUID.randomUUID();
+    var fileName = "rhs.csv";
+    var uploadId = objectStorageService.createMultipartUpload(userId, jobId, fileName).join();
+
+    objectStorageService.abortMultipartUpload(userId, jobId, fileName, uploadId).join();
+
+    var future =
+        objectStorageService.completeMultipartUpload(
+            userId, jobId, fileName, uploadId, List.of(new UploadedPart(1, "etag")));
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(MultipartUploadDoesNotExistException.class);
+    assertThat(
+            objectStorageService
+                .exists(ObjectKeyBuilder.canonicalInputObjectKey(userId, jobId, fileName))
+                .join())
+        .isFalse();
+  }
+
+  private static String uploadPart(URL url, String content)
+      throws IOException, InterruptedException {
+    try (var http = HttpClient.newHttpClient()) {
+      var request =
+          HttpRequest.newBuilder(URI.create(url.toString()))
+              .PUT(HttpRequest.BodyPublishers.ofString(content))
+              .build();
+      var response = http.send(request, HttpResponse.BodyHandlers.discarding());
+      assertThat(response.statusCode()).isEqualTo(200);
+      return response.headers().firstValue("ETag").orElseThrow();
+    }
+  }
+
+  private static void writeObject(String key, String content) throws MinioException {
+    var bytes = content.getBytes(UTF_8);
+    minioClient.putObject(
+        PutObjectArgs.builder().bucket(MINIO_BUCKET).object(key).stream(
+                new ByteArrayInputStream(bytes), (long) bytes.length, null)
+            .build());
+  }
+
   private static String readObject(String key) throws MinioException {
     try (var stream =
         minioClient.getObject(GetObjectArgs.builder().bucket(MINIO_BUCKET).object(key).build())) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static com.mdds.server.PresignedUrlCache.Operation.GET;
+import static com.mdds.server.PresignedUrlCache.Operation.PUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class TestPresignedUrlCache {
+  // Far from system time on purpose: expiration must follow the injected clock.
+  private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private final Clock clock = mock(Clock.class);
+  private final AtomicInteger issued = new AtomicInteger();
+  private final Supplier<URL> issuer = () -> url("https://storage/" + issued.incrementAndGet());
+
+  @Test
+  void testUrlIsReusedWithinReuseWindowAndExpiresByClock() {
+    var cache = new PresignedUrlCache(0.5, 10, TTL, clock);
+    at(NOW);
+    var first = cache.getOrIssue(GET, "key", TTL, issuer);
+
+    assertThat(first.expiresAt()).isEqualTo(NOW.plus(TTL));
+
+    at(NOW.plus(TTL.dividedBy(2)).minusMillis(1));
+    assertThat(cache.getOrIssue(GET, "key", TTL, issuer)).isEqualTo(first);
+
+    at(NOW.plus(TTL.dividedBy(2)));
+    var second = cache.getOrIssue(GET, "key", TTL, issuer);
+
+    assertThat(second.url()).isNotEqualTo(first.url());
+    assertThat(second.expiresAt()).isEqualTo(NOW.plus(TTL.dividedBy(2)).plus(TTL));
+  }
+
+  @Test
+  void testOperationsAreCachedSeparately() {
+    var cache = new PresignedUrlCache(0.5, 10, TTL, clock);
+    at(NOW);
+
+    var get = cache.getOrIssue(GET, "key", TTL, issuer);
+    var put = cache.getOrIssue(PUT, "key", TTL, issuer);
+
+    assertThat(put.url()).isNotEqualTo(get.url());
+    assertThat(issued).hasValue(2);
+  }
+
+  @Test
+  void testFullCacheEvictsInsteadOfRefusing() {
+    var cache = new PresignedUrlCache(0.5, 2, TTL, clock);
+    at(NOW);
+    for (var i = 0; i < 3; i++) {
+      cache.getOrIssue(GET, "key-" + i, TTL, issuer);
+    }
+
+    cache.getOrIssue(GET, "key-2", TTL, issuer);
+
+    assertThat(issued).hasValue(3);
+  }
+
+  @Test
+  void testZeroReuseFractionAlwaysIssues() {
+    var cache = new PresignedUrlCache(0, 10, TTL, clock);
+    at(NOW);
+
+    cache.getOrIssue(GET, "key", TTL, issuer);
+    var second = cache.getOrIssue(GET, "key", TTL, issuer);
+
+    assertThat(issued).hasValue(2);
+    assertThat(second.expiresAt()).isEqualTo(NOW.plus(TTL));
+  }
+
+  private void at(Instant now) {
+    when(clock.instant()).thenReturn(now);
+    when(clock.millis()).thenReturn(now.toEpochMilli());
+  }
+
+  private static URL url(String value) {
+    try {
+      return URI.create(value).toURL();
+    } catch (MalformedURLException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestReadAfterWriteTracker {
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Duration WINDOW = Duration.ofSeconds(15);
+
+  private final Clock clock = mock(Clock.class);
+  private final ReadAfterWriteTracker tracker =
+      new ReadAfterWriteTracker(
+          new ReadReplicaProperties(
+              true,
+              List.of("jdbc:postgresql://replica:5432/mdds"),
+              "mdds",
+              "mdds",
+              10,
+              Duration.ofSeconds(5),
+              Duration.ofSeconds(2),
+              WINDOW),
+          clock);
+
+  @Test
+  void testWritesOfUsersWhoNeverReadAgainAreEvicted() {
+    when(clock.instant()).thenReturn(NOW);
+    for (var i = 0; i < 100; i++) {
+      tracker.recordWrite("user-" + i);
+    }
+    assertThat(tracker.trackedUsers()).isEqualTo(100);
+
+    when(clock.instant()).thenReturn(NOW.plus(WINDOW));
+    tracker.recordWrite("guest");
+
+    assertThat(tracker.trackedUsers()).isEqualTo(1);
+  }
+
+  @Test
+  void testWritesWithinWindowAreKept() {
+    when(clock.instant()).thenReturn(NOW);
+    tracker.recordWrite("expired");
+    when(clock.instant()).thenReturn(NOW.plus(WINDOW).minusMillis(1));
+    tracker.recordWrite("admin");
+
+    when(clock.instant()).thenReturn(NOW.plus(WINDOW));
+    tracker.recordWrite("guest");
+
+    assertThat(tracker.trackedUsers()).isEqualTo(2);
+  }
+}
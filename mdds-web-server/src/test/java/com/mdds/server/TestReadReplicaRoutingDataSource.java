@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Oleksiy Oleksandrovych Sayankin. All Rights Reserved.
+ * Refer to the LICENSE file in the root directory for full license details.
+ */
+package com.mdds.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class TestReadReplicaRoutingDataSource {
+  private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+  private final Map<DataSource, Connection> connections = new HashMap<>();
+  private final Map<String, Optional<Duration>> lags = new HashMap<>();
+
+  @Test
+  void testReadsGoToPrimaryBeforeFirstLagCheck() throws SQLException {
+    var primary = dataSource();
+    var routing = routing(primary, Map.of("replica-0", dataSource()));
+
+    assertThat(routing.getConnection()).isSameAs(connections.get(primary));
+  }
+
+  @Test
+  void testReadsAreSpreadOverReplicasWithinLagTolerance() throws SQLException {
+    var primary = dataSource();
+    var first = dataSource();
+    var second = dataSource();
+    var lagging = dataSource();
+    var replicas = new LinkedHashMap<String, DataSource>();
+    replicas.put("replica-0", first);
+    replicas.put("replica-1", second);
+    replicas.put("replica-2", lagging);
+    lags.put("replica-0", Optional.of(Duration.ZERO));
+    lags.put("replica-1", Optional.of(MAX_LAG));
+    lags.put("replica-2", Optional.of(MAX_LAG.plusMillis(1)));
+    var routing = routing(primary, replicas);
+
+    routing.checkLag();
+
+    assertThat(routing.getConnection()).isSameAs(connections.get(first));
+    assertThat(routing.getConnection()).isSameAs(connections.get(second));
+    assertThat(routing.getConnection()).isSameAs(connections.get(first));
+  }
+
+  @Test
+  void testReadsFallBackToPrimaryWhenReplicasLag() throws SQLException {
+    var primary = dataSource();
+    lags.put("replica-0", Optional.empty());
+    var routing = routing(primary, Map.of("replica-0", dataSource()));
+
+    routing.checkLag();
+
+    assertThat(routing.getConnection()).isSameAs(connections.get(primary));
+  }
+
+  @Test
+  void testUsePrimaryPinsReadsToPrimaryUntilClosed() throws SQLException {
+    var primary = dataSource();
+    var replica = dataSource();
+    lags.put("replica-0", Optional.of(Duration.ZERO));
+    var routing = routing(primary, Map.of("replica-0", replica));
+    routing.checkLag();
+
+    try (var ignored = ReadReplicaRoutingDataSource.usePrimary()) {
+      try (var ignoredNested = ReadReplicaRoutingDataSource.usePrimary()) {
+        assertThat(routing.getConnection()).isSameAs(connections.get(primary));
+      }
+      assertThat(routing.getConnection()).isSameAs(connections.get(primary));
+    }
+    assertThat(routing.getConnection()).isSameAs(connections.get(replica));
+  }
+
+  private ReadReplicaRoutingDataSource routing(
+      DataSource primary, Map<String, DataSource> replicas) {
+    var routing =
+        new ReadReplicaRoutingDataSource(primary, replicas, MAX_LAG) {
+          @Override
+          protected Optional<Duration> measureLag(String name, DataSource replica) {
+            return lags.getOrDefault(name, Optional.empty());
+          }
+        };
+    routing.afterPropertiesSet();
+    return routing;
+  }
+
+  private DataSource dataSource() throws SQLException {
+    var dataSource = mock(DataSource.class);
+    var connection = mock(Connection.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    connections.put(dataSource, connection);
+    return dataSource;
+  }
+}
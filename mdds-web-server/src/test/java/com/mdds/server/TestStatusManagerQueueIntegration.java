@@ -112,14 +112,14 @@ class TestStatusManagerQueueIntegration {
         .atMost(Duration.ofSeconds(2))
         .untilAsserted(
             () -> {
-              var job = jobsRepository.findById(jobId).orElseThrow();
+              var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
               assertThat(job.getStatus()).isEqualTo(IN_PROGRESS);
             });
 
-    var job = jobsRepository.findById(jobId).orElseThrow();
+    var job = jobsRepository.findById(UUID.fromString(jobId)).orElseThrow();
     assertThat(job.getWorkerId()).isEqualTo(workerId);
-    assertThat(job.getProgress()).isEqualTo(progress);
-    assertThat(job.getMessage()).isEqualTo(message);
+    assertThat(jobFixture.progress(jobId).getProgress()).isEqualTo(progress);
+    assertThat(jobFixture.progress(jobId).getMessage()).isEqualTo(message);
     var before = eventTime.minusMillis(10);
     var after = eventTime.plusMillis(10);
     assertThat(job.getStartedAt()).isBetween(before, after);
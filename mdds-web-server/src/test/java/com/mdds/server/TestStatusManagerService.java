@@ -5,11 +5,15 @@
 package com.mdds.server;
 
 import static com.mdds.domain.JobStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,28 +24,32 @@ import com.mdds.queue.Message;
 import com.mdds.queue.MessageHandler;
 import com.mdds.queue.QueueClient;
 import com.mdds.queue.Subscription;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 class TestStatusManagerService {
 
   private static final Instant BASE_EVENT_TIME = Instant.parse("2026-01-01T00:00:00Z");
+  private static final int PREFETCH = 10;
 
   @Test
   void testProcessStatusUpdateMessage() {
     var statusQueue = mock(QueueClient.class);
-    var commonProperties = mock(CommonProperties.class);
+    var commonProperties = commonProperties(1);
     var jobStatusUpdateService = mock(JobStatusUpdateService.class);
     var subscription = mock(Subscription.class);
 
-    when(commonProperties.getStatusQueueName()).thenReturn("status.queue.test");
-    when(statusQueue.subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), any()))
-        .thenReturn(subscription);
+    when(statusQueue.trySubscribeExclusive(
+            eq("status.queue.test"), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.of(subscription));
 
     var statusManagerService =
-        new StatusManagerService(statusQueue, commonProperties, jobStatusUpdateService);
+        new StatusManagerService(
+            statusQueue, commonProperties, ingestionProperties(true, 16), jobStatusUpdateService);
 
     statusManagerService.start();
 
@@ -50,7 +58,11 @@ class TestStatusManagerService {
         ArgumentCaptor.forClass(MessageHandler.class);
 
     verify(statusQueue)
-        .subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), handlerCaptor.capture());
+        .trySubscribeExclusive(
+            eq("status.queue.test"),
+            eq(JobStatusUpdateDTO.class),
+            eq(PREFETCH),
+            handlerCaptor.capture());
 
     var handler = handlerCaptor.getValue();
     var ack = mock(Acknowledger.class);
@@ -75,16 +87,17 @@ class TestStatusManagerService {
   @Test
   void testApplyThrowsException() {
     var statusQueue = mock(QueueClient.class);
-    var commonProperties = mock(CommonProperties.class);
+    var commonProperties = commonProperties(1);
     var jobStatusUpdateService = mock(JobStatusUpdateService.class);
     var subscription = mock(Subscription.class);
 
-    when(commonProperties.getStatusQueueName()).thenReturn("status.queue.test");
-    when(statusQueue.subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), any()))
-        .thenReturn(subscription);
+    when(statusQueue.trySubscribeExclusive(
+            eq("status.queue.test"), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.of(subscription));
 
     var statusManagerService =
-        new StatusManagerService(statusQueue, commonProperties, jobStatusUpdateService);
+        new StatusManagerService(
+            statusQueue, commonProperties, ingestionProperties(true, 16), jobStatusUpdateService);
 
     statusManagerService.start();
 
@@ -93,7 +106,11 @@ class TestStatusManagerService {
         ArgumentCaptor.forClass(MessageHandler.class);
 
     verify(statusQueue)
-        .subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), handlerCaptor.capture());
+        .trySubscribeExclusive(
+            eq("status.queue.test"),
+            eq(JobStatusUpdateDTO.class),
+            eq(PREFETCH),
+            handlerCaptor.capture());
 
     var handler = handlerCaptor.getValue();
     var ack = mock(Acknowledger.class);
@@ -116,16 +133,17 @@ class TestStatusManagerService {
   @Test
   void testNullPayload() {
     var statusQueue = mock(QueueClient.class);
-    var commonProperties = mock(CommonProperties.class);
+    var commonProperties = commonProperties(1);
     var jobStatusUpdateService = mock(JobStatusUpdateService.class);
     var subscription = mock(Subscription.class);
 
-    when(commonProperties.getStatusQueueName()).thenReturn("status.queue.test");
-    when(statusQueue.subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), any()))
-        .thenReturn(subscription);
+    when(statusQueue.trySubscribeExclusive(
+            eq("status.queue.test"), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.of(subscription));
 
     var statusManagerService =
-        new StatusManagerService(statusQueue, commonProperties, jobStatusUpdateService);
+        new StatusManagerService(
+            statusQueue, commonProperties, ingestionProperties(true, 16), jobStatusUpdateService);
 
     statusManagerService.start();
     @SuppressWarnings({"unchecked"})
@@ -133,7 +151,11 @@ class TestStatusManagerService {
         ArgumentCaptor.forClass(MessageHandler.class);
 
     verify(statusQueue)
-        .subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), handlerCaptor.capture());
+        .trySubscribeExclusive(
+            eq("status.queue.test"),
+            eq(JobStatusUpdateDTO.class),
+            eq(PREFETCH),
+            handlerCaptor.capture());
 
     var handler = handlerCaptor.getValue();
     var ack = mock(Acknowledger.class);
@@ -156,16 +178,17 @@ class TestStatusManagerService {
   @Test
   void testCorrectClosureOfServiceWhenStarted() {
     var statusQueue = mock(QueueClient.class);
-    var commonProperties = mock(CommonProperties.class);
+    var commonProperties = commonProperties(1);
     var jobStatusUpdateService = mock(JobStatusUpdateService.class);
     var subscription = mock(Subscription.class);
 
-    when(commonProperties.getStatusQueueName()).thenReturn("status.queue.test");
-    when(statusQueue.subscribe(eq("status.queue.test"), eq(JobStatusUpdateDTO.class), any()))
-        .thenReturn(subscription);
+    when(statusQueue.trySubscribeExclusive(
+            eq("status.queue.test"), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.of(subscription));
 
     var statusManagerService =
-        new StatusManagerService(statusQueue, commonProperties, jobStatusUpdateService);
+        new StatusManagerService(
+            statusQueue, commonProperties, ingestionProperties(true, 16), jobStatusUpdateService);
 
     statusManagerService.start();
     statusManagerService.close();
@@ -176,14 +199,113 @@ class TestStatusManagerService {
   @Test
   void testCorrectClosureOfServiceWhenNotStarted() {
     var statusQueue = mock(QueueClient.class);
-    var commonProperties = mock(CommonProperties.class);
+    var commonProperties = commonProperties(1);
     var jobStatusUpdateService = mock(JobStatusUpdateService.class);
     var subscription = mock(Subscription.class);
     var statusManagerService =
-        new StatusManagerService(statusQueue, commonProperties, jobStatusUpdateService);
+        new StatusManagerService(
+            statusQueue, commonProperties, ingestionProperties(true, 16), jobStatusUpdateService);
 
     statusManagerService.close();
     verify(subscription, never()).close();
     verify(statusQueue).close();
   }
+
+  @Test
+  void testDisabledIngestionDoesNotSubscribe() {
+    var statusQueue = mock(QueueClient.class);
+    var statusManagerService =
+        new StatusManagerService(
+            statusQueue,
+            commonProperties(4),
+            ingestionProperties(false, 16),
+            mock(JobStatusUpdateService.class));
+
+    statusManagerService.start();
+    statusManagerService.claim();
+
+    verify(statusQueue, never()).trySubscribeExclusive(anyString(), any(), anyInt(), any());
+  }
+
+  @Test
+  void testClaimsNoMoreThanMaxOwnedShards() {
+    var statusQueue = mock(QueueClient.class);
+    when(statusQueue.trySubscribeExclusive(
+            anyString(), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenAnswer(
+            invocation -> {
+              var subscription = mock(Subscription.class);
+              when(subscription.isActive()).thenReturn(true);
+              return Optional.of(subscription);
+            });
+    var statusManagerService =
+        new StatusManagerService(
+            statusQueue,
+            commonProperties(4),
+            ingestionProperties(true, 3),
+            mock(JobStatusUpdateService.class));
+
+    assertThat(statusManagerService.claimShards()).isEqualTo(3);
+    assertThat(statusManagerService.claimShards()).isEqualTo(3);
+    verify(statusQueue, times(3))
+        .trySubscribeExclusive(anyString(), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any());
+  }
+
+  @Test
+  void testSkipsShardsConsumedElsewhere() {
+    var statusQueue = mock(QueueClient.class);
+    var subscription = mock(Subscription.class);
+    when(subscription.isActive()).thenReturn(true);
+    when(statusQueue.trySubscribeExclusive(
+            anyString(), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.empty());
+    when(statusQueue.trySubscribeExclusive(
+            eq("status.queue.test.1"), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.of(subscription));
+    var statusManagerService =
+        new StatusManagerService(
+            statusQueue,
+            commonProperties(2),
+            ingestionProperties(true, 16),
+            mock(JobStatusUpdateService.class));
+
+    assertThat(statusManagerService.claimShards()).isEqualTo(1);
+  }
+
+  @Test
+  void testReclaimsLostShard() {
+    var statusQueue = mock(QueueClient.class);
+    var lost = mock(Subscription.class);
+    var reclaimed = mock(Subscription.class);
+    when(lost.isActive()).thenReturn(false);
+    when(reclaimed.isActive()).thenReturn(true);
+    when(statusQueue.trySubscribeExclusive(
+            eq("status.queue.test"), eq(JobStatusUpdateDTO.class), eq(PREFETCH), any()))
+        .thenReturn(Optional.of(lost), Optional.of(reclaimed));
+    var statusManagerService =
+        new StatusManagerService(
+            statusQueue,
+            commonProperties(1),
+            ingestionProperties(true, 16),
+            mock(JobStatusUpdateService.class));
+
+    statusManagerService.start();
+    assertThat(statusManagerService.claimShards()).isEqualTo(1);
+
+    verify(lost).close();
+    statusManagerService.close();
+    verify(reclaimed).close();
+  }
+
+  private static CommonProperties commonProperties(int shards) {
+    var commonProperties = new CommonProperties();
+    commonProperties.setStatusQueueName("status.queue.test");
+    commonProperties.setStatusQueueShards(shards);
+    return commonProperties;
+  }
+
+  private static StatusIngestionProperties ingestionProperties(
+      boolean enabled, int maxOwnedShards) {
+    return new StatusIngestionProperties(enabled, maxOwnedShards, Duration.ofSeconds(5), PREFETCH);
+  }
 }
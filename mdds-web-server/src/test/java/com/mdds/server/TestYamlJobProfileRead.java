@@ -9,14 +9,18 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.mdds.domain.JobProfileNotConfiguredException;
 import com.mdds.domain.ParamType;
+import com.mdds.domain.ResourceHints;
+import com.mdds.domain.SizeClass;
+import com.mdds.domain.StaleThresholds;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Import;
 
 @SpringBootTest(
@@ -29,7 +33,7 @@ import org.springframework.context.annotation.Import;
 class TestYamlJobProfileRead {
   @Autowired private JobProfileRegistry jobProfileRegistry;
 
-  @TestConfiguration(proxyBeanMethods = false)
+  @SpringBootConfiguration(proxyBeanMethods = false)
   @EnableAutoConfiguration(
       exclude = {
         DataSourceAutoConfiguration.class,
@@ -95,6 +99,27 @@ class TestYamlJobProfileRead {
     assertThat(inputArtifacts).isEmpty();
   }
 
+  @Test
+  void testProfileReadResources() {
+    assertThat(jobProfileRegistry.forType("solving_slae_parallel").resources())
+        .isEqualTo(new ResourceHints(16, 32768, SizeClass.LARGE));
+    assertThat(jobProfileRegistry.forType("test_job_type").resources())
+        .isEqualTo(ResourceHints.DEFAULT);
+  }
+
+  @Test
+  void testProfileReadStaleAfter() {
+    assertThat(jobProfileRegistry.forType("solving_slae_parallel").staleAfter())
+        .isEqualTo(
+            new StaleThresholds(
+                Duration.ofHours(2),
+                StaleThresholds.DEFAULT.inputsPrepared(),
+                Duration.ofHours(12),
+                StaleThresholds.DEFAULT.cancelRequested()));
+    assertThat(jobProfileRegistry.forType("test_job_type").staleAfter())
+        .isEqualTo(StaleThresholds.DEFAULT);
+  }
+
   @Test
   void testUnknownJobType() {
     var jobType = "unknown_job_type";
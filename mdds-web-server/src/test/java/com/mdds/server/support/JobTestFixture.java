@@ -6,12 +6,16 @@ package com.mdds.server.support;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.mdds.domain.JobStatus;
-import com.mdds.persistence.entity.JobParamEntity;
+import com.mdds.dto.worker.v1.JobMessageDTO;
+import com.mdds.persistence.entity.JobProgressEntity;
+import com.mdds.server.JobDispatchService;
 import com.mdds.server.UserLookupService;
-import com.mdds.server.jpa.JobParamsRepository;
+import com.mdds.server.jpa.JobProgressRepository;
 import com.mdds.server.jpa.JobsRepository;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.test.context.TestComponent;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,14 +24,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class JobTestFixture {
   private final JobsRepository jobsRepository;
+  private final JobProgressRepository jobProgressRepository;
   private final UserLookupService userLookupService;
-  private final JobParamsRepository jobParamsRepository;
+  private final JobDispatchService jobDispatchService;
 
   @Transactional
   public void forceStatus(String jobId, JobStatus status) {
     var job =
         jobsRepository
-            .findById(jobId)
+            .findById(UUID.fromString(jobId))
             .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
 
     job.setStatus(status);
@@ -38,19 +43,103 @@ public class JobTestFixture {
   public void forceWorkerId(String jobId, String workerId) {
     var job =
         jobsRepository
-            .findById(jobId)
+            .findById(UUID.fromString(jobId))
             .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
 
     job.setWorkerId(workerId);
     jobsRepository.save(job);
   }
 
+  @Transactional
+  public void forceSubmittedAt(String jobId, Instant submittedAt) {
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+
+    job.setSubmittedAt(submittedAt);
+    jobsRepository.save(job);
+  }
+
+  @Transactional
+  public void forceDispatchedAt(String jobId, Instant dispatchedAt) {
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+
+    job.setDispatchedAt(dispatchedAt);
+    jobsRepository.save(job);
+  }
+
+  @Transactional
+  public void forceFinishedAt(String jobId, Instant finishedAt) {
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+
+    job.setFinishedAt(finishedAt);
+    jobsRepository.save(job);
+  }
+
+  @Transactional
+  public void forceLeaseExpiresAt(String jobId, Instant leaseExpiresAt) {
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+
+    job.setLeaseExpiresAt(leaseExpiresAt);
+    jobsRepository.save(job);
+  }
+
+  @Transactional
+  public void forceStatusChangedAt(String jobId, Instant statusChangedAt) {
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+
+    job.setStatusChangedAt(statusChangedAt);
+    jobsRepository.save(job);
+  }
+
+  /** Marks the job as submitted and hands it over to the dispatcher without a manifest upload. */
+  @Transactional
+  public void forceSubmitted(String jobId, Instant submittedAt) {
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+
+    job.setStatus(JobStatus.SUBMITTED);
+    job.setSubmittedAt(submittedAt);
+    job.setStatusChangedAt(submittedAt);
+    jobsRepository.save(job);
+    jobDispatchService.enqueue(
+        job, "queue-" + job.getJobType(), new JobMessageDTO("manifest/" + jobId), submittedAt);
+  }
+
+  public JobProgressEntity progress(String jobId) {
+    return jobProgressRepository
+        .findById(UUID.fromString(jobId))
+        .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+  }
+
+  public boolean existsInHotTable(String jobId) {
+    return jobsRepository.existsById(UUID.fromString(jobId));
+  }
+
   public Map<String, JsonNode> jobParams(String jobId) {
     var result = new HashMap<String, JsonNode>();
 
-    var jobParamsEntities = jobParamsRepository.findAllByIdJobId(jobId);
-    for (JobParamEntity jobParamEntity : jobParamsEntities) {
-      result.put(jobParamEntity.getId().getParamName(), jobParamEntity.getParamValue());
+    var job =
+        jobsRepository
+            .findById(UUID.fromString(jobId))
+            .orElseThrow(() -> new IllegalStateException("Job not found in fixture: " + jobId));
+    for (Map.Entry<String, JsonNode> param : job.getParams().properties()) {
+      result.put(param.getKey(), param.getValue());
     }
     return result;
   }